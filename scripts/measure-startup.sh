@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+# Measure time-to-first-request and resident memory of one application start.
+#
+# Usage: scripts/measure-startup.sh <label> <java arguments...>
+# Example:
+#   scripts/measure-startup.sh baseline -jar target/transaction-management-1.0-SNAPSHOT.jar
+#   scripts/measure-startup.sh aot-cds -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true \
+#       -Dspring.profiles.active=prod -jar application/app.jar
+#
+# An AOT-processed jar keeps the beans chosen by @ConditionalOnProperty at build time: feature toggles
+# (transaction.storage.engine, grpc, tenants, response-cache, statements, history, ...) passed here have
+# no effect unless the jar was built with the same ones, see aot.jvmArguments in pom.xml.
+set -euo pipefail
+
+LABEL="$1"
+shift
+PORT="${PORT:-8080}"
+URL="http://localhost:${PORT}/api/transactions"
+
+start=$(date +%s%N)
+java -Dserver.port="${PORT}" "$@" > /dev/null 2>&1 &
+pid=$!
+trap 'kill "${pid}" 2> /dev/null || true' EXIT
+
+until curl -sf -o /dev/null "${URL}"; do
+    if ! kill -0 "${pid}" 2> /dev/null; then
+        echo "${LABEL}: application exited before serving a request" >&2
+        exit 1
+    fi
+    sleep 0.05
+done
+end=$(date +%s%N)
+
+rss_kb=$(awk '/VmRSS/ {print $2}' "/proc/${pid}/status")
+printf '%s: time-to-first-request=%dms rss=%dMB\n' "${LABEL}" $(((end - start) / 1000000)) $((rss_kb / 1024))
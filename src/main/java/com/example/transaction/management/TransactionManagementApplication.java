@@ -2,10 +2,14 @@ package com.example.transaction.management;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 @EnableCaching
+@EnableScheduling
 public class TransactionManagementApplication {
     public static void main(String[] args) {
         SpringApplication.run(TransactionManagementApplication.class, args);
@@ -0,0 +1,73 @@
+package com.example.transaction.management.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounds the number of requests executing at once, rejecting instead of queueing.
+ * <p>
+ * When adaptive, the limit follows AIMD on observed latency: a request slower than the target cuts the
+ * limit by 10% (at most once per target interval, so one burst of slow requests counts once), and fast
+ * requests completing while the limit is at least half used grow it by {@code 1/limit}, i.e. by one per
+ * window of {@code limit} requests.
+ */
+public class AdaptiveConcurrencyLimiter {
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final boolean adaptive;
+    private final long latencyTargetNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private long lastBackoff;
+
+    public AdaptiveConcurrencyLimiter(int minLimit, int maxLimit, boolean adaptive, long latencyTargetNanos) {
+        this.minLimit = Math.max(1, Math.min(minLimit, maxLimit));
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.adaptive = adaptive;
+        this.latencyTargetNanos = latencyTargetNanos;
+        this.limit = this.maxLimit;
+        this.lastBackoff = System.nanoTime() - latencyTargetNanos;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Release a permit taken by {@link #tryAcquire()} for a request that ran for {@code latencyNanos}.
+     */
+    public void release(long latencyNanos, long nowNanos) {
+        int running = inFlight.getAndDecrement();
+        if (!adaptive) {
+            return;
+        }
+        synchronized (this) {
+            double current = limit;
+            if (latencyNanos > latencyTargetNanos) {
+                if (nowNanos - lastBackoff >= latencyTargetNanos) {
+                    limit = Math.max(minLimit, current * BACKOFF_RATIO);
+                    lastBackoff = nowNanos;
+                }
+            } else if (running * 2 >= (int) current) {
+                limit = Math.min(maxLimit, current + 1 / current);
+            }
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
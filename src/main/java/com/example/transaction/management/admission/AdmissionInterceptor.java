@@ -0,0 +1,97 @@
+package com.example.transaction.management.admission;
+
+import com.example.transaction.management.config.AdmissionProperties;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Admission control in front of the transaction API: a per-client token bucket, then separate
+ * concurrency limits for reads (GET/HEAD) and writes. Rejections are immediate, 429 when the client
+ * exceeds its rate and 503 when the server is at its concurrency limit, both with {@code Retry-After}.
+ */
+public class AdmissionInterceptor implements HandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = AdmissionInterceptor.class.getName() + ".permit";
+    private static final ApiException RATE_LIMITED =
+            new ApiException(TransactionErrorType.RATE_LIMITED, HttpStatus.TOO_MANY_REQUESTS);
+    private static final ApiException SERVER_OVERLOADED =
+            new ApiException(TransactionErrorType.SERVER_OVERLOADED, HttpStatus.SERVICE_UNAVAILABLE);
+
+    private final String clientHeader;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter reads;
+    private final AdaptiveConcurrencyLimiter writes;
+    private final String overloadRetryAfter;
+
+    public AdmissionInterceptor(AdmissionProperties properties) {
+        long latencyTarget = properties.latencyTarget().toNanos();
+        this.clientHeader = properties.clientHeader();
+        this.rateLimiter = properties.ratePerSecond() == null ? null : new TokenBucketRateLimiter(
+                properties.ratePerSecond(),
+                properties.burst() != null ? properties.burst() : (int) Math.ceil(properties.ratePerSecond()),
+                properties.maxClients());
+        this.reads = new AdaptiveConcurrencyLimiter(properties.minConcurrency(), properties.maxReadConcurrency(),
+                properties.adaptive(), latencyTarget);
+        this.writes = new AdaptiveConcurrencyLimiter(properties.minConcurrency(), properties.maxWriteConcurrency(),
+                properties.adaptive(), latencyTarget);
+        this.overloadRetryAfter = retryAfterSeconds(latencyTarget);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        long now = System.nanoTime();
+        if (rateLimiter != null) {
+            long wait = rateLimiter.tryAcquire(clientOf(request), now);
+            if (wait > 0) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds(wait));
+                throw RATE_LIMITED;
+            }
+        }
+        AdaptiveConcurrencyLimiter limiter = isRead(request) ? reads : writes;
+        if (!limiter.tryAcquire()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, overloadRetryAfter);
+            throw SERVER_OVERLOADED;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(limiter, now));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            long now = System.nanoTime();
+            permit.limiter().release(now - permit.startNanos(), now);
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter readLimiter() {
+        return reads;
+    }
+
+    public AdaptiveConcurrencyLimiter writeLimiter() {
+        return writes;
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        String client = request.getHeader(clientHeader);
+        return client != null && !client.isEmpty() ? client : request.getRemoteAddr();
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+
+    private static String retryAfterSeconds(long nanos) {
+        return Long.toString(Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1)));
+    }
+
+    private record Permit(AdaptiveConcurrencyLimiter limiter, long startNanos) {
+    }
+}
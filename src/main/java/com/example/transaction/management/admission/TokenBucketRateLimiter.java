@@ -0,0 +1,77 @@
+package com.example.transaction.management.admission;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-client token buckets: each client may issue {@code burst} requests at once and
+ * {@code ratePerSecond} requests per second sustained.
+ */
+public class TokenBucketRateLimiter {
+    private final double tokensPerNano;
+    private final double capacity;
+    private final int maxClients;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimiter(double ratePerSecond, int burst, int maxClients) {
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = Math.max(1, burst);
+        this.maxClients = maxClients;
+    }
+
+    /**
+     * Take one token for {@code client}; returns 0 when admitted, otherwise the nanoseconds until a
+     * token becomes available.
+     */
+    public long tryAcquire(String client, long nowNanos) {
+        Bucket bucket = buckets.get(client);
+        if (bucket == null) {
+            if (buckets.size() >= maxClients) {
+                evictIdle(nowNanos);
+            }
+            bucket = buckets.computeIfAbsent(client, key -> new Bucket(capacity, nowNanos));
+        }
+        return bucket.tryAcquire(nowNanos);
+    }
+
+    int clientCount() {
+        return buckets.size();
+    }
+
+    private void evictIdle(long nowNanos) {
+        // A full bucket carries no state worth keeping
+        buckets.values().removeIf(bucket -> bucket.isFull(nowNanos));
+    }
+
+    private final class Bucket {
+        private double tokens;
+        private long lastRefill;
+
+        private Bucket(double tokens, long lastRefill) {
+            this.tokens = tokens;
+            this.lastRefill = lastRefill;
+        }
+
+        private synchronized long tryAcquire(long nowNanos) {
+            refill(nowNanos);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+
+        private synchronized boolean isFull(long nowNanos) {
+            refill(nowNanos);
+            return tokens >= capacity;
+        }
+
+        private void refill(long nowNanos) {
+            if (nowNanos > lastRefill) {
+                tokens = Math.min(capacity, tokens + (nowNanos - lastRefill) * tokensPerNano);
+                lastRefill = nowNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.transaction.management.cache;
+
+import com.example.transaction.management.config.ResponseCacheProperties;
+import com.example.transaction.management.model.ResponseCacheStats;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.repository.TransactionChangeListener;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.http.MediaType;
+
+/**
+ * Encoded responses of single transactions and of the first list pages, per media type, dropped by
+ * exactly the writes that change them.
+ * <p>
+ * A miss reserves its key with a ticket before reading and stores its response only if the ticket is
+ * still in place. Writes are reported after they became visible, so any write the read may have missed
+ * removes the ticket first. List pages are in descending id order: a write to id x changes a full page
+ * only if x is at least its smallest id, and may change any page that is not full.
+ */
+public class ResponseByteCache implements TransactionChangeListener {
+    private final ConcurrentHashMap<TransactionKey, Object> transactions = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<PageKey, Object> pages = new ConcurrentHashMap<>();
+    // Media types transactions were cached as, to drop every encoding of a written id
+    private final Set<MediaType> mediaTypes = ConcurrentHashMap.newKeySet();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final int maxTransactions;
+    private final long pageTtlNanos;
+
+    public ResponseByteCache(ResponseCacheProperties properties) {
+        this.maxTransactions = properties.maxTransactions();
+        this.pageTtlNanos = properties.pageTtl().toNanos();
+    }
+
+    public record TransactionKey(long id, MediaType mediaType) {
+    }
+
+    public record PageKey(int page, int size, MediaType mediaType) {
+    }
+
+    /**
+     * An encoded response body. Pages also carry the snapshot they were read at, their smallest id and
+     * whether they were full.
+     */
+    public record Response(byte[] body, String contentType, long snapshot, long minId, boolean full, long createdNanos) {
+
+        public static Response of(byte[] body, String contentType) {
+            return new Response(body, contentType, 0, Long.MIN_VALUE, true, System.nanoTime());
+        }
+
+        public static Response page(byte[] body, String contentType, long snapshot, long minId, boolean full) {
+            return new Response(body, contentType, snapshot, minId, full, System.nanoTime());
+        }
+    }
+
+    public Response get(TransactionKey key) {
+        return transactions.get(key) instanceof Response response ? response : null;
+    }
+
+    public Response get(PageKey key) {
+        if (pages.get(key) instanceof Response response && System.nanoTime() - response.createdNanos() < pageTtlNanos) {
+            return response;
+        }
+        return null;
+    }
+
+    /**
+     * Reserve {@code key} before reading what to store under it; pass the returned ticket to {@link #put}.
+     */
+    public Object reserve(TransactionKey key) {
+        mediaTypes.add(key.mediaType());
+        if (transactions.size() >= maxTransactions) {
+            // Drop an arbitrary entry: keys iterate in hash order
+            Iterator<TransactionKey> keys = transactions.keySet().iterator();
+            if (keys.hasNext()) {
+                transactions.remove(keys.next());
+            }
+        }
+        Object ticket = new Object();
+        transactions.put(key, ticket);
+        return ticket;
+    }
+
+    /**
+     * Give up a reservation that will not be filled, such as a miss for a missing id.
+     */
+    public void release(TransactionKey key, Object ticket) {
+        transactions.remove(key, ticket);
+    }
+
+    public Object reserve(PageKey key) {
+        Object ticket = new Object();
+        pages.put(key, ticket);
+        return ticket;
+    }
+
+    public void put(TransactionKey key, Object ticket, Response response) {
+        transactions.computeIfPresent(key, (k, value) -> value == ticket ? response : value);
+    }
+
+    public void put(PageKey key, Object ticket, Response response) {
+        pages.computeIfPresent(key, (k, value) -> value == ticket ? response : value);
+    }
+
+    public void countHit() {
+        hits.increment();
+    }
+
+    public void countMiss() {
+        misses.increment();
+    }
+
+    /**
+     * Bytes taken by the cached response bodies.
+     */
+    public long estimatedBytes() {
+        long bytes = 0;
+        for (Object value : transactions.values()) {
+            bytes += value instanceof Response response ? response.body().length : 0;
+        }
+        for (Object value : pages.values()) {
+            bytes += value instanceof Response response ? response.body().length : 0;
+        }
+        return bytes;
+    }
+
+    public void clear() {
+        transactions.clear();
+        pages.clear();
+    }
+
+    public ResponseCacheStats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        return new ResponseCacheStats(hitCount, missCount, total == 0 ? 0 : (double) hitCount / total,
+                transactions.size(), pages.size());
+    }
+
+    @Override
+    public void onSave(Transaction previous, Transaction current) {
+        invalidate(current.getId());
+    }
+
+    @Override
+    public void onDelete(long id, Transaction removed, long sequence) {
+        invalidate(id);
+    }
+
+    @Override
+    public void onClear() {
+        clear();
+    }
+
+    private void invalidate(long id) {
+        for (MediaType mediaType : mediaTypes) {
+            transactions.remove(new TransactionKey(id, mediaType));
+        }
+        // Per-key compute: a concurrent put either lands first and is checked, or finds its ticket gone
+        for (PageKey key : pages.keySet()) {
+            pages.computeIfPresent(key, (k, value) ->
+                    value instanceof Response response && response.full() && id < response.minId() ? value : null);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.example.transaction.management.cache;
+
+import com.example.transaction.management.config.ResponseCacheProperties;
+import com.example.transaction.management.controller.TransactionController;
+import com.example.transaction.management.model.SnapshotPage;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.repository.TransactionRepository;
+import com.example.transaction.management.service.TransactionService;
+import com.example.transaction.management.tenant.TenantContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Answers {@code GET /api/transactions/{id}} and the first pages of {@code GET /api/transactions} from
+ * a {@link ResponseByteCache}, writing the cached bytes straight to the response. Misses are read and
+ * encoded here with the converter Spring MVC would pick, then cached.
+ * <p>
+ * Only requests without a time range, sort or snapshot, accepting exactly one supported media type (or
+ * anything) are cached; the controller serves everything else, including not found and invalid pages.
+ * The cache is invalidated by the changes of the storage engine, so it serves the default tenant only.
+ */
+public class ResponseCacheInterceptor implements HandlerInterceptor {
+    private static final Type TRANSACTION_TYPE = Transaction.class;
+    private static final Type PAGE_TYPE = ResolvableType.forClassWithGenerics(List.class, Transaction.class).getType();
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final ResponseByteCache cache;
+    private final TransactionRepository repository;
+    private final TransactionService transactionService;
+    private final Supplier<List<HttpMessageConverter<?>>> converters;
+    private final int firstPages;
+    // Accept header value to encoding, resolved from the converters on first use
+    private volatile Map<String, Encoding> encodings;
+
+    public ResponseCacheInterceptor(ResponseByteCache cache, TransactionRepository repository,
+            TransactionService transactionService, Supplier<List<HttpMessageConverter<?>>> converters,
+            ResponseCacheProperties properties) {
+        this.cache = cache;
+        this.repository = repository;
+        this.transactionService = transactionService;
+        this.converters = converters;
+        this.firstPages = properties.firstPages();
+    }
+
+    private record Encoding(MediaType mediaType, GenericHttpMessageConverter<Object> transaction,
+            GenericHttpMessageConverter<Object> page) {
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        if (!HttpMethod.GET.matches(request.getMethod()) || TenantContext.current() != null) {
+            return true;
+        }
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        Encoding encoding = encodings().get(accept != null ? accept : MediaType.ALL_VALUE);
+        if (encoding == null) {
+            return true;
+        }
+        String pattern = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if ("/api/transactions/{id}".equals(pattern)) {
+            return serveTransaction(request, response, encoding);
+        }
+        if ("/api/transactions".equals(pattern)) {
+            return servePage(request, response, encoding);
+        }
+        return true;
+    }
+
+    private boolean serveTransaction(HttpServletRequest request, HttpServletResponse response, Encoding encoding)
+            throws IOException {
+        @SuppressWarnings("unchecked")
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        long id;
+        try {
+            id = Long.parseLong(variables.get("id"));
+        } catch (NumberFormatException e) {
+            return true;
+        }
+        ResponseByteCache.TransactionKey key = new ResponseByteCache.TransactionKey(id, encoding.mediaType());
+        ResponseByteCache.Response cached = cache.get(key);
+        if (cached == null) {
+            cache.countMiss();
+            Object ticket = cache.reserve(key);
+            // Read past the service's object cache, which is evicted only after the write is reported here
+            Optional<Transaction> transaction = repository.findById(id);
+            if (transaction.isEmpty()) {
+                cache.release(key, ticket);
+                return true;
+            }
+            cached = encode(transaction.get(), TRANSACTION_TYPE, encoding.transaction(), encoding.mediaType());
+            cache.put(key, ticket, cached);
+        } else {
+            cache.countHit();
+        }
+        write(response, cached);
+        return false;
+    }
+
+    private boolean servePage(HttpServletRequest request, HttpServletResponse response, Encoding encoding)
+            throws IOException {
+        int page;
+        int size;
+        try {
+            page = intParameter(request, "page", 0);
+            size = intParameter(request, "size", 10);
+        } catch (NumberFormatException e) {
+            return true;
+        }
+        if (page < 0 || page >= firstPages || size <= 0 || size > MAX_PAGE_SIZE || request.getParameter("from") != null
+                || request.getParameter("to") != null || request.getParameter("snapshot") != null
+                || request.getParameter("sort") != null) {
+            return true;
+        }
+        ResponseByteCache.PageKey key = new ResponseByteCache.PageKey(page, size, encoding.mediaType());
+        ResponseByteCache.Response cached = cache.get(key);
+        // The page is exact at the snapshot it was read at, which must still be readable for the next pages
+        OptionalLong snapshot = cached == null ? OptionalLong.empty() : repository.openSnapshot(cached.snapshot());
+        if (snapshot.isPresent()) {
+            repository.releaseSnapshot(snapshot.getAsLong());
+            cache.countHit();
+        } else {
+            cache.countMiss();
+            Object ticket = cache.reserve(key);
+            SnapshotPage result = transactionService.listSnapshot(null, page, size);
+            List<Transaction> transactions = result.transactions();
+            ResponseByteCache.Response encoded = encode(transactions, PAGE_TYPE, encoding.page(), encoding.mediaType());
+            cached = ResponseByteCache.Response.page(encoded.body(), encoded.contentType(), result.snapshot(),
+                    transactions.isEmpty() ? Long.MAX_VALUE : transactions.get(transactions.size() - 1).getId(),
+                    transactions.size() == size);
+            cache.put(key, ticket, cached);
+        }
+        response.setHeader(TransactionController.SNAPSHOT_HEADER, Long.toString(cached.snapshot()));
+        write(response, cached);
+        return false;
+    }
+
+    private static int intParameter(HttpServletRequest request, String name, int defaultValue) {
+        String value = request.getParameter(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static void write(HttpServletResponse response, ResponseByteCache.Response cached) throws IOException {
+        response.setContentType(cached.contentType());
+        response.setContentLength(cached.body().length);
+        response.getOutputStream().write(cached.body());
+    }
+
+    private static ResponseByteCache.Response encode(Object value, Type type, GenericHttpMessageConverter<Object> converter,
+            MediaType mediaType) throws IOException {
+        BufferedOutputMessage message = new BufferedOutputMessage();
+        converter.write(value, type, mediaType, message);
+        return ResponseByteCache.Response.of(message.body.toByteArray(), message.headers.getFirst(HttpHeaders.CONTENT_TYPE));
+    }
+
+    private Map<String, Encoding> encodings() {
+        Map<String, Encoding> resolved = encodings;
+        if (resolved == null) {
+            resolved = resolveEncodings(converters.get());
+            encodings = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * Every concrete media type some converter writes transactions as, mapped to the first converter for
+     * it, as Spring MVC would choose; a missing or {@code *}{@code /*} Accept header maps to the first of all.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Encoding> resolveEncodings(List<HttpMessageConverter<?>> converters) {
+        Map<String, Encoding> resolved = new HashMap<>();
+        Encoding first = null;
+        for (HttpMessageConverter<?> converter : converters) {
+            for (MediaType mediaType : converter.getSupportedMediaTypes(Transaction.class)) {
+                if (!mediaType.isConcrete() || resolved.containsKey(mediaType.toString())) {
+                    continue;
+                }
+                GenericHttpMessageConverter<Object> transaction = null;
+                GenericHttpMessageConverter<Object> page = null;
+                for (HttpMessageConverter<?> candidate : converters) {
+                    if (candidate instanceof GenericHttpMessageConverter<?> generic) {
+                        if (transaction == null && generic.canWrite(TRANSACTION_TYPE, Transaction.class, mediaType)) {
+                            transaction = (GenericHttpMessageConverter<Object>) generic;
+                        }
+                        if (page == null && generic.canWrite(PAGE_TYPE, List.class, mediaType)) {
+                            page = (GenericHttpMessageConverter<Object>) generic;
+                        }
+                    }
+                }
+                if (transaction != null && page != null) {
+                    Encoding encoding = new Encoding(mediaType, transaction, page);
+                    resolved.put(mediaType.toString(), encoding);
+                    first = first != null ? first : encoding;
+                }
+            }
+        }
+        if (first != null) {
+            resolved.put(MediaType.ALL_VALUE, first);
+        }
+        return Map.copyOf(resolved);
+    }
+
+    private static final class BufferedOutputMessage implements HttpOutputMessage {
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream(1024);
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.transaction.management.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Admission control settings of the transaction API.
+ *
+ * @param enabled             whether requests pass through admission control at all
+ * @param clientHeader        request header identifying the client; the remote address is used when absent
+ * @param ratePerSecond       sustained requests per second allowed per client; unset disables rate limiting
+ * @param burst               token bucket capacity per client; defaults to one second worth of requests
+ * @param maxClients          number of client buckets kept before idle ones are evicted
+ * @param maxReadConcurrency  upper bound of concurrently executing GET requests
+ * @param maxWriteConcurrency upper bound of concurrently executing POST/PUT/DELETE requests
+ * @param minConcurrency      lower bound the adaptive limits never shrink below
+ * @param adaptive            shrink the concurrency limits when latency exceeds the target (AIMD)
+ * @param latencyTarget       request latency above which the adaptive limits back off
+ */
+@ConfigurationProperties(prefix = "transaction.admission")
+public record AdmissionProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("X-Client-Id") String clientHeader,
+        Double ratePerSecond,
+        Integer burst,
+        @DefaultValue("10000") int maxClients,
+        @DefaultValue("64") int maxReadConcurrency,
+        @DefaultValue("8") int maxWriteConcurrency,
+        @DefaultValue("1") int minConcurrency,
+        @DefaultValue("true") boolean adaptive,
+        @DefaultValue("PT0.05S") Duration latencyTarget) {
+}
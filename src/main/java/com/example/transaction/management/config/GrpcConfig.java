@@ -0,0 +1,61 @@
+package com.example.transaction.management.config;
+
+import com.example.transaction.management.grpc.TransactionGrpcService;
+import com.example.transaction.management.memory.MemoryGovernor;
+import com.example.transaction.management.service.RankingService;
+import com.example.transaction.management.service.TransactionService;
+import com.example.transaction.management.validation.PrecompiledTransactionValidator;
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+/**
+ * Serves the transaction API over gRPC on its own port when {@code transaction.grpc.enabled=true}.
+ * Messages are validated like REST bodies, with the precompiled validator when
+ * {@code transaction.validation.mode=precompiled}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "transaction.grpc", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(GrpcProperties.class)
+public class GrpcConfig {
+    private static final Logger log = LoggerFactory.getLogger(GrpcConfig.class);
+
+    @Bean
+    public TransactionGrpcService transactionGrpcService(TransactionService transactionService,
+            RankingService rankingService, jakarta.validation.Validator beanValidator,
+            @Value("${transaction.validation.mode:bean}") String validationMode,
+            ObjectProvider<MemoryGovernor> governor, GrpcProperties properties) {
+        Validator validator = "precompiled".equals(validationMode)
+                ? new PrecompiledTransactionValidator()
+                : new SpringValidatorAdapter(beanValidator);
+        return new TransactionGrpcService(transactionService, rankingService, validator, governor.getIfAvailable(),
+                properties.exportBatchSize());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public Server grpcServer(TransactionGrpcService service, GrpcProperties properties) {
+        try {
+            Server server = Grpc.newServerBuilderForPort(properties.port(), InsecureServerCredentials.create())
+                    .addService(service)
+                    .maxInboundMessageSize((int) properties.maxInboundMessageSize().toBytes())
+                    .build()
+                    .start();
+            log.info("gRPC server started on port {}", server.getPort());
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start the gRPC server on port " + properties.port(), e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.transaction.management.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings of the gRPC server.
+ *
+ * @param enabled               whether the gRPC API is served at all, next to the REST one
+ * @param port                  port of the gRPC server; 0 for any free port
+ * @param maxInboundMessageSize largest request message accepted, each message of a stream counted alone
+ * @param exportBatchSize       transactions read from the snapshot at a time by an export stream
+ */
+@ConfigurationProperties(prefix = "transaction.grpc")
+public record GrpcProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("9090") int port,
+        @DefaultValue("4MB") DataSize maxInboundMessageSize,
+        @DefaultValue("500") int exportBatchSize) {
+}
@@ -0,0 +1,29 @@
+package com.example.transaction.management.config;
+
+import com.example.transaction.management.repository.TransactionHistory;
+import com.example.transaction.management.service.HistoryService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Records the version history of every transaction and exposes point-in-time reads when
+ * {@code transaction.history.enabled=true}. The history registers as a change listener of the
+ * repository, whichever engine stores the transactions.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "transaction.history", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(HistoryProperties.class)
+public class HistoryConfig {
+
+    @Bean(destroyMethod = "close")
+    public TransactionHistory transactionHistory(HistoryProperties properties) {
+        return new TransactionHistory(properties.directory());
+    }
+
+    @Bean
+    public HistoryService historyService(TransactionHistory history, HistoryProperties properties) {
+        return new HistoryService(history, properties);
+    }
+}
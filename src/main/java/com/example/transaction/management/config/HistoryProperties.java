@@ -0,0 +1,25 @@
+package com.example.transaction.management.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the transaction version history.
+ *
+ * @param enabled         whether versions are recorded and the history endpoints exposed at all
+ * @param hotRetention    how long versions stay in heap before they are compacted to disk
+ * @param retention       how far back history goes; versions older than this are forgotten except the
+ *                        last one of each transaction; unset to keep all history
+ * @param directory       where history segments are written, in a {@code history-<uuid>} subdirectory
+ * @param compactInterval how often versions past the hot retention are compacted
+ */
+@ConfigurationProperties(prefix = "transaction.history")
+public record HistoryProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("PT1H") Duration hotRetention,
+        Duration retention,
+        @DefaultValue("archive") Path directory,
+        @DefaultValue("PT1M") Duration compactInterval) {
+}
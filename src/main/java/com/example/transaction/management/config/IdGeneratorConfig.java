@@ -0,0 +1,29 @@
+package com.example.transaction.management.config;
+
+import com.example.transaction.management.repository.IdGenerator;
+import com.example.transaction.management.repository.SequentialIdGenerator;
+import com.example.transaction.management.repository.SnowflakeIdGenerator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Selects the id generator of the repository with {@code transaction.ids.strategy}.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    @Bean
+    public IdGenerator idGenerator(IdProperties properties) {
+        return newIdGenerator(properties);
+    }
+
+    /**
+     * A new generator of the configured strategy, for repositories numbering their transactions apart.
+     */
+    public static IdGenerator newIdGenerator(IdProperties properties) {
+        return switch (properties.strategy()) {
+            case SEQUENTIAL -> new SequentialIdGenerator(1000);
+            case SNOWFLAKE -> new SnowflakeIdGenerator(properties.epoch(), properties.workerId(), properties.blockSize());
+        };
+    }
+}
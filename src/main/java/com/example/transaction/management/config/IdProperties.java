@@ -0,0 +1,28 @@
+package com.example.transaction.management.config;
+
+import java.time.Instant;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Id generation settings.
+ *
+ * @param strategy  {@code sequential} for consecutive ids from 1001 that restart when the store is cleared,
+ *                  or {@code snowflake} for time-ordered ids unique across instances
+ * @param workerId  distinct per instance sharing an id space, within [0, 1023]
+ * @param blockSize ids a thread claims at once; larger blocks mean fewer shared updates but looser
+ *                  ordering across threads within a millisecond
+ * @param epoch     start of the 41-bit millisecond timestamp of snowflake ids
+ */
+@ConfigurationProperties(prefix = "transaction.ids")
+public record IdProperties(
+        @DefaultValue("sequential") Strategy strategy,
+        @DefaultValue("0") int workerId,
+        @DefaultValue("64") int blockSize,
+        @DefaultValue("2025-01-01T00:00:00Z") Instant epoch) {
+
+    public enum Strategy {
+        SEQUENTIAL,
+        SNOWFLAKE
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.transaction.management.config;
+
+import com.example.transaction.management.cache.ResponseByteCache;
+import com.example.transaction.management.memory.MemoryBackpressureInterceptor;
+import com.example.transaction.management.memory.MemoryGovernor;
+import com.example.transaction.management.repository.TransactionRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Governs writes by heap usage when {@code transaction.memory.enabled=true}. The caches shrunk under
+ * pressure are the service's transaction cache and, when enabled, the encoded response cache.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "transaction.memory", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(MemoryProperties.class)
+public class MemoryGovernorConfig implements WebMvcConfigurer {
+    private final MemoryProperties properties;
+    private final ObjectProvider<MemoryGovernor> governor;
+
+    public MemoryGovernorConfig(MemoryProperties properties, ObjectProvider<MemoryGovernor> governor) {
+        this.properties = properties;
+        this.governor = governor;
+    }
+
+    @Bean(destroyMethod = "close")
+    public MemoryGovernor memoryGovernor(TransactionRepository repository, ObjectProvider<CacheManager> cacheManager,
+            ObjectProvider<ResponseByteCache> responseCache) {
+        MemoryGovernor memoryGovernor = new MemoryGovernor(properties, repository,
+                () -> {
+                    cacheManager.ifAvailable(manager -> manager.getCacheNames().stream()
+                            .map(manager::getCache)
+                            .forEach(Cache::clear));
+                    responseCache.ifAvailable(ResponseByteCache::clear);
+                },
+                () -> responseCache.stream().mapToLong(ResponseByteCache::estimatedBytes).sum());
+        memoryGovernor.watchCollections();
+        return memoryGovernor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new MemoryBackpressureInterceptor(governor.getObject(), properties.maxWriteDelay()))
+                .addPathPatterns("/api/transactions", "/api/transactions/**");
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.transaction.management.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Memory governor settings. Thresholds are fractions of {@code limit} that the heap in use may reach.
+ *
+ * @param enabled              whether writes are governed by heap usage at all
+ * @param limit                heap budget; defaults to the maximum heap of the JVM
+ * @param shrinkCachesAt       usage at which the caches are emptied, once per garbage collection
+ * @param throttleAt           usage from which writes are delayed, longer the closer usage gets to
+ *                             {@code rejectAt}
+ * @param rejectAt             usage from which writes are rejected until a collection frees memory
+ * @param maxWriteDelay        delay of a write just below {@code rejectAt}
+ * @param transactionFootprint estimated heap taken by one stored transaction, including its secondary
+ *                             index entries; projects usage between collections
+ */
+@ConfigurationProperties(prefix = "transaction.memory")
+public record MemoryProperties(
+        @DefaultValue("false") boolean enabled,
+        DataSize limit,
+        @DefaultValue("0.75") double shrinkCachesAt,
+        @DefaultValue("0.85") double throttleAt,
+        @DefaultValue("0.92") double rejectAt,
+        @DefaultValue("PT0.1S") Duration maxWriteDelay,
+        @DefaultValue("1KB") DataSize transactionFootprint) {
+}
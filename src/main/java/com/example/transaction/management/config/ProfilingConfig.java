@@ -0,0 +1,22 @@
+package com.example.transaction.management.config;
+
+import com.example.transaction.management.service.ProfilingService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Exposes on-demand flight recordings when {@code transaction.profiling.enabled=true}. The application
+ * events themselves are always compiled in and cost nothing until a recording enables them.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "transaction.profiling", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ProfilingProperties.class)
+public class ProfilingConfig {
+
+    @Bean
+    public ProfilingService profilingService(ProfilingProperties properties) {
+        return new ProfilingService(properties);
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.transaction.management.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * On-demand Java Flight Recorder settings.
+ *
+ * @param enabled         whether the profiling endpoints are exposed at all
+ * @param settings        JDK event configuration recorded alongside the application events
+ *                        ({@code default} or the more detailed {@code profile})
+ * @param defaultDuration length of a recording started without an explicit duration
+ * @param maxDuration     longest recording that may be requested; it stops by itself afterwards
+ * @param maxSize         recorded data kept on disk; the oldest data is dropped beyond it
+ * @param eventThreshold  application events shorter than this are not recorded
+ */
+@ConfigurationProperties(prefix = "transaction.profiling")
+public record ProfilingProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("default") String settings,
+        @DefaultValue("PT1M") Duration defaultDuration,
+        @DefaultValue("PT10M") Duration maxDuration,
+        @DefaultValue("64MB") DataSize maxSize,
+        @DefaultValue("PT0.0001S") Duration eventThreshold) {
+}
@@ -0,0 +1,53 @@
+package com.example.transaction.management.config;
+
+import com.example.transaction.management.cache.ResponseByteCache;
+import com.example.transaction.management.cache.ResponseCacheInterceptor;
+import com.example.transaction.management.repository.TransactionRepository;
+import com.example.transaction.management.service.TransactionService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * Serves single transactions and first list pages from cached encoded bytes when
+ * {@code transaction.response-cache.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "transaction.response-cache", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig implements WebMvcConfigurer {
+    private final ResponseCacheProperties properties;
+    private final ObjectProvider<ResponseCacheInterceptor> interceptor;
+
+    public ResponseCacheConfig(ResponseCacheProperties properties, ObjectProvider<ResponseCacheInterceptor> interceptor) {
+        this.properties = properties;
+        this.interceptor = interceptor;
+    }
+
+    @Bean
+    public ResponseByteCache responseByteCache() {
+        return new ResponseByteCache(properties);
+    }
+
+    @Bean
+    public ResponseCacheInterceptor responseCacheInterceptor(ResponseByteCache cache, TransactionRepository repository,
+            TransactionService transactionService, ObjectProvider<RequestMappingHandlerAdapter> handlerAdapter) {
+        // The converters are read on the first request, once MVC is fully configured
+        return new ResponseCacheInterceptor(cache, repository, transactionService,
+                () -> handlerAdapter.getObject().getMessageConverters(), properties);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Last, so that admission control also applies to cached responses
+        registry.addInterceptor(interceptor.getObject())
+                .addPathPatterns("/api/transactions", "/api/transactions/*")
+                .order(Ordered.LOWEST_PRECEDENCE);
+    }
+}
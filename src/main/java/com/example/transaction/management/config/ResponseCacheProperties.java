@@ -0,0 +1,22 @@
+package com.example.transaction.management.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Cache of encoded responses of the transaction read endpoints.
+ *
+ * @param enabled         whether single transactions and first list pages are served from encoded bytes
+ * @param firstPages      list pages below this page number are cached
+ * @param maxTransactions single transaction responses kept; an arbitrary one is dropped beyond it
+ * @param pageTtl         age after which a cached page is read again, so that it does not keep the
+ *                        snapshot it was read at alive indefinitely
+ */
+@ConfigurationProperties(prefix = "transaction.response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("3") int firstPages,
+        @DefaultValue("10000") int maxTransactions,
+        @DefaultValue("PT5S") Duration pageTtl) {
+}
@@ -0,0 +1,24 @@
+package com.example.transaction.management.config;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings of the persistent repository, used when {@code transaction.storage.engine=rocksdb}.
+ *
+ * @param path            directory of the database; created when missing, reopened otherwise
+ * @param blockCacheSize  uncompressed data blocks kept in memory for reads (off heap)
+ * @param writeBufferSize size of a memtable before it is flushed to a sorted file on disk
+ * @param syncWrites      whether every write waits for the write-ahead log to reach the disk; without
+ *                        it a process crash loses nothing, but an operating system crash may lose the
+ *                        latest writes
+ */
+@ConfigurationProperties(prefix = "transaction.storage.rocksdb")
+public record RocksDbProperties(
+        @DefaultValue("rocksdb") Path path,
+        @DefaultValue("64MB") DataSize blockCacheSize,
+        @DefaultValue("32MB") DataSize writeBufferSize,
+        @DefaultValue("false") boolean syncWrites) {
+}
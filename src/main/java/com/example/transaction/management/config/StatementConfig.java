@@ -0,0 +1,24 @@
+package com.example.transaction.management.config;
+
+import com.example.transaction.management.repository.TransactionRepository;
+import com.example.transaction.management.service.StatementService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Exposes the statement generation job when {@code transaction.statements.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "transaction.statements", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(StatementProperties.class)
+public class StatementConfig {
+
+    @Bean(destroyMethod = "close")
+    public StatementService statementService(TransactionRepository repository, ObjectMapper objectMapper,
+            StatementProperties properties) {
+        return new StatementService(repository, objectMapper, properties);
+    }
+}
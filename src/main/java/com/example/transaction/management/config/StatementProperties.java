@@ -0,0 +1,22 @@
+package com.example.transaction.management.config;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the statement generation job.
+ *
+ * @param enabled     whether the statement endpoints are exposed at all
+ * @param directory   where every job writes its files, in a directory named after the job
+ * @param parallelism worker threads of the job; 0 for half of the available processors, leaving the
+ *                    rest to live traffic
+ * @param batchSize   transactions read from the repository at a time by each worker
+ */
+@ConfigurationProperties(prefix = "transaction.statements")
+public record StatementProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("statements") Path directory,
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("1000") int batchSize) {
+}
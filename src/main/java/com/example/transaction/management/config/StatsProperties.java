@@ -0,0 +1,29 @@
+package com.example.transaction.management.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings of the streaming statistics sketches maintained on the write path.
+ *
+ * @param bucketDuration     width of a time bucket, transactions are grouped by {@code timestamp}
+ * @param maxBuckets         newest buckets kept; older ones are dropped, which bounds memory
+ * @param stripes            independent sketches per bucket, so concurrent writers rarely share a lock
+ * @param quantileAccuracy   KLL parameter {@code k}; the amount quantile rank error is about {@code 1.7 / k}
+ * @param distinctPrecision  HyperLogLog precision; the distinct category error is about {@code 1.04 / 2^(p/2)}
+ * @param trackedCategories  Space-Saving counters per sketch, the most frequent categories reported at most
+ */
+@ConfigurationProperties(prefix = "transaction.stats")
+public record StatsProperties(
+        @DefaultValue("PT1H") Duration bucketDuration,
+        @DefaultValue("168") int maxBuckets,
+        @DefaultValue("4") int stripes,
+        @DefaultValue("200") int quantileAccuracy,
+        @DefaultValue("12") int distinctPrecision,
+        @DefaultValue("64") int trackedCategories) {
+
+    public static StatsProperties defaults() {
+        return new StatsProperties(Duration.ofHours(1), 168, 4, 200, 12, 64);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.transaction.management.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Time partitioning and retention settings of the in-memory repository.
+ *
+ * @param partitionDuration width of a time partition, transactions are grouped by {@code timestamp}
+ * @param hotRetention      partitions that ended longer ago than this are sealed into compressed on-disk
+ *                          segments and dropped from heap; unset keeps everything in heap
+ * @param archiveRetention  sealed segments that ended longer ago than this are deleted; unset keeps them
+ * @param archiveDirectory  directory holding sealed segments
+ * @param archivalInterval  delay between two runs of the background archival job
+ * @param snapshotRetention how long a list snapshot stays readable after a client last paged through it
+ */
+@ConfigurationProperties(prefix = "transaction.storage")
+public record StorageProperties(
+        @DefaultValue("P1D") Duration partitionDuration,
+        Duration hotRetention,
+        Duration archiveRetention,
+        @DefaultValue("archive") Path archiveDirectory,
+        @DefaultValue("PT5M") Duration archivalInterval,
+        @DefaultValue("PT1M") Duration snapshotRetention) {
+
+    public static StorageProperties defaults() {
+        return new StorageProperties(Duration.ofDays(1), null, null, Path.of("archive"), Duration.ofMinutes(5),
+                Duration.ofMinutes(1));
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.transaction.management.config;
+
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.repository.TransactionRepository;
+import com.example.transaction.management.tenant.TenantAdmission;
+import com.example.transaction.management.tenant.TenantCacheResolver;
+import com.example.transaction.management.tenant.TenantInterceptor;
+import com.example.transaction.management.tenant.TenantRoutingRepository;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.interceptor.CacheResolver;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Partitions data, ids, caches and concurrency per tenant when {@code transaction.tenants.enabled=true}.
+ * The default tenant stays in the configured storage engine with its indexes and history; every other
+ * tenant gets an in-memory repository of its own, archiving under {@code <archive-directory>/tenants}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "transaction.tenants", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(TenantProperties.class)
+public class TenantConfig implements WebMvcConfigurer {
+    private final TenantProperties properties;
+    private final ObjectProvider<TenantInterceptor> interceptor;
+
+    public TenantConfig(TenantProperties properties, ObjectProvider<TenantInterceptor> interceptor) {
+        this.properties = properties;
+        this.interceptor = interceptor;
+    }
+
+    /**
+     * The repository every service sees, in front of the storage engine bean, the only other one.
+     */
+    @Bean
+    @Primary
+    public TenantRoutingRepository tenantRoutingRepository(List<TransactionRepository> engines,
+            StorageProperties storage, IdProperties ids) {
+        Map<String, TransactionRepository> partitions = new LinkedHashMap<>();
+        for (String tenant : properties.names()) {
+            if (!tenant.equals(properties.defaultTenant())) {
+                StorageProperties tenantStorage = new StorageProperties(storage.partitionDuration(),
+                        storage.hotRetention(), storage.archiveRetention(),
+                        storage.archiveDirectory().resolve("tenants").resolve(tenant), storage.archivalInterval(),
+                        storage.snapshotRetention());
+                partitions.put(tenant, new SkipListTransactionRepository(tenantStorage, List.of(),
+                        IdGeneratorConfig.newIdGenerator(ids)));
+            }
+        }
+        return new TenantRoutingRepository(engines.get(0), partitions);
+    }
+
+    @Bean
+    public TenantAdmission tenantAdmission() {
+        Set<String> tenants = new LinkedHashSet<>();
+        tenants.add(properties.defaultTenant());
+        tenants.addAll(properties.names());
+        return new TenantAdmission(tenants, properties.capacity(), properties.maxPerTenant());
+    }
+
+    @Bean
+    public TenantInterceptor tenantInterceptor(TenantAdmission admission) {
+        return new TenantInterceptor(properties, admission);
+    }
+
+    @Bean
+    public CachingConfigurer tenantCachingConfigurer(ObjectProvider<CacheManager> cacheManager) {
+        CacheResolver resolver = new TenantCacheResolver(cacheManager);
+        return new CachingConfigurer() {
+            @Override
+            public CacheResolver cacheResolver() {
+                return resolver;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // First, so that every other interceptor runs scoped to the tenant
+        registry.addInterceptor(interceptor.getObject())
+                .addPathPatterns("/api/**")
+                .order(Ordered.HIGHEST_PRECEDENCE);
+    }
+}
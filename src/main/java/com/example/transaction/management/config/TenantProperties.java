@@ -0,0 +1,25 @@
+package com.example.transaction.management.config;
+
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Tenants served by one deployment, each with its own partition of data, ids and caches.
+ *
+ * @param enabled       whether requests are scoped to the tenant named by {@code header}
+ * @param header        request header naming the tenant; the default tenant is served when absent
+ * @param defaultTenant name of the tenant stored in the configured storage engine
+ * @param names         other tenants, each stored in its own in-memory partition; unknown names are rejected
+ * @param capacity      API requests executing at once, shared fairly between tenants when reached
+ * @param maxPerTenant  requests one tenant may execute at once, even on an idle server
+ */
+@ConfigurationProperties(prefix = "transaction.tenants")
+public record TenantProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("X-Tenant-Id") String header,
+        @DefaultValue("default") String defaultTenant,
+        @DefaultValue List<String> names,
+        @DefaultValue("64") int capacity,
+        @DefaultValue("32") int maxPerTenant) {
+}
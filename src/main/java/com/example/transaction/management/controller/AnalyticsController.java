@@ -0,0 +1,87 @@
+package com.example.transaction.management.controller;
+
+import com.example.transaction.management.model.CategorySummary;
+import com.example.transaction.management.model.TransactionStats;
+import com.example.transaction.management.model.TransactionSummary;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.service.AnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/analytics")
+@Tag(name = "Transaction Analytics", description = "Aggregations over transactions by time range, type and category")
+public class AnalyticsController {
+    private final AnalyticsService analyticsService;
+
+    public AnalyticsController(AnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @Operation(summary = "Summarize Transactions", description = "Count and total amount of the transactions in a timestamp range, optionally of one type")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Summary computed successfully",
+                    content = @Content(schema = @Schema(implementation = TransactionSummary.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid query parameters")
+    })
+    @GetMapping("/summary")
+    public ResponseEntity<TransactionSummary> getSummary(
+            @Parameter(description = "Inclusive lower timestamp bound (ISO-8601), e.g. 2025-07-01T00:00:00Z")
+            @RequestParam(required = false) Instant from,
+            @Parameter(description = "Inclusive upper timestamp bound (ISO-8601), e.g. 2025-07-31T23:59:59Z")
+            @RequestParam(required = false) Instant to,
+            @Parameter(description = "Restrict to one transaction type")
+            @RequestParam(required = false) TransactionType type) {
+        return ResponseEntity.ok(analyticsService.summarize(
+                from != null ? from : Instant.MIN, to != null ? to : Instant.MAX, type));
+    }
+
+    @Operation(summary = "Summarize Transactions by Category", description = "Count and total amount per category of the transactions in a timestamp range, optionally of one type")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Category summaries computed successfully",
+                    content = @Content(schema = @Schema(implementation = CategorySummary.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid query parameters")
+    })
+    @GetMapping("/categories")
+    public ResponseEntity<List<CategorySummary>> getCategorySummaries(
+            @Parameter(description = "Inclusive lower timestamp bound (ISO-8601), e.g. 2025-07-01T00:00:00Z")
+            @RequestParam(required = false) Instant from,
+            @Parameter(description = "Inclusive upper timestamp bound (ISO-8601), e.g. 2025-07-31T23:59:59Z")
+            @RequestParam(required = false) Instant to,
+            @Parameter(description = "Restrict to one transaction type")
+            @RequestParam(required = false) TransactionType type) {
+        return ResponseEntity.ok(analyticsService.summarizeByCategory(
+                from != null ? from : Instant.MIN, to != null ? to : Instant.MAX, type));
+    }
+
+    @Operation(summary = "Approximate Statistics", description = "Amount quantiles, distinct category count and most frequent categories "
+            + "of the live transactions in a timestamp range, from streaming sketches. Ranges are rounded out to whole time buckets; "
+            + "buckets changed by updates or deletes since the last query are rebuilt from the columnar copy first")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics computed successfully",
+                    content = @Content(schema = @Schema(implementation = TransactionStats.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid query parameters")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<TransactionStats> getStats(
+            @Parameter(description = "Inclusive lower timestamp bound (ISO-8601), e.g. 2025-07-01T00:00:00Z")
+            @RequestParam(required = false) Instant from,
+            @Parameter(description = "Inclusive upper timestamp bound (ISO-8601), e.g. 2025-07-31T23:59:59Z")
+            @RequestParam(required = false) Instant to,
+            @Parameter(description = "Amount quantiles to estimate, each within [0, 1]")
+            @RequestParam(defaultValue = "0.5,0.9,0.99") List<Double> quantiles,
+            @Parameter(description = "Number of most frequent categories to report")
+            @RequestParam(defaultValue = "10") int top) {
+        return ResponseEntity.ok(analyticsService.stats(
+                from != null ? from : Instant.MIN, to != null ? to : Instant.MAX, quantiles, top));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.transaction.management.controller;
+
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionVersion;
+import com.example.transaction.management.service.HistoryService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/transactions")
+@ConditionalOnProperty(prefix = "transaction.history", name = "enabled", havingValue = "true")
+@Tag(name = "Transaction History", description = "Versions of transactions and reads as of a past sequence or time")
+public class HistoryController {
+    private final HistoryService historyService;
+
+    public HistoryController(HistoryService historyService) {
+        this.historyService = historyService;
+    }
+
+    @Operation(summary = "Transaction History", description = "Every recorded version of a transaction, oldest first, "
+            + "including deletes")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Versions retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TransactionVersion.class))),
+        @ApiResponse(responseCode = "404", description = "No version of the transaction was recorded")
+    })
+    @GetMapping("/{id}/history")
+    public ResponseEntity<List<TransactionVersion>> getTransactionHistory(
+            @Parameter(description = "Unique transaction identifier", required = true)
+            @PathVariable Long id) {
+        return ResponseEntity.ok(historyService.getVersions(id));
+    }
+
+    @Operation(summary = "Retrieve Transaction As Of", description = "A transaction as it was at a commit sequence "
+            + "or a time; give exactly one of them")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Transaction retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = Transaction.class))),
+        @ApiResponse(responseCode = "400", description = "Neither or both of sequence and timestamp given"),
+        @ApiResponse(responseCode = "404", description = "Transaction did not exist or was deleted at that point")
+    })
+    @GetMapping("/{id}/as-of")
+    public ResponseEntity<Transaction> getTransactionAsOf(
+            @Parameter(description = "Unique transaction identifier", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Commit sequence to read at, e.g. the version of a transaction")
+            @RequestParam(required = false) Long sequence,
+            @Parameter(description = "Time to read at (ISO-8601), e.g. 2025-07-15T10:30:00Z")
+            @RequestParam(required = false) Instant timestamp) {
+        return ResponseEntity.ok(historyService.getTransactionAsOf(id, sequence, timestamp));
+    }
+
+    @Operation(summary = "List Transactions As Of", description = "A page of the transactions that existed at a "
+            + "commit sequence or a time, newest id first; give exactly one of them")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Transactions retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = Transaction.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid pagination, or neither or both of sequence and timestamp given")
+    })
+    @GetMapping("/as-of")
+    public ResponseEntity<List<Transaction>> getTransactionsAsOf(
+            @Parameter(description = "Commit sequence to read at")
+            @RequestParam(required = false) Long sequence,
+            @Parameter(description = "Time to read at (ISO-8601), e.g. 2025-07-15T10:30:00Z")
+            @RequestParam(required = false) Instant timestamp,
+            @Parameter(description = "Page number (0-based)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of records per page")
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(historyService.getTransactionsAsOf(sequence, timestamp, page, size));
+    }
+}
@@ -1,12 +1,14 @@
 package com.example.transaction.management.controller;
 
 import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.context.annotation.Profile;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.view.RedirectView;
 
 @RestController
 @Hidden
+@Profile("!prod")
 public class HomeController {
 
     @GetMapping("/")
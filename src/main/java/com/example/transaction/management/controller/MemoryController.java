@@ -0,0 +1,35 @@
+package com.example.transaction.management.controller;
+
+import com.example.transaction.management.memory.MemoryGovernor;
+import com.example.transaction.management.model.MemoryStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/memory")
+@ConditionalOnProperty(prefix = "transaction.memory", name = "enabled", havingValue = "true")
+@Tag(name = "Memory", description = "Heap headroom and write backpressure of the memory governor")
+public class MemoryController {
+    private final MemoryGovernor governor;
+
+    public MemoryController(MemoryGovernor governor) {
+        this.governor = governor;
+    }
+
+    @Operation(summary = "Memory Statistics", description = "Heap usage against the budget, estimated footprints, and the writes throttled or rejected so far")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = MemoryStats.class)))
+    })
+    @GetMapping
+    public ResponseEntity<MemoryStats> getStats() {
+        return ResponseEntity.ok(governor.stats());
+    }
+}
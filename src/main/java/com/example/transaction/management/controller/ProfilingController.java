@@ -0,0 +1,91 @@
+package com.example.transaction.management.controller;
+
+import com.example.transaction.management.model.RecordingStatus;
+import com.example.transaction.management.service.ProfilingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/profiling")
+@ConditionalOnProperty(prefix = "transaction.profiling", name = "enabled", havingValue = "true")
+@Tag(name = "Profiling", description = "On-demand Java Flight Recorder recordings of the running application")
+public class ProfilingController {
+    private final ProfilingService profilingService;
+
+    public ProfilingController(ProfilingService profilingService) {
+        this.profilingService = profilingService;
+    }
+
+    @Operation(summary = "Start Recording", description = "Start a flight recording that stops by itself after the given duration")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Recording started",
+                    content = @Content(schema = @Schema(implementation = RecordingStatus.class))),
+        @ApiResponse(responseCode = "400", description = "Duration is not positive or exceeds the configured maximum"),
+        @ApiResponse(responseCode = "409", description = "A recording is already running")
+    })
+    @PostMapping("/start")
+    public ResponseEntity<RecordingStatus> startRecording(
+            @Parameter(description = "Recording length (ISO-8601), e.g. PT1M; defaults to the configured duration")
+            @RequestParam(required = false) Duration duration) {
+        return ResponseEntity.ok(profilingService.start(duration));
+    }
+
+    @Operation(summary = "Stop Recording", description = "Stop the running recording early, keeping its data for download")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Recording stopped",
+                    content = @Content(schema = @Schema(implementation = RecordingStatus.class))),
+        @ApiResponse(responseCode = "404", description = "No recording was started")
+    })
+    @PostMapping("/stop")
+    public ResponseEntity<RecordingStatus> stopRecording() {
+        return ResponseEntity.ok(profilingService.stop());
+    }
+
+    @Operation(summary = "Recording Status", description = "State and size of the current or last recording")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = RecordingStatus.class))),
+        @ApiResponse(responseCode = "404", description = "No recording was started")
+    })
+    @GetMapping
+    public ResponseEntity<RecordingStatus> getRecordingStatus() {
+        return ResponseEntity.ok(profilingService.status());
+    }
+
+    @Operation(summary = "Download Recording", description = "Download the data of the current or last recording as a .jfr file, "
+            + "for JDK Mission Control or the jfr tool")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Recording file",
+                    content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE)),
+        @ApiResponse(responseCode = "404", description = "No recording was started")
+    })
+    @GetMapping("/recording")
+    public void downloadRecording(HttpServletResponse response) throws IOException {
+        Path file = profilingService.dump();
+        try {
+            response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename("transaction-management.jfr").build().toString());
+            response.setContentLengthLong(Files.size(file));
+            Files.copy(file, response.getOutputStream());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
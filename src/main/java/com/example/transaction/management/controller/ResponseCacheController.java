@@ -0,0 +1,35 @@
+package com.example.transaction.management.controller;
+
+import com.example.transaction.management.cache.ResponseByteCache;
+import com.example.transaction.management.model.ResponseCacheStats;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/response-cache")
+@ConditionalOnProperty(prefix = "transaction.response-cache", name = "enabled", havingValue = "true")
+@Tag(name = "Response Cache", description = "Hit rate of the encoded response cache")
+public class ResponseCacheController {
+    private final ResponseByteCache cache;
+
+    public ResponseCacheController(ResponseByteCache cache) {
+        this.cache = cache;
+    }
+
+    @Operation(summary = "Response Cache Statistics", description = "Hits, misses and size of the cache of encoded transaction and list page responses")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = ResponseCacheStats.class)))
+    })
+    @GetMapping
+    public ResponseEntity<ResponseCacheStats> getStats() {
+        return ResponseEntity.ok(cache.stats());
+    }
+}
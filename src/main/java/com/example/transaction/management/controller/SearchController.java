@@ -0,0 +1,42 @@
+package com.example.transaction.management.controller;
+
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.service.SearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/transactions/search")
+@Tag(name = "Transaction Search", description = "Full-text search over transaction descriptions")
+public class SearchController {
+    private final SearchService searchService;
+
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @Operation(summary = "Search Transactions", description = "Paginated transactions whose description contains every word of the query (case-insensitive), in descending id order")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matching transactions retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = Transaction.class))),
+        @ApiResponse(responseCode = "400", description = "Empty query or invalid pagination")
+    })
+    @GetMapping
+    public ResponseEntity<List<Transaction>> searchTransactions(
+            @Parameter(description = "Words to search for, e.g. salary", required = true)
+            @RequestParam(defaultValue = "") String q,
+            @Parameter(description = "Page number (zero-based indexing)")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of records per page")
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(searchService.search(q, page, size));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.transaction.management.controller;
+
+import com.example.transaction.management.model.StatementFormat;
+import com.example.transaction.management.model.StatementStatus;
+import com.example.transaction.management.service.StatementService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/statements")
+@ConditionalOnProperty(prefix = "transaction.statements", name = "enabled", havingValue = "true")
+@Tag(name = "Statements", description = "Per-category and per-type statement files of a period, generated in the background")
+public class StatementController {
+    private final StatementService statementService;
+
+    public StatementController(StatementService statementService) {
+        this.statementService = statementService;
+    }
+
+    @Operation(summary = "Start Statement Job", description = "Start generating the statements of the transactions "
+            + "in a timestamp range, read from one snapshot")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Job started",
+                    content = @Content(schema = @Schema(implementation = StatementStatus.class))),
+        @ApiResponse(responseCode = "400", description = "Range is missing or empty"),
+        @ApiResponse(responseCode = "409", description = "A statement job is already running")
+    })
+    @PostMapping
+    public ResponseEntity<StatementStatus> startStatements(
+            @Parameter(description = "Inclusive lower timestamp bound (ISO-8601), e.g. 2025-07-01T00:00:00Z")
+            @RequestParam Instant from,
+            @Parameter(description = "Exclusive upper timestamp bound (ISO-8601), e.g. 2025-08-01T00:00:00Z")
+            @RequestParam Instant to,
+            @Parameter(description = "File format of the statements, CSV by default")
+            @RequestParam(required = false) StatementFormat format) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(statementService.start(from, to, format));
+    }
+
+    @Operation(summary = "Statement Job Status", description = "Progress of the current job, or the files of the last one")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Status retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = StatementStatus.class))),
+        @ApiResponse(responseCode = "404", description = "No statement job was started")
+    })
+    @GetMapping
+    public ResponseEntity<StatementStatus> getStatementStatus() {
+        return ResponseEntity.ok(statementService.status());
+    }
+
+    @Operation(summary = "Download Statement File", description = "Download one of the files listed by the completed last job")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statement file",
+                    content = {@Content(mediaType = "text/csv"), @Content(mediaType = "application/x-ndjson")}),
+        @ApiResponse(responseCode = "404", description = "No such file, or the job has not completed")
+    })
+    @GetMapping("/files/{name}")
+    public void downloadStatementFile(@PathVariable String name, HttpServletResponse response) throws IOException {
+        Path file = statementService.file(name);
+        String contentType = name.endsWith("." + StatementFormat.NDJSON.getExtension())
+                ? StatementFormat.NDJSON.getContentType()
+                : StatementFormat.CSV.getContentType();
+        response.setContentType(contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(name).build().toString());
+        response.setContentLengthLong(Files.size(file));
+        Files.copy(file, response.getOutputStream());
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.transaction.management.controller;
+
+import com.example.transaction.management.config.TenantProperties;
+import com.example.transaction.management.model.TenantStats;
+import com.example.transaction.management.tenant.TenantAdmission;
+import com.example.transaction.management.tenant.TenantRoutingRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/admin/tenants")
+@ConditionalOnProperty(prefix = "transaction.tenants", name = "enabled", havingValue = "true")
+@Tag(name = "Tenants", description = "Load and data of each tenant")
+public class TenantController {
+    private final TenantAdmission admission;
+    private final TenantRoutingRepository repository;
+    private final String defaultTenant;
+
+    public TenantController(TenantAdmission admission, TenantRoutingRepository repository, TenantProperties properties) {
+        this.admission = admission;
+        this.repository = repository;
+        this.defaultTenant = properties.defaultTenant();
+    }
+
+    @Operation(summary = "Tenant Statistics", description = "Transactions stored, requests executing, fair share, admissions, rejections and mean latency of every tenant")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Statistics retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = TenantStats.class)))
+    })
+    @GetMapping
+    public ResponseEntity<List<TenantStats>> getStats() {
+        return ResponseEntity.ok(admission.tenants().stream()
+                .map(tenant -> new TenantStats(tenant,
+                        repository.partition(tenant.equals(defaultTenant) ? null : tenant).count(),
+                        admission.inFlight(tenant), admission.fairShare(tenant), admission.admitted(tenant),
+                        admission.rejected(tenant), admission.meanLatencyNanos(tenant) / 1e6))
+                .toList());
+    }
+}
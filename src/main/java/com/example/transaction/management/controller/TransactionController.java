@@ -1,17 +1,28 @@
 package com.example.transaction.management.controller;
 
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.CommitRequest;
+import com.example.transaction.management.model.CommitResult;
+import com.example.transaction.management.model.SnapshotPage;
 import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionRequest;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.service.RankingService;
 import com.example.transaction.management.service.TransactionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,10 +30,15 @@ import org.springframework.web.bind.annotation.*;
 @RequestMapping("/api/transactions")
 @Tag(name = "Transaction Management", description = "Comprehensive API for managing financial transactions including CRUD operations")
 public class TransactionController {
+    /** Response header carrying the snapshot a list page was read at. */
+    public static final String SNAPSHOT_HEADER = "X-Snapshot";
+
     private final TransactionService transactionService;
+    private final RankingService rankingService;
 
-    public TransactionController(TransactionService transactionService) {
+    public TransactionController(TransactionService transactionService, RankingService rankingService) {
         this.transactionService = transactionService;
+        this.rankingService = rankingService;
     }
 
     @Operation(summary = "Create Transaction", description = "Create a new financial transaction record")
@@ -36,9 +52,29 @@ public class TransactionController {
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                 description = "Transaction details to be created", 
                 required = true, 
-                content = @Content(schema = @Schema(implementation = Transaction.class)))
-            @Valid @RequestBody Transaction transaction) {
-        return ResponseEntity.ok(transactionService.create(transaction));
+                content = @Content(schema = @Schema(implementation = TransactionRequest.class)))
+            @Valid @RequestBody TransactionRequest transaction) {
+        return ResponseEntity.ok(transactionService.create(transaction.toTransaction()));
+    }
+
+    @Operation(summary = "Commit Operations", description = "Apply several creates, updates and deletes atomically. "
+            + "Updates and deletes may carry the expectedVersion they were based on; if any operation conflicts or targets a missing transaction, none is applied")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "All operations applied",
+                    content = @Content(schema = @Schema(implementation = CommitResult.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid operations provided"),
+        @ApiResponse(responseCode = "409", description = "Nothing applied; the per-operation results report the conflicts",
+                    content = @Content(schema = @Schema(implementation = CommitResult.class)))
+    })
+    @PostMapping("/commit")
+    public ResponseEntity<CommitResult> commitTransactions(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Operations to apply together",
+                required = true,
+                content = @Content(schema = @Schema(implementation = CommitRequest.class)))
+            @Valid @RequestBody CommitRequest request) {
+        CommitResult result = transactionService.commit(request.toOperations());
+        return ResponseEntity.status(result.committed() ? HttpStatus.OK : HttpStatus.CONFLICT).body(result);
     }
 
     @Operation(summary = "Retrieve Transaction", description = "Retrieve transaction details by unique identifier")
@@ -55,18 +91,64 @@ public class TransactionController {
         return transaction.map(ResponseEntity::ok).orElseGet(() -> ResponseEntity.notFound().build());
     }
 
-    @Operation(summary = "List Transactions", description = "Retrieve paginated list of all transactions")
+    @Operation(summary = "List Transactions", description = "Retrieve paginated list of all transactions, optionally restricted to a timestamp range, in descending id order unless sorted. "
+            + "Unrestricted, unsorted lists are read at a snapshot returned in the X-Snapshot header; pass it back as the snapshot parameter to page through the same state")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Transaction list retrieved successfully", 
-                    content = @Content(schema = @Schema(implementation = Transaction.class)))
+                    content = @Content(schema = @Schema(implementation = Transaction.class)),
+                    headers = @Header(name = SNAPSHOT_HEADER, description = "Snapshot the page was read at")),
+        @ApiResponse(responseCode = "400", description = "Invalid pagination, time range or sort"),
+        @ApiResponse(responseCode = "410", description = "Requested snapshot has expired")
     })
     @GetMapping
     public ResponseEntity<List<Transaction>> getAllTransactions(
             @Parameter(description = "Page number (zero-based indexing)") 
             @RequestParam(defaultValue = "0") int page, 
             @Parameter(description = "Number of records per page") 
-            @RequestParam(defaultValue = "10") int size) {
-        return ResponseEntity.ok(transactionService.list(page, size));
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "Inclusive lower timestamp bound (ISO-8601), e.g. 2025-07-01T00:00:00Z")
+            @RequestParam(required = false) Instant from,
+            @Parameter(description = "Inclusive upper timestamp bound (ISO-8601), e.g. 2025-07-31T23:59:59Z")
+            @RequestParam(required = false) Instant to,
+            @Parameter(description = "Snapshot returned by a previous page (X-Snapshot header)")
+            @RequestParam(required = false) Long snapshot,
+            @Parameter(description = "Sort key and direction: amount or timestamp, optionally followed by ,asc (default) or ,desc, e.g. amount,desc")
+            @RequestParam(required = false) String sort) {
+        if (sort != null) {
+            return ResponseEntity.ok(rankingService.listSorted(sort,
+                    from != null ? from : Instant.MIN, to != null ? to : Instant.MAX, page, size));
+        }
+        if (from != null || to != null) {
+            return ResponseEntity.ok(transactionService.listBetween(
+                    from != null ? from : Instant.MIN, to != null ? to : Instant.MAX, page, size));
+        }
+        SnapshotPage result = transactionService.listSnapshot(snapshot, page, size);
+        return ResponseEntity.ok()
+                .header(SNAPSHOT_HEADER, Long.toString(result.snapshot()))
+                .body(result.transactions());
+    }
+
+    @Operation(summary = "Top Transactions", description = "The first transactions by amount or timestamp, optionally restricted to a type and a timestamp range, "
+            + "e.g. the 20 largest withdrawals of a week with sort=amount,desc&type=WITHDRAWAL&limit=20")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Top transactions retrieved successfully",
+                    content = @Content(schema = @Schema(implementation = Transaction.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid limit, time range or sort")
+    })
+    @GetMapping("/top")
+    public ResponseEntity<List<Transaction>> getTopTransactions(
+            @Parameter(description = "Sort key and direction: amount or timestamp, optionally followed by ,asc or ,desc")
+            @RequestParam(defaultValue = "amount,desc") String sort,
+            @Parameter(description = "Number of transactions to return, at most 1000")
+            @RequestParam(defaultValue = "10") int limit,
+            @Parameter(description = "Only transactions of this type")
+            @RequestParam(required = false) TransactionType type,
+            @Parameter(description = "Inclusive lower timestamp bound (ISO-8601)")
+            @RequestParam(required = false) Instant from,
+            @Parameter(description = "Inclusive upper timestamp bound (ISO-8601)")
+            @RequestParam(required = false) Instant to) {
+        return ResponseEntity.ok(rankingService.top(sort,
+                from != null ? from : Instant.MIN, to != null ? to : Instant.MAX, type, limit));
     }
 
     @Operation(summary = "Update Transaction", description = "Modify existing transaction information")
@@ -82,12 +164,16 @@ public class TransactionController {
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                 description = "Updated transaction information", 
                 required = true, 
-                content = @Content(schema = @Schema(implementation = Transaction.class)))
-            @Valid @RequestBody Transaction transaction) {
+                content = @Content(schema = @Schema(implementation = TransactionRequest.class)))
+            @Valid @RequestBody TransactionRequest transaction) {
         try {
-            return ResponseEntity.ok(transactionService.update(id, transaction));
-        } catch (RuntimeException e) {
-            return ResponseEntity.notFound().build();
+            return ResponseEntity.ok(transactionService.update(id, transaction.toTransaction()));
+        } catch (ApiException e) {
+            // A missing id answers an empty 404, like GET
+            if (e.getErrorType() == TransactionErrorType.TRANSACTION_NOT_FOUND) {
+                return ResponseEntity.notFound().build();
+            }
+            throw e;
         }
     }
 
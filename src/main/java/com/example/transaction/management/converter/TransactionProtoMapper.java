@@ -0,0 +1,155 @@
+package com.example.transaction.management.converter;
+
+import com.example.transaction.management.model.CommitRequest;
+import com.example.transaction.management.model.CommitResult;
+import com.example.transaction.management.model.OperationRequest;
+import com.example.transaction.management.model.OperationResult;
+import com.example.transaction.management.model.OperationType;
+import com.example.transaction.management.model.SnapshotPage;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionRequest;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.proto.CommitRequestMessage;
+import com.example.transaction.management.proto.CommitResultMessage;
+import com.example.transaction.management.proto.OperationMessage;
+import com.example.transaction.management.proto.OperationResultMessage;
+import com.example.transaction.management.proto.OperationStatusMessage;
+import com.example.transaction.management.proto.OperationTypeMessage;
+import com.example.transaction.management.proto.TransactionMessage;
+import com.example.transaction.management.proto.TransactionPage;
+import com.example.transaction.management.proto.TransactionTypeMessage;
+import com.google.protobuf.Timestamp;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps between the {@link Transaction} model, the {@link TransactionRequest} clients send, and their
+ * Protocol Buffers representation.
+ */
+public final class TransactionProtoMapper {
+
+    private TransactionProtoMapper() {
+    }
+
+    public static TransactionMessage toMessage(Transaction transaction) {
+        TransactionMessage.Builder builder = TransactionMessage.newBuilder();
+        if (transaction.getId() != null) {
+            builder.setId(transaction.getId());
+        }
+        if (transaction.getAmount() != null) {
+            builder.setAmount(transaction.getAmount().toPlainString());
+        }
+        if (transaction.getType() != null) {
+            builder.setType(TransactionTypeMessage.valueOf(transaction.getType().name()));
+        }
+        if (transaction.getDescription() != null) {
+            builder.setDescription(transaction.getDescription());
+        }
+        if (transaction.getCategory() != null) {
+            builder.setCategory(transaction.getCategory());
+        }
+        if (transaction.getTimestamp() != null) {
+            builder.setTimestamp(toTimestamp(transaction.getTimestamp()));
+        }
+        if (transaction.getVersion() != null) {
+            builder.setVersion(transaction.getVersion());
+        }
+        return builder.build();
+    }
+
+    public static TransactionPage toPage(List<Transaction> transactions) {
+        TransactionPage.Builder builder = TransactionPage.newBuilder();
+        for (Transaction transaction : transactions) {
+            builder.addTransactions(toMessage(transaction));
+        }
+        return builder.build();
+    }
+
+    public static TransactionPage toPage(SnapshotPage page) {
+        return toPage(page.transactions()).toBuilder().setSnapshot(page.snapshot()).build();
+    }
+
+    /**
+     * Transaction content sent by a client. Empty proto3 scalars are mapped back to {@code null} so that
+     * Bean Validation reports missing fields exactly as it does for JSON requests; the id and version
+     * of the message are not part of the content.
+     */
+    public static TransactionRequest fromMessage(TransactionMessage message) {
+        return new TransactionRequest(
+                message.getAmount().isEmpty() ? null : new BigDecimal(message.getAmount()),
+                fromMessage(message.getType()),
+                message.getDescription().isEmpty() ? null : message.getDescription(),
+                message.getCategory().isEmpty() ? null : message.getCategory(),
+                message.hasTimestamp() ? toInstant(message.getTimestamp()) : Instant.now());
+    }
+
+    /**
+     * A transaction as written by {@link #toMessage(Transaction)}, e.g. read back from storage.
+     */
+    public static Transaction toTransaction(TransactionMessage message) {
+        return new Transaction(
+                message.hasId() ? message.getId() : null,
+                message.getAmount().isEmpty() ? null : new BigDecimal(message.getAmount()),
+                fromMessage(message.getType()),
+                message.getDescription().isEmpty() ? null : message.getDescription(),
+                message.getCategory().isEmpty() ? null : message.getCategory(),
+                message.hasTimestamp() ? toInstant(message.getTimestamp()) : null,
+                message.hasVersion() ? message.getVersion() : null);
+    }
+
+    /**
+     * The type, or {@code null} when unspecified.
+     */
+    public static TransactionType fromMessage(TransactionTypeMessage type) {
+        if (type == TransactionTypeMessage.TRANSACTION_TYPE_UNSPECIFIED || type == TransactionTypeMessage.UNRECOGNIZED) {
+            return null;
+        }
+        return TransactionType.valueOf(type.name());
+    }
+
+    /**
+     * Unspecified operation types and absent transactions map to {@code null}, like missing JSON fields.
+     */
+    public static CommitRequest fromMessage(CommitRequestMessage message) {
+        List<OperationRequest> operations = new ArrayList<>(message.getOperationsCount());
+        for (OperationMessage operation : message.getOperationsList()) {
+            OperationType type = operation.getType() == OperationTypeMessage.OPERATION_TYPE_UNSPECIFIED
+                    || operation.getType() == OperationTypeMessage.UNRECOGNIZED
+                    ? null : OperationType.valueOf(operation.getType().name());
+            operations.add(new OperationRequest(type,
+                    operation.hasId() ? operation.getId() : null,
+                    operation.hasExpectedVersion() ? operation.getExpectedVersion() : null,
+                    operation.hasTransaction() ? fromMessage(operation.getTransaction()) : null));
+        }
+        return new CommitRequest(operations);
+    }
+
+    public static CommitResultMessage toMessage(CommitResult result) {
+        CommitResultMessage.Builder builder = CommitResultMessage.newBuilder().setCommitted(result.committed());
+        if (result.version() != null) {
+            builder.setVersion(result.version());
+        }
+        for (OperationResult operation : result.results()) {
+            OperationResultMessage.Builder operationBuilder = OperationResultMessage.newBuilder()
+                    .setStatus(OperationStatusMessage.valueOf(operation.status().name()));
+            if (operation.id() != null) {
+                operationBuilder.setId(operation.id());
+            }
+            if (operation.version() != null) {
+                operationBuilder.setVersion(operation.version());
+            }
+            builder.addResults(operationBuilder);
+        }
+        return builder.build();
+    }
+
+    public static Timestamp toTimestamp(Instant instant) {
+        return Timestamp.newBuilder().setSeconds(instant.getEpochSecond()).setNanos(instant.getNano()).build();
+    }
+
+    public static Instant toInstant(Timestamp timestamp) {
+        return Instant.ofEpochSecond(timestamp.getSeconds(), timestamp.getNanos());
+    }
+}
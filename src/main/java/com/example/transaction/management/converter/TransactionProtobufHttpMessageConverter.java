@@ -0,0 +1,83 @@
+package com.example.transaction.management.converter;
+
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionRequest;
+import com.example.transaction.management.proto.TransactionMessage;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.List;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * Reads {@link TransactionRequest} and writes {@link Transaction} and {@code List<Transaction>} as
+ * Protocol Buffers ({@code application/x-protobuf}). A single transaction is encoded as
+ * {@code TransactionMessage}, a list page as {@code TransactionPage}.
+ */
+public class TransactionProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    public static final MediaType PROTOBUF = new MediaType("application", "x-protobuf");
+
+    public TransactionProtobufHttpMessageConverter() {
+        super(PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Transaction.class.isAssignableFrom(clazz) || TransactionRequest.class.isAssignableFrom(clazz)
+                || List.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return type == TransactionRequest.class && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        if (type == null) {
+            return Transaction.class.isAssignableFrom(clazz);
+        }
+        return type == Transaction.class || isTransactionList(type);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return readInternal(TransactionRequest.class, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        try {
+            return TransactionProtoMapper.fromMessage(TransactionMessage.parseFrom(inputMessage.getBody()));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new HttpMessageNotReadableException("Invalid protobuf transaction: " + e.getMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        if (object instanceof Transaction transaction) {
+            TransactionProtoMapper.toMessage(transaction).writeTo(outputMessage.getBody());
+        } else if (object instanceof List<?> list) {
+            TransactionProtoMapper.toPage((List<Transaction>) list).writeTo(outputMessage.getBody());
+        } else {
+            throw new HttpMessageNotWritableException("Unsupported protobuf payload: " + object.getClass().getName());
+        }
+    }
+
+    private static boolean isTransactionList(Type type) {
+        return type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> raw
+                && List.class.isAssignableFrom(raw)
+                && parameterized.getActualTypeArguments()[0] == Transaction.class;
+    }
+}
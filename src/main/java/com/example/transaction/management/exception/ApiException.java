@@ -3,6 +3,13 @@ package com.example.transaction.management.exception;
 import org.springframework.http.HttpStatus;
 import java.io.Serial;
 
+/**
+ * Expected business failure (missing transaction, invalid pagination, ...).
+ * <p>
+ * These are part of normal control flow and can be raised at high rates by probing clients, so the
+ * exception neither captures a stack trace nor records suppressed exceptions. Instances are immutable
+ * and may be preallocated and rethrown.
+ */
 public class ApiException extends RuntimeException {
     @Serial
     private static final long serialVersionUID = 1L;
@@ -11,19 +18,15 @@ public class ApiException extends RuntimeException {
     private final TransactionErrorType errorType;
 
     public ApiException(TransactionErrorType errorType) {
-        super(errorType.getMessage());
-        this.status = HttpStatus.BAD_REQUEST;
-        this.errorType = errorType;
+        this(errorType, HttpStatus.BAD_REQUEST);
     }
 
     public ApiException(TransactionErrorType errorType, HttpStatus status) {
-        super(errorType.getMessage());
-        this.status = status;
-        this.errorType = errorType;
+        this(errorType, status, null);
     }
 
     public ApiException(TransactionErrorType errorType, HttpStatus status, Throwable cause) {
-        super(errorType.getMessage(), cause);
+        super(errorType.getMessage(), cause, false, false);
         this.status = status;
         this.errorType = errorType;
     }
@@ -35,4 +38,4 @@ public class ApiException extends RuntimeException {
     public TransactionErrorType getErrorType() {
         return errorType;
     }
-} 
\ No newline at end of file
+} 
@@ -0,0 +1,51 @@
+package com.example.transaction.management.exception;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+/**
+ * Precomputed JSON error bodies for {@link ApiException}.
+ * <p>
+ * The constant part of each body ({@code status} and {@code message}) is encoded once per error type
+ * and status; only the timestamp is rendered per response, and the parts are streamed straight to
+ * the servlet output without building a map or going through Jackson.
+ */
+final class ErrorBody {
+    private static final byte[] TIMESTAMP_SUFFIX = "\"}".getBytes(StandardCharsets.US_ASCII);
+    private static final Map<Key, byte[]> PREFIXES = new ConcurrentHashMap<>();
+
+    private ErrorBody() {
+    }
+
+    static void write(ApiException ex, HttpServletResponse response) throws IOException {
+        byte[] prefix = PREFIXES.computeIfAbsent(new Key(ex.getErrorType(), ex.getStatus()), ErrorBody::encodePrefix);
+        byte[] timestamp = DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(LocalDateTime.now())
+                .getBytes(StandardCharsets.US_ASCII);
+
+        response.setStatus(ex.getStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(prefix.length + timestamp.length + TIMESTAMP_SUFFIX.length);
+        OutputStream out = response.getOutputStream();
+        out.write(prefix);
+        out.write(timestamp);
+        out.write(TIMESTAMP_SUFFIX);
+    }
+
+    private static byte[] encodePrefix(Key key) {
+        String message = new String(JsonStringEncoder.getInstance().quoteAsString(key.errorType().getMessage()));
+        return ("{\"status\":" + key.status().value() + ",\"message\":\"" + message + "\",\"timestamp\":\"")
+                .getBytes(StandardCharsets.UTF_8);
+    }
+
+    private record Key(TransactionErrorType errorType, HttpStatus status) {
+    }
+}
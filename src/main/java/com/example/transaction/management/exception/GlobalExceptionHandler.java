@@ -1,5 +1,7 @@
 package com.example.transaction.management.exception;
 
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -14,13 +16,8 @@ import org.springframework.web.bind.annotation.ResponseBody;
 @ControllerAdvice
 public class GlobalExceptionHandler {
     @ExceptionHandler(ApiException.class)
-    @ResponseBody
-    public ResponseEntity<Map<String, Object>> handleApiException(ApiException ex) {
-        Map<String, Object> error = new HashMap<>();
-        error.put("timestamp", LocalDateTime.now());
-        error.put("status", ex.getStatus().value());
-        error.put("message", ex.getMessage());
-        return new ResponseEntity<>(error, ex.getStatus());
+    public void handleApiException(ApiException ex, HttpServletResponse response) throws IOException {
+        ErrorBody.write(ex, response);
     }
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
@@ -2,7 +2,26 @@ package com.example.transaction.management.exception;
 
 public enum TransactionErrorType {
     TRANSACTION_NOT_FOUND("Requested transaction was not found"),
-    INVALID_PAGINATION("Pagination parameters are invalid");
+    INVALID_PAGINATION("Pagination parameters are invalid"),
+    INVALID_TIME_RANGE("Time range parameters are invalid"),
+    INVALID_COMMIT("Commit operations are invalid or target the same transaction twice"),
+    INVALID_SORT("Sort must be amount or timestamp, optionally followed by ,asc or ,desc"),
+    INVALID_SEARCH_QUERY("Search query must contain at least one word"),
+    INVALID_STATS_QUERY("Quantiles must be within [0, 1] and top within the tracked categories"),
+    INVALID_PROFILING_DURATION("Profiling duration must be positive and within the configured maximum"),
+    PROFILING_ALREADY_RUNNING("A profiling recording is already running"),
+    NO_PROFILING_RECORDING("No profiling recording is available"),
+    RATE_LIMITED("Request rate limit exceeded, retry later"),
+    SERVER_OVERLOADED("Server is overloaded, retry later"),
+    INSUFFICIENT_MEMORY("Server is low on memory, writes are rejected until memory is freed"),
+    SNAPSHOT_EXPIRED("Snapshot has expired, restart paging without it"),
+    STATEMENT_ALREADY_RUNNING("A statement job is already running"),
+    NO_STATEMENT("No statement job was started"),
+    STATEMENT_FILE_NOT_FOUND("Statement file was not found or the job has not completed"),
+    INVALID_AS_OF("Exactly one of sequence and timestamp must be given"),
+    UNKNOWN_TENANT("Tenant is not configured"),
+    TENANT_NOT_SUPPORTED("This endpoint serves the default tenant only"),
+    TENANT_OVERLOADED("Tenant is over its share of the server, retry later");
 
     private final String message;
 
@@ -0,0 +1,376 @@
+package com.example.transaction.management.grpc;
+
+import com.example.transaction.management.converter.TransactionProtoMapper;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.memory.MemoryGovernor;
+import com.example.transaction.management.model.CommitRequest;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionRequest;
+import com.example.transaction.management.proto.BulkCreateResult;
+import com.example.transaction.management.proto.CommitRequestMessage;
+import com.example.transaction.management.proto.CommitResultMessage;
+import com.example.transaction.management.proto.ExportTransactionsRequest;
+import com.example.transaction.management.proto.ListTransactionsRequest;
+import com.example.transaction.management.proto.TopTransactionsRequest;
+import com.example.transaction.management.proto.TransactionApiGrpc;
+import com.example.transaction.management.proto.TransactionId;
+import com.example.transaction.management.proto.TransactionMessage;
+import com.example.transaction.management.proto.TransactionPage;
+import com.example.transaction.management.service.RankingService;
+import com.example.transaction.management.service.TransactionService;
+import com.google.protobuf.Empty;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.Validator;
+
+/**
+ * The transaction API over gRPC, on the same services as the REST controllers.
+ * <p>
+ * Requests are validated once here with the validator the REST API uses, and failures map to the
+ * status codes matching the REST ones, with the same messages. Creates, updates and commits are subject
+ * to the {@link MemoryGovernor} when it is enabled; the HTTP admission limits and response cache do not
+ * apply. Exports stream one pinned snapshot at the pace the client reads it, and bulk creates commit
+ * {@link TransactionService#MAX_COMMIT_SIZE} transactions at a time.
+ */
+public class TransactionGrpcService extends TransactionApiGrpc.TransactionApiImplBase {
+    private static final Logger log = LoggerFactory.getLogger(TransactionGrpcService.class);
+
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int DEFAULT_TOP_LIMIT = 10;
+    private static final String DEFAULT_TOP_SORT = "amount,desc";
+
+    private final TransactionService transactionService;
+    private final RankingService rankingService;
+    private final Validator validator;
+    private final MemoryGovernor governor;
+    private final int exportBatchSize;
+
+    /**
+     * @param governor write backpressure, {@code null} when the memory governor is disabled
+     */
+    public TransactionGrpcService(TransactionService transactionService, RankingService rankingService,
+            Validator validator, MemoryGovernor governor, int exportBatchSize) {
+        this.transactionService = transactionService;
+        this.rankingService = rankingService;
+        this.validator = validator;
+        this.governor = governor;
+        this.exportBatchSize = exportBatchSize;
+    }
+
+    @Override
+    public void createTransaction(TransactionMessage request, StreamObserver<TransactionMessage> responseObserver) {
+        respond(responseObserver, () -> {
+            Transaction transaction = validated(request);
+            admitWrite();
+            return TransactionProtoMapper.toMessage(transactionService.create(transaction));
+        });
+    }
+
+    @Override
+    public void getTransaction(TransactionId request, StreamObserver<TransactionMessage> responseObserver) {
+        respond(responseObserver, () -> TransactionProtoMapper.toMessage(transactionService.read(request.getId())
+                .orElseThrow(() -> status(Status.NOT_FOUND, TransactionErrorType.TRANSACTION_NOT_FOUND.getMessage()))));
+    }
+
+    @Override
+    public void updateTransaction(TransactionMessage request, StreamObserver<TransactionMessage> responseObserver) {
+        respond(responseObserver, () -> {
+            if (!request.hasId()) {
+                throw status(Status.INVALID_ARGUMENT, "id: Transaction id is required");
+            }
+            Transaction transaction = validated(request);
+            admitWrite();
+            return TransactionProtoMapper.toMessage(transactionService.update(request.getId(), transaction));
+        });
+    }
+
+    @Override
+    public void deleteTransaction(TransactionId request, StreamObserver<Empty> responseObserver) {
+        respond(responseObserver, () -> {
+            transactionService.delete(request.getId());
+            return Empty.getDefaultInstance();
+        });
+    }
+
+    @Override
+    public void listTransactions(ListTransactionsRequest request, StreamObserver<TransactionPage> responseObserver) {
+        respond(responseObserver, () -> {
+            int page = request.getPage();
+            int size = request.getSize() != 0 ? request.getSize() : DEFAULT_PAGE_SIZE;
+            Instant from = request.hasFrom() ? TransactionProtoMapper.toInstant(request.getFrom()) : Instant.MIN;
+            Instant to = request.hasTo() ? TransactionProtoMapper.toInstant(request.getTo()) : Instant.MAX;
+            if (!request.getSort().isEmpty()) {
+                return TransactionProtoMapper.toPage(rankingService.listSorted(request.getSort(), from, to, page, size));
+            }
+            if (request.hasFrom() || request.hasTo()) {
+                return TransactionProtoMapper.toPage(transactionService.listBetween(from, to, page, size));
+            }
+            return TransactionProtoMapper.toPage(transactionService.listSnapshot(
+                    request.hasSnapshot() ? request.getSnapshot() : null, page, size));
+        });
+    }
+
+    @Override
+    public void topTransactions(TopTransactionsRequest request, StreamObserver<TransactionPage> responseObserver) {
+        respond(responseObserver, () -> TransactionProtoMapper.toPage(rankingService.top(
+                request.getSort().isEmpty() ? DEFAULT_TOP_SORT : request.getSort(),
+                request.hasFrom() ? TransactionProtoMapper.toInstant(request.getFrom()) : Instant.MIN,
+                request.hasTo() ? TransactionProtoMapper.toInstant(request.getTo()) : Instant.MAX,
+                TransactionProtoMapper.fromMessage(request.getType()),
+                request.getLimit() != 0 ? request.getLimit() : DEFAULT_TOP_LIMIT)));
+    }
+
+    @Override
+    public void commitTransactions(CommitRequestMessage request, StreamObserver<CommitResultMessage> responseObserver) {
+        respond(responseObserver, () -> {
+            CommitRequest commit;
+            try {
+                commit = TransactionProtoMapper.fromMessage(request);
+            } catch (NumberFormatException e) {
+                throw status(Status.INVALID_ARGUMENT, "amount: Amount must be a decimal number");
+            }
+            validate(commit, "commitRequest");
+            admitWrite();
+            // A commit that did not apply is a regular result carrying the conflicts, as over REST
+            return TransactionProtoMapper.toMessage(transactionService.commit(commit.toOperations()));
+        });
+    }
+
+    @Override
+    public void exportTransactions(ExportTransactionsRequest request, StreamObserver<TransactionMessage> responseObserver) {
+        Instant from = request.hasFrom() ? TransactionProtoMapper.toInstant(request.getFrom()) : Instant.MIN;
+        Instant to = request.hasTo() ? TransactionProtoMapper.toInstant(request.getTo()) : Instant.MAX;
+        if (from.isAfter(to)) {
+            responseObserver.onError(status(Status.INVALID_ARGUMENT, TransactionErrorType.INVALID_TIME_RANGE.getMessage()));
+            return;
+        }
+        ServerCallStreamObserver<TransactionMessage> observer = (ServerCallStreamObserver<TransactionMessage>) responseObserver;
+        Export export = new Export(observer, transactionService.openExport(), from, to);
+        observer.setOnCancelHandler(export::close);
+        // Also run once the call is ready, after this method returns
+        observer.setOnReadyHandler(export::drain);
+    }
+
+    @Override
+    public StreamObserver<TransactionMessage> bulkCreateTransactions(StreamObserver<BulkCreateResult> responseObserver) {
+        return new BulkCreate(responseObserver);
+    }
+
+    /**
+     * Sends the transactions of one snapshot in id batches while the client keeps up; the transport
+     * calls {@link #drain} again whenever its buffer has room.
+     */
+    private final class Export {
+        private final ServerCallStreamObserver<TransactionMessage> observer;
+        private final long snapshot;
+        private final Instant from;
+        private final Instant to;
+        private List<Transaction> batch = List.of();
+        private int position;
+        private long nextId = Long.MAX_VALUE;
+        private boolean lastBatch;
+        private boolean closed;
+
+        Export(ServerCallStreamObserver<TransactionMessage> observer, long snapshot, Instant from, Instant to) {
+            this.observer = observer;
+            this.snapshot = snapshot;
+            this.from = from;
+            this.to = to;
+        }
+
+        // Called on the call's serialized executor, by ready and cancel events only
+        synchronized void drain() {
+            try {
+                while (!closed && observer.isReady()) {
+                    if (position == batch.size()) {
+                        if (lastBatch) {
+                            close();
+                            observer.onCompleted();
+                            return;
+                        }
+                        batch = transactionService.exportBatch(snapshot, nextId, exportBatchSize);
+                        position = 0;
+                        lastBatch = batch.size() < exportBatchSize;
+                        if (!batch.isEmpty()) {
+                            nextId = batch.get(batch.size() - 1).getId() - 1;
+                        }
+                        continue;
+                    }
+                    Transaction transaction = batch.get(position++);
+                    Instant timestamp = transaction.getTimestamp();
+                    if (!timestamp.isBefore(from) && !timestamp.isAfter(to)) {
+                        observer.onNext(TransactionProtoMapper.toMessage(transaction));
+                    }
+                }
+            } catch (RuntimeException e) {
+                close();
+                observer.onError(toStatus(e));
+            }
+        }
+
+        synchronized void close() {
+            if (!closed) {
+                closed = true;
+                transactionService.closeExport(snapshot);
+            }
+        }
+    }
+
+    /**
+     * Validates each transaction as it arrives and commits them in batches, so a large stream never
+     * holds more than one batch in memory.
+     */
+    private final class BulkCreate implements StreamObserver<TransactionMessage> {
+        private final StreamObserver<BulkCreateResult> responseObserver;
+        private final BulkCreateResult.Builder result = BulkCreateResult.newBuilder();
+        private final List<Transaction> batch = new ArrayList<>(TransactionService.MAX_COMMIT_SIZE);
+        private int received;
+        private boolean failed;
+
+        BulkCreate(StreamObserver<BulkCreateResult> responseObserver) {
+            this.responseObserver = responseObserver;
+        }
+
+        @Override
+        public void onNext(TransactionMessage message) {
+            if (failed) {
+                return;
+            }
+            try {
+                batch.add(validated(message));
+                received++;
+                if (batch.size() == TransactionService.MAX_COMMIT_SIZE) {
+                    flush();
+                }
+            } catch (RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            // Cancelled by the client; the batches committed so far stay
+            failed = true;
+        }
+
+        @Override
+        public void onCompleted() {
+            if (failed) {
+                return;
+            }
+            try {
+                if (!batch.isEmpty()) {
+                    flush();
+                }
+            } catch (RuntimeException e) {
+                fail(e);
+                return;
+            }
+            responseObserver.onNext(result.build());
+            responseObserver.onCompleted();
+        }
+
+        private void flush() {
+            admitWrite();
+            for (Transaction created : transactionService.createAll(batch)) {
+                result.addIds(created.getId());
+            }
+            batch.clear();
+        }
+
+        private void fail(RuntimeException e) {
+            failed = true;
+            Status status = toStatus(e).getStatus();
+            responseObserver.onError(status.withDescription("Transaction " + received + ": " + status.getDescription()
+                    + "; the " + result.getIdsCount() + " transactions before its batch were created").asRuntimeException());
+        }
+    }
+
+    // ===== Validation, backpressure and errors =====
+
+    private Transaction validated(TransactionMessage message) {
+        TransactionRequest transaction;
+        try {
+            transaction = TransactionProtoMapper.fromMessage(message);
+        } catch (NumberFormatException e) {
+            throw status(Status.INVALID_ARGUMENT, "amount: Amount must be a decimal number");
+        }
+        validate(transaction, "transaction");
+        return transaction.toTransaction();
+    }
+
+    private void validate(Object target, String name) {
+        Errors errors = new BeanPropertyBindingResult(target, name);
+        validator.validate(target, errors);
+        if (errors.hasErrors()) {
+            throw status(Status.INVALID_ARGUMENT, errors.getFieldErrors().stream()
+                    .map(error -> error.getField() + ": " + error.getDefaultMessage())
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private void admitWrite() {
+        if (governor == null) {
+            return;
+        }
+        long delay = governor.admitWrite();
+        if (delay < 0) {
+            throw status(Status.UNAVAILABLE, TransactionErrorType.INSUFFICIENT_MEMORY.getMessage());
+        }
+        if (delay > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static <T> void respond(StreamObserver<T> observer, Supplier<T> call) {
+        T response;
+        try {
+            response = call.get();
+        } catch (RuntimeException e) {
+            observer.onError(toStatus(e));
+            return;
+        }
+        observer.onNext(response);
+        observer.onCompleted();
+    }
+
+    static StatusRuntimeException toStatus(RuntimeException e) {
+        if (e instanceof StatusRuntimeException status) {
+            return status;
+        }
+        if (e instanceof ApiException api) {
+            Status status = switch (api.getStatus()) {
+                case BAD_REQUEST -> Status.INVALID_ARGUMENT;
+                case NOT_FOUND -> Status.NOT_FOUND;
+                case GONE -> Status.FAILED_PRECONDITION;
+                case TOO_MANY_REQUESTS -> Status.RESOURCE_EXHAUSTED;
+                case SERVICE_UNAVAILABLE -> Status.UNAVAILABLE;
+                default -> Status.INTERNAL;
+            };
+            return status(status, api.getErrorType().getMessage());
+        }
+        log.error("gRPC call failed", e);
+        return status(Status.INTERNAL, e.getMessage());
+    }
+
+    private static StatusRuntimeException status(Status status, String description) {
+        return status.withDescription(description).asRuntimeException();
+    }
+}
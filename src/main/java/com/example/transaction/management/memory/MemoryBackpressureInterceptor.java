@@ -0,0 +1,49 @@
+package com.example.transaction.management.memory;
+
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Applies the {@link MemoryGovernor} to creates, updates and commits: they are delayed while memory is
+ * tight and rejected with 503 and {@code Retry-After} when it runs out. Reads and deletes pass.
+ */
+public class MemoryBackpressureInterceptor implements HandlerInterceptor {
+    private static final ApiException INSUFFICIENT_MEMORY =
+            new ApiException(TransactionErrorType.INSUFFICIENT_MEMORY, HttpStatus.SERVICE_UNAVAILABLE);
+
+    private final MemoryGovernor governor;
+    private final String retryAfter;
+
+    public MemoryBackpressureInterceptor(MemoryGovernor governor, Duration maxWriteDelay) {
+        this.governor = governor;
+        this.retryAfter = Long.toString(Math.max(1, maxWriteDelay.toSeconds()));
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!"POST".equals(method) && !"PUT".equals(method)) {
+            return true;
+        }
+        long delay = governor.admitWrite();
+        if (delay < 0) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfter);
+            throw INSUFFICIENT_MEMORY;
+        }
+        if (delay > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.transaction.management.memory;
+
+import com.example.transaction.management.config.MemoryProperties;
+import com.example.transaction.management.model.MemoryStats;
+import com.example.transaction.management.repository.TransactionRepository;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Keeps heap usage below a budget by emptying caches, then delaying and finally rejecting writes as
+ * usage approaches the budget.
+ * <p>
+ * Usage is the heap in use after the last garbage collection, which excludes garbage, plus the
+ * estimated footprint of transactions stored on heap since, so that a burst of creates is slowed down before
+ * the next collection reveals it. Deletes are always admitted since they free memory.
+ */
+public class MemoryGovernor implements AutoCloseable {
+    // Collections also report non-heap pools such as Metaspace
+    private static final Set<String> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .map(MemoryPoolMXBean::getName)
+            .collect(Collectors.toUnmodifiableSet());
+
+    public enum Level {
+        NORMAL,
+        SHRINK_CACHES,
+        THROTTLE,
+        REJECT
+    }
+
+    private final TransactionRepository repository;
+    private final Runnable shrinkCaches;
+    private final LongSupplier cacheBytes;
+    private final long limit;
+    private final long shrinkBytes;
+    private final long throttleBytes;
+    private final long rejectBytes;
+    private final long maxDelayNanos;
+    private final long transactionFootprint;
+    private final NotificationListener collectionListener = this::handleNotification;
+    private final List<NotificationEmitter> collectors = new ArrayList<>();
+    private volatile long usedAfterGc;
+    private volatile long heapCountAfterGc;
+    // Caches are emptied at most once per collection: emptying them again frees nothing until the next one
+    private final AtomicBoolean shrunk = new AtomicBoolean();
+    private final LongAdder cacheShrinks = new LongAdder();
+    private final LongAdder throttledWrites = new LongAdder();
+    private final LongAdder rejectedWrites = new LongAdder();
+
+    public MemoryGovernor(MemoryProperties properties, TransactionRepository repository, Runnable shrinkCaches,
+            LongSupplier cacheBytes) {
+        if (!(0 < properties.shrinkCachesAt() && properties.shrinkCachesAt() <= properties.throttleAt()
+                && properties.throttleAt() < properties.rejectAt() && properties.rejectAt() <= 1)) {
+            throw new IllegalArgumentException("Memory thresholds must satisfy 0 < shrink-caches-at <= throttle-at < reject-at <= 1");
+        }
+        this.repository = repository;
+        this.shrinkCaches = shrinkCaches;
+        this.cacheBytes = cacheBytes;
+        this.limit = properties.limit() != null ? properties.limit().toBytes() : Runtime.getRuntime().maxMemory();
+        this.shrinkBytes = (long) (limit * properties.shrinkCachesAt());
+        this.throttleBytes = (long) (limit * properties.throttleAt());
+        this.rejectBytes = (long) (limit * properties.rejectAt());
+        this.maxDelayNanos = properties.maxWriteDelay().toNanos();
+        this.transactionFootprint = properties.transactionFootprint().toBytes();
+        // Until the first collection, everything in use counts
+        this.usedAfterGc = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        this.heapCountAfterGc = repository.heapCount();
+    }
+
+    /**
+     * Follow the heap usage reported by every garbage collection of this JVM.
+     */
+    public void watchCollections() {
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(collectionListener, null, null);
+                collectors.add(emitter);
+            }
+        }
+    }
+
+    /**
+     * Record the heap in use right after a garbage collection.
+     */
+    public void onCollection(long heapUsed) {
+        usedAfterGc = heapUsed;
+        heapCountAfterGc = repository.heapCount();
+        shrunk.set(false);
+        if (projectedUsage() >= shrinkBytes) {
+            shrink();
+        }
+    }
+
+    /**
+     * Admit a write that adds data: the nanoseconds it should wait first, or -1 when it must be rejected.
+     */
+    public long admitWrite() {
+        long used = projectedUsage();
+        if (used >= shrinkBytes) {
+            shrink();
+        }
+        if (used >= rejectBytes) {
+            rejectedWrites.increment();
+            return -1;
+        }
+        if (used < throttleBytes) {
+            return 0;
+        }
+        throttledWrites.increment();
+        // From nothing at the throttle threshold up to the maximum delay at the reject threshold
+        return (long) (maxDelayNanos * ((double) (used - throttleBytes) / (rejectBytes - throttleBytes)));
+    }
+
+    public long projectedUsage() {
+        long stored = Math.max(0, repository.heapCount() - heapCountAfterGc);
+        return usedAfterGc + stored * transactionFootprint;
+    }
+
+    public Level level() {
+        long used = projectedUsage();
+        if (used >= rejectBytes) {
+            return Level.REJECT;
+        }
+        if (used >= throttleBytes) {
+            return Level.THROTTLE;
+        }
+        return used >= shrinkBytes ? Level.SHRINK_CACHES : Level.NORMAL;
+    }
+
+    public MemoryStats stats() {
+        long projected = projectedUsage();
+        return new MemoryStats(limit, usedAfterGc, projected, Math.max(0, rejectBytes - projected), level().name(),
+                repository.heapCount() * transactionFootprint, cacheBytes.getAsLong(), cacheShrinks.sum(),
+                throttledWrites.sum(), rejectedWrites.sum());
+    }
+
+    @Override
+    public void close() {
+        for (NotificationEmitter collector : collectors) {
+            try {
+                collector.removeNotificationListener(collectionListener);
+            } catch (ListenerNotFoundException ignored) {
+                // Never registered or already removed
+            }
+        }
+        collectors.clear();
+    }
+
+    private void shrink() {
+        if (shrunk.compareAndSet(false, true)) {
+            shrinkCaches.run();
+            cacheShrinks.increment();
+        }
+    }
+
+    private void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        Map<String, MemoryUsage> after = GarbageCollectionNotificationInfo
+                .from((CompositeData) notification.getUserData()).getGcInfo().getMemoryUsageAfterGc();
+        long used = 0;
+        for (String pool : HEAP_POOLS) {
+            MemoryUsage usage = after.get(pool);
+            used += usage != null ? usage.getUsed() : 0;
+        }
+        onCollection(used);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.transaction.management.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+
+@Schema(description = "Approximate transaction amount at a quantile")
+public record AmountQuantile(
+        @Schema(description = "Quantile within [0, 1]", example = "0.99")
+        double quantile,
+        @Schema(description = "Approximate amount at the quantile", example = "1250.00")
+        BigDecimal amount) {
+}
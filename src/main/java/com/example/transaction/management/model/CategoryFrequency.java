@@ -0,0 +1,13 @@
+package com.example.transaction.management.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Approximate number of transactions written in a category")
+public record CategoryFrequency(
+        @Schema(description = "Transaction category", example = "Income")
+        String category,
+        @Schema(description = "Estimated count, never below the true count", example = "1200")
+        long count,
+        @Schema(description = "Upper bound of the overestimation included in count", example = "3")
+        long error) {
+}
@@ -0,0 +1,14 @@
+package com.example.transaction.management.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+
+@Schema(description = "Aggregate of the matching transactions of one category")
+public record CategorySummary(
+        @Schema(description = "Transaction category", example = "Income")
+        String category,
+        @Schema(description = "Number of matching transactions in the category", example = "12")
+        long count,
+        @Schema(description = "Sum of the matching transaction amounts in the category", example = "1200.00")
+        BigDecimal totalAmount) {
+}
@@ -0,0 +1,22 @@
+package com.example.transaction.management.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Writes applied together: either all of them or none")
+public record CommitRequest(
+        @Schema(description = "Writes to apply, each to a different transaction")
+        @NotEmpty(message = "At least one operation is required")
+        List<@Valid OperationRequest> operations) {
+
+    public List<TransactionOperation> toOperations() {
+        List<TransactionOperation> result = new ArrayList<>(operations.size());
+        for (OperationRequest operation : operations) {
+            result.add(operation.toOperation());
+        }
+        return result;
+    }
+}
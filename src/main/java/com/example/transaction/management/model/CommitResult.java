@@ -0,0 +1,14 @@
+package com.example.transaction.management.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Outcome of an atomic commit")
+public record CommitResult(
+        @Schema(description = "Whether every write was applied", example = "true")
+        boolean committed,
+        @Schema(description = "Version given to every written transaction; absent when not committed", example = "18")
+        Long version,
+        @Schema(description = "Per-write outcomes, in request order")
+        List<OperationResult> results) {
+}
@@ -0,0 +1,20 @@
+package com.example.transaction.management.model;
+
+/**
+ * Heap usage as seen by the memory governor, in bytes.
+ *
+ * @param limit               heap budget the thresholds are relative to
+ * @param usedAfterGc         heap in use after the last garbage collection
+ * @param projected           usedAfterGc plus the estimated footprint of transactions stored since
+ * @param headroom            bytes left before writes are rejected
+ * @param level               current level: NORMAL, SHRINK_CACHES, THROTTLE or REJECT
+ * @param estimatedStoreBytes estimated footprint of the transactions stored on heap
+ * @param estimatedCacheBytes estimated footprint of the encoded response cache
+ * @param cacheShrinks        times the caches were emptied
+ * @param throttledWrites     writes delayed
+ * @param rejectedWrites      writes rejected
+ */
+public record MemoryStats(long limit, long usedAfterGc, long projected, long headroom, String level,
+        long estimatedStoreBytes, long estimatedCacheBytes, long cacheShrinks, long throttledWrites,
+        long rejectedWrites) {
+}
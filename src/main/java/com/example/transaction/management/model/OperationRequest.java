@@ -0,0 +1,23 @@
+package com.example.transaction.management.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+@Schema(description = "One write of an atomic commit")
+public record OperationRequest(
+        @Schema(description = "Kind of write", example = "UPDATE")
+        @NotNull(message = "Operation type is required")
+        OperationType type,
+        @Schema(description = "Transaction to update or delete; absent for CREATE", example = "1001")
+        Long id,
+        @Schema(description = "Apply only if the transaction is still at this version; absent to skip the check", example = "17")
+        Long expectedVersion,
+        @Schema(description = "New transaction content for CREATE and UPDATE")
+        @Valid
+        TransactionRequest transaction) {
+
+    public TransactionOperation toOperation() {
+        return new TransactionOperation(type, id, expectedVersion, transaction == null ? null : transaction.toTransaction());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.transaction.management.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of one write, in the order of the request")
+public record OperationResult(
+        @Schema(description = "Transaction written; assigned for an applied CREATE", example = "1001")
+        Long id,
+        @Schema(description = "Outcome of the write", example = "APPLIED")
+        OperationStatus status,
+        @Schema(description = "New version when applied, current version on conflict", example = "18")
+        Long version) {
+}
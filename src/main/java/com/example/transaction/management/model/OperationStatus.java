@@ -0,0 +1,18 @@
+package com.example.transaction.management.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Outcome of one write in an atomic commit")
+public enum OperationStatus {
+    @Schema(description = "The write was applied")
+    APPLIED,
+
+    @Schema(description = "The transaction's version did not match expectedVersion")
+    CONFLICT,
+
+    @Schema(description = "The transaction to update or delete does not exist")
+    NOT_FOUND,
+
+    @Schema(description = "The write was valid but not applied because another write in the commit failed")
+    ABORTED
+}
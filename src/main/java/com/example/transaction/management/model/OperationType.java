@@ -0,0 +1,15 @@
+package com.example.transaction.management.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Kind of write in an atomic commit")
+public enum OperationType {
+    @Schema(description = "Create a new transaction")
+    CREATE,
+
+    @Schema(description = "Replace an existing transaction")
+    UPDATE,
+
+    @Schema(description = "Delete an existing transaction")
+    DELETE
+}
@@ -0,0 +1,17 @@
+package com.example.transaction.management.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Duration;
+import java.time.Instant;
+
+@Schema(description = "State of the current or last flight recording")
+public record RecordingStatus(
+        @Schema(description = "Recording state", example = "RUNNING", allowableValues = {"RUNNING", "STOPPED"})
+        String state,
+        @Schema(description = "When the recording started", example = "2025-07-15T10:30:00Z")
+        Instant startTime,
+        @Schema(description = "Requested duration after which the recording stops by itself", example = "PT1M")
+        Duration duration,
+        @Schema(description = "Recorded data in bytes", example = "1048576")
+        long size) {
+}
@@ -0,0 +1,13 @@
+package com.example.transaction.management.model;
+
+/**
+ * Counters of the encoded response cache since startup.
+ *
+ * @param hits         cacheable requests answered from cached bytes
+ * @param misses       cacheable requests that had to read and encode
+ * @param hitRate      hits over all cacheable requests, 0 before the first one
+ * @param transactions cached single transaction responses
+ * @param pages        cached list page responses
+ */
+public record ResponseCacheStats(long hits, long misses, double hitRate, int transactions, int pages) {
+}
@@ -0,0 +1,10 @@
+package com.example.transaction.management.model;
+
+import java.util.List;
+
+/**
+ * One list page together with the snapshot it was read at; passing the snapshot back reads further
+ * pages of the same state.
+ */
+public record SnapshotPage(long snapshot, List<Transaction> transactions) {
+}
@@ -0,0 +1,31 @@
+package com.example.transaction.management.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+import java.util.List;
+
+@Schema(description = "State of the current or last statement job")
+public record StatementStatus(
+        @Schema(description = "Job identifier, also the name of its output directory", example = "statement-1754006400000")
+        String id,
+        @Schema(description = "Job state", example = "RUNNING", allowableValues = {"RUNNING", "COMPLETED", "FAILED"})
+        String state,
+        @Schema(description = "Start of the statement period, inclusive", example = "2025-07-01T00:00:00Z")
+        Instant from,
+        @Schema(description = "End of the statement period, exclusive", example = "2025-08-01T00:00:00Z")
+        Instant to,
+        @Schema(description = "File format of the statements", example = "CSV")
+        StatementFormat format,
+        @Schema(description = "Commit sequence the transactions were read at", example = "1048576")
+        Long snapshot,
+        @Schema(description = "Transactions of the period written so far", example = "250000")
+        long transactions,
+        @Schema(description = "Generated files, available for download once the job has completed")
+        List<String> files,
+        @Schema(description = "When the job started", example = "2025-08-01T02:00:00Z")
+        Instant startedAt,
+        @Schema(description = "When the job completed or failed; absent while running", example = "2025-08-01T02:03:10Z")
+        Instant finishedAt,
+        @Schema(description = "Failure cause; absent unless the job failed")
+        String error) {
+}
@@ -0,0 +1,16 @@
+package com.example.transaction.management.model;
+
+/**
+ * Load and data of one tenant.
+ *
+ * @param tenant            tenant name
+ * @param transactions      transactions stored in its partition
+ * @param inFlight          requests executing now
+ * @param fairShare         requests it is guaranteed to run under overload, given the tenants active now
+ * @param admitted          requests admitted
+ * @param rejected          requests rejected because it was over its share of a saturated server
+ * @param meanLatencyMillis mean latency of its completed requests, in milliseconds
+ */
+public record TenantStats(String tenant, long transactions, int inFlight, int fairShare, long admitted,
+        long rejected, double meanLatencyMillis) {
+}
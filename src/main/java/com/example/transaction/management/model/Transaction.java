@@ -1,86 +1,98 @@
 package com.example.transaction.management.model;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.DecimalMin;
-import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
 import java.math.BigDecimal;
 import java.time.Instant;
 
+/**
+ * A transaction as stored and returned by repositories. Instances are immutable, so every reader, cache
+ * and old snapshot can share them; requests are bound to {@link TransactionRequest} instead.
+ */
 @Schema(description = "Financial Transaction Entity")
-public class Transaction {
+public final class Transaction {
     @Schema(description = "Unique transaction identifier", example = "1001")
-    private Long id;
-    
+    private final Long id;
+
     @Schema(description = "Transaction amount in decimal format", example = "100.50")
-    @NotNull(message = "Transaction amount is required")
-    @DecimalMin(value = "0.01", message = "Transaction amount must be greater than zero")
-    private BigDecimal amount;
-    
+    private final BigDecimal amount;
+
     @Schema(description = "Type of financial transaction", example = "DEPOSIT", allowableValues = {"DEPOSIT", "WITHDRAWAL", "TRANSFER"})
-    @NotNull(message = "Transaction type is required")
-    private TransactionType type;
-    
+    private final TransactionType type;
+
     @Schema(description = "Human-readable description of the transaction", example = "Salary deposit")
-    @NotBlank(message = "Transaction description is required")
-    private String description;
-    
+    private final String description;
+
     @Schema(description = "Transaction category for classification", example = "Income")
-    @NotBlank(message = "Transaction category is required")
-    private String category;
-    
+    private final String category;
+
     @Schema(description = "Timestamp when transaction was created", example = "2025-07-07T10:00:00Z")
-    private Instant timestamp;
+    private final Instant timestamp;
 
-    public Transaction() {
-        this.timestamp = Instant.now();
+    @Schema(description = "Commit version, changed by every write; pass it as expectedVersion to update conditionally",
+            example = "17", accessMode = Schema.AccessMode.READ_ONLY)
+    private final Long version;
+
+    @JsonCreator
+    public Transaction(@JsonProperty("id") Long id, @JsonProperty("amount") BigDecimal amount,
+            @JsonProperty("type") TransactionType type, @JsonProperty("description") String description,
+            @JsonProperty("category") String category, @JsonProperty("timestamp") Instant timestamp,
+            @JsonProperty("version") Long version) {
+        this.id = id;
+        this.amount = amount;
+        this.type = type;
+        this.description = description;
+        this.category = category;
+        this.timestamp = timestamp;
+        this.version = version;
     }
 
-    public Long getId() {
-        return id;
+    /**
+     * This transaction as stored under {@code id} by the commit {@code version}; an unset timestamp
+     * becomes the current time.
+     */
+    public Transaction toStored(Long id, Long version) {
+        return new Transaction(id, amount, type, description, category,
+                timestamp != null ? timestamp : Instant.now(), version);
     }
 
-    public void setId(Long id) {
-        this.id = id;
+    /**
+     * This transaction with another id, e.g. to save it over an existing one.
+     */
+    public Transaction withId(Long id) {
+        return new Transaction(id, amount, type, description, category, timestamp, version);
     }
 
-    public BigDecimal getAmount() {
-        return amount;
+    public Transaction withTimestamp(Instant timestamp) {
+        return new Transaction(id, amount, type, description, category, timestamp, version);
     }
 
-    public void setAmount(BigDecimal amount) {
-        this.amount = amount;
+    public Long getId() {
+        return id;
     }
 
-    public TransactionType getType() {
-        return type;
+    public BigDecimal getAmount() {
+        return amount;
     }
 
-    public void setType(TransactionType type) {
-        this.type = type;
+    public TransactionType getType() {
+        return type;
     }
 
     public String getDescription() {
         return description;
     }
 
-    public void setDescription(String description) {
-        this.description = description;
-    }
-
     public String getCategory() {
         return category;
     }
 
-    public void setCategory(String category) {
-        this.category = category;
-    }
-
     public Instant getTimestamp() {
         return timestamp;
     }
 
-    public void setTimestamp(Instant timestamp) {
-        this.timestamp = timestamp;
+    public Long getVersion() {
+        return version;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,11 @@
+package com.example.transaction.management.model;
+
+/**
+ * One write of an atomic commit, as applied by a repository; bound from an {@link OperationRequest}.
+ *
+ * @param id              transaction to update or delete; {@code null} for CREATE
+ * @param expectedVersion apply only if the transaction is still at this version; {@code null} to skip the check
+ * @param transaction     new content for CREATE and UPDATE
+ */
+public record TransactionOperation(OperationType type, Long id, Long expectedVersion, Transaction transaction) {
+}
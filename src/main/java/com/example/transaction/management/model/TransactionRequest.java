@@ -0,0 +1,95 @@
+package com.example.transaction.management.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Transaction content sent by a client over REST or gRPC, bound and validated before it becomes a
+ * {@link Transaction}. Ids and versions are assigned by the repository, so requests carry neither.
+ */
+@Schema(description = "Financial Transaction content to create or update")
+public class TransactionRequest {
+    @Schema(description = "Transaction amount in decimal format", example = "100.50")
+    @NotNull(message = "Transaction amount is required")
+    @DecimalMin(value = "0.01", message = "Transaction amount must be greater than zero")
+    private BigDecimal amount;
+
+    @Schema(description = "Type of financial transaction", example = "DEPOSIT", allowableValues = {"DEPOSIT", "WITHDRAWAL", "TRANSFER"})
+    @NotNull(message = "Transaction type is required")
+    private TransactionType type;
+
+    @Schema(description = "Human-readable description of the transaction", example = "Salary deposit")
+    @NotBlank(message = "Transaction description is required")
+    private String description;
+
+    @Schema(description = "Transaction category for classification", example = "Income")
+    @NotBlank(message = "Transaction category is required")
+    private String category;
+
+    @Schema(description = "Timestamp when transaction was created; defaults to the time of the request", example = "2025-07-07T10:00:00Z")
+    private Instant timestamp;
+
+    public TransactionRequest() {
+        this.timestamp = Instant.now();
+    }
+
+    public TransactionRequest(BigDecimal amount, TransactionType type, String description, String category,
+            Instant timestamp) {
+        this.amount = amount;
+        this.type = type;
+        this.description = description;
+        this.category = category;
+        this.timestamp = timestamp;
+    }
+
+    /**
+     * The requested content as a transaction without id or version yet.
+     */
+    public Transaction toTransaction() {
+        return new Transaction(null, amount, type, description, category, timestamp, null);
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public TransactionType getType() {
+        return type;
+    }
+
+    public void setType(TransactionType type) {
+        this.type = type;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(Instant timestamp) {
+        this.timestamp = timestamp;
+    }
+}
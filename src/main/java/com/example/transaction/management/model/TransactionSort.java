@@ -0,0 +1,12 @@
+package com.example.transaction.management.model;
+
+/**
+ * Order of a sorted listing; ties are broken by id in the same direction.
+ */
+public record TransactionSort(Field field, boolean descending) {
+
+    public enum Field {
+        AMOUNT,
+        TIMESTAMP
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.transaction.management.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "Approximate statistics of the live transactions in a time range")
+public record TransactionStats(
+        @Schema(description = "Number of live transactions", example = "125000")
+        long count,
+        @Schema(description = "Approximate amount quantiles, in requested order")
+        List<AmountQuantile> quantiles,
+        @Schema(description = "Approximate number of distinct categories", example = "42")
+        long distinctCategories,
+        @Schema(description = "Most frequent categories, most frequent first")
+        List<CategoryFrequency> topCategories) {
+}
@@ -0,0 +1,12 @@
+package com.example.transaction.management.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.math.BigDecimal;
+
+@Schema(description = "Aggregate of the transactions matching an analytics query")
+public record TransactionSummary(
+        @Schema(description = "Number of matching transactions", example = "42")
+        long count,
+        @Schema(description = "Sum of the matching transaction amounts", example = "4210.50")
+        BigDecimal totalAmount) {
+}
@@ -0,0 +1,16 @@
+package com.example.transaction.management.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.Instant;
+
+@Schema(description = "One committed version of a transaction")
+public record TransactionVersion(
+        @Schema(description = "Commit sequence of the version, also its version number", example = "42")
+        long sequence,
+        @Schema(description = "When the version was committed, to the millisecond", example = "2025-07-15T10:30:00.123Z")
+        Instant committedAt,
+        @Schema(description = "Whether this version deleted the transaction", example = "false")
+        boolean deleted,
+        @Schema(description = "The transaction as of this version; absent for deletes")
+        Transaction transaction) {
+}
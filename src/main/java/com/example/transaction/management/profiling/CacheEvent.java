@@ -0,0 +1,47 @@
+package com.example.transaction.management.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A lookup in a Spring cache: either the value was cached, or it was loaded (or absent) and the
+ * caller fell through to the repository.
+ */
+@Name("com.example.transaction.Cache")
+@Label("Cache Lookup")
+@Category({"Transaction Management", "Cache"})
+@Description("Lookup in a Spring cache, hit or miss")
+@Enabled(false)
+@StackTrace(false)
+public class CacheEvent extends Event {
+    @Label("Cache")
+    private String cache;
+
+    @Label("Key")
+    private String key;
+
+    @Label("Hit")
+    @Description("Whether the value was served from the cache")
+    private boolean hit;
+
+    public static CacheEvent start() {
+        CacheEvent event = new CacheEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(String cache, Object key, boolean hit) {
+        end();
+        if (shouldCommit()) {
+            this.cache = cache;
+            this.key = String.valueOf(key);
+            this.hit = hit;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.transaction.management.profiling;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Wraps the application's {@link CacheManager} in a {@link ProfiledCacheManager}, so lookups through
+ * {@code @Cacheable} emit {@link CacheEvent}s.
+ */
+@Component
+public class CacheEventPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof CacheManager manager && !(bean instanceof ProfiledCacheManager)) {
+            return new ProfiledCacheManager(manager);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.transaction.management.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A read looked up among the in-flight computations: either it shared one and waited for its result,
+ * or it ran the computation itself.
+ */
+@Name("com.example.transaction.Coalescing")
+@Label("Read Coalescing")
+@Category({"Transaction Management", "Cache"})
+@Description("Lookup of an identical in-flight read, shared (waited for) or executed")
+@Enabled(false)
+@StackTrace(false)
+public class CoalescingEvent extends Event {
+    @Label("Key")
+    private String key;
+
+    @Label("Shared")
+    @Description("Whether the result of an in-flight computation was reused")
+    private boolean shared;
+
+    public static CoalescingEvent start() {
+        CoalescingEvent event = new CoalescingEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(Object key, boolean shared) {
+        end();
+        if (shouldCommit()) {
+            this.key = String.valueOf(key);
+            this.shared = shared;
+            commit();
+        }
+    }
+}
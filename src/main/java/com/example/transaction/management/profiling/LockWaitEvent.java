@@ -0,0 +1,34 @@
+package com.example.transaction.management.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Time a thread waited to acquire an application lock.
+ */
+@Name("com.example.transaction.LockWait")
+@Label("Lock Wait")
+@Category({"Transaction Management", "Locks"})
+@Description("Time spent waiting to acquire an application lock")
+@Enabled(false)
+@StackTrace(false)
+public class LockWaitEvent extends Event {
+    @Label("Lock")
+    private String lock;
+
+    public static LockWaitEvent start(String lock) {
+        LockWaitEvent event = new LockWaitEvent();
+        event.lock = lock;
+        event.begin();
+        return event;
+    }
+
+    public void acquired() {
+        commit();
+    }
+}
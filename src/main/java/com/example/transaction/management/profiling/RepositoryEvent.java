@@ -0,0 +1,41 @@
+package com.example.transaction.management.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A repository read or write, timed from the call to its result.
+ */
+@Name("com.example.transaction.Repository")
+@Label("Repository Operation")
+@Category({"Transaction Management", "Repository"})
+@Description("Time spent in a repository operation and the number of transactions it returned or wrote")
+@Enabled(false)
+@StackTrace(false)
+public class RepositoryEvent extends Event {
+    @Label("Operation")
+    private String operation;
+
+    @Label("Transactions")
+    private int transactions;
+
+    public static RepositoryEvent start(String operation) {
+        RepositoryEvent event = new RepositoryEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    public void complete(int transactions) {
+        end();
+        if (shouldCommit()) {
+            this.transactions = transactions;
+            commit();
+        }
+    }
+}
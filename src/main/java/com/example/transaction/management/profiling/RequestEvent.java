@@ -0,0 +1,45 @@
+package com.example.transaction.management.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * An HTTP request, timed from the first filter to the written response status.
+ */
+@Name("com.example.transaction.Request")
+@Label("HTTP Request")
+@Category({"Transaction Management", "Web"})
+@Description("Handling of an HTTP request including serialization of the response")
+@Enabled(false)
+@StackTrace(false)
+public class RequestEvent extends Event {
+    @Label("Method")
+    private String method;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Status")
+    private int status;
+
+    public static RequestEvent start() {
+        RequestEvent event = new RequestEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(String method, String path, int status) {
+        end();
+        if (shouldCommit()) {
+            this.method = method;
+            this.path = path;
+            this.status = status;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.transaction.management.profiling;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Emits a {@link RequestEvent} for every request; a no-op unless a recording enables the event.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestEventFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestEvent event = RequestEvent.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            event.complete(request.getMethod(), request.getRequestURI(), response.getStatus());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.transaction.management.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+
+/**
+ * Private subdirectory {@code <prefix><uuid>} of an archive directory, for files that only live as long
+ * as the process writing them.
+ * <p>
+ * The owner locks the {@value #LOCK_FILE} file of the subdirectory when creating it and holds the lock
+ * until the subdirectory is deleted, or the process ends and the operating system releases it. A
+ * subdirectory whose lock can be taken was therefore left behind, and is removed when another one with
+ * the same prefix is set up. Process ids would not do: in a container every process is pid 1.
+ */
+final class ArchiveDirectory {
+    static final String LOCK_FILE = ".lock";
+
+    private final Path archiveDirectory;
+    private final String prefix;
+    private final String suffix;
+    private Path path;
+    private FileLock lock;
+
+    ArchiveDirectory(Path archiveDirectory, String prefix, String suffix) {
+        this.archiveDirectory = archiveDirectory;
+        this.prefix = prefix;
+        this.suffix = suffix;
+        this.path = archiveDirectory.resolve(prefix + UUID.randomUUID());
+        deleteStale();
+    }
+
+    /**
+     * The subdirectory, created and locked on first use.
+     */
+    synchronized Path create() {
+        while (lock == null) {
+            try {
+                Files.createDirectories(path);
+                FileLock acquired = tryLock(path);
+                // A cleaner that listed the new subdirectory before it was locked may have taken it
+                if (acquired != null && Files.exists(path.resolve(LOCK_FILE))) {
+                    lock = acquired;
+                } else {
+                    if (acquired != null) {
+                        acquired.channel().close();
+                    }
+                    path = archiveDirectory.resolve(prefix + UUID.randomUUID());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to create archive directory " + path, e);
+            }
+        }
+        return path;
+    }
+
+    synchronized Path path() {
+        return path;
+    }
+
+    /**
+     * Delete the subdirectory with its files and release its lock.
+     */
+    synchronized void delete() throws IOException {
+        deleteFiles(path, suffix);
+        if (lock != null) {
+            lock.channel().close();
+            lock = null;
+        }
+        Files.deleteIfExists(path);
+    }
+
+    private void deleteStale() {
+        if (!Files.isDirectory(archiveDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> directories = Files.newDirectoryStream(archiveDirectory, prefix + "*")) {
+            for (Path directory : directories) {
+                if (!Files.isDirectory(directory)) {
+                    continue;
+                }
+                try {
+                    FileLock stale = tryLock(directory);
+                    if (stale != null) {
+                        try (FileChannel channel = stale.channel()) {
+                            deleteFiles(directory, suffix);
+                            Files.deleteIfExists(directory);
+                        }
+                    }
+                } catch (DirectoryNotEmptyException | NoSuchFileException e) {
+                    // Taken over by a store created meanwhile, or removed by another cleaner
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to clean archive directory " + archiveDirectory, e);
+        }
+    }
+
+    /**
+     * Lock of {@code directory}, or {@code null} if a running store holds it.
+     */
+    private static FileLock tryLock(Path directory) throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            FileLock lock = channel.tryLock();
+            if (lock != null) {
+                return lock;
+            }
+        } catch (OverlappingFileLockException e) {
+            // Held by a store of this process
+        }
+        channel.close();
+        return null;
+    }
+
+    private static void deleteFiles(Path directory, String suffix) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + suffix)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+        Files.deleteIfExists(directory.resolve(LOCK_FILE));
+    }
+}
@@ -0,0 +1,406 @@
+package com.example.transaction.management.repository;
+
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * Column-oriented copy of the transaction set for scan-style analytics.
+ * <p>
+ * Rows live in fixed-size chunks of primitive arrays (id, amount in minor units, timestamp millis, type
+ * ordinal, category dictionary code) plus a liveness bitmap, so scans are tight loops over contiguous
+ * memory instead of pointer chasing through {@link Transaction} objects. The store is append-only:
+ * an update appends a new row and clears the liveness bit of the old one, and dead rows are compacted
+ * away once they make up half of the table.
+ * <p>
+ * Writers are serialized by a lock; readers are lock-free and scan a snapshot bounded by the row count
+ * published when they start.
+ */
+@Component
+public class ColumnarTransactionStore implements TransactionChangeListener {
+    /** Amounts are stored as a count of minor units (cents). */
+    public static final int AMOUNT_SCALE = 2;
+    static final int CHUNK_SHIFT = 12;
+    static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final BigInteger MAX_MINOR_UNITS = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final Map<String, Integer> categoryCodes = new ConcurrentHashMap<>();
+    private volatile String[] categoryNames = new String[16];
+    private volatile Table table = new Table();
+    // Row of each live id in the current table (guarded by writeLock)
+    private LongIntMap rowById = new LongIntMap();
+    private int deadRows;
+
+    @Override
+    public void onSave(Transaction previous, Transaction current) {
+        writeLock.lock();
+        try {
+            kill(current.getId());
+            rowById.put(current.getId(), table.append(current.getId(), toMinorUnits(current.getAmount()),
+                    toMillis(current.getTimestamp()), typeCode(current.getType()), categoryCode(current.getCategory())));
+            compactIfNeeded();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void onDelete(long id, Transaction removed, long sequence) {
+        writeLock.lock();
+        try {
+            kill(id);
+            compactIfNeeded();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void onClear() {
+        writeLock.lock();
+        try {
+            table = new Table();
+            rowById = new LongIntMap();
+            deadRows = 0;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Count and total amount (minor units) of live rows with {@code fromMillis <= timestamp <= toMillis},
+     * optionally restricted to one type.
+     */
+    public Totals sum(long fromMillis, long toMillis, TransactionType type) {
+        Table snapshot = table;
+        int rows = snapshot.size;
+        Chunk[] chunks = snapshot.chunks;
+        int typeFilter = typeCode(type);
+        long count = 0;
+        long sum = 0;
+        for (int c = 0; c * CHUNK_SIZE < rows; c++) {
+            Chunk chunk = chunks[c];
+            int limit = Math.min(CHUNK_SIZE, rows - c * CHUNK_SIZE);
+            long[] timestamps = chunk.timestamps;
+            long[] amounts = chunk.amounts;
+            byte[] types = chunk.types;
+            long[] live = chunk.live;
+            // Branch-free body so the JIT can keep the loop tight (and vectorize the comparisons)
+            for (int i = 0; i < limit; i++) {
+                long timestamp = timestamps[i];
+                boolean match = ((live[i >>> 6] >>> i) & 1L) != 0
+                        & timestamp >= fromMillis & timestamp <= toMillis
+                        & (typeFilter < 0 | types[i] == typeFilter);
+                long selected = match ? 1L : 0L;
+                count += selected;
+                sum += amounts[i] & -selected;
+            }
+        }
+        return new Totals(count, sum);
+    }
+
+    /**
+     * Per-category count and total amount (minor units) of live rows in the time range, optionally
+     * restricted to one type; categories are returned in first-seen order.
+     */
+    public Map<String, Totals> sumByCategory(long fromMillis, long toMillis, TransactionType type) {
+        Table snapshot = table;
+        int rows = snapshot.size;
+        Chunk[] chunks = snapshot.chunks;
+        String[] names = categoryNames;
+        int typeFilter = typeCode(type);
+        long[] counts = new long[names.length];
+        long[] sums = new long[names.length];
+        for (int c = 0; c * CHUNK_SIZE < rows; c++) {
+            Chunk chunk = chunks[c];
+            int limit = Math.min(CHUNK_SIZE, rows - c * CHUNK_SIZE);
+            long[] timestamps = chunk.timestamps;
+            long[] amounts = chunk.amounts;
+            byte[] types = chunk.types;
+            int[] categories = chunk.categories;
+            long[] live = chunk.live;
+            for (int i = 0; i < limit; i++) {
+                long timestamp = timestamps[i];
+                boolean match = ((live[i >>> 6] >>> i) & 1L) != 0
+                        & timestamp >= fromMillis & timestamp <= toMillis
+                        & (typeFilter < 0 | types[i] == typeFilter);
+                if (match && categories[i] >= 0) {
+                    counts[categories[i]]++;
+                    sums[categories[i]] += amounts[i];
+                }
+            }
+        }
+        Map<String, Totals> result = new LinkedHashMap<>();
+        for (int code = 0; code < names.length && names[code] != null; code++) {
+            if (counts[code] > 0) {
+                result.put(names[code], new Totals(counts[code], sums[code]));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Visit every live row with {@code fromMillis <= timestamp <= toMillis}, in no particular order.
+     */
+    void scan(long fromMillis, long toMillis, RowVisitor visitor) {
+        Table snapshot = table;
+        int rows = snapshot.size;
+        Chunk[] chunks = snapshot.chunks;
+        String[] names = categoryNames;
+        for (int c = 0; c * CHUNK_SIZE < rows; c++) {
+            Chunk chunk = chunks[c];
+            int limit = Math.min(CHUNK_SIZE, rows - c * CHUNK_SIZE);
+            for (int i = 0; i < limit; i++) {
+                long timestamp = chunk.timestamps[i];
+                if (chunk.isLive(i) && timestamp >= fromMillis && timestamp <= toMillis) {
+                    int category = chunk.categories[i];
+                    visitor.visit(timestamp, chunk.amounts[i], category < 0 ? null : names[category]);
+                }
+            }
+        }
+    }
+
+    /** Number of live rows. */
+    public long count() {
+        writeLock.lock();
+        try {
+            return table.size - deadRows;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public static BigDecimal toAmount(long minorUnits) {
+        return BigDecimal.valueOf(minorUnits, AMOUNT_SCALE);
+    }
+
+    public record Totals(long count, long sumMinorUnits) {
+    }
+
+    @FunctionalInterface
+    interface RowVisitor {
+        void visit(long timestampMillis, long amountMinorUnits, String category);
+    }
+
+    // ===== Write path (called with writeLock held) =====
+
+    private void kill(long id) {
+        int row = rowById.remove(id);
+        if (row >= 0) {
+            table.chunks[row >>> CHUNK_SHIFT].kill(row & CHUNK_MASK);
+            deadRows++;
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deadRows < CHUNK_SIZE || deadRows * 2 < table.size) {
+            return;
+        }
+        Table source = table;
+        Table compacted = new Table();
+        LongIntMap rows = new LongIntMap();
+        for (int row = 0; row < source.size; row++) {
+            Chunk chunk = source.chunks[row >>> CHUNK_SHIFT];
+            int i = row & CHUNK_MASK;
+            if (chunk.isLive(i)) {
+                rows.put(chunk.ids[i], compacted.append(chunk.ids[i], chunk.amounts[i], chunk.timestamps[i],
+                        chunk.types[i], chunk.categories[i]));
+            }
+        }
+        table = compacted;
+        rowById = rows;
+        deadRows = 0;
+    }
+
+    private int categoryCode(String category) {
+        if (category == null) {
+            return -1;
+        }
+        Integer code = categoryCodes.get(category);
+        if (code == null) {
+            code = categoryCodes.size();
+            String[] names = categoryNames;
+            if (code == names.length) {
+                names = Arrays.copyOf(names, names.length * 2);
+            }
+            names[code] = category;
+            categoryNames = names;
+            categoryCodes.put(category, code);
+        }
+        return code;
+    }
+
+    private static byte typeCode(TransactionType type) {
+        return type == null ? -1 : (byte) type.ordinal();
+    }
+
+    private static long toMinorUnits(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+        BigInteger minor = amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_EVEN).unscaledValue();
+        if (minor.bitLength() > 63) {
+            return minor.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+        }
+        return minor.longValue();
+    }
+
+    public static long toMillis(Instant instant) {
+        if (instant.isBefore(Instant.ofEpochMilli(Long.MIN_VALUE))) {
+            return Long.MIN_VALUE;
+        }
+        if (instant.isAfter(Instant.ofEpochMilli(Long.MAX_VALUE))) {
+            return Long.MAX_VALUE;
+        }
+        return instant.toEpochMilli();
+    }
+
+    // ===== Storage =====
+
+    private static final class Table {
+        private Chunk[] chunks = new Chunk[4];
+        // Published after the row's columns are written; readers never look past it
+        private volatile int size;
+
+        private int append(long id, long amount, long timestamp, byte type, int category) {
+            int row = size;
+            int chunkIndex = row >>> CHUNK_SHIFT;
+            if (chunkIndex == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunks.length * 2);
+            }
+            if (chunks[chunkIndex] == null) {
+                chunks[chunkIndex] = new Chunk();
+            }
+            chunks[chunkIndex].set(row & CHUNK_MASK, id, amount, timestamp, type, category);
+            size = row + 1;
+            return row;
+        }
+    }
+
+    private static final class Chunk {
+        private final long[] ids = new long[CHUNK_SIZE];
+        private final long[] amounts = new long[CHUNK_SIZE];
+        private final long[] timestamps = new long[CHUNK_SIZE];
+        private final byte[] types = new byte[CHUNK_SIZE];
+        private final int[] categories = new int[CHUNK_SIZE];
+        private final long[] live = new long[CHUNK_SIZE / 64];
+
+        private void set(int i, long id, long amount, long timestamp, byte type, int category) {
+            ids[i] = id;
+            amounts[i] = amount;
+            timestamps[i] = timestamp;
+            types[i] = type;
+            categories[i] = category;
+            live[i >>> 6] |= 1L << i;
+        }
+
+        private void kill(int i) {
+            live[i >>> 6] &= ~(1L << i);
+        }
+
+        private boolean isLive(int i) {
+            return (live[i >>> 6] & (1L << i)) != 0;
+        }
+    }
+
+    /**
+     * Open-addressing long-to-int map (linear probing with tombstones, no boxing); lookups of absent
+     * keys return -1. The two sentinel values are kept outside the table.
+     */
+    private static final class LongIntMap {
+        private static final long EMPTY = Long.MIN_VALUE;
+        private static final long REMOVED = Long.MIN_VALUE + 1;
+
+        private long[] keys = newKeys(1024);
+        private int[] values = new int[1024];
+        private int size;
+        private int occupied;
+        private final Map<Long, Integer> sentinels = new LinkedHashMap<>();
+
+        private void put(long key, int value) {
+            if (key == EMPTY || key == REMOVED) {
+                sentinels.put(key, value);
+                return;
+            }
+            int slot = find(key);
+            if (slot >= 0) {
+                values[slot] = value;
+                return;
+            }
+            if ((occupied + 1) * 2 > keys.length) {
+                rehash(size * 4 > keys.length ? keys.length * 2 : keys.length);
+            }
+            slot = slot(key);
+            while (keys[slot] != EMPTY && keys[slot] != REMOVED) {
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            if (keys[slot] == EMPTY) {
+                occupied++;
+            }
+            keys[slot] = key;
+            values[slot] = value;
+            size++;
+        }
+
+        private int remove(long key) {
+            if (key == EMPTY || key == REMOVED) {
+                Integer value = sentinels.remove(key);
+                return value == null ? -1 : value;
+            }
+            int slot = find(key);
+            if (slot < 0) {
+                return -1;
+            }
+            keys[slot] = REMOVED;
+            size--;
+            return values[slot];
+        }
+
+        private int find(long key) {
+            int slot = slot(key);
+            while (keys[slot] != EMPTY) {
+                if (keys[slot] == key) {
+                    return slot;
+                }
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            return -1;
+        }
+
+        private int slot(long key) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            return (int) (hash ^ (hash >>> 32)) & (keys.length - 1);
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldValues = values;
+            keys = newKeys(capacity);
+            values = new int[capacity];
+            size = 0;
+            occupied = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != EMPTY && oldKeys[i] != REMOVED) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static long[] newKeys(int capacity) {
+            long[] keys = new long[capacity];
+            Arrays.fill(keys, EMPTY);
+            return keys;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.transaction.management.repository;
+
+import com.example.transaction.management.model.Transaction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.roaringbitmap.longlong.PeekableLongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+
+/**
+ * Inverted index over {@link Transaction#getDescription()}: each case-folded token maps to a compressed
+ * (Roaring) bitmap of the ids whose description contains it.
+ * <p>
+ * Postings may hold stale ids when the replaced description is unknown (a stored instance saved again,
+ * an archived-only transaction overwritten), so callers must verify candidates against the current
+ * transaction. Stale ids are dropped the next time the id is saved or deleted.
+ * <p>
+ * Deletes with an unknown description (archived-only transactions, deleted or expired with their segment)
+ * are collected in a bitmap that filters candidates, and removed from every posting in one pass once
+ * {@value #PURGE_THRESHOLD} have accumulated.
+ */
+@Component
+public class DescriptionIndex implements TransactionChangeListener {
+    // Run-length compress a posting each time it grows by this many ids
+    private static final long RUN_OPTIMIZE_INTERVAL = 1 << 16;
+    private static final long PURGE_THRESHOLD = 4096;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Roaring64Bitmap> postings = new HashMap<>();
+    // Deleted ids whose tokens are unknown, still to be removed from the postings
+    private final Roaring64Bitmap deleted = new Roaring64Bitmap();
+
+    @Override
+    public void onSave(Transaction previous, Transaction current) {
+        long id = current.getId();
+        Set<String> tokens = tokenize(current.getDescription());
+        lock.writeLock().lock();
+        try {
+            if (deleted.contains(id)) {
+                // Saved again after a delete with unknown tokens: its old postings must go first
+                purge();
+            }
+            if (previous != null) {
+                for (String token : tokenize(previous.getDescription())) {
+                    if (!tokens.contains(token)) {
+                        removePosting(token, id);
+                    }
+                }
+            }
+            for (String token : tokens) {
+                Roaring64Bitmap posting = postings.computeIfAbsent(token, key -> new Roaring64Bitmap());
+                posting.addLong(id);
+                if (posting.getLongCardinality() % RUN_OPTIMIZE_INTERVAL == 0) {
+                    posting.runOptimize();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onDelete(long id, Transaction removed, long sequence) {
+        Set<String> tokens = removed == null ? Set.of() : tokenize(removed.getDescription());
+        lock.writeLock().lock();
+        try {
+            if (removed == null) {
+                deleted.addLong(id);
+                if (deleted.getLongCardinality() >= PURGE_THRESHOLD) {
+                    purge();
+                }
+                return;
+            }
+            for (String token : tokens) {
+                removePosting(token, id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void onClear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            deleted.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Up to {@code limit} ids not greater than {@code maxId} whose postings contain every term, in
+     * descending order. Pass the last returned id minus one to fetch the next batch.
+     */
+    public long[] candidates(Set<String> terms, long maxId, int limit) {
+        if (terms.isEmpty() || maxId < 0 || limit <= 0) {
+            return new long[0];
+        }
+        lock.readLock().lock();
+        try {
+            List<Roaring64Bitmap> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Roaring64Bitmap posting = postings.get(term);
+                if (posting == null) {
+                    return new long[0];
+                }
+                lists.add(posting);
+            }
+            // Walk the rarest term and probe the others
+            lists.sort(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+            Roaring64Bitmap driver = lists.get(0);
+            long[] result = new long[(int) Math.min(limit, driver.getLongCardinality())];
+            int found = 0;
+            PeekableLongIterator iterator = driver.getReverseLongIteratorFrom(maxId);
+            while (found < result.length && iterator.hasNext()) {
+                long id = iterator.next();
+                boolean match = true;
+                for (int i = 1; i < lists.size() && match; i++) {
+                    match = lists.get(i).contains(id);
+                }
+                match = match && !deleted.contains(id);
+                if (match) {
+                    result[found++] = id;
+                }
+            }
+            return found == result.length ? result : Arrays.copyOf(result, found);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Number of distinct indexed tokens. */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Approximate heap footprint of the posting lists. */
+    public long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = deleted.getLongSizeInBytes();
+            for (Map.Entry<String, Roaring64Bitmap> entry : postings.entrySet()) {
+                bytes += entry.getKey().length() + entry.getValue().getLongSizeInBytes();
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Distinct lower-cased runs of letters and digits, in order of appearance.
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    /** Remove the collected deletes from every posting; called under the write lock. */
+    private void purge() {
+        postings.values().removeIf(posting -> {
+            posting.andNot(deleted);
+            return posting.isEmpty();
+        });
+        deleted.clear();
+    }
+
+    private void removePosting(String token, long id) {
+        Roaring64Bitmap posting = postings.get(token);
+        if (posting != null) {
+            posting.removeLong(id);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+}
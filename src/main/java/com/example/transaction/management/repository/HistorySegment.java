@@ -0,0 +1,231 @@
+package com.example.transaction.management.repository;
+
+import com.example.transaction.management.model.TransactionVersion;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+
+/**
+ * Immutable, compressed on-disk copy of the versions moved out of {@link TransactionHistory} by one
+ * compaction.
+ * <p>
+ * Records are complete versions (or deletes), sorted by id in descending order and then by sequence,
+ * and written in deflated blocks of {@link #BLOCK_SIZE} records like a {@link Segment}. Only the
+ * distinct ids, the position of their first record and the block offsets stay in heap (12 bytes per
+ * id, however many versions it has).
+ */
+final class HistorySegment {
+    static final int BLOCK_SIZE = 256;
+
+    private final Path file;
+    private final long[] ids;
+    // First record of ids[i]; the last entry is the record count
+    private final int[] starts;
+    private final long[] blockOffsets;
+    private final long newestCommit;
+
+    private HistorySegment(Path file, long[] ids, int[] starts, long[] blockOffsets, long newestCommit) {
+        this.file = file;
+        this.ids = ids;
+        this.starts = starts;
+        this.blockOffsets = blockOffsets;
+        this.newestCommit = newestCommit;
+    }
+
+    /**
+     * Writes the records of one segment as they are added, a block at a time.
+     */
+    static final class Writer implements AutoCloseable {
+        private final Path file;
+        private final FileChannel channel;
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private final byte[] buffer = new byte[64 * 1024];
+        private final ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(raw);
+        private long[] ids = new long[1024];
+        private int[] starts = new int[1025];
+        private int idCount;
+        private int records;
+        private long[] blockOffsets = new long[16];
+        private int blocks;
+        private long newestCommit = Long.MIN_VALUE;
+
+        private Writer(Path file) throws IOException {
+            this.file = file;
+            this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        }
+
+        /**
+         * Append a version of {@code id}; ids must be added in descending order, the versions of one id
+         * in sequence order.
+         */
+        void add(long id, TransactionVersion version) throws IOException {
+            if (idCount == 0 || ids[idCount - 1] != id) {
+                if (idCount == ids.length) {
+                    ids = Arrays.copyOf(ids, idCount * 2);
+                    starts = Arrays.copyOf(starts, idCount * 2 + 1);
+                }
+                ids[idCount] = id;
+                starts[idCount++] = records;
+            }
+            out.writeLong(id);
+            out.writeLong(version.sequence());
+            out.writeLong(version.committedAt().toEpochMilli());
+            out.writeBoolean(version.deleted());
+            if (!version.deleted()) {
+                Segment.encode(version.transaction(), out);
+            }
+            newestCommit = Math.max(newestCommit, version.committedAt().toEpochMilli());
+            if (++records % BLOCK_SIZE == 0) {
+                flush();
+            }
+        }
+
+        /**
+         * The written segment, or {@code null} (and no file) when nothing was added.
+         */
+        HistorySegment finish() throws IOException {
+            if (records % BLOCK_SIZE != 0) {
+                flush();
+            }
+            channel.close();
+            if (records == 0) {
+                Files.deleteIfExists(file);
+                return null;
+            }
+            starts[idCount] = records;
+            return new HistorySegment(file, Arrays.copyOf(ids, idCount), Arrays.copyOf(starts, idCount + 1),
+                    Arrays.copyOf(blockOffsets, blocks + 1), newestCommit);
+        }
+
+        private void flush() throws IOException {
+            Segment.deflate(raw.toByteArray(), deflater, buffer, channel);
+            raw.reset();
+            if (++blocks == blockOffsets.length) {
+                blockOffsets = Arrays.copyOf(blockOffsets, blocks * 2);
+            }
+            blockOffsets[blocks] = channel.position();
+        }
+
+        @Override
+        public void close() throws IOException {
+            deflater.end();
+            channel.close();
+        }
+    }
+
+    static Writer writer(Path file) throws IOException {
+        return new Writer(file);
+    }
+
+    int idCount() {
+        return ids.length;
+    }
+
+    long idAt(int position) {
+        return ids[position];
+    }
+
+    int versionCount() {
+        return starts[ids.length];
+    }
+
+    /**
+     * Commit time of the newest version, in epoch milliseconds.
+     */
+    long newestCommit() {
+        return newestCommit;
+    }
+
+    /**
+     * Position of {@code id} among the ids of this segment, or -1 when absent.
+     */
+    int positionOf(long id) {
+        // Binary search over ids sorted in descending order
+        int low = 0;
+        int high = ids.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (ids[mid] > id) {
+                low = mid + 1;
+            } else if (ids[mid] < id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete history segment " + file, e);
+        }
+    }
+
+    private List<Record> readBlock(int block) {
+        try {
+            DataInputStream in = Segment.inflate(file, blockOffsets[block], blockOffsets[block + 1]);
+            int count = Math.min(BLOCK_SIZE, versionCount() - block * BLOCK_SIZE);
+            List<Record> records = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                long id = in.readLong();
+                long sequence = in.readLong();
+                Instant committedAt = Instant.ofEpochMilli(in.readLong());
+                boolean deleted = in.readBoolean();
+                records.add(new Record(id, new TransactionVersion(sequence, committedAt, deleted,
+                        deleted ? null : Segment.decode(in))));
+            }
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read history segment " + file, e);
+        } catch (DataFormatException e) {
+            throw new UncheckedIOException("Corrupt block in history segment " + file, new IOException(e));
+        }
+    }
+
+    private record Record(long id, TransactionVersion version) {
+    }
+
+    /**
+     * Reads versions for one request, inflating each block at most once.
+     */
+    static final class Reader {
+        private final Map<HistorySegment, Map<Integer, List<Record>>> blocks = new HashMap<>();
+
+        /**
+         * The versions of {@code id} in {@code segment}, oldest first; empty when it holds none.
+         */
+        List<TransactionVersion> read(HistorySegment segment, long id) {
+            int position = segment.positionOf(id);
+            if (position < 0) {
+                return List.of();
+            }
+            int from = segment.starts[position];
+            int to = segment.starts[position + 1];
+            List<TransactionVersion> versions = new ArrayList<>(to - from);
+            for (int record = from; record < to; record++) {
+                List<Record> block = blocks.computeIfAbsent(segment, s -> new HashMap<>())
+                        .computeIfAbsent(record / BLOCK_SIZE, segment::readBlock);
+                versions.add(block.get(record % BLOCK_SIZE).version());
+            }
+            return versions;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.transaction.management.repository;
+
+/**
+ * Source of ids for new transactions. Ids must be unique and positive, and should grow roughly with
+ * creation time: lists return transactions in descending id order, i.e. newest first.
+ */
+public interface IdGenerator {
+    long nextId();
+
+    /**
+     * Called when the repository is cleared; generators whose ids cannot collide with ids handed out
+     * before keep going.
+     */
+    default void reset() {
+    }
+
+    /**
+     * Called with the largest id already stored when a persistent repository is opened; ids handed out
+     * afterwards must be larger.
+     */
+    default void advancePast(long id) {
+    }
+}
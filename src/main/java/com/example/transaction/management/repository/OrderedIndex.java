@@ -0,0 +1,131 @@
+package com.example.transaction.management.repository;
+
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionSort;
+import com.example.transaction.management.model.TransactionType;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import org.springframework.stereotype.Component;
+
+/**
+ * Transactions ordered by amount and by timestamp, so that sorted pages and top-K queries walk only
+ * the entries they return instead of sorting every transaction.
+ * <p>
+ * Each id has one immutable {@link Entry} in both orders; an update replaces it, so a concurrent reader
+ * may briefly miss the id. Results reflect the latest state, not a snapshot, and callers resolve the
+ * ids against the repository.
+ */
+@Component
+public class OrderedIndex implements TransactionChangeListener {
+    private static final Comparator<Entry> BY_AMOUNT =
+            Comparator.comparing(Entry::amount).thenComparingLong(Entry::id);
+    private static final Comparator<Entry> BY_TIMESTAMP =
+            Comparator.comparing(Entry::timestamp).thenComparingLong(Entry::id);
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    // Largest and newest first: a skip list iterates backwards with a search per step, and top-K
+    // queries mostly ask for the largest amounts and the latest transactions
+    private final ConcurrentSkipListSet<Entry> byAmount = new ConcurrentSkipListSet<>(BY_AMOUNT.reversed());
+    private final ConcurrentSkipListSet<Entry> byTimestamp = new ConcurrentSkipListSet<>(BY_TIMESTAMP.reversed());
+
+    /**
+     * Sort keys of one transaction.
+     */
+    public record Entry(long id, BigDecimal amount, Instant timestamp, TransactionType type) {
+    }
+
+    @Override
+    public void onSave(Transaction previous, Transaction current) {
+        // The replaced keys come from the index itself: previous is null when the id was archived
+        entries.compute(current.getId(), (id, old) -> {
+            if (old != null) {
+                byAmount.remove(old);
+                byTimestamp.remove(old);
+            }
+            if (current.getAmount() == null || current.getTimestamp() == null) {
+                return null;
+            }
+            Entry entry = new Entry(id, current.getAmount(), current.getTimestamp(), current.getType());
+            byAmount.add(entry);
+            byTimestamp.add(entry);
+            return entry;
+        });
+    }
+
+    @Override
+    public void onDelete(long id, Transaction removed, long sequence) {
+        entries.computeIfPresent(id, (key, old) -> {
+            byAmount.remove(old);
+            byTimestamp.remove(old);
+            return null;
+        });
+    }
+
+    @Override
+    public void onClear() {
+        entries.clear();
+        byAmount.clear();
+        byTimestamp.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * The first {@code limit} entries in {@code sort} order with a timestamp within [{@code from},
+     * {@code to}] and, unless null, of {@code type}.
+     * <p>
+     * Timestamp order, and amount order over all timestamps, walk the index and stop after
+     * {@code limit} matches. Amount order within a time range streams the range through a heap bounded
+     * to {@code limit} entries instead, so it costs O(m log limit) for m transactions in the range.
+     */
+    public List<Entry> top(TransactionSort sort, Instant from, Instant to, TransactionType type, int limit) {
+        boolean unbounded = from.equals(Instant.MIN) && to.equals(Instant.MAX);
+        NavigableSet<Entry> range = unbounded ? byTimestamp : byTimestamp.subSet(
+                new Entry(Long.MAX_VALUE, null, to, null), true, new Entry(Long.MIN_VALUE, null, from, null), true);
+        if (sort.field() == TransactionSort.Field.TIMESTAMP) {
+            return first(sort.descending() ? range : range.descendingSet(), type, limit);
+        }
+        if (unbounded) {
+            return first(sort.descending() ? byAmount : byAmount.descendingSet(), type, limit);
+        }
+        Comparator<Entry> order = sort.descending() ? BY_AMOUNT.reversed() : BY_AMOUNT;
+        // Head is the entry that drops out first
+        PriorityQueue<Entry> heap = new PriorityQueue<>(limit + 1, order.reversed());
+        for (Entry entry : range) {
+            if (type != null && entry.type() != type) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.add(entry);
+            } else if (order.compare(entry, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(entry);
+            }
+        }
+        List<Entry> result = new ArrayList<>(heap);
+        result.sort(order);
+        return result;
+    }
+
+    private static List<Entry> first(Iterable<Entry> ordered, TransactionType type, int limit) {
+        List<Entry> result = new ArrayList<>(Math.min(limit, 1024));
+        for (Entry entry : ordered) {
+            if (result.size() == limit) {
+                break;
+            }
+            if (type == null || entry.type() == type) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+}
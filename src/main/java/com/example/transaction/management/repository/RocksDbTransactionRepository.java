@@ -0,0 +1,596 @@
+package com.example.transaction.management.repository;
+
+import com.example.transaction.management.config.RocksDbProperties;
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.converter.TransactionProtoMapper;
+import com.example.transaction.management.model.CommitResult;
+import com.example.transaction.management.model.OperationResult;
+import com.example.transaction.management.model.OperationStatus;
+import com.example.transaction.management.model.OperationType;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionOperation;
+import com.example.transaction.management.profiling.LockWaitEvent;
+import com.example.transaction.management.profiling.RepositoryEvent;
+import com.example.transaction.management.proto.TransactionMessage;
+import com.google.protobuf.InvalidProtocolBufferException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.rocksdb.BlockBasedTableConfig;
+import org.rocksdb.BloomFilter;
+import org.rocksdb.ColumnFamilyDescriptor;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompressionType;
+import org.rocksdb.DBOptions;
+import org.rocksdb.LRUCache;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+import org.rocksdb.Snapshot;
+import org.rocksdb.WriteBatch;
+import org.rocksdb.WriteOptions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Persistent repository on an embedded RocksDB log-structured merge tree, for datasets larger than heap.
+ * <p>
+ * Transactions are stored as Protocol Buffers messages under the bitwise complement of their id as an
+ * 8-byte big-endian key, so keys sort by descending id and lists iterate forwards from the first key
+ * (backward iteration costs a seek per step in the memtable). A second column family indexes them
+ * by timestamp. Every write is one atomic write batch under a short write lock that also assigns the
+ * version; a multi-operation {@link #commit} is validated and written under that lock. Listeners are
+ * notified under a notify lock taken before the write lock is released, so in write order, while the
+ * next write proceeds. Reads never lock.
+ * List snapshots are RocksDB snapshots leased like those of {@link SkipListTransactionRepository}, and
+ * superseded versions are dropped by compaction once no snapshot needs them. Hot data blocks are served
+ * from an off-heap block cache, and Bloom filters spare point reads of missing ids a disk access.
+ * <p>
+ * Data is already on disk, so partition archival does not apply and its operations do nothing. On
+ * startup the live count and last version are recovered from the stored transactions, which are also
+ * replayed to the listeners.
+ */
+@Repository
+@ConditionalOnProperty(prefix = "transaction.storage", name = "engine", havingValue = "rocksdb")
+public class RocksDbTransactionRepository implements TransactionRepository, AutoCloseable {
+    private static final byte[] TIMESTAMP_FAMILY = "timestamps".getBytes(StandardCharsets.UTF_8);
+    // Exclusive upper bounds of all id keys and all timestamp index keys
+    private static final byte[] ID_KEYS_END = filled(Long.BYTES + 1);
+    private static final byte[] TIMESTAMP_KEYS_END = filled(Long.BYTES + Integer.BYTES + Long.BYTES + 1);
+
+    private final RocksDB db;
+    private final ColumnFamilyHandle rows;
+    private final ColumnFamilyHandle timestamps;
+    // Native objects released on close, in reverse order of creation
+    private final List<AutoCloseable> resources = new ArrayList<>();
+    private final WriteOptions writeOptions;
+    private final IdGenerator idGenerator;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // Taken under writeLock and held while notifying listeners, so they see the writes in order
+    private final ReentrantLock notifyLock = new ReentrantLock();
+    // Last assigned version (guarded by writeLock) and live transactions
+    private long version;
+    private final AtomicLong liveCount = new AtomicLong();
+    private final SnapshotRegistry snapshots;
+    // RocksDB snapshot behind each leased snapshot, created on its first read
+    private final ConcurrentSkipListMap<Long, Snapshot> dbSnapshots = new ConcurrentSkipListMap<>();
+    private volatile long visibleVersion;
+    private final TransactionChangeListener[] listeners;
+
+    public RocksDbTransactionRepository(RocksDbProperties properties) {
+        this(properties, StorageProperties.defaults(), List.of(), new SequentialIdGenerator(1000));
+    }
+
+    @Autowired
+    public RocksDbTransactionRepository(RocksDbProperties properties, StorageProperties storage,
+            List<TransactionChangeListener> listeners, IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+        this.snapshots = new SnapshotRegistry(storage.snapshotRetention().toNanos());
+        this.listeners = listeners.toArray(new TransactionChangeListener[0]);
+        RocksDB.loadLibrary();
+        try {
+            Files.createDirectories(properties.path());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create database directory " + properties.path(), e);
+        }
+        LRUCache blockCache = register(new LRUCache(properties.blockCacheSize().toBytes()));
+        BlockBasedTableConfig table = new BlockBasedTableConfig()
+                .setBlockCache(blockCache)
+                .setFilterPolicy(register(new BloomFilter(10)))
+                .setCacheIndexAndFilterBlocks(true);
+        ColumnFamilyOptions familyOptions = register(new ColumnFamilyOptions()
+                .setTableFormatConfig(table)
+                .setWriteBufferSize(properties.writeBufferSize().toBytes())
+                .setCompressionType(CompressionType.LZ4_COMPRESSION));
+        DBOptions options = register(new DBOptions()
+                .setCreateIfMissing(true)
+                .setCreateMissingColumnFamilies(true));
+        this.writeOptions = register(new WriteOptions().setSync(properties.syncWrites()));
+        List<ColumnFamilyHandle> handles = new ArrayList<>();
+        try {
+            this.db = register(RocksDB.open(options, properties.path().toString(), List.of(
+                    new ColumnFamilyDescriptor(RocksDB.DEFAULT_COLUMN_FAMILY, familyOptions),
+                    new ColumnFamilyDescriptor(TIMESTAMP_FAMILY, familyOptions)), handles));
+        } catch (RocksDBException e) {
+            close();
+            throw new IllegalStateException("Failed to open database " + properties.path(), e);
+        }
+        this.rows = register(handles.get(0));
+        this.timestamps = register(handles.get(1));
+        recover();
+    }
+
+    @Override
+    public Transaction save(Transaction transaction) {
+        // A freshly generated id has nothing stored to replace
+        boolean created = transaction.getId() == null;
+        long id = created ? idGenerator.nextId() : transaction.getId();
+        RepositoryEvent event = RepositoryEvent.start("commit");
+        Transaction previous;
+        Transaction stored;
+        lock();
+        try (WriteBatch batch = new WriteBatch()) {
+            previous = created ? null : get(id);
+            stored = transaction.toStored(id, ++version);
+            put(batch, stored, previous);
+            write(batch);
+            if (previous == null) {
+                liveCount.incrementAndGet();
+            }
+            visibleVersion = version;
+            lockNotify();
+        } finally {
+            writeLock.unlock();
+        }
+        event.complete(1);
+        try {
+            for (TransactionChangeListener listener : listeners) {
+                listener.onSave(previous, stored);
+            }
+        } finally {
+            notifyLock.unlock();
+        }
+        return stored;
+    }
+
+    /**
+     * Validate every operation against the latest state and write all of them in one batch under the
+     * write lock, with one version.
+     */
+    @Override
+    public CommitResult commit(List<TransactionOperation> operations) {
+        int count = operations.size();
+        long[] ids = new long[count];
+        Transaction[] values = new Transaction[count];
+        Transaction[] previous = new Transaction[count];
+        long committed;
+        RepositoryEvent event = RepositoryEvent.start("commit");
+        lock();
+        try (WriteBatch batch = new WriteBatch()) {
+            OperationResult[] failures = null;
+            for (int i = 0; i < count; i++) {
+                TransactionOperation operation = operations.get(i);
+                if (operation.type() == OperationType.CREATE) {
+                    continue;
+                }
+                ids[i] = operation.id();
+                previous[i] = get(ids[i]);
+                OperationResult failure = null;
+                if (previous[i] == null) {
+                    failure = new OperationResult(ids[i], OperationStatus.NOT_FOUND, null);
+                } else if (operation.expectedVersion() != null && !operation.expectedVersion().equals(previous[i].getVersion())) {
+                    failure = new OperationResult(ids[i], OperationStatus.CONFLICT, previous[i].getVersion());
+                }
+                if (failure != null) {
+                    failures = failures == null ? new OperationResult[count] : failures;
+                    failures[i] = failure;
+                }
+            }
+            if (failures != null) {
+                event.complete(0);
+                List<OperationResult> results = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    Long id = operations.get(i).type() == OperationType.CREATE ? null : ids[i];
+                    results.add(failures[i] != null ? failures[i] : new OperationResult(id, OperationStatus.ABORTED, null));
+                }
+                return new CommitResult(false, null, results);
+            }
+            committed = ++version;
+            long delta = 0;
+            for (int i = 0; i < count; i++) {
+                TransactionOperation operation = operations.get(i);
+                if (operation.type() == OperationType.DELETE) {
+                    remove(batch, ids[i], previous[i]);
+                    delta--;
+                    continue;
+                }
+                if (operation.type() == OperationType.CREATE) {
+                    ids[i] = idGenerator.nextId();
+                    delta++;
+                }
+                values[i] = operation.transaction().toStored(ids[i], committed);
+                put(batch, values[i], previous[i]);
+            }
+            write(batch);
+            liveCount.addAndGet(delta);
+            visibleVersion = committed;
+            lockNotify();
+        } finally {
+            writeLock.unlock();
+        }
+        event.complete(count);
+        List<OperationResult> results = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                for (TransactionChangeListener listener : listeners) {
+                    if (values[i] == null) {
+                        listener.onDelete(ids[i], previous[i], committed);
+                    } else {
+                        listener.onSave(previous[i], values[i]);
+                    }
+                }
+                results.add(new OperationResult(ids[i], OperationStatus.APPLIED, committed));
+            }
+        } finally {
+            notifyLock.unlock();
+        }
+        return new CommitResult(true, committed, results);
+    }
+
+    @Override
+    public Optional<Transaction> findById(Long id) {
+        RepositoryEvent event = RepositoryEvent.start("findById");
+        Transaction transaction = get(id);
+        event.complete(transaction != null ? 1 : 0);
+        return Optional.ofNullable(transaction);
+    }
+
+    @Override
+    public List<Transaction> findAll(int page, int size) {
+        // An iterator reads from an implicit snapshot of its own
+        try (ReadOptions options = new ReadOptions()) {
+            return findAll(options, page, size);
+        }
+    }
+
+    @Override
+    public OptionalLong openSnapshot(Long snapshot) {
+        if (snapshot == null) {
+            return OptionalLong.of(snapshots.open(() -> visibleVersion, true));
+        }
+        return snapshots.reopen(snapshot) ? OptionalLong.of(snapshot) : OptionalLong.empty();
+    }
+
+    @Override
+    public void releaseSnapshot(long snapshot) {
+        snapshots.release(snapshot);
+    }
+
+    /**
+     * Page through a leased snapshot. Its RocksDB snapshot is taken on the first read and may include
+     * writes committed after the snapshot version; all pages read the same one.
+     */
+    @Override
+    public List<Transaction> findAll(long snapshot, int page, int size) {
+        Snapshot dbSnapshot = dbSnapshots.computeIfAbsent(snapshot, key -> db.getSnapshot());
+        try (ReadOptions options = new ReadOptions().setSnapshot(dbSnapshot)) {
+            return findAll(options, page, size);
+        }
+    }
+
+    @Override
+    public List<Transaction> findByIdBetween(long snapshot, long fromId, long toId, int limit) {
+        RepositoryEvent event = RepositoryEvent.start("findByIdBetween");
+        List<Transaction> result = new ArrayList<>(Math.min(limit, 1024));
+        Snapshot dbSnapshot = dbSnapshots.computeIfAbsent(snapshot, key -> db.getSnapshot());
+        try (ReadOptions options = new ReadOptions().setSnapshot(dbSnapshot);
+             RocksIterator iterator = db.newIterator(rows, options)) {
+            for (iterator.seek(idKey(toId)); iterator.isValid() && result.size() < limit; iterator.next()) {
+                if (~ByteBuffer.wrap(iterator.key()).getLong() < fromId) {
+                    break;
+                }
+                result.add(decode(iterator.value()));
+            }
+        }
+        event.complete(result.size());
+        return result;
+    }
+
+    @Override
+    public List<Transaction> findByTimestampBetween(Instant from, Instant to, int page, int size) {
+        RepositoryEvent event = RepositoryEvent.start("findByTimestampBetween");
+        byte[] last = timestampKey(to, Long.MAX_VALUE);
+        List<Long> ids = new ArrayList<>();
+        try (RocksIterator iterator = db.newIterator(timestamps)) {
+            for (iterator.seek(timestampKey(from, 0)); iterator.isValid(); iterator.next()) {
+                byte[] key = iterator.key();
+                if (Arrays.compareUnsigned(key, last) > 0) {
+                    break;
+                }
+                ids.add(ByteBuffer.wrap(key, Long.BYTES + Integer.BYTES, Long.BYTES).getLong());
+            }
+        }
+        ids.sort(Comparator.reverseOrder());
+        List<Transaction> result = new ArrayList<>(Math.min(size, ids.size()));
+        long skip = (long) page * size;
+        for (Long id : ids) {
+            if (result.size() == size) {
+                break;
+            }
+            // The index is read without a snapshot: skip transactions changed since
+            Transaction transaction = get(id);
+            if (transaction == null || transaction.getTimestamp().isBefore(from) || transaction.getTimestamp().isAfter(to)) {
+                continue;
+            }
+            if (skip > 0) {
+                skip--;
+            } else {
+                result.add(transaction);
+            }
+        }
+        event.complete(result.size());
+        return result;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        RepositoryEvent event = RepositoryEvent.start("commit");
+        Transaction previous;
+        long deleted;
+        lock();
+        try (WriteBatch batch = new WriteBatch()) {
+            previous = get(id);
+            if (previous == null) {
+                event.complete(0);
+                return;
+            }
+            deleted = ++version;
+            remove(batch, id, previous);
+            write(batch);
+            liveCount.decrementAndGet();
+            visibleVersion = version;
+            lockNotify();
+        } finally {
+            writeLock.unlock();
+        }
+        event.complete(1);
+        try {
+            for (TransactionChangeListener listener : listeners) {
+                listener.onDelete(id, previous, deleted);
+            }
+        } finally {
+            notifyLock.unlock();
+        }
+    }
+
+    @Override
+    public long count() {
+        return liveCount.get();
+    }
+
+    @Override
+    public long heapCount() {
+        return 0;
+    }
+
+    @Override
+    public void clear() {
+        lock();
+        try {
+            // The version keeps growing so that snapshots taken before stay distinct
+            db.deleteRange(rows, writeOptions, new byte[Long.BYTES], ID_KEYS_END);
+            db.deleteRange(timestamps, writeOptions, new byte[TIMESTAMP_KEYS_END.length - 1], TIMESTAMP_KEYS_END);
+            liveCount.set(0);
+            lockNotify();
+        } catch (RocksDBException e) {
+            throw new IllegalStateException("Failed to clear transactions", e);
+        } finally {
+            writeLock.unlock();
+        }
+        try {
+            idGenerator.reset();
+            for (TransactionChangeListener listener : listeners) {
+                listener.onClear();
+            }
+        } finally {
+            notifyLock.unlock();
+        }
+    }
+
+    @Override
+    public int archivePartitionsBefore(Instant cutoff) {
+        return 0;
+    }
+
+    @Override
+    public int dropArchivesBefore(Instant cutoff) {
+        return 0;
+    }
+
+    /**
+     * Expire idle snapshots and release the RocksDB snapshots no lease can read any more, so that
+     * compaction may drop the versions only they could see. Returns the number released.
+     */
+    @Override
+    public int collectVersions() {
+        RepositoryEvent event = RepositoryEvent.start("collectVersions");
+        long horizon = snapshots.collectionHorizon(visibleVersion, System.nanoTime());
+        int released = 0;
+        for (Map.Entry<Long, Snapshot> entry : dbSnapshots.headMap(horizon).entrySet()) {
+            if (dbSnapshots.remove(entry.getKey(), entry.getValue())) {
+                db.releaseSnapshot(entry.getValue());
+                released++;
+            }
+        }
+        event.complete(released);
+        return released;
+    }
+
+    @Override
+    public void close() {
+        if (db != null) {
+            dbSnapshots.values().forEach(db::releaseSnapshot);
+            dbSnapshots.clear();
+        }
+        // Column family handles before the database, the options and cache it uses after it
+        for (int i = resources.size() - 1; i >= 0; i--) {
+            try {
+                resources.get(i).close();
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to close database", e);
+            }
+        }
+        resources.clear();
+    }
+
+    int openSnapshotCount() {
+        return snapshots.size();
+    }
+
+    private List<Transaction> findAll(ReadOptions options, int page, int size) {
+        RepositoryEvent event = RepositoryEvent.start("findAll");
+        List<Transaction> result = new ArrayList<>(Math.min(size, 1024));
+        long skip = (long) page * size;
+        // Keys sort by descending id, skipped entries are not decoded
+        try (RocksIterator iterator = db.newIterator(rows, options)) {
+            for (iterator.seekToFirst(); iterator.isValid() && result.size() < size; iterator.next()) {
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    result.add(decode(iterator.value()));
+                }
+            }
+        }
+        event.complete(result.size());
+        return result;
+    }
+
+    /**
+     * Rebuild the in-memory state from the stored transactions.
+     */
+    private void recover() {
+        long live = 0;
+        long maxVersion = 0;
+        long maxId = 0;
+        try (RocksIterator iterator = db.newIterator(rows)) {
+            for (iterator.seekToFirst(); iterator.isValid(); iterator.next()) {
+                Transaction transaction = decode(iterator.value());
+                live++;
+                maxVersion = Math.max(maxVersion, transaction.getVersion());
+                maxId = Math.max(maxId, transaction.getId());
+                for (TransactionChangeListener listener : listeners) {
+                    listener.onSave(null, transaction);
+                }
+            }
+        }
+        liveCount.set(live);
+        version = maxVersion;
+        visibleVersion = maxVersion;
+        idGenerator.advancePast(maxId);
+    }
+
+    private void lock() {
+        LockWaitEvent wait = LockWaitEvent.start("commit");
+        writeLock.lock();
+        wait.acquired();
+    }
+
+    /**
+     * Take the notify lock; called under the write lock, so listeners are notified in write order.
+     */
+    private void lockNotify() {
+        LockWaitEvent wait = LockWaitEvent.start("notify");
+        notifyLock.lock();
+        wait.acquired();
+    }
+
+    private Transaction get(long id) {
+        try {
+            byte[] value = db.get(rows, idKey(id));
+            return value == null ? null : decode(value);
+        } catch (RocksDBException e) {
+            throw new IllegalStateException("Failed to read transaction " + id, e);
+        }
+    }
+
+    private void put(WriteBatch batch, Transaction transaction, Transaction previous) {
+        try {
+            if (previous != null) {
+                batch.delete(timestamps, timestampKey(previous.getTimestamp(), previous.getId()));
+            }
+            batch.put(rows, idKey(transaction.getId()), TransactionProtoMapper.toMessage(transaction).toByteArray());
+            batch.put(timestamps, timestampKey(transaction.getTimestamp(), transaction.getId()), new byte[0]);
+        } catch (RocksDBException e) {
+            throw new IllegalStateException("Failed to write transaction " + transaction.getId(), e);
+        }
+    }
+
+    private void remove(WriteBatch batch, long id, Transaction previous) {
+        try {
+            batch.delete(rows, idKey(id));
+            batch.delete(timestamps, timestampKey(previous.getTimestamp(), id));
+        } catch (RocksDBException e) {
+            throw new IllegalStateException("Failed to delete transaction " + id, e);
+        }
+    }
+
+    private void write(WriteBatch batch) {
+        try {
+            db.write(writeOptions, batch);
+        } catch (RocksDBException e) {
+            throw new IllegalStateException("Failed to write batch", e);
+        }
+    }
+
+    private <T extends AutoCloseable> T register(T resource) {
+        resources.add(resource);
+        return resource;
+    }
+
+    private static Transaction decode(byte[] value) {
+        try {
+            return TransactionProtoMapper.toTransaction(TransactionMessage.parseFrom(value));
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException("Corrupt transaction record", e);
+        }
+    }
+
+    private static byte[] idKey(long id) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(~id).array();
+    }
+
+    /**
+     * Seconds with the sign bit flipped so that unsigned byte order matches numeric order, then nanos
+     * and id.
+     */
+    private static byte[] timestampKey(Instant timestamp, long id) {
+        return ByteBuffer.allocate(Long.BYTES + Integer.BYTES + Long.BYTES)
+                .putLong(timestamp.getEpochSecond() ^ Long.MIN_VALUE)
+                .putInt(timestamp.getNano())
+                .putLong(id)
+                .array();
+    }
+
+    private static byte[] filled(int length) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) 0xFF);
+        return bytes;
+    }
+}
@@ -0,0 +1,304 @@
+package com.example.transaction.management.repository;
+
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Immutable, compressed on-disk copy of one sealed time partition.
+ * <p>
+ * Records are sorted by id in descending order and written in blocks of {@link #BLOCK_SIZE} records,
+ * each block deflated independently so that a point lookup only inflates a single block. Only the sorted
+ * id array and the block offsets stay in heap (8 bytes per archived record). Ids deleted or superseded
+ * after sealing are recorded in a small deletion set instead of rewriting the file.
+ */
+final class Segment {
+    static final int BLOCK_SIZE = 256;
+
+    private final Path file;
+    private final long partitionStart;
+    private final long partitionEnd;
+    private final long[] ids;
+    private final long[] blockOffsets;
+    private final Set<Long> removed = ConcurrentHashMap.newKeySet();
+
+    private Segment(Path file, long partitionStart, long partitionEnd, long[] ids, long[] blockOffsets) {
+        this.file = file;
+        this.partitionStart = partitionStart;
+        this.partitionEnd = partitionEnd;
+        this.ids = ids;
+        this.blockOffsets = blockOffsets;
+    }
+
+    /**
+     * Write {@code transactions} (sorted by id descending) to {@code file}.
+     */
+    static Segment write(Path file, long partitionStart, long partitionEnd, List<Transaction> transactions) {
+        long[] ids = new long[transactions.size()];
+        int blocks = (transactions.size() + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        long[] blockOffsets = new long[blocks + 1];
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteArrayOutputStream raw = new ByteArrayOutputStream();
+            byte[] buffer = new byte[64 * 1024];
+            for (int block = 0; block < blocks; block++) {
+                raw.reset();
+                DataOutputStream out = new DataOutputStream(raw);
+                int from = block * BLOCK_SIZE;
+                int to = Math.min(from + BLOCK_SIZE, transactions.size());
+                for (int i = from; i < to; i++) {
+                    Transaction transaction = transactions.get(i);
+                    ids[i] = transaction.getId();
+                    encode(transaction, out);
+                }
+                deflate(raw.toByteArray(), deflater, buffer, channel);
+                blockOffsets[block + 1] = channel.position();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write segment " + file, e);
+        } finally {
+            deflater.end();
+        }
+        return new Segment(file, partitionStart, partitionEnd, ids, blockOffsets);
+    }
+
+    Path file() {
+        return file;
+    }
+
+    long partitionStart() {
+        return partitionStart;
+    }
+
+    long partitionEnd() {
+        return partitionEnd;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    long liveCount() {
+        return ids.length - removed.size();
+    }
+
+    long idAt(int position) {
+        return ids[position];
+    }
+
+    boolean isRemoved(long id) {
+        return !removed.isEmpty() && removed.contains(id);
+    }
+
+    /**
+     * Position of {@code id} in this segment, or -1 when absent.
+     */
+    int positionOf(long id) {
+        // Binary search over ids sorted in descending order
+        int low = 0;
+        int high = ids.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (ids[mid] > id) {
+                low = mid + 1;
+            } else if (ids[mid] < id) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Position of the first id not above {@code id}, or {@link #size()} when all ids are above it.
+     */
+    int positionAtOrBelow(long id) {
+        int low = 0;
+        int high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ids[mid] > id) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Mark {@code id} as deleted or superseded; returns whether the segment contained it.
+     */
+    boolean remove(long id) {
+        if (positionOf(id) < 0) {
+            return false;
+        }
+        removed.add(id);
+        return true;
+    }
+
+    boolean overlaps(long fromSecond, long toSecond) {
+        return partitionStart <= toSecond && partitionEnd > fromSecond;
+    }
+
+    int blockCount() {
+        return blockOffsets.length - 1;
+    }
+
+    static int blockOf(int position) {
+        return position / BLOCK_SIZE;
+    }
+
+    /**
+     * Inflate and decode one block, including records marked as removed.
+     */
+    List<Transaction> readBlock(int block) {
+        try {
+            DataInputStream in = inflate(file, blockOffsets[block], blockOffsets[block + 1]);
+            int records = Math.min(BLOCK_SIZE, ids.length - block * BLOCK_SIZE);
+            List<Transaction> transactions = new ArrayList<>(records);
+            for (int i = 0; i < records; i++) {
+                transactions.add(decode(in));
+            }
+            return transactions;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read segment " + file, e);
+        } catch (DataFormatException e) {
+            throw new UncheckedIOException("Corrupt block in segment " + file, new IOException(e));
+        }
+    }
+
+    // ===== Block compression, shared with the history segments =====
+
+    /**
+     * Deflate {@code raw} as one block appended to {@code channel}.
+     */
+    static void deflate(byte[] raw, Deflater deflater, byte[] buffer, FileChannel channel) throws IOException {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        while (!deflater.finished()) {
+            int length = deflater.deflate(buffer);
+            channel.write(ByteBuffer.wrap(buffer, 0, length));
+        }
+    }
+
+    /**
+     * Read and inflate the block stored in [{@code start}, {@code end}) of {@code file}.
+     */
+    static DataInputStream inflate(Path file, long start, long end) throws IOException, DataFormatException {
+        int compressedLength = (int) (end - start);
+        ByteBuffer compressed = ByteBuffer.allocate(compressedLength);
+        Inflater inflater = new Inflater();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (compressed.hasRemaining()) {
+                if (channel.read(compressed, start + compressed.position()) < 0) {
+                    throw new IOException("Unexpected end of " + file);
+                }
+            }
+            inflater.setInput(compressed.array());
+            ByteArrayOutputStream raw = new ByteArrayOutputStream(compressedLength * 4);
+            byte[] buffer = new byte[64 * 1024];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && inflater.needsInput()) {
+                    throw new IOException("Truncated block in " + file);
+                }
+                raw.write(buffer, 0, length);
+            }
+            return new DataInputStream(new ByteArrayInputStream(raw.toByteArray()));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    void delete() {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete segment " + file, e);
+        }
+    }
+
+    // ===== Record encoding =====
+
+    static void encode(Transaction transaction, DataOutputStream out) throws IOException {
+        out.writeLong(transaction.getId());
+        BigDecimal amount = transaction.getAmount();
+        if (amount == null) {
+            out.writeInt(-1);
+        } else {
+            byte[] unscaled = amount.unscaledValue().toByteArray();
+            out.writeInt(unscaled.length);
+            out.write(unscaled);
+            out.writeInt(amount.scale());
+        }
+        out.writeByte(transaction.getType() == null ? -1 : transaction.getType().ordinal());
+        writeString(transaction.getDescription(), out);
+        writeString(transaction.getCategory(), out);
+        Instant timestamp = transaction.getTimestamp();
+        out.writeLong(timestamp.getEpochSecond());
+        out.writeInt(timestamp.getNano());
+        out.writeLong(transaction.getVersion() == null ? -1 : transaction.getVersion());
+    }
+
+    static Transaction decode(DataInputStream in) throws IOException {
+        long id = in.readLong();
+        BigDecimal amount = null;
+        int unscaledLength = in.readInt();
+        if (unscaledLength >= 0) {
+            byte[] unscaled = new byte[unscaledLength];
+            in.readFully(unscaled);
+            amount = new BigDecimal(new BigInteger(unscaled), in.readInt());
+        }
+        byte type = in.readByte();
+        String description = readString(in);
+        String category = readString(in);
+        Instant timestamp = Instant.ofEpochSecond(in.readLong(), in.readInt());
+        long version = in.readLong();
+        return new Transaction(id, amount, type < 0 ? null : TransactionType.values()[type], description, category,
+                timestamp, version < 0 ? null : version);
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.transaction.management.repository;
+
+import com.example.transaction.management.model.Transaction;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Cold tier of {@link SkipListTransactionRepository}: the set of sealed {@link Segment}s.
+ * <p>
+ * Segments are an extension of the heap rather than durable storage. Each store writes into its own
+ * {@link ArchiveDirectory} {@code segments-<uuid>} of the archive directory, and subdirectories left
+ * behind by processes that are no longer running are removed when a store is created.
+ */
+class SegmentStore {
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String DIRECTORY_PREFIX = "segments-";
+
+    private final ArchiveDirectory directory;
+    // Newest segment last; reads iterate newest first so re-archived ids resolve to their latest copy
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private final AtomicLong sequence = new AtomicLong();
+    // Readers hold the read lock while they open segment files; dropped segments wait in retired until
+    // the write lock can be taken, i.e. no reader still holds a copy of the list that contains them
+    private final ReadWriteLock readers = new ReentrantReadWriteLock();
+    private final List<Segment> retired = new CopyOnWriteArrayList<>();
+
+    SegmentStore(Path archiveDirectory) {
+        this.directory = new ArchiveDirectory(archiveDirectory, DIRECTORY_PREFIX, SEGMENT_SUFFIX);
+    }
+
+    boolean isEmpty() {
+        return segments.isEmpty();
+    }
+
+    List<Segment> segments() {
+        return segments;
+    }
+
+    Segment seal(long partitionStart, long partitionEnd, List<Transaction> transactions) {
+        transactions.sort(Comparator.comparing(Transaction::getId, Comparator.reverseOrder()));
+        Path file = directory.create().resolve("partition-" + partitionStart + "-" + sequence.incrementAndGet() + SEGMENT_SUFFIX);
+        Segment segment = Segment.write(file, partitionStart, partitionEnd, transactions);
+        segments.add(segment);
+        return segment;
+    }
+
+    /**
+     * Run {@code reader} while the files of the segments it sees cannot be deleted.
+     */
+    <T> T read(Supplier<T> reader) {
+        readers.readLock().lock();
+        try {
+            return reader.get();
+        } finally {
+            readers.readLock().unlock();
+            deleteRetired();
+        }
+    }
+
+    Optional<Transaction> findById(long id) {
+        return read(() -> findLatest(id));
+    }
+
+    private Optional<Transaction> findLatest(long id) {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            Segment segment = segments.get(i);
+            int position = segment.positionOf(id);
+            if (position >= 0) {
+                if (segment.isRemoved(id)) {
+                    return Optional.empty();
+                }
+                List<Transaction> block = segment.readBlock(Segment.blockOf(position));
+                return Optional.of(block.get(position % Segment.BLOCK_SIZE));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Whether a live archived copy of {@code id} exists; answered from the in-memory index, without I/O.
+     */
+    boolean contains(long id) {
+        for (Segment segment : segments) {
+            if (segment.positionOf(id) >= 0 && !segment.isRemoved(id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Mark {@code id} as deleted (or superseded by a newer hot copy) in every segment holding it;
+     * returns whether a live archived copy existed.
+     */
+    boolean remove(long id) {
+        boolean live = false;
+        for (Segment segment : segments) {
+            live |= !segment.isRemoved(id) && segment.remove(id);
+        }
+        return live;
+    }
+
+    long count() {
+        long count = 0;
+        for (Segment segment : segments) {
+            count += segment.liveCount();
+        }
+        return count;
+    }
+
+    /**
+     * Live transactions whose timestamp falls in [fromSecond, toSecond] (epoch seconds, inclusive).
+     */
+    List<Transaction> scan(long fromSecond, long toSecond) {
+        return read(() -> scanSegments(fromSecond, toSecond));
+    }
+
+    private List<Transaction> scanSegments(long fromSecond, long toSecond) {
+        List<Transaction> result = new ArrayList<>();
+        for (Segment segment : segments) {
+            if (!segment.overlaps(fromSecond, toSecond)) {
+                continue;
+            }
+            for (int block = 0; block < segment.blockCount(); block++) {
+                for (Transaction transaction : segment.readBlock(block)) {
+                    long second = transaction.getTimestamp().getEpochSecond();
+                    if (second >= fromSecond && second <= toSecond && !segment.isRemoved(transaction.getId())) {
+                        result.add(transaction);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Drop segments whose partition ended at or before {@code cutoffSecond}; returns the dropped segments.
+     * Their files are deleted once no reader holds them.
+     */
+    List<Segment> dropBefore(long cutoffSecond) {
+        List<Segment> expired = segments.stream()
+                .filter(segment -> segment.partitionEnd() <= cutoffSecond)
+                .toList();
+        retire(expired);
+        return expired;
+    }
+
+    void clear() {
+        retire(new ArrayList<>(segments));
+    }
+
+    private void retire(List<Segment> dropped) {
+        segments.removeAll(dropped);
+        retired.addAll(dropped);
+        deleteRetired();
+    }
+
+    private void deleteRetired() {
+        if (retired.isEmpty() || !readers.writeLock().tryLock()) {
+            return;
+        }
+        try {
+            // Segments retired meanwhile are already out of the list, so no later reader can see them
+            for (Segment segment : retired) {
+                segment.delete();
+                retired.remove(segment);
+            }
+        } finally {
+            readers.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reads archived records for one result page, inflating each block at most once.
+     */
+    static final class BlockReader {
+        private final Map<Segment, Map<Integer, List<Transaction>>> blocks = new HashMap<>();
+
+        Transaction read(Segment segment, int position) {
+            int block = Segment.blockOf(position);
+            return blocks.computeIfAbsent(segment, s -> new HashMap<>())
+                    .computeIfAbsent(block, segment::readBlock)
+                    .get(position % Segment.BLOCK_SIZE);
+        }
+    }
+}
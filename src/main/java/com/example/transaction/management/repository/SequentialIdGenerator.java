@@ -0,0 +1,35 @@
+package com.example.transaction.management.repository;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Consecutive ids from a single counter, restarting when the repository is cleared. Every id costs an
+ * atomic increment on the shared counter, and ids are only unique within one instance.
+ */
+public class SequentialIdGenerator implements IdGenerator {
+    private final long start;
+    private final AtomicLong counter;
+
+    /**
+     * @param start the first id handed out is {@code start + 1}
+     */
+    public SequentialIdGenerator(long start) {
+        this.start = start;
+        this.counter = new AtomicLong(start);
+    }
+
+    @Override
+    public long nextId() {
+        return counter.incrementAndGet();
+    }
+
+    @Override
+    public void reset() {
+        counter.set(start);
+    }
+
+    @Override
+    public void advancePast(long id) {
+        counter.accumulateAndGet(id, Math::max);
+    }
+}
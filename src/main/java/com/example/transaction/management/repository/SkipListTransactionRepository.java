@@ -1,61 +1,680 @@
 package com.example.transaction.management.repository;
 
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.model.CommitResult;
+import com.example.transaction.management.model.OperationResult;
+import com.example.transaction.management.model.OperationStatus;
+import com.example.transaction.management.model.OperationType;
 import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionOperation;
+import com.example.transaction.management.profiling.LockWaitEvent;
+import com.example.transaction.management.profiling.RepositoryEvent;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+/**
+ * In-memory repository keeping every transaction as a chain of versions stamped with a commit sequence.
+ * <p>
+ * Writes are serialized by a short commit lock that assigns the next sequence, installs the new versions
+ * (a deleted transaction becomes a tombstone version) and then publishes the sequence, so all writes of
+ * a multi-operation {@link #commit} become visible at once. The partition index and the listeners are
+ * then updated under a notify lock, taken before the commit lock is released: writes are reported in
+ * commit order, while the next write already installs. Such commits are validated without the lock
+ * and only re-checked under it. Reads never lock: a list request pins a snapshot sequence and sees, for
+ * every id, the newest version committed at or before it, so paging through the same snapshot yields no
+ * duplicates or gaps. Versions no snapshot can see any more are collected in the background. Point reads
+ * return the latest published version, and archived transactions are read at their latest state.
+ * <p>
+ * Every version holds an immutable copy of the saved transaction, so readers, caches and listeners
+ * share stored instances and a change always installs a new one.
+ */
 @Repository
+@ConditionalOnProperty(prefix = "transaction.storage", name = "engine", havingValue = "memory", matchIfMissing = true)
 public class SkipListTransactionRepository implements TransactionRepository {
+    // Collect superseded versions every this many commits, in addition to the scheduled collection
+    private static final long COLLECT_INTERVAL = 4096;
+
     // Use ConcurrentSkipListMap with reverse order to store transactions by id in descending order
-    private final NavigableMap<Long, Transaction> transactions = new ConcurrentSkipListMap<>(Collections.reverseOrder());
-    // Auto-increment ID generator starting from 1000
-    private final AtomicLong idGenerator = new AtomicLong(1000);
+    private final NavigableMap<Long, Version> transactions = new ConcurrentSkipListMap<>(Collections.reverseOrder());
+    private final IdGenerator idGenerator;
+    private final ReentrantLock commitLock = new ReentrantLock();
+    // Taken under commitLock and held while reporting a write, so reports follow the commit order
+    private final ReentrantLock notifyLock = new ReentrantLock();
+    // Last assigned commit sequence (guarded by commitLock) and the last one visible to readers
+    private long commitSequence;
+    private volatile long visibleSequence;
+    // Live (non-deleted) hot transactions (guarded by commitLock for writes)
+    private final AtomicLong liveCount = new AtomicLong();
+    // Ids that gained a version, in commit order, so collection only visits chains with history
+    private final Queue<Superseded> superseded = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock collectLock = new ReentrantLock();
+    private final SnapshotRegistry snapshots;
+    // Time partitions of the hot (in-heap) transactions, keyed by partition start in epoch seconds
+    private final ConcurrentSkipListMap<Long, Partition> partitions = new ConcurrentSkipListMap<>();
+    private final long partitionSeconds;
+    // Cold tier: sealed partitions compressed on disk
+    private final SegmentStore segments;
+    // Secondary structures notified of every change
+    private final TransactionChangeListener[] listeners;
+
+    public SkipListTransactionRepository() {
+        this(StorageProperties.defaults());
+    }
+
+    public SkipListTransactionRepository(StorageProperties properties) {
+        this(properties, List.of());
+    }
+
+    /**
+     * Repository handing out consecutive ids from 1001, restarting when cleared.
+     */
+    public SkipListTransactionRepository(StorageProperties properties, List<TransactionChangeListener> listeners) {
+        this(properties, listeners, new SequentialIdGenerator(1000));
+    }
+
+    @Autowired
+    public SkipListTransactionRepository(StorageProperties properties, List<TransactionChangeListener> listeners,
+            IdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+        this.partitionSeconds = Math.max(1, properties.partitionDuration().toSeconds());
+        this.snapshots = new SnapshotRegistry(properties.snapshotRetention().toNanos());
+        this.segments = new SegmentStore(properties.archiveDirectory());
+        this.listeners = listeners.toArray(new TransactionChangeListener[0]);
+    }
 
     @Override
     public Transaction save(Transaction transaction) {
-        if (transaction.getId() == null) {
-            transaction.setId(idGenerator.incrementAndGet());
+        long[] ids = {transaction.getId() != null ? transaction.getId() : idGenerator.nextId()};
+        Transaction[] values = {transaction};
+        Version[] heads = new Version[1];
+        boolean[] archived = new boolean[1];
+        install(ids, values, heads, false, archived);
+        return values[0];
+    }
+
+    /**
+     * Validate every operation against the latest state without locking, then install all of them under
+     * one commit sequence if nothing they were validated against has changed meanwhile (and validate
+     * again otherwise). Operations must target distinct ids.
+     */
+    @Override
+    public CommitResult commit(List<TransactionOperation> operations) {
+        int count = operations.size();
+        long[] ids = new long[count];
+        Transaction[] values = new Transaction[count];
+        Version[] observed = new Version[count];
+        boolean[] archived = new boolean[count];
+        while (true) {
+            OperationResult[] failures = null;
+            for (int i = 0; i < count; i++) {
+                TransactionOperation operation = operations.get(i);
+                values[i] = operation.type() == OperationType.DELETE ? null : operation.transaction();
+                if (operation.type() == OperationType.CREATE) {
+                    // Created ids are assigned once; on a retry the fresh id must still be unused
+                    observed[i] = ids[i] == 0 ? null : transactions.get(ids[i]);
+                    continue;
+                }
+                ids[i] = operation.id();
+                observed[i] = transactions.get(ids[i]);
+                Transaction current = valueOf(observed[i]);
+                archived[i] = false;
+                if (observed[i] == null && !segments.isEmpty()) {
+                    current = segments.findById(ids[i]).orElse(null);
+                    archived[i] = current != null;
+                }
+                OperationResult failure = null;
+                if (current == null) {
+                    failure = new OperationResult(ids[i], OperationStatus.NOT_FOUND, null);
+                } else if (operation.expectedVersion() != null && !operation.expectedVersion().equals(current.getVersion())) {
+                    failure = new OperationResult(ids[i], OperationStatus.CONFLICT, current.getVersion());
+                }
+                if (failure != null) {
+                    failures = failures == null ? new OperationResult[count] : failures;
+                    failures[i] = failure;
+                }
+            }
+            if (failures != null) {
+                List<OperationResult> results = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    Long id = operations.get(i).type() == OperationType.CREATE ? null : ids[i];
+                    results.add(failures[i] != null ? failures[i] : new OperationResult(id, OperationStatus.ABORTED, null));
+                }
+                return new CommitResult(false, null, results);
+            }
+            for (int i = 0; i < count; i++) {
+                if (values[i] != null && ids[i] == 0) {
+                    ids[i] = idGenerator.nextId();
+                }
+            }
+            long sequence = install(ids, values, observed, true, archived);
+            if (sequence < 0) {
+                // A concurrent write changed what was validated
+                continue;
+            }
+            List<OperationResult> results = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                results.add(new OperationResult(ids[i], OperationStatus.APPLIED, sequence));
+            }
+            return new CommitResult(true, sequence, results);
         }
-        if (transaction.getTimestamp() == null) {
-            transaction.setTimestamp(Instant.now());
+    }
+
+    /**
+     * Install {@code values} (null deletes) as the newest versions of distinct {@code ids} under one new
+     * commit sequence, published together, superseding any archived copies. {@code values} receives the
+     * immutable copies that were stored, {@code heads} the replaced head versions and {@code archived}
+     * whether a live archived copy was superseded. The writes are then reported, in commit order.
+     * <p>
+     * With {@code verify}, both must instead hold the state the writes were validated against: nothing
+     * is installed and -1 is returned if any of it has changed. Returns the commit sequence.
+     */
+    private long install(long[] ids, Transaction[] values, Version[] heads, boolean verify, boolean[] archived) {
+        RepositoryEvent event = RepositoryEvent.start("commit");
+        long sequence;
+        LockWaitEvent wait = LockWaitEvent.start("commit");
+        commitLock.lock();
+        wait.acquired();
+        try {
+            for (int i = 0; i < ids.length; i++) {
+                Version head = transactions.get(ids[i]);
+                if (verify && (head != heads[i] || archived[i] && !segments.contains(ids[i]))) {
+                    event.complete(0);
+                    return -1;
+                }
+                heads[i] = head;
+            }
+            sequence = ++commitSequence;
+            for (int i = 0; i < ids.length; i++) {
+                Version head = heads[i];
+                // Readers share the stored copy, which carries the assigned id and version
+                Transaction value = values[i] == null ? null : values[i].toStored(ids[i], sequence);
+                values[i] = value;
+                boolean wasLive = head != null && head.value != null;
+                if (value != null || wasLive) {
+                    transactions.put(ids[i], new Version(value, sequence, head));
+                    if (head != null) {
+                        superseded.add(new Superseded(ids[i], sequence));
+                    }
+                    liveCount.addAndGet((value != null ? 1 : 0) - (wasLive ? 1 : 0));
+                }
+                archived[i] = !segments.isEmpty() && segments.remove(ids[i]);
+            }
+            visibleSequence = sequence;
+            lockNotify();
+        } finally {
+            commitLock.unlock();
+        }
+        try {
+            for (int i = 0; i < ids.length; i++) {
+                afterWrite(ids[i], heads[i], values[i], archived[i], sequence);
+            }
+        } finally {
+            notifyLock.unlock();
+        }
+        event.complete(ids.length);
+        if (sequence % COLLECT_INTERVAL == 0) {
+            collectVersions();
+        }
+        return sequence;
+    }
+
+    /**
+     * Maintain the partition index and notify listeners of a write that replaced {@code head}; called
+     * under the notify lock.
+     */
+    private void afterWrite(long id, Version head, Transaction value, boolean archived, long sequence) {
+        Transaction previous = valueOf(head);
+        if (value == null) {
+            if (previous != null) {
+                unindex(previous);
+            }
+            if (previous != null || archived) {
+                for (TransactionChangeListener listener : listeners) {
+                    listener.onDelete(id, previous, sequence);
+                }
+            }
+            return;
+        }
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(value);
+        for (TransactionChangeListener listener : listeners) {
+            listener.onSave(previous, value);
         }
-        transactions.put(transaction.getId(), transaction);
-        return transaction;
     }
 
     @Override
     public Optional<Transaction> findById(Long id) {
-        return Optional.ofNullable(transactions.get(id));
+        RepositoryEvent event = RepositoryEvent.start("findById");
+        Version head = transactions.get(id);
+        Optional<Transaction> result;
+        if (head != null || segments.isEmpty()) {
+            // A tombstone head means deleted, whatever the segments hold
+            result = Optional.ofNullable(head == null ? null : published(head));
+        } else {
+            result = segments.findById(id);
+        }
+        event.complete(result.isPresent() ? 1 : 0);
+        return result;
     }
 
     @Override
     public List<Transaction> findAll(int page, int size) {
-        // Leverage the ordered nature of ConcurrentSkipListMap to get transactions in descending order by id
-        return transactions.values()
+        long snapshot = snapshots.open(() -> visibleSequence, false);
+        try {
+            return findAll(snapshot, page, size);
+        } finally {
+            snapshots.release(snapshot);
+        }
+    }
+
+    @Override
+    public OptionalLong openSnapshot(Long snapshot) {
+        if (snapshot == null) {
+            return OptionalLong.of(snapshots.open(() -> visibleSequence, true));
+        }
+        return snapshots.reopen(snapshot) ? OptionalLong.of(snapshot) : OptionalLong.empty();
+    }
+
+    @Override
+    public void releaseSnapshot(long snapshot) {
+        snapshots.release(snapshot);
+    }
+
+    @Override
+    public List<Transaction> findAll(long snapshot, int page, int size) {
+        RepositoryEvent event = RepositoryEvent.start("findAll");
+        List<Transaction> result;
+        if (!segments.isEmpty()) {
+            result = findAllMerged(snapshot, Long.MIN_VALUE, Long.MAX_VALUE, (long) page * size, size);
+        } else {
+            // Leverage the ordered nature of ConcurrentSkipListMap to get transactions in descending order by id
+            result = transactions.values()
+                    .stream()
+                    .map(version -> version.visibleAt(snapshot))
+                    .filter(Objects::nonNull)
+                    .skip((long) page * size)
+                    .limit(size)
+                    .collect(Collectors.toList());
+        }
+        event.complete(result.size());
+        return result;
+    }
+
+    @Override
+    public List<Transaction> findByIdBetween(long snapshot, long fromId, long toId, int limit) {
+        RepositoryEvent event = RepositoryEvent.start("findByIdBetween");
+        List<Transaction> result = fromId > toId ? List.of() : findAllMerged(snapshot, fromId, toId, 0, limit);
+        event.complete(result.size());
+        return result;
+    }
+
+    @Override
+    public List<Transaction> findByTimestampBetween(Instant from, Instant to, int page, int size) {
+        RepositoryEvent event = RepositoryEvent.start("findByTimestampBetween");
+        long fromSecond = from.getEpochSecond();
+        long toSecond = to.getEpochSecond();
+        Map<Long, Transaction> matches = new HashMap<>();
+        // Only the partitions overlapping the range are visited
+        for (Partition partition : partitions.subMap(partitionOf(fromSecond), true, toSecond, true).values()) {
+            for (Long id : partition.ids) {
+                Transaction transaction = latest(id);
+                if (transaction != null && isWithin(transaction, from, to)) {
+                    matches.put(id, transaction);
+                }
+            }
+        }
+        if (!segments.isEmpty()) {
+            for (Transaction transaction : segments.scan(fromSecond, toSecond)) {
+                if (isWithin(transaction, from, to) && !transactions.containsKey(transaction.getId())) {
+                    matches.putIfAbsent(transaction.getId(), transaction);
+                }
+            }
+        }
+        List<Transaction> result = matches.values()
                 .stream()
+                .sorted(Comparator.comparing(Transaction::getId, Comparator.reverseOrder()))
                 .skip((long) page * size)
                 .limit(size)
                 .collect(Collectors.toList());
+        event.complete(result.size());
+        return result;
     }
 
     @Override
     public long count() {
-        return transactions.size();
+        return liveCount.get() + segments.count();
+    }
+
+    @Override
+    public long heapCount() {
+        return liveCount.get();
     }
 
     @Override
     public void deleteById(Long id) {
-        transactions.remove(id);
+        long[] ids = {id};
+        Version[] heads = new Version[1];
+        boolean[] archived = new boolean[1];
+        install(ids, new Transaction[1], heads, false, archived);
     }
 
     @Override
     public void clear() {
-        transactions.clear();
-        idGenerator.set(1000); // Reset ID generator
+        commitLock.lock();
+        try {
+            // The commit sequence keeps growing so that snapshots taken before stay distinct
+            transactions.clear();
+            superseded.clear();
+            liveCount.set(0);
+            lockNotify();
+        } finally {
+            commitLock.unlock();
+        }
+        try {
+            partitions.clear();
+            segments.clear();
+            idGenerator.reset();
+            for (TransactionChangeListener listener : listeners) {
+                listener.onClear();
+            }
+        } finally {
+            notifyLock.unlock();
+        }
+    }
+
+    /**
+     * Seal every partition that ended at or before {@code cutoff} into a compressed segment and drop its
+     * transactions from heap. Transactions updated while their partition is being sealed stay hot and
+     * their archived copy is marked as superseded.
+     */
+    @Override
+    public int archivePartitionsBefore(Instant cutoff) {
+        int archived = 0;
+        long lastStart = cutoff.getEpochSecond() - partitionSeconds;
+        for (Partition partition : partitions.headMap(lastStart, true).values()) {
+            partition.sealed = true;
+            partitions.remove(partition.start, partition);
+
+            List<Transaction> batch = new ArrayList<>();
+            for (Long id : partition.ids) {
+                Transaction transaction = latest(id);
+                if (transaction != null && partitionOf(transaction) == partition.start) {
+                    batch.add(transaction);
+                }
+            }
+            if (batch.isEmpty()) {
+                continue;
+            }
+            Segment segment = segments.seal(partition.start, partition.start + partitionSeconds, batch);
+            commitLock.lock();
+            try {
+                for (Transaction transaction : batch) {
+                    // Older versions go with the hot entry: snapshots read archived transactions at their latest state
+                    Version head = transactions.get(transaction.getId());
+                    if (head != null && head.value == transaction && transactions.remove(transaction.getId(), head)) {
+                        liveCount.decrementAndGet();
+                    } else {
+                        segment.remove(transaction.getId());
+                    }
+                }
+            } finally {
+                commitLock.unlock();
+            }
+            archived += batch.size();
+        }
+        return archived;
+    }
+
+    @Override
+    public int dropArchivesBefore(Instant cutoff) {
+        List<Segment> dropped = segments.dropBefore(cutoff.getEpochSecond());
+        if (dropped.isEmpty()) {
+            return 0;
+        }
+        // Reported between writes, so that no save of a dropped id is reported before its delete
+        commitLock.lock();
+        long sequence;
+        try {
+            sequence = visibleSequence;
+            lockNotify();
+        } finally {
+            commitLock.unlock();
+        }
+        try {
+            for (Segment segment : dropped) {
+                for (int position = 0; position < segment.size(); position++) {
+                    long id = segment.idAt(position);
+                    if (!segment.isRemoved(id) && latest(id) == null) {
+                        for (TransactionChangeListener listener : listeners) {
+                            listener.onDelete(id, null, sequence);
+                        }
+                    }
+                }
+            }
+        } finally {
+            notifyLock.unlock();
+        }
+        return dropped.size();
+    }
+
+    /**
+     * Drop versions that no open snapshot can see: everything older than the newest version visible at
+     * the oldest snapshot, and tombstones all snapshots see. Returns the number of chains trimmed.
+     */
+    @Override
+    public int collectVersions() {
+        if (!collectLock.tryLock()) {
+            return 0;
+        }
+        RepositoryEvent event = RepositoryEvent.start("collectVersions");
+        int collected = 0;
+        try {
+            long horizon = snapshots.collectionHorizon(visibleSequence, System.nanoTime());
+            // A frequently updated id has many entries; trimming its chain once covers all of them
+            Set<Long> visited = new HashSet<>();
+            Superseded entry;
+            while ((entry = superseded.peek()) != null && entry.sequence() <= horizon) {
+                superseded.poll();
+                if (!visited.add(entry.id())) {
+                    continue;
+                }
+                Version head = transactions.get(entry.id());
+                Version oldest = head;
+                while (oldest != null && oldest.sequence > horizon) {
+                    oldest = oldest.older;
+                }
+                if (oldest == null) {
+                    continue;
+                }
+                // Readers at or after the horizon stop at this version, so its history is unreachable
+                if (oldest.older != null) {
+                    oldest.older = null;
+                    collected++;
+                }
+                if (oldest == head && head.value == null) {
+                    transactions.remove(entry.id(), head);
+                }
+            }
+            return collected;
+        } finally {
+            collectLock.unlock();
+            event.complete(collected);
+        }
+    }
+
+    int openSnapshotCount() {
+        return snapshots.size();
+    }
+
+    /**
+     * Descending-id page over the ids in [{@code fromId}, {@code toId}] of the hot map and all segments
+     * (k-way merge of their sorted ids). On equal ids the hot copy wins, then the newest segment.
+     */
+    private List<Transaction> findAllMerged(long snapshot, long fromId, long toId, long skip, int size) {
+        // The page reads segment files after the list is copied, so they must outlive a concurrent drop
+        return segments.read(() -> mergePage(snapshot, fromId, toId, skip, size));
+    }
+
+    private List<Transaction> mergePage(long snapshot, long fromId, long toId, long skip, int size) {
+        Segment[] cold = segments.segments().toArray(new Segment[0]);
+        int[] positions = new int[cold.length];
+        for (int i = 0; i < cold.length; i++) {
+            positions[i] = cold[i].positionAtOrBelow(toId);
+        }
+        Iterator<Transaction> hot = transactions.subMap(toId, true, fromId, true)
+                .values()
+                .stream()
+                .map(version -> version.visibleAt(snapshot))
+                .filter(Objects::nonNull)
+                .iterator();
+        Transaction hotHead = hot.hasNext() ? hot.next() : null;
+        SegmentStore.BlockReader reader = new SegmentStore.BlockReader();
+        List<Transaction> result = new ArrayList<>(size);
+        long lastId = 0;
+        boolean emitted = false;
+
+        while (result.size() < size) {
+            int best = -1;
+            long bestId = hotHead == null ? Long.MIN_VALUE : hotHead.getId();
+            boolean found = hotHead != null;
+            for (int i = cold.length - 1; i >= 0; i--) {
+                while (positions[i] < cold[i].size() && cold[i].isRemoved(cold[i].idAt(positions[i]))) {
+                    positions[i]++;
+                }
+                if (positions[i] < cold[i].size() && (!found || cold[i].idAt(positions[i]) > bestId)) {
+                    best = i;
+                    bestId = cold[i].idAt(positions[i]);
+                    found = true;
+                }
+            }
+            if (!found || bestId < fromId) {
+                break;
+            }
+            Transaction head = hotHead;
+            int position = best < 0 ? -1 : positions[best]++;
+            if (best < 0) {
+                hotHead = hot.hasNext() ? hot.next() : null;
+            }
+            if (emitted && bestId == lastId) {
+                continue;
+            }
+            lastId = bestId;
+            emitted = true;
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            result.add(best < 0 ? head : reader.read(cold[best], position));
+        }
+        return result;
+    }
+
+    private Transaction latest(long id) {
+        Version head = transactions.get(id);
+        return head == null ? null : published(head);
+    }
+
+    /**
+     * Value of the newest published version of a chain. The head is skipped while its commit is still
+     * being installed, so the writes of one commit become visible together.
+     */
+    private Transaction published(Version head) {
+        // Read before the publication check: a head's history is only trimmed once it is published
+        Version older = head.older;
+        return head.sequence <= visibleSequence ? head.value : valueOf(older);
+    }
+
+    /**
+     * Take the notify lock; called under the commit lock, so reports are ordered like the commits.
+     */
+    private void lockNotify() {
+        LockWaitEvent wait = LockWaitEvent.start("notify");
+        notifyLock.lock();
+        wait.acquired();
+    }
+
+    private static Transaction valueOf(Version version) {
+        return version == null ? null : version.value;
+    }
+
+    private void index(Transaction transaction) {
+        long start = partitionOf(transaction);
+        while (true) {
+            Partition partition = partitions.computeIfAbsent(start, Partition::new);
+            partition.ids.add(transaction.getId());
+            if (!partition.sealed) {
+                return;
+            }
+            // The partition is being archived concurrently; register in a fresh one as well
+            partitions.remove(start, partition);
+        }
+    }
+
+    private void unindex(Transaction transaction) {
+        Partition partition = partitions.get(partitionOf(transaction));
+        if (partition != null) {
+            partition.ids.remove(transaction.getId());
+        }
+    }
+
+    private long partitionOf(Transaction transaction) {
+        return partitionOf(transaction.getTimestamp().getEpochSecond());
+    }
+
+    private long partitionOf(long epochSecond) {
+        return Math.floorDiv(epochSecond, partitionSeconds) * partitionSeconds;
+    }
+
+    private static boolean isWithin(Transaction transaction, Instant from, Instant to) {
+        return !transaction.getTimestamp().isBefore(from) && !transaction.getTimestamp().isAfter(to);
+    }
+
+    /**
+     * One committed state of a transaction; {@code value} is null for a delete.
+     */
+    private static final class Version {
+        private final Transaction value;
+        private final long sequence;
+        // Next older version, cut off once no snapshot can reach it
+        private volatile Version older;
+
+        private Version(Transaction value, long sequence, Version older) {
+            this.value = value;
+            this.sequence = sequence;
+            this.older = older;
+        }
+
+        private Transaction visibleAt(long snapshot) {
+            Version version = this;
+            while (version != null && version.sequence > snapshot) {
+                version = version.older;
+            }
+            return version == null ? null : version.value;
+        }
+    }
+
+    private record Superseded(long id, long sequence) {
+    }
+
+    private static final class Partition {
+        private final long start;
+        private final Set<Long> ids = ConcurrentHashMap.newKeySet();
+        private volatile boolean sealed;
+
+        private Partition(long start) {
+            this.start = start;
+        }
     }
-}
\ No newline at end of file
+}
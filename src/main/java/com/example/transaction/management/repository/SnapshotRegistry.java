@@ -0,0 +1,127 @@
+package com.example.transaction.management.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Read snapshots in use, keyed by commit sequence.
+ * <p>
+ * Each snapshot is a lease: it stays valid while a request is reading at it, and for the retention
+ * period after a client last paged through it. Version collection never drops a version that a valid
+ * snapshot can still see. Opening and renewing snapshots is lock-free.
+ */
+final class SnapshotRegistry {
+    private final ConcurrentSkipListMap<Long, Lease> leases = new ConcurrentSkipListMap<>();
+    private final long retentionNanos;
+    // Versions only visible below this sequence may be dropped; snapshots opened below it are retried
+    private volatile long horizon;
+
+    SnapshotRegistry(long retentionNanos) {
+        this.retentionNanos = retentionNanos;
+    }
+
+    /**
+     * Pin the latest visible sequence. With {@code retain}, the snapshot outlives the request for the
+     * retention period so that the client can page through it.
+     */
+    long open(LongSupplier visibleSequence, boolean retain) {
+        while (true) {
+            long sequence = visibleSequence.getAsLong();
+            Lease lease = leases.computeIfAbsent(sequence, key -> new Lease());
+            if (!lease.hold()) {
+                // Expired concurrently, a fresh lease replaces it
+                continue;
+            }
+            // Pairs with the horizon write in collectionHorizon: either the collector sees this lease,
+            // or this reader sees the new horizon and retries at a newer sequence
+            if (sequence < horizon) {
+                lease.release();
+                continue;
+            }
+            if (retain) {
+                lease.extend(System.nanoTime() + retentionNanos);
+            }
+            return sequence;
+        }
+    }
+
+    /**
+     * Pin an existing snapshot again and renew its retention; false when it has expired.
+     */
+    boolean reopen(long sequence) {
+        Lease lease = leases.get(sequence);
+        if (lease == null || !lease.hold()) {
+            return false;
+        }
+        lease.extend(System.nanoTime() + retentionNanos);
+        return true;
+    }
+
+    void release(long sequence) {
+        Lease lease = leases.get(sequence);
+        if (lease != null) {
+            lease.release();
+        }
+    }
+
+    /**
+     * Expire idle snapshots and return the oldest sequence still readable: versions superseded at or
+     * before it by a newer version that is itself visible at it are unreachable.
+     */
+    long collectionHorizon(long visibleSequence, long nowNanos) {
+        horizon = visibleSequence;
+        for (Map.Entry<Long, Lease> entry : leases.entrySet()) {
+            if (entry.getValue().tryExpire(nowNanos)) {
+                leases.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        for (Map.Entry<Long, Lease> entry : leases.entrySet()) {
+            if (entry.getValue().isLive()) {
+                return Math.min(visibleSequence, entry.getKey());
+            }
+        }
+        return visibleSequence;
+    }
+
+    int size() {
+        return leases.size();
+    }
+
+    private static final class Lease {
+        // Readers currently at this snapshot; -1 once expired
+        private final AtomicInteger holders = new AtomicInteger();
+        private volatile long expiresAt = System.nanoTime();
+
+        private boolean hold() {
+            while (true) {
+                int current = holders.get();
+                if (current < 0) {
+                    return false;
+                }
+                if (holders.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        private void release() {
+            holders.decrementAndGet();
+        }
+
+        private void extend(long until) {
+            if (until - expiresAt > 0) {
+                expiresAt = until;
+            }
+        }
+
+        private boolean tryExpire(long nowNanos) {
+            return nowNanos - expiresAt >= 0 && holders.compareAndSet(0, -1);
+        }
+
+        private boolean isLive() {
+            return holders.get() >= 0;
+        }
+    }
+}
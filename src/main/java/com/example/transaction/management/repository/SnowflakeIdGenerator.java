@@ -0,0 +1,79 @@
+package com.example.transaction.management.repository;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake-style ids: 41 bits of milliseconds since {@code epoch}, 10 bits of worker id and a 12-bit
+ * sequence within the millisecond, so instances with distinct worker ids never collide and ids grow
+ * with time (for about 69 years from the epoch).
+ * <p>
+ * Threads do not share a counter per id. Each thread claims a block of {@code blockSize} consecutive
+ * timestamp-and-sequence values with one CAS, starting no earlier than the current millisecond, and
+ * hands them out locally. A block is abandoned once the clock passes the millisecond of its next value, so
+ * a thread that sat idle never hands out an id older than the current millisecond: ids of different
+ * threads are ordered by time to the millisecond, and only within a millisecond by block claim order. A
+ * burst above 4096 ids per millisecond borrows sequence values from the following milliseconds instead of
+ * waiting.
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+    public static final int WORKER_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final int MAX_WORKER_ID = (1 << WORKER_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long epochMillis;
+    private final long workerId;
+    private final int blockSize;
+    // Next unclaimed (milliseconds since epoch << SEQUENCE_BITS | sequence) value
+    private final AtomicLong cursor = new AtomicLong();
+    private final ThreadLocal<Block> blocks = ThreadLocal.withInitial(Block::new);
+
+    public SnowflakeIdGenerator(Instant epoch, int workerId, int blockSize) {
+        if (workerId < 0 || workerId > MAX_WORKER_ID) {
+            throw new IllegalArgumentException("Worker id must be within [0, " + MAX_WORKER_ID + "]");
+        }
+        if (blockSize < 1 || blockSize > SEQUENCE_MASK + 1) {
+            throw new IllegalArgumentException("Block size must be within [1, " + (SEQUENCE_MASK + 1) + "]");
+        }
+        this.epochMillis = epoch.toEpochMilli();
+        this.workerId = workerId;
+        this.blockSize = blockSize;
+    }
+
+    @Override
+    public long nextId() {
+        Block block = blocks.get();
+        long now = System.currentTimeMillis() - epochMillis;
+        if (block.next == block.end || block.next >>> SEQUENCE_BITS < now) {
+            block.next = claim(now);
+            block.end = block.next + blockSize;
+        }
+        long value = block.next++;
+        // Timestamp above the worker id, sequence below it
+        return (value >>> SEQUENCE_BITS) << (WORKER_BITS + SEQUENCE_BITS) | workerId << SEQUENCE_BITS | value & SEQUENCE_MASK;
+    }
+
+    @Override
+    public void advancePast(long id) {
+        // The worker id ranks above the sequence: blocks claimed afterwards start at the next millisecond
+        long next = ((id >>> (WORKER_BITS + SEQUENCE_BITS)) + 1) << SEQUENCE_BITS;
+        cursor.accumulateAndGet(next, Math::max);
+    }
+
+    private long claim(long now) {
+        long earliest = now << SEQUENCE_BITS;
+        while (true) {
+            long current = cursor.get();
+            long start = Math.max(current, earliest);
+            if (cursor.compareAndSet(current, start + blockSize)) {
+                return start;
+            }
+        }
+    }
+
+    private static final class Block {
+        private long next;
+        private long end;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.transaction.management.repository;
+
+import com.example.transaction.management.model.Transaction;
+
+/**
+ * Secondary structure kept in sync with {@link SkipListTransactionRepository}.
+ * <p>
+ * Callbacks run synchronously on the writing thread right after the primary map has been updated, one
+ * write at a time and in commit order, so implementations must be cheap and safe to read concurrently.
+ * Archiving a partition to disk is not a change and is not reported; expiring archived segments is
+ * reported as deletes.
+ */
+public interface TransactionChangeListener {
+    /**
+     * @param previous the replaced hot version, {@code null} for new (or previously archived) ids
+     * @param current  the stored version; both are immutable and may be kept as they are
+     */
+    void onSave(Transaction previous, Transaction current);
+
+    /**
+     * @param removed  the removed hot version, {@code null} when the transaction was only archived on disk
+     * @param sequence the commit sequence of the delete; saves carry theirs as the stored version
+     */
+    void onDelete(long id, Transaction removed, long sequence);
+
+    void onClear();
+}
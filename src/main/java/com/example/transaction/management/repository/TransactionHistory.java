@@ -0,0 +1,540 @@
+package com.example.transaction.management.repository;
+
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.model.TransactionVersion;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Version history of every transaction, fed by the repository's change notifications, with reads as of
+ * a past commit sequence or time.
+ * <p>
+ * Recent versions stay in heap as one chain per transaction: a version only stores the fields that
+ * differ from the version it replaced, and a delete is a tombstone without fields. Every
+ * {@link #CHECKPOINT_INTERVAL}th version, and the first after a delete, stores all fields so that no
+ * read replays a long chain. {@link #compact} moves the versions committed before a cutoff into a
+ * compressed {@link HistorySegment} on disk, and {@link #dropBefore} bounds how far back the disk copy
+ * goes, so history costs bounded heap whatever the write rate.
+ * <p>
+ * History is not durable: it starts with the process (with the transactions recovered by a persistent
+ * repository as their first versions) and is written into its own {@link ArchiveDirectory}
+ * {@code history-<uuid>}, removed on {@link #close} or by the next history once the process is gone.
+ */
+public class TransactionHistory implements TransactionChangeListener, AutoCloseable {
+    static final int CHECKPOINT_INTERVAL = 16;
+
+    private static final String SEGMENT_SUFFIX = ".hist";
+    private static final String DIRECTORY_PREFIX = "history-";
+
+    // Bit i of a change's fields is set when it stores field i of amount, type, description, category
+    // and timestamp, in that order
+    private static final int FIELDS = 5;
+    private static final int ALL = (1 << FIELDS) - 1;
+    private static final int DELETED = 1 << FIELDS;
+    private static final Object[] NO_VALUES = new Object[0];
+    private static final Change[] NO_CHANGES = new Change[0];
+
+    private final ArchiveDirectory directory;
+    private final LongSupplier clock;
+    private final ConcurrentSkipListMap<Long, Chain> chains = new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+    // Oldest first, replaced as a whole (guarded by compactionLock)
+    private volatile List<HistorySegment> segments = List.of();
+    // Segment holding the last version of everything dropped by the retention, if any
+    private HistorySegment base;
+    // Replaced segments, deleted by the next compaction once reads that started before have finished
+    private List<HistorySegment> retired = List.of();
+    private final Object compactionLock = new Object();
+    private final AtomicLong fileSequence = new AtomicLong();
+
+    public TransactionHistory(Path archiveDirectory) {
+        this(archiveDirectory, System::currentTimeMillis);
+    }
+
+    public TransactionHistory(Path archiveDirectory, LongSupplier clock) {
+        this.directory = new ArchiveDirectory(archiveDirectory, DIRECTORY_PREFIX, SEGMENT_SUFFIX);
+        this.clock = clock;
+    }
+
+    /**
+     * A point in history: the versions committed at or before {@code sequence} and at or before
+     * {@code epochMilli}.
+     */
+    public record AsOf(long sequence, long epochMilli) {
+
+        public static AsOf sequence(long sequence) {
+            return new AsOf(sequence, Long.MAX_VALUE);
+        }
+
+        public static AsOf time(Instant time) {
+            if (time.isAfter(Instant.ofEpochMilli(Long.MAX_VALUE))) {
+                return new AsOf(Long.MAX_VALUE, Long.MAX_VALUE);
+            }
+            if (time.isBefore(Instant.ofEpochMilli(Long.MIN_VALUE))) {
+                return new AsOf(Long.MAX_VALUE, Long.MIN_VALUE);
+            }
+            return new AsOf(Long.MAX_VALUE, time.toEpochMilli());
+        }
+
+        boolean includes(long sequence, long committedAt) {
+            return sequence <= this.sequence && committedAt <= epochMilli;
+        }
+    }
+
+    // ===== Change notifications =====
+
+    @Override
+    public void onSave(Transaction previous, Transaction current) {
+        record(current.getId(), previous, current, current.getVersion() == null ? 0 : current.getVersion());
+    }
+
+    @Override
+    public void onDelete(long id, Transaction removed, long sequence) {
+        record(id, removed, null, sequence);
+    }
+
+    @Override
+    public void onClear() {
+        synchronized (compactionLock) {
+            chains.clear();
+            retire(segments);
+            segments = List.of();
+            base = null;
+        }
+    }
+
+    private void record(long id, Transaction previous, Transaction current, long sequence) {
+        long committedAt = clock.getAsLong();
+        // A chain emptied by a concurrent compaction is retired; the next attempt starts a new one
+        while (!chains.computeIfAbsent(id, key -> new Chain()).add(previous, current, sequence, committedAt)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    // ===== Reads =====
+
+    /**
+     * Every known version of {@code id}, oldest first; empty when it has none.
+     */
+    public List<TransactionVersion> versions(long id) {
+        // The hot chain is read before the segments: a compaction publishes its segment before trimming
+        Change[] hot = hotChanges(id);
+        List<HistorySegment> cold = segments;
+        HistorySegment.Reader reader = new HistorySegment.Reader();
+        List<TransactionVersion> versions = new ArrayList<>();
+        long last = Long.MIN_VALUE;
+        for (HistorySegment segment : cold) {
+            for (TransactionVersion version : reader.read(segment, id)) {
+                if (version.sequence() > last) {
+                    versions.add(version);
+                    last = version.sequence();
+                }
+            }
+        }
+        for (int i = 0; i < hot.length; i++) {
+            if (hot[i].sequence > last) {
+                versions.add(materialize(id, hot, i));
+            }
+        }
+        return versions;
+    }
+
+    /**
+     * {@code id} as it was at {@code asOf}; empty when it did not exist or had been deleted.
+     */
+    public Optional<Transaction> findAsOf(long id, AsOf asOf) {
+        return versionAsOf(id, asOf, new HistorySegment.Reader())
+                .filter(version -> !version.deleted())
+                .map(TransactionVersion::transaction);
+    }
+
+    /**
+     * A page of the transactions that existed at {@code asOf}, in descending id order.
+     */
+    public List<Transaction> findAllAsOf(AsOf asOf, long skip, int size) {
+        List<HistorySegment> cold = segments;
+        HistorySegment.Reader reader = new HistorySegment.Reader();
+        Iterator<Long> hotIds = chains.keySet().iterator();
+        long hotId = hotIds.hasNext() ? hotIds.next() : Long.MIN_VALUE;
+        int[] positions = new int[cold.size()];
+        List<Transaction> page = new ArrayList<>(size);
+        while (page.size() < size) {
+            // Next id in descending order across the hot chains and every segment
+            long id = hotId;
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] < cold.get(i).idCount()) {
+                    id = Math.max(id, cold.get(i).idAt(positions[i]));
+                }
+            }
+            if (id == Long.MIN_VALUE) {
+                break;
+            }
+            if (hotId == id) {
+                hotId = hotIds.hasNext() ? hotIds.next() : Long.MIN_VALUE;
+            }
+            for (int i = 0; i < positions.length; i++) {
+                if (positions[i] < cold.get(i).idCount() && cold.get(i).idAt(positions[i]) == id) {
+                    positions[i]++;
+                }
+            }
+            Optional<TransactionVersion> version = versionAsOf(id, asOf, reader);
+            if (version.isPresent() && !version.get().deleted()) {
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    page.add(version.get().transaction());
+                }
+            }
+        }
+        return page;
+    }
+
+    private Optional<TransactionVersion> versionAsOf(long id, AsOf asOf, HistorySegment.Reader reader) {
+        Change[] hot = hotChanges(id);
+        List<HistorySegment> cold = segments;
+        for (int i = hot.length - 1; i >= 0; i--) {
+            if (asOf.includes(hot[i].sequence, hot[i].committedAt)) {
+                return Optional.of(materialize(id, hot, i));
+            }
+        }
+        // Newer segments hold newer versions of an id
+        for (int s = cold.size() - 1; s >= 0; s--) {
+            List<TransactionVersion> versions = reader.read(cold.get(s), id);
+            for (int i = versions.size() - 1; i >= 0; i--) {
+                TransactionVersion version = versions.get(i);
+                if (asOf.includes(version.sequence(), version.committedAt().toEpochMilli())) {
+                    return Optional.of(version);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Change[] hotChanges(long id) {
+        Chain chain = chains.get(id);
+        return chain == null ? NO_CHANGES : chain.changes;
+    }
+
+    // ===== Compaction =====
+
+    /**
+     * Move the versions committed before {@code cutoff} from heap to a new history segment; returns the
+     * number of versions moved.
+     */
+    public int compact(Instant cutoff) {
+        long cutoffMilli = cutoff.toEpochMilli();
+        synchronized (compactionLock) {
+            deleteRetired();
+            HistorySegment segment;
+            try {
+                try (HistorySegment.Writer writer = HistorySegment.writer(nextFile())) {
+                    for (Map.Entry<Long, Chain> entry : chains.entrySet()) {
+                        Change[] changes = entry.getValue().changes;
+                        int moved = movable(changes, cutoffMilli);
+                        for (int i = 0; i < moved; i++) {
+                            writer.add(entry.getKey(), materialize(entry.getKey(), changes, i));
+                        }
+                    }
+                    segment = writer.finish();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write history segment in " + directory.path(), e);
+            }
+            if (segment == null) {
+                return 0;
+            }
+            List<HistorySegment> published = new ArrayList<>(segments);
+            published.add(segment);
+            segments = List.copyOf(published);
+            // Only now that readers find the moved versions on disk are they removed from heap
+            for (Map.Entry<Long, Chain> entry : chains.entrySet()) {
+                if (entry.getValue().trim(cutoffMilli)) {
+                    chains.remove(entry.getKey(), entry.getValue());
+                }
+            }
+            return segment.versionCount();
+        }
+    }
+
+    /**
+     * Forget the segments whose versions were all committed before {@code cutoff}, keeping only the
+     * last version of each transaction they held so that reads after {@code cutoff} stay exact; returns
+     * the number of segments replaced.
+     */
+    public int dropBefore(Instant cutoff) {
+        long cutoffMilli = cutoff.toEpochMilli();
+        synchronized (compactionLock) {
+            deleteRetired();
+            List<HistorySegment> current = segments;
+            int expired = 0;
+            while (expired < current.size() && current.get(expired).newestCommit() < cutoffMilli) {
+                expired++;
+            }
+            if (expired == 0 || (expired == 1 && current.get(0) == base)) {
+                return 0;
+            }
+            List<HistorySegment> dropped = current.subList(0, expired);
+            HistorySegment merged;
+            try {
+                merged = writeLastVersions(dropped);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write history segment in " + directory.path(), e);
+            }
+            List<HistorySegment> kept = new ArrayList<>();
+            if (merged != null) {
+                kept.add(merged);
+            }
+            kept.addAll(current.subList(expired, current.size()));
+            segments = List.copyOf(kept);
+            base = merged;
+            retire(dropped);
+            return expired;
+        }
+    }
+
+    private HistorySegment writeLastVersions(List<HistorySegment> dropped) throws IOException {
+        HistorySegment.Reader reader = new HistorySegment.Reader();
+        int[] positions = new int[dropped.size()];
+        try (HistorySegment.Writer writer = HistorySegment.writer(nextFile())) {
+            while (true) {
+                long id = Long.MIN_VALUE;
+                boolean more = false;
+                for (int i = 0; i < positions.length; i++) {
+                    if (positions[i] < dropped.get(i).idCount()) {
+                        id = more ? Math.max(id, dropped.get(i).idAt(positions[i])) : dropped.get(i).idAt(positions[i]);
+                        more = true;
+                    }
+                }
+                if (!more) {
+                    break;
+                }
+                TransactionVersion last = null;
+                for (int i = 0; i < positions.length; i++) {
+                    if (positions[i] < dropped.get(i).idCount() && dropped.get(i).idAt(positions[i]) == id) {
+                        positions[i]++;
+                        List<TransactionVersion> versions = reader.read(dropped.get(i), id);
+                        TransactionVersion candidate = versions.get(versions.size() - 1);
+                        if (last == null || candidate.sequence() > last.sequence()) {
+                            last = candidate;
+                        }
+                    }
+                }
+                // A transaction deleted by then needs no version at all
+                if (!last.deleted()) {
+                    writer.add(id, last);
+                }
+            }
+            return writer.finish();
+        }
+    }
+
+    private Path nextFile() {
+        return directory.create().resolve("history-" + fileSequence.incrementAndGet() + SEGMENT_SUFFIX);
+    }
+
+    private void retire(List<HistorySegment> replaced) {
+        List<HistorySegment> pending = new ArrayList<>(retired);
+        pending.addAll(replaced);
+        retired = pending;
+    }
+
+    private void deleteRetired() {
+        for (HistorySegment segment : retired) {
+            segment.delete();
+        }
+        retired = List.of();
+    }
+
+    /**
+     * Versions in heap and segments on disk, for monitoring.
+     */
+    public long hotVersionCount() {
+        long count = 0;
+        for (Chain chain : chains.values()) {
+            count += chain.changes.length;
+        }
+        return count;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public void close() {
+        synchronized (compactionLock) {
+            chains.clear();
+            retire(segments);
+            segments = List.of();
+            deleteRetired();
+            try {
+                directory.delete();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to delete history directory " + directory.path(), e);
+            }
+        }
+    }
+
+    // ===== Version chains =====
+
+    /**
+     * Number of leading changes committed before {@code cutoff}.
+     */
+    private static int movable(Change[] changes, long cutoff) {
+        int count = 0;
+        while (count < changes.length && changes[count].committedAt < cutoff) {
+            count++;
+        }
+        return count;
+    }
+
+    private static TransactionVersion materialize(long id, Change[] changes, int index) {
+        Change change = changes[index];
+        if ((change.fields & DELETED) != 0) {
+            return new TransactionVersion(change.sequence, Instant.ofEpochMilli(change.committedAt), true, null);
+        }
+        Object[] fields = fieldsAt(changes, index);
+        Transaction transaction = new Transaction(id, (BigDecimal) fields[0], (TransactionType) fields[1],
+                (String) fields[2], (String) fields[3], (Instant) fields[4], change.sequence);
+        return new TransactionVersion(change.sequence, Instant.ofEpochMilli(change.committedAt), false, transaction);
+    }
+
+    /**
+     * All five field values of the (not deleted) version at {@code index}.
+     */
+    private static Object[] fieldsAt(Change[] changes, int index) {
+        int start = index;
+        while ((changes[start].fields & ALL) != ALL) {
+            start--;
+        }
+        Object[] fields = changes[start].values.clone();
+        for (int i = start + 1; i <= index; i++) {
+            int value = 0;
+            for (int field = 0; field < FIELDS; field++) {
+                if ((changes[i].fields & (1 << field)) != 0) {
+                    fields[field] = changes[i].values[value++];
+                }
+            }
+        }
+        return fields;
+    }
+
+    private static Object[] fieldsOf(Transaction transaction) {
+        return new Object[] {transaction.getAmount(), transaction.getType(), transaction.getDescription(),
+                transaction.getCategory(), transaction.getTimestamp()};
+    }
+
+    /**
+     * One version: the fields that differ from the version before it, all of them, or a delete.
+     * {@code depth} counts the deltas since the last complete version.
+     */
+    private record Change(long sequence, long committedAt, int fields, Object[] values, int depth) {
+
+        static Change complete(long sequence, long committedAt, Transaction transaction) {
+            return new Change(sequence, committedAt, ALL, fieldsOf(transaction), 0);
+        }
+
+        static Change delta(long sequence, long committedAt, Transaction previous, Transaction current, int depth) {
+            Object[] before = fieldsOf(previous);
+            Object[] after = fieldsOf(current);
+            int fields = 0;
+            int count = 0;
+            for (int field = 0; field < FIELDS; field++) {
+                if (!Objects.equals(before[field], after[field])) {
+                    fields |= 1 << field;
+                    count++;
+                }
+            }
+            Object[] values = count == 0 ? NO_VALUES : new Object[count];
+            int value = 0;
+            for (int field = 0; field < FIELDS; field++) {
+                if ((fields & (1 << field)) != 0) {
+                    values[value++] = after[field];
+                }
+            }
+            return new Change(sequence, committedAt, fields, values, depth);
+        }
+    }
+
+    /**
+     * Versions of one transaction in sequence order. Readers take the array as it is; writers replace it.
+     */
+    private static final class Chain {
+        private volatile Change[] changes = NO_CHANGES;
+        private boolean retired;
+
+        /**
+         * Returns {@code false} when the chain was retired by a compaction and must not be written.
+         */
+        synchronized boolean add(Transaction previous, Transaction current, long sequence, long committedAt) {
+            if (retired) {
+                return false;
+            }
+            Change[] old = changes;
+            // Notifications are sent after the commit and may arrive out of order
+            int position = old.length;
+            while (position > 0 && old[position - 1].sequence > sequence) {
+                position--;
+            }
+            Change before = position > 0 ? old[position - 1] : null;
+            Change change;
+            if (current == null) {
+                change = new Change(sequence, committedAt, DELETED, NO_VALUES, 0);
+            } else if (previous != null && before != null && previous.getVersion() != null
+                    && before.sequence == previous.getVersion() && (before.fields & DELETED) == 0
+                    && before.depth < CHECKPOINT_INTERVAL - 1) {
+                change = Change.delta(sequence, committedAt, previous, current, before.depth + 1);
+            } else {
+                change = Change.complete(sequence, committedAt, current);
+            }
+            Change[] updated = new Change[old.length + 1];
+            System.arraycopy(old, 0, updated, 0, position);
+            updated[position] = change;
+            System.arraycopy(old, position, updated, position + 1, old.length - position);
+            changes = updated;
+            return true;
+        }
+
+        /**
+         * Drop the leading changes committed before {@code cutoff}; returns whether none are left, in which
+         * case the chain is retired.
+         */
+        synchronized boolean trim(long cutoff) {
+            Change[] old = changes;
+            int moved = movable(old, cutoff);
+            if (moved == old.length) {
+                retired = true;
+                changes = NO_CHANGES;
+                return true;
+            }
+            if (moved > 0) {
+                Change[] kept = Arrays.copyOfRange(old, moved, old.length);
+                Change first = kept[0];
+                if (first.fields != ALL && first.fields != DELETED) {
+                    // The version it was a delta against is gone
+                    kept[0] = new Change(first.sequence, first.committedAt, ALL, fieldsAt(old, moved), 0);
+                }
+                for (int i = 1; i < kept.length && kept[i].depth > 0; i++) {
+                    Change next = kept[i];
+                    kept[i] = new Change(next.sequence, next.committedAt, next.fields, next.values, i);
+                }
+                changes = kept;
+            }
+            return false;
+        }
+    }
+}
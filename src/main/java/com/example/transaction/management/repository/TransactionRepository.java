@@ -1,14 +1,43 @@
 package com.example.transaction.management.repository;
 
+import com.example.transaction.management.model.CommitResult;
 import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionOperation;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 public interface TransactionRepository {
     Transaction save(Transaction transaction);
+    /**
+     * Apply all operations atomically, or none of them when any fails its existence or expected-version
+     * check; the result reports the outcome of each. Operations must target distinct ids.
+     */
+    CommitResult commit(List<TransactionOperation> operations);
     Optional<Transaction> findById(Long id);
     List<Transaction> findAll(int page, int size);
+    /**
+     * Pin a read snapshot: the latest committed state when {@code snapshot} is null, otherwise renew the
+     * given one. Empty when the requested snapshot has expired. Release with {@link #releaseSnapshot}.
+     */
+    OptionalLong openSnapshot(Long snapshot);
+    void releaseSnapshot(long snapshot);
+    List<Transaction> findAll(long snapshot, int page, int size);
+    /**
+     * Up to {@code limit} transactions of a snapshot with an id in [{@code fromId}, {@code toId}], in
+     * descending id order; continue below the last id returned for the next batch.
+     */
+    List<Transaction> findByIdBetween(long snapshot, long fromId, long toId, int limit);
+    List<Transaction> findByTimestampBetween(Instant from, Instant to, int page, int size);
     void deleteById(Long id);
     long count();
+    /**
+     * How many of the {@link #count} transactions are held on the heap; archived and on-disk ones are not.
+     */
+    long heapCount();
     void clear();
-} 
\ No newline at end of file
+    int archivePartitionsBefore(Instant cutoff);
+    int dropArchivesBefore(Instant cutoff);
+    int collectVersions();
+} 
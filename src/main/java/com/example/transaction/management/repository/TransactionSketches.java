@@ -0,0 +1,239 @@
+package com.example.transaction.management.repository;
+
+import com.example.transaction.management.config.StatsProperties;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.sketch.HyperLogLog;
+import com.example.transaction.management.sketch.KllSketch;
+import com.example.transaction.management.sketch.SpaceSaving;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * Streaming statistics over written transactions: amount quantiles (KLL), distinct categories
+ * (HyperLogLog) and the most frequent categories (Space-Saving).
+ * <p>
+ * Sketches are kept per time bucket of the transaction {@code timestamp}, and within a bucket per stripe
+ * picked by the writing thread, each stripe behind its own lock. A query merges the stripes of the
+ * buckets overlapping its range, so ranges are rounded out to whole buckets. Only the newest
+ * {@code maxBuckets} buckets are kept, which bounds memory regardless of the number of transactions.
+ * <p>
+ * Sketches cannot forget an observation, so creates are observed as they are written while an update or
+ * delete only marks the buckets of the old and new timestamp stale. A query first rebuilds the stale
+ * buckets in its range from the live rows of the {@link ColumnarTransactionStore}, so statistics
+ * describe the transactions as they are now. Updates of a transaction archived to disk are reported
+ * without the replaced version and count as a create until their bucket is rebuilt; deletes of one mark
+ * every bucket stale. A write committed while its bucket is being rebuilt may be counted twice or
+ * missed, well within the sketch error.
+ */
+@Component
+public class TransactionSketches implements TransactionChangeListener {
+    private final StatsProperties properties;
+    private final ColumnarTransactionStore store;
+    private final long bucketMillis;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    // Buckets keyed by start in epoch millis
+    private final ConcurrentSkipListMap<Long, Bucket> buckets = new ConcurrentSkipListMap<>();
+
+    public TransactionSketches(StatsProperties properties, ColumnarTransactionStore store) {
+        this.properties = properties;
+        this.store = store;
+        this.bucketMillis = properties.bucketDuration().toMillis();
+    }
+
+    /**
+     * Merged sketches of a time range; owned by the caller.
+     */
+    public record Summary(KllSketch amounts, HyperLogLog categories, SpaceSaving topCategories) {
+    }
+
+    @Override
+    public void onSave(Transaction previous, Transaction current) {
+        if (current.getAmount() == null || current.getTimestamp() == null) {
+            return;
+        }
+        Bucket bucket = bucket(bucketOf(current.getTimestamp().toEpochMilli()));
+        if (previous != null) {
+            markStale(previous);
+            if (bucket != null) {
+                bucket.stale = true;
+            }
+            return;
+        }
+        if (bucket == null) {
+            return;
+        }
+        Stripe stripe = bucket.stripe((int) (Thread.currentThread().threadId() % properties.stripes()));
+        stripe.lock.lock();
+        try {
+            stripe.amounts.update(current.getAmount().doubleValue());
+            if (current.getCategory() != null) {
+                stripe.categories.add(current.getCategory());
+                stripe.topCategories.add(current.getCategory());
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void onDelete(long id, Transaction removed, long sequence) {
+        if (removed != null) {
+            markStale(removed);
+        } else {
+            // Archived: the bucket is unknown
+            buckets.values().forEach(bucket -> bucket.stale = true);
+        }
+    }
+
+    @Override
+    public void onClear() {
+        buckets.clear();
+    }
+
+    /**
+     * Merge the sketches of every bucket overlapping {@code [from, to]}.
+     */
+    public Summary summarize(Instant from, Instant to) {
+        Summary summary = new Summary(new KllSketch(properties.quantileAccuracy()),
+                new HyperLogLog(properties.distinctPrecision()), new SpaceSaving(properties.trackedCategories()));
+        long fromMillis = ColumnarTransactionStore.toMillis(from);
+        long fromBucket = fromMillis == Long.MIN_VALUE ? fromMillis : bucketOf(fromMillis);
+        long toMillis = ColumnarTransactionStore.toMillis(to);
+        Map<Long, Bucket> range = buckets.subMap(fromBucket, true, toMillis, true);
+        rebuildStale(range);
+        for (Bucket bucket : range.values()) {
+            AtomicReferenceArray<Stripe> stripes = bucket.stripes;
+            for (int i = 0; i < stripes.length(); i++) {
+                Stripe stripe = stripes.get(i);
+                if (stripe == null) {
+                    continue;
+                }
+                stripe.lock.lock();
+                try {
+                    summary.amounts().merge(stripe.amounts);
+                    summary.categories().merge(stripe.categories);
+                    summary.topCategories().merge(stripe.topCategories);
+                } finally {
+                    stripe.lock.unlock();
+                }
+            }
+        }
+        return summary;
+    }
+
+    /** Most frequent categories a summary can report. */
+    public int trackedCategories() {
+        return properties.trackedCategories();
+    }
+
+    int bucketCount() {
+        return buckets.size();
+    }
+
+    private Bucket bucket(long start) {
+        Bucket bucket = buckets.get(start);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= properties.maxBuckets() && start < buckets.firstKey()) {
+            // Older than everything kept
+            return null;
+        }
+        bucket = buckets.computeIfAbsent(start, key -> new Bucket(properties.stripes()));
+        while (buckets.size() > properties.maxBuckets()) {
+            Map.Entry<Long, Bucket> oldest = buckets.pollFirstEntry();
+            if (oldest == null || oldest.getKey() == start) {
+                break;
+            }
+        }
+        return bucket;
+    }
+
+    private void markStale(Transaction transaction) {
+        if (transaction.getTimestamp() != null) {
+            Bucket bucket = buckets.get(bucketOf(transaction.getTimestamp().toEpochMilli()));
+            if (bucket != null) {
+                bucket.stale = true;
+            }
+        }
+    }
+
+    /**
+     * Replace the sketches of the stale buckets among {@code range} with sketches of their live rows,
+     * read in one scan of the columnar store.
+     */
+    private void rebuildStale(Map<Long, Bucket> range) {
+        rebuildLock.lock();
+        try {
+            Map<Long, Stripe> rebuilt = new HashMap<>();
+            for (Map.Entry<Long, Bucket> entry : range.entrySet()) {
+                if (entry.getValue().stale) {
+                    // Cleared first: a change during the scan marks the bucket again
+                    entry.getValue().stale = false;
+                    rebuilt.put(entry.getKey(), new Stripe());
+                }
+            }
+            if (rebuilt.isEmpty()) {
+                return;
+            }
+            long first = Collections.min(rebuilt.keySet());
+            long last = Collections.max(rebuilt.keySet());
+            store.scan(first, last + bucketMillis - 1, (timestamp, amount, category) -> {
+                Stripe stripe = rebuilt.get(bucketOf(timestamp));
+                if (stripe != null) {
+                    stripe.amounts.update(ColumnarTransactionStore.toAmount(amount).doubleValue());
+                    if (category != null) {
+                        stripe.categories.add(category);
+                        stripe.topCategories.add(category);
+                    }
+                }
+            });
+            rebuilt.forEach((start, stripe) -> {
+                Bucket bucket = range.get(start);
+                AtomicReferenceArray<Stripe> stripes = new AtomicReferenceArray<>(properties.stripes());
+                stripes.set(0, stripe);
+                bucket.stripes = stripes;
+            });
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private long bucketOf(long millis) {
+        return Math.floorDiv(millis, bucketMillis) * bucketMillis;
+    }
+
+    private final class Bucket {
+        private volatile AtomicReferenceArray<Stripe> stripes;
+        // Set when an update or delete changed a transaction already observed
+        private volatile boolean stale;
+
+        private Bucket(int stripes) {
+            this.stripes = new AtomicReferenceArray<>(stripes);
+        }
+
+        // Stripes are created on first use: most buckets only ever see a few writers
+        private Stripe stripe(int index) {
+            AtomicReferenceArray<Stripe> current = stripes;
+            Stripe stripe = current.get(index);
+            if (stripe == null) {
+                current.compareAndSet(index, null, new Stripe());
+                stripe = current.get(index);
+            }
+            return stripe;
+        }
+    }
+
+    private final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final KllSketch amounts = new KllSketch(properties.quantileAccuracy());
+        private final HyperLogLog categories = new HyperLogLog(properties.distinctPrecision());
+        private final SpaceSaving topCategories = new SpaceSaving(properties.trackedCategories());
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.transaction.management.service;
+
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.AmountQuantile;
+import com.example.transaction.management.model.CategoryFrequency;
+import com.example.transaction.management.model.CategorySummary;
+import com.example.transaction.management.model.TransactionStats;
+import com.example.transaction.management.model.TransactionSummary;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.ColumnarTransactionStore;
+import com.example.transaction.management.repository.ColumnarTransactionStore.Totals;
+import com.example.transaction.management.repository.TransactionSketches;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+/**
+ * Aggregations over the columnar copy of the transactions, and approximate statistics from the
+ * streaming sketches; never touches the row store.
+ */
+@Service
+public class AnalyticsService {
+    private static final ApiException INVALID_TIME_RANGE = new ApiException(TransactionErrorType.INVALID_TIME_RANGE);
+    private static final ApiException INVALID_STATS_QUERY = new ApiException(TransactionErrorType.INVALID_STATS_QUERY);
+    private final ColumnarTransactionStore store;
+    private final TransactionSketches sketches;
+
+    public AnalyticsService(ColumnarTransactionStore store, TransactionSketches sketches) {
+        this.store = store;
+        this.sketches = sketches;
+    }
+
+    public TransactionSummary summarize(Instant from, Instant to, TransactionType type) {
+        validateRange(from, to);
+        Totals totals = store.sum(ColumnarTransactionStore.toMillis(from), ColumnarTransactionStore.toMillis(to), type);
+        return new TransactionSummary(totals.count(), ColumnarTransactionStore.toAmount(totals.sumMinorUnits()));
+    }
+
+    public List<CategorySummary> summarizeByCategory(Instant from, Instant to, TransactionType type) {
+        validateRange(from, to);
+        return store.sumByCategory(ColumnarTransactionStore.toMillis(from), ColumnarTransactionStore.toMillis(to), type)
+                .entrySet()
+                .stream()
+                .map(entry -> new CategorySummary(entry.getKey(), entry.getValue().count(),
+                        ColumnarTransactionStore.toAmount(entry.getValue().sumMinorUnits())))
+                .toList();
+    }
+
+    public TransactionStats stats(Instant from, Instant to, List<Double> quantiles, int top) {
+        validateRange(from, to);
+        if (top < 1 || top > sketches.trackedCategories()
+                || quantiles.stream().anyMatch(q -> q == null || !(q >= 0 && q <= 1))) {
+            throw INVALID_STATS_QUERY;
+        }
+        TransactionSketches.Summary summary = sketches.summarize(from, to);
+        long count = summary.amounts().count();
+        List<AmountQuantile> amounts = quantiles.stream()
+                .map(q -> new AmountQuantile(q, count == 0 ? null : BigDecimal.valueOf(summary.amounts().quantile(q))
+                        .setScale(ColumnarTransactionStore.AMOUNT_SCALE, RoundingMode.HALF_EVEN)))
+                .toList();
+        List<CategoryFrequency> categories = summary.topCategories().top(top)
+                .stream()
+                .map(item -> new CategoryFrequency(item.item(), item.count(), item.error()))
+                .toList();
+        return new TransactionStats(count, amounts, summary.categories().estimate(), categories);
+    }
+
+    private void validateRange(Instant from, Instant to) {
+        if (from.isAfter(to)) {
+            throw INVALID_TIME_RANGE;
+        }
+    }
+}
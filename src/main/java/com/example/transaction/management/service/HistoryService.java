@@ -0,0 +1,84 @@
+package com.example.transaction.management.service;
+
+import com.example.transaction.management.config.HistoryProperties;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionVersion;
+import com.example.transaction.management.repository.TransactionHistory;
+import java.time.Instant;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Point-in-time reads over {@link TransactionHistory}, and the background job moving versions past the
+ * hot retention to disk and forgetting those past the retention.
+ */
+public class HistoryService {
+    private static final Logger log = LoggerFactory.getLogger(HistoryService.class);
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final ApiException TRANSACTION_NOT_FOUND =
+            new ApiException(TransactionErrorType.TRANSACTION_NOT_FOUND, HttpStatus.NOT_FOUND);
+    private static final ApiException INVALID_PAGINATION = new ApiException(TransactionErrorType.INVALID_PAGINATION);
+    private static final ApiException INVALID_AS_OF = new ApiException(TransactionErrorType.INVALID_AS_OF);
+
+    private final TransactionHistory history;
+    private final HistoryProperties properties;
+
+    public HistoryService(TransactionHistory history, HistoryProperties properties) {
+        this.history = history;
+        this.properties = properties;
+    }
+
+    /**
+     * Every recorded version of {@code id}, oldest first.
+     */
+    public List<TransactionVersion> getVersions(Long id) {
+        List<TransactionVersion> versions = history.versions(id);
+        if (versions.isEmpty()) {
+            throw TRANSACTION_NOT_FOUND;
+        }
+        return versions;
+    }
+
+    /**
+     * {@code id} as of exactly one of a commit sequence and a time.
+     */
+    public Transaction getTransactionAsOf(Long id, Long sequence, Instant timestamp) {
+        return history.findAsOf(id, asOf(sequence, timestamp)).orElseThrow(() -> TRANSACTION_NOT_FOUND);
+    }
+
+    /**
+     * A page of the transactions that existed as of exactly one of a commit sequence and a time, newest
+     * id first.
+     */
+    public List<Transaction> getTransactionsAsOf(Long sequence, Instant timestamp, int page, int size) {
+        TransactionHistory.AsOf asOf = asOf(sequence, timestamp);
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw INVALID_PAGINATION;
+        }
+        return history.findAllAsOf(asOf, (long) page * size, size);
+    }
+
+    @Scheduled(fixedDelayString = "${transaction.history.compact-interval:PT1M}",
+            initialDelayString = "${transaction.history.compact-interval:PT1M}")
+    public void compact() {
+        Instant now = Instant.now();
+        int compacted = history.compact(now.minus(properties.hotRetention()));
+        int dropped = properties.retention() == null ? 0 : history.dropBefore(now.minus(properties.retention()));
+        if (compacted > 0 || dropped > 0) {
+            log.info("Compacted {} transaction versions to disk, dropped {} expired history segments", compacted, dropped);
+        }
+    }
+
+    private static TransactionHistory.AsOf asOf(Long sequence, Instant timestamp) {
+        if ((sequence == null) == (timestamp == null)) {
+            throw INVALID_AS_OF;
+        }
+        return sequence != null ? TransactionHistory.AsOf.sequence(sequence) : TransactionHistory.AsOf.time(timestamp);
+    }
+}
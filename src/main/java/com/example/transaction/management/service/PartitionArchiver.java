@@ -0,0 +1,41 @@
+package com.example.transaction.management.service;
+
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.repository.TransactionRepository;
+import java.time.Instant;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job applying the retention policy: seals partitions older than the hot window into
+ * on-disk segments, and deletes segments older than the archive retention.
+ * Only active when {@code transaction.storage.hot-retention} is configured.
+ */
+@Component
+@ConditionalOnProperty(prefix = "transaction.storage", name = "hot-retention")
+public class PartitionArchiver {
+    private static final Logger log = LoggerFactory.getLogger(PartitionArchiver.class);
+
+    private final TransactionRepository repository;
+    private final StorageProperties properties;
+
+    public PartitionArchiver(TransactionRepository repository, StorageProperties properties) {
+        this.repository = repository;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${transaction.storage.archival-interval:PT5M}",
+            initialDelayString = "${transaction.storage.archival-interval:PT5M}")
+    public void archive() {
+        Instant now = Instant.now();
+        int archived = repository.archivePartitionsBefore(now.minus(properties.hotRetention()));
+        int dropped = properties.archiveRetention() == null
+                ? 0 : repository.dropArchivesBefore(now.minus(properties.archiveRetention()));
+        if (archived > 0 || dropped > 0) {
+            log.info("Archived {} transactions to disk, dropped {} expired segments", archived, dropped);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.transaction.management.service;
+
+import com.example.transaction.management.config.ProfilingProperties;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.RecordingStatus;
+import com.example.transaction.management.profiling.CacheEvent;
+import com.example.transaction.management.profiling.CoalescingEvent;
+import com.example.transaction.management.profiling.LockWaitEvent;
+import com.example.transaction.management.profiling.RepositoryEvent;
+import com.example.transaction.management.profiling.RequestEvent;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Runs at most one bounded Java Flight Recorder recording at a time, with the JDK events of the
+ * configured settings plus the application events. The last recording is kept for download until the
+ * next one starts.
+ */
+public class ProfilingService {
+    private static final Logger log = LoggerFactory.getLogger(ProfilingService.class);
+    private static final List<Class<? extends Event>> EVENTS =
+            List.of(RequestEvent.class, RepositoryEvent.class, LockWaitEvent.class, CoalescingEvent.class,
+                    CacheEvent.class);
+
+    private static final ApiException INVALID_DURATION = new ApiException(TransactionErrorType.INVALID_PROFILING_DURATION);
+    private static final ApiException ALREADY_RUNNING =
+            new ApiException(TransactionErrorType.PROFILING_ALREADY_RUNNING, HttpStatus.CONFLICT);
+    private static final ApiException NO_RECORDING =
+            new ApiException(TransactionErrorType.NO_PROFILING_RECORDING, HttpStatus.NOT_FOUND);
+
+    private final ProfilingProperties properties;
+    private final Configuration configuration;
+    // Current or last recording (guarded by this)
+    private Recording recording;
+
+    public ProfilingService(ProfilingProperties properties) {
+        this.properties = properties;
+        try {
+            this.configuration = Configuration.getConfiguration(properties.settings());
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown flight recorder settings: " + properties.settings(), e);
+        }
+    }
+
+    /**
+     * Start a recording that stops by itself after {@code duration}, or the configured default.
+     */
+    public synchronized RecordingStatus start(Duration duration) {
+        Duration length = duration != null ? duration : properties.defaultDuration();
+        if (length.isNegative() || length.isZero() || length.compareTo(properties.maxDuration()) > 0) {
+            throw INVALID_DURATION;
+        }
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw ALREADY_RUNNING;
+        }
+        if (recording != null) {
+            recording.close();
+        }
+        Recording started = new Recording(configuration);
+        for (Class<? extends Event> event : EVENTS) {
+            started.enable(event).withThreshold(properties.eventThreshold());
+        }
+        started.setName("transaction-management");
+        started.setToDisk(true);
+        started.setMaxSize(properties.maxSize().toBytes());
+        started.setDuration(length);
+        started.start();
+        recording = started;
+        log.info("Started flight recording {} for {}", started.getId(), length);
+        return status(started);
+    }
+
+    /**
+     * Stop the running recording early; its data stays available for download.
+     */
+    public synchronized RecordingStatus stop() {
+        if (recording == null) {
+            throw NO_RECORDING;
+        }
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            log.info("Stopped flight recording {}", recording.getId());
+        }
+        return status(recording);
+    }
+
+    public synchronized RecordingStatus status() {
+        if (recording == null) {
+            throw NO_RECORDING;
+        }
+        return status(recording);
+    }
+
+    /**
+     * Write the data recorded so far to a new temporary file, which the caller deletes.
+     */
+    public synchronized Path dump() throws IOException {
+        if (recording == null) {
+            throw NO_RECORDING;
+        }
+        Path file = Files.createTempFile("transaction-management-", ".jfr");
+        try {
+            recording.dump(file);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+        return file;
+    }
+
+    private static RecordingStatus status(Recording recording) {
+        return new RecordingStatus(recording.getState().name(), recording.getStartTime(), recording.getDuration(),
+                recording.getSize());
+    }
+}
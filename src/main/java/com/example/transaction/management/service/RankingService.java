@@ -0,0 +1,89 @@
+package com.example.transaction.management.service;
+
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionSort;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.OrderedIndex;
+import com.example.transaction.management.repository.TransactionRepository;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.stereotype.Service;
+
+/**
+ * Transactions listed by amount or timestamp, served from the {@link OrderedIndex}.
+ */
+@Service
+public class RankingService {
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_LIMIT = 1000;
+    // Sorted pages are served down to this many transactions
+    private static final int MAX_SORTED_DEPTH = 10_000;
+    private static final ApiException INVALID_PAGINATION = new ApiException(TransactionErrorType.INVALID_PAGINATION);
+    private static final ApiException INVALID_TIME_RANGE = new ApiException(TransactionErrorType.INVALID_TIME_RANGE);
+    private static final ApiException INVALID_SORT = new ApiException(TransactionErrorType.INVALID_SORT);
+    private final OrderedIndex index;
+    private final TransactionRepository repository;
+
+    public RankingService(OrderedIndex index, TransactionRepository repository) {
+        this.index = index;
+        this.repository = repository;
+    }
+
+    /**
+     * One page in {@code sort} order, given as {@code field[,asc|desc]} with field {@code amount} or
+     * {@code timestamp}, ascending by default.
+     */
+    public List<Transaction> listSorted(String sort, Instant from, Instant to, int page, int size) {
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE || (long) (page + 1) * size > MAX_SORTED_DEPTH) {
+            throw INVALID_PAGINATION;
+        }
+        // A page costs what the top (page + 1) * size entries cost
+        return top(parseSort(sort), from, to, null, (page + 1) * size, page * size);
+    }
+
+    /**
+     * The first {@code limit} transactions in {@code sort} order within the time range, optionally of
+     * one type.
+     */
+    public List<Transaction> top(String sort, Instant from, Instant to, TransactionType type, int limit) {
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw INVALID_PAGINATION;
+        }
+        return top(parseSort(sort), from, to, type, limit, 0);
+    }
+
+    private static TransactionSort parseSort(String sort) {
+        String[] parts = sort.trim().toLowerCase(Locale.ROOT).split("\\s*,\\s*");
+        if (parts.length > 2) {
+            throw INVALID_SORT;
+        }
+        TransactionSort.Field field = switch (parts[0]) {
+            case "amount" -> TransactionSort.Field.AMOUNT;
+            case "timestamp" -> TransactionSort.Field.TIMESTAMP;
+            default -> throw INVALID_SORT;
+        };
+        String direction = parts.length == 2 ? parts[1] : "asc";
+        return switch (direction) {
+            case "asc" -> new TransactionSort(field, false);
+            case "desc" -> new TransactionSort(field, true);
+            default -> throw INVALID_SORT;
+        };
+    }
+
+    private List<Transaction> top(TransactionSort sort, Instant from, Instant to, TransactionType type, int limit, int skip) {
+        if (from.isAfter(to)) {
+            throw INVALID_TIME_RANGE;
+        }
+        List<OrderedIndex.Entry> entries = index.top(sort, from, to, type, limit);
+        List<Transaction> result = new ArrayList<>(Math.max(0, entries.size() - skip));
+        for (int i = skip; i < entries.size(); i++) {
+            // Skip ids deleted since the index was read
+            repository.findById(entries.get(i).id()).ifPresent(result::add);
+        }
+        return result;
+    }
+}
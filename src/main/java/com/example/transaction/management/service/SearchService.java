@@ -0,0 +1,63 @@
+package com.example.transaction.management.service;
+
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.repository.DescriptionIndex;
+import com.example.transaction.management.repository.TransactionRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.stereotype.Service;
+
+/**
+ * Full-text search over transaction descriptions: every query token must occur in the description.
+ */
+@Service
+public class SearchService {
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final ApiException INVALID_PAGINATION = new ApiException(TransactionErrorType.INVALID_PAGINATION);
+    private static final ApiException INVALID_SEARCH_QUERY = new ApiException(TransactionErrorType.INVALID_SEARCH_QUERY);
+    private final DescriptionIndex index;
+    private final TransactionRepository repository;
+
+    public SearchService(DescriptionIndex index, TransactionRepository repository) {
+        this.index = index;
+        this.repository = repository;
+    }
+
+    public List<Transaction> search(String query, int page, int size) {
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw INVALID_PAGINATION;
+        }
+        Set<String> terms = DescriptionIndex.tokenize(query);
+        if (terms.isEmpty()) {
+            throw INVALID_SEARCH_QUERY;
+        }
+        long skip = (long) page * size;
+        List<Transaction> result = new ArrayList<>(size);
+        long maxId = Long.MAX_VALUE;
+        while (result.size() < size) {
+            int batch = (int) Math.min(skip + size - result.size(), 1024);
+            long[] candidates = index.candidates(terms, maxId, batch);
+            for (long id : candidates) {
+                // Postings can be stale, the stored description is authoritative
+                Optional<Transaction> transaction = repository.findById(id);
+                if (transaction.isEmpty() || !DescriptionIndex.tokenize(transaction.get().getDescription()).containsAll(terms)) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                } else if (result.size() < size) {
+                    result.add(transaction.get());
+                }
+            }
+            if (candidates.length < batch) {
+                break;
+            }
+            maxId = candidates[candidates.length - 1] - 1;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.transaction.management.service;
+
+import com.example.transaction.management.profiling.CoalescingEvent;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Deduplicates concurrent identical computations: while a computation for a key is in flight, callers
+ * asking for the same key wait for it and share its result (or exception) instead of running their own.
+ * Nothing is cached once the computation completes.
+ * <p>
+ * A caller joining an in-flight computation gets a result computed from state as of when that
+ * computation started, which may predate the caller's arrival by at most one computation.
+ */
+public final class SingleFlight<K, V> {
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    public V execute(K key, Supplier<V> computation) {
+        CoalescingEvent event = CoalescingEvent.start();
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            shared.increment();
+            try {
+                return join(existing);
+            } finally {
+                event.complete(key, true);
+            }
+        }
+        executed.increment();
+        try {
+            V value = computation.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+            event.complete(key, false);
+        }
+    }
+
+    /** Number of computations actually run. */
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    /** Number of calls served by joining another caller's computation. */
+    public long sharedCount() {
+        return shared.sum();
+    }
+
+    private static <V> V join(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
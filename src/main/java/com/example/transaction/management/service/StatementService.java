@@ -0,0 +1,150 @@
+package com.example.transaction.management.service;
+
+import com.example.transaction.management.config.StatementProperties;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.StatementFormat;
+import com.example.transaction.management.model.StatementStatus;
+import com.example.transaction.management.repository.TransactionRepository;
+import com.example.transaction.management.statement.StatementGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Runs at most one statement job at a time on a pool of its own, with fewer workers than processors
+ * and at the lowest thread priority, so live traffic keeps the rest of the machine. A job reads one
+ * pinned snapshot, which writes committed meanwhile neither wait for nor change. The files of the last
+ * job can be downloaded until the next one starts; those of earlier jobs stay on disk.
+ */
+public class StatementService implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(StatementService.class);
+
+    private static final ApiException INVALID_TIME_RANGE = new ApiException(TransactionErrorType.INVALID_TIME_RANGE);
+    private static final ApiException ALREADY_RUNNING =
+            new ApiException(TransactionErrorType.STATEMENT_ALREADY_RUNNING, HttpStatus.CONFLICT);
+    private static final ApiException NO_STATEMENT =
+            new ApiException(TransactionErrorType.NO_STATEMENT, HttpStatus.NOT_FOUND);
+    private static final ApiException FILE_NOT_FOUND =
+            new ApiException(TransactionErrorType.STATEMENT_FILE_NOT_FOUND, HttpStatus.NOT_FOUND);
+
+    private final TransactionRepository repository;
+    private final Path directory;
+    private final ForkJoinPool pool;
+    private final StatementGenerator generator;
+    // Current or last job (guarded by this)
+    private Job job;
+
+    public StatementService(TransactionRepository repository, ObjectMapper objectMapper, StatementProperties properties) {
+        this.repository = repository;
+        this.directory = properties.directory();
+        int parallelism = properties.parallelism() > 0
+                ? properties.parallelism()
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.pool = new ForkJoinPool(parallelism, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("statement-" + thread.getPoolIndex());
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        }, null, false);
+        this.generator = new StatementGenerator(repository, objectMapper, pool, properties.batchSize());
+    }
+
+    /**
+     * Start writing the statements of the transactions with a timestamp in [{@code from}, {@code to}).
+     */
+    public synchronized StatementStatus start(Instant from, Instant to, StatementFormat format) {
+        if (from == null || to == null || !from.isBefore(to)) {
+            throw INVALID_TIME_RANGE;
+        }
+        if (job != null && job.finishedAt == null) {
+            throw ALREADY_RUNNING;
+        }
+        Instant startedAt = Instant.now();
+        long snapshot = repository.openSnapshot(null).getAsLong();
+        Job started = new Job("statement-" + startedAt.toEpochMilli(), from, to,
+                format != null ? format : StatementFormat.CSV, snapshot, startedAt);
+        job = started;
+        pool.execute(() -> run(started));
+        log.info("Started statement job {} for [{}, {}) at snapshot {}", started.id, from, to, snapshot);
+        return started.status();
+    }
+
+    public synchronized StatementStatus status() {
+        if (job == null) {
+            throw NO_STATEMENT;
+        }
+        return job.status();
+    }
+
+    /**
+     * A file written by the last job, once it has completed.
+     */
+    public synchronized Path file(String name) {
+        if (job == null) {
+            throw NO_STATEMENT;
+        }
+        if (job.finishedAt == null || !job.files.contains(name)) {
+            throw FILE_NOT_FOUND;
+        }
+        return directory.resolve(job.id).resolve(name);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdownNow();
+    }
+
+    private void run(Job job) {
+        try {
+            job.files = generator.generate(job.snapshot, job.from, job.to, job.format, directory.resolve(job.id),
+                    job.transactions);
+            log.info("Completed statement job {}: {} transactions in {} files", job.id, job.transactions.sum(),
+                    job.files.size());
+        } catch (IOException | RuntimeException e) {
+            job.error = e.toString();
+            log.warn("Statement job {} failed", job.id, e);
+        } finally {
+            repository.releaseSnapshot(job.snapshot);
+            job.finishedAt = Instant.now();
+        }
+    }
+
+    private static final class Job {
+        private final String id;
+        private final Instant from;
+        private final Instant to;
+        private final StatementFormat format;
+        private final long snapshot;
+        private final Instant startedAt;
+        private final LongAdder transactions = new LongAdder();
+        // Set before finishedAt, which publishes them
+        private List<String> files = List.of();
+        private String error;
+        private volatile Instant finishedAt;
+
+        private Job(String id, Instant from, Instant to, StatementFormat format, long snapshot, Instant startedAt) {
+            this.id = id;
+            this.from = from;
+            this.to = to;
+            this.format = format;
+            this.snapshot = snapshot;
+            this.startedAt = startedAt;
+        }
+
+        private StatementStatus status() {
+            Instant finished = finishedAt;
+            String state = finished == null ? "RUNNING" : error == null ? "COMPLETED" : "FAILED";
+            return new StatementStatus(id, state, from, to, format, snapshot, transactions.sum(),
+                    finished == null ? List.of() : files, startedAt, finished, finished == null ? null : error);
+        }
+    }
+}
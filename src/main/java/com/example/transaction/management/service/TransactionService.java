@@ -2,79 +2,197 @@ package com.example.transaction.management.service;
 
 import com.example.transaction.management.exception.ApiException;
 import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.CommitResult;
+import com.example.transaction.management.model.OperationType;
+import com.example.transaction.management.model.SnapshotPage;
 import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionOperation;
 import com.example.transaction.management.repository.TransactionRepository;
-import jakarta.validation.Valid;
+import com.example.transaction.management.tenant.TenantContext;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Set;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.validation.annotation.Validated;
 
+/**
+ * Transactions and commit operations are validated once, as the requests they are bound from; they are
+ * not validated again here.
+ */
 @Service
-@Validated
 public class TransactionService {
     private static final int MAX_PAGE_SIZE = 50;
+    /** Most operations of one commit, and transactions of one {@link #createAll}. */
+    public static final int MAX_COMMIT_SIZE = 100;
+    // Expected failures are preallocated: ApiException is stackless and immutable
+    private static final ApiException TRANSACTION_NOT_FOUND =
+            new ApiException(TransactionErrorType.TRANSACTION_NOT_FOUND, HttpStatus.NOT_FOUND);
+    private static final ApiException INVALID_PAGINATION = new ApiException(TransactionErrorType.INVALID_PAGINATION);
+    private static final ApiException INVALID_TIME_RANGE = new ApiException(TransactionErrorType.INVALID_TIME_RANGE);
+    private static final ApiException INVALID_COMMIT = new ApiException(TransactionErrorType.INVALID_COMMIT);
+    private static final ApiException SNAPSHOT_EXPIRED =
+            new ApiException(TransactionErrorType.SNAPSHOT_EXPIRED, HttpStatus.GONE);
     private final TransactionRepository repository;
-    private final ReentrantLock lock = new ReentrantLock();
+    // Concurrent identical list requests share one repository scan
+    private final SingleFlight<PageKey, List<Transaction>> pageFlights = new SingleFlight<>();
 
     public TransactionService(TransactionRepository repository) {
         this.repository = repository;
     }
 
-    public Transaction create(@Valid Transaction transaction) {
+    public Transaction create(Transaction transaction) {
         return repository.save(transaction);
     }
 
-    @Cacheable(value = "transactions", key = "#id")
+    /**
+     * Create every transaction in one commit; returns the stored copies in order. Creates touch no
+     * cached id, so unlike {@link #commit} nothing is evicted.
+     */
+    public List<Transaction> createAll(List<Transaction> transactions) {
+        if (transactions.isEmpty() || transactions.size() > MAX_COMMIT_SIZE) {
+            throw INVALID_COMMIT;
+        }
+        List<Transaction> stamped = new ArrayList<>(transactions.size());
+        List<TransactionOperation> operations = new ArrayList<>(transactions.size());
+        Instant now = Instant.now();
+        for (Transaction transaction : transactions) {
+            if (transaction.getTimestamp() == null) {
+                // Stamped here so that the returned copies match the stored ones
+                transaction = transaction.withTimestamp(now);
+            }
+            stamped.add(transaction);
+            operations.add(new TransactionOperation(OperationType.CREATE, null, null, transaction));
+        }
+        CommitResult result = repository.commit(operations);
+        List<Transaction> created = new ArrayList<>(stamped.size());
+        for (int i = 0; i < stamped.size(); i++) {
+            created.add(stamped.get(i).toStored(result.results().get(i).id(), result.version()));
+        }
+        return created;
+    }
+
+    // sync: concurrent misses for the same id share one repository lookup and one cache write
+    @Cacheable(value = "transactions", key = "#id", sync = true)
     public Optional<Transaction> read(Long id) {
         return repository.findById(id);
     }
 
     public List<Transaction> list(int page, int size) {
-        validatePagination(page, size);
-        return repository.findAll(page, size);
+        return listSnapshot(null, page, size).transactions();
     }
 
-    @CacheEvict(value = "transactions", key = "#id")
-    public Transaction update(Long id, @Valid Transaction transaction) {
+    /**
+     * One page of the repository as of {@code snapshot}, or of a new snapshot of the latest state when
+     * null. Pages read through the same snapshot are mutually consistent.
+     */
+    public SnapshotPage listSnapshot(Long snapshot, int page, int size) {
+        validatePagination(page, size);
+        long pinned = repository.openSnapshot(snapshot).orElseThrow(() -> SNAPSHOT_EXPIRED);
         try {
-            lock.lock();
-            if (repository.findById(id).isEmpty()) {
-                throw new ApiException(TransactionErrorType.TRANSACTION_NOT_FOUND, HttpStatus.NOT_FOUND);
-            }
-            transaction.setId(id);
-            return repository.save(transaction);
+            // Within one snapshot identical pages are identical, so sharing the scan is exact
+            return new SnapshotPage(pinned, pageFlights.execute(new PageKey(TenantContext.current(), page, size, null, null, pinned),
+                    () -> repository.findAll(pinned, page, size)));
         } finally {
-            lock.unlock();
+            repository.releaseSnapshot(pinned);
         }
     }
 
+    /**
+     * Pin a snapshot of the latest state for an export read in batches; release it with
+     * {@link #closeExport}.
+     */
+    public long openExport() {
+        return repository.openSnapshot(null).getAsLong();
+    }
+
+    /**
+     * Up to {@code limit} transactions of the export snapshot with an id at or below {@code toId}, newest
+     * first; continue below the last id returned.
+     */
+    public List<Transaction> exportBatch(long snapshot, long toId, int limit) {
+        return repository.findByIdBetween(snapshot, Long.MIN_VALUE, toId, limit);
+    }
+
+    public void closeExport(long snapshot) {
+        repository.releaseSnapshot(snapshot);
+    }
+
+    public List<Transaction> listBetween(Instant from, Instant to, int page, int size) {
+        validatePagination(page, size);
+        if (from.isAfter(to)) {
+            throw INVALID_TIME_RANGE;
+        }
+        return pageFlights.execute(new PageKey(TenantContext.current(), page, size, from, to, null),
+                () -> repository.findByTimestampBetween(from, to, page, size));
+    }
+
+    @CacheEvict(value = "transactions", key = "#id")
+    public Transaction update(Long id, Transaction transaction) {
+        if (transaction.getTimestamp() == null) {
+            // Stamped here so that the returned copy matches the stored one
+            transaction = transaction.withTimestamp(Instant.now());
+        }
+        // A single-operation commit checks existence and writes atomically
+        CommitResult result = repository.commit(List.of(new TransactionOperation(OperationType.UPDATE, id, null, transaction)));
+        if (!result.committed()) {
+            throw TRANSACTION_NOT_FOUND;
+        }
+        return transaction.toStored(id, result.version());
+    }
+
     @CacheEvict(value = "transactions", key = "#id")
     public void delete(Long id) {
-        try {
-            lock.lock();
-            if (repository.findById(id).isEmpty()) {
-                throw new ApiException(TransactionErrorType.TRANSACTION_NOT_FOUND, HttpStatus.NOT_FOUND);
+        if (!repository.commit(List.of(new TransactionOperation(OperationType.DELETE, id, null, null))).committed()) {
+            throw TRANSACTION_NOT_FOUND;
+        }
+    }
+
+    /**
+     * Apply every operation or none. A failed commit is a regular result carrying the per-operation
+     * conflicts; only malformed requests throw.
+     */
+    // The cache is keyed by a single id, so a commit touching several evicts it entirely
+    @CacheEvict(value = "transactions", allEntries = true)
+    public CommitResult commit(List<TransactionOperation> operations) {
+        validateCommit(operations);
+        return repository.commit(operations);
+    }
+
+    private void validateCommit(List<TransactionOperation> operations) {
+        if (operations.size() > MAX_COMMIT_SIZE) {
+            throw INVALID_COMMIT;
+        }
+        Set<Long> ids = new HashSet<>();
+        for (TransactionOperation operation : operations) {
+            boolean valid = switch (operation.type()) {
+                case CREATE -> operation.id() == null && operation.expectedVersion() == null && operation.transaction() != null;
+                case UPDATE -> operation.id() != null && operation.transaction() != null;
+                case DELETE -> operation.id() != null && operation.transaction() == null;
+            };
+            if (!valid || operation.id() != null && !ids.add(operation.id())) {
+                throw INVALID_COMMIT;
             }
-            repository.deleteById(id);
-        } finally {
-            lock.unlock();
         }
     }
 
     private void validatePagination(int page, int size) {
         if (page < 0) {
-            throw new ApiException(TransactionErrorType.INVALID_PAGINATION);
+            throw INVALID_PAGINATION;
         }
         if (size <= 0) {
-            throw new ApiException(TransactionErrorType.INVALID_PAGINATION);
+            throw INVALID_PAGINATION;
         }
         if (size > MAX_PAGE_SIZE) {
-            throw new ApiException(TransactionErrorType.INVALID_PAGINATION);
+            throw INVALID_PAGINATION;
         }
     }
-}
\ No newline at end of file
+
+    // Tenants read distinct partitions, whose snapshot numbers may coincide
+    private record PageKey(String tenant, int page, int size, Instant from, Instant to, Long snapshot) {
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.transaction.management.service;
+
+import com.example.transaction.management.repository.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job expiring idle list snapshots and dropping the transaction versions only they could
+ * see. Writes also collect periodically; this covers quiet periods.
+ */
+@Component
+public class VersionCollector {
+    private static final Logger log = LoggerFactory.getLogger(VersionCollector.class);
+
+    private final TransactionRepository repository;
+
+    public VersionCollector(TransactionRepository repository) {
+        this.repository = repository;
+    }
+
+    @Scheduled(fixedDelayString = "${transaction.storage.snapshot-retention:PT1M}",
+            initialDelayString = "${transaction.storage.snapshot-retention:PT1M}")
+    public void collect() {
+        int collected = repository.collectVersions();
+        if (collected > 0) {
+            log.debug("Collected superseded versions of {} transactions", collected);
+        }
+    }
+}
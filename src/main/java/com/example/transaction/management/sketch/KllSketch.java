@@ -0,0 +1,172 @@
+package com.example.transaction.management.sketch;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * KLL quantile sketch over doubles (Karnin, Lang and Liberty, 2016).
+ * <p>
+ * Values enter level 0; a level that outgrows its capacity is sorted and every other value (from a
+ * random offset) is promoted to the next level with twice the weight, the rest dropped. Capacities
+ * shrink geometrically towards the lower levels, so the sketch keeps {@code O(k log(n / k))} values and
+ * a rank error around {@code 1.7 / k} of the count. Sketches of disjoint streams merge level by level.
+ * Not thread-safe.
+ */
+public final class KllSketch {
+    private static final int MIN_CAPACITY = 8;
+    private static final double DECAY = 2.0 / 3.0;
+
+    private final int k;
+    private double[][] levels = new double[1][];
+    private int[] sizes = new int[1];
+    // Per-level capacities and their sum, recomputed when a level is added
+    private int[] capacities;
+    private int totalCapacity;
+    private int retained;
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    public KllSketch(int k) {
+        if (k < MIN_CAPACITY) {
+            throw new IllegalArgumentException("k must be at least " + MIN_CAPACITY);
+        }
+        this.k = k;
+        levels[0] = new double[k];
+        computeCapacities();
+    }
+
+    public void update(double value) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        append(0, value);
+        count++;
+        min = count == 1 ? value : Math.min(min, value);
+        max = count == 1 ? value : Math.max(max, value);
+        compress();
+    }
+
+    /**
+     * Add the values summarized by {@code other} to this sketch.
+     */
+    public void merge(KllSketch other) {
+        if (other.count == 0) {
+            return;
+        }
+        for (int level = 0; level < other.sizes.length; level++) {
+            for (int i = 0; i < other.sizes[level]; i++) {
+                append(level, other.levels[level][i]);
+            }
+        }
+        min = count == 0 ? other.min : Math.min(min, other.min);
+        max = count == 0 ? other.max : Math.max(max, other.max);
+        count += other.count;
+        compress();
+    }
+
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Approximate value at rank {@code quantile * count}; NaN when empty.
+     */
+    public double quantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("Quantile must be within [0, 1]");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (quantile == 0) {
+            return min;
+        }
+        if (quantile == 1) {
+            return max;
+        }
+        int retained = retained();
+        double[] values = new double[retained];
+        long[] weights = new long[retained];
+        Integer[] order = new Integer[retained];
+        int n = 0;
+        for (int level = 0; level < sizes.length; level++) {
+            for (int i = 0; i < sizes[level]; i++) {
+                values[n] = levels[level][i];
+                weights[n] = 1L << level;
+                order[n] = n;
+                n++;
+            }
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(values[a], values[b]));
+        double target = quantile * count;
+        long cumulative = 0;
+        for (Integer index : order) {
+            cumulative += weights[index];
+            if (cumulative >= target) {
+                return values[index];
+            }
+        }
+        return max;
+    }
+
+    /** Number of values currently kept. */
+    public int retained() {
+        return retained;
+    }
+
+    private void append(int level, double value) {
+        if (level >= sizes.length) {
+            levels = Arrays.copyOf(levels, level + 1);
+            sizes = Arrays.copyOf(sizes, level + 1);
+            levels[level] = new double[MIN_CAPACITY];
+            computeCapacities();
+        }
+        if (sizes[level] == levels[level].length) {
+            levels[level] = Arrays.copyOf(levels[level], levels[level].length * 2);
+        }
+        levels[level][sizes[level]++] = value;
+        retained++;
+    }
+
+    private void computeCapacities() {
+        capacities = new int[sizes.length];
+        totalCapacity = 0;
+        for (int level = 0; level < sizes.length; level++) {
+            int depth = sizes.length - 1 - level;
+            capacities[level] = Math.max(MIN_CAPACITY, (int) Math.ceil(k * Math.pow(DECAY, depth)));
+            totalCapacity += capacities[level];
+        }
+    }
+
+    private void compress() {
+        while (retained > totalCapacity) {
+            int level = 0;
+            while (sizes[level] < capacities[level]) {
+                level++;
+            }
+            compact(level);
+        }
+    }
+
+    private void compact(int level) {
+        double[] values = levels[level];
+        int size = sizes[level];
+        Arrays.sort(values, 0, size);
+        // An odd value out stays behind at this level
+        int pairs = size / 2;
+        int offset = ThreadLocalRandom.current().nextInt(2);
+        for (int i = 0; i < pairs; i++) {
+            append(level + 1, values[2 * i + offset]);
+        }
+        // append may have replaced the level arrays
+        double[] current = levels[level];
+        if (size % 2 == 1) {
+            current[0] = current[size - 1];
+            sizes[level] = 1;
+        } else {
+            sizes[level] = 0;
+        }
+        retained -= size - sizes[level];
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.transaction.management.sketch;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving heavy hitters (Metwally, Agrawal and El Abbadi, 2005) over at most {@code capacity}
+ * counters. A new item replaces the smallest counter and inherits its count as overestimation error,
+ * so any item occurring more than {@code count / capacity} times is guaranteed to be tracked. Summaries
+ * merge by adding counters, charging items missing from a full summary its smallest count, and keeping
+ * the largest {@code capacity} (Agarwal et al., 2012).
+ * <p>
+ * Counters sit in a min-heap indexed by item, so an update costs {@code O(log capacity)}. Not thread-safe.
+ */
+public final class SpaceSaving {
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    private final Counter[] heap;
+    private int size;
+
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+        this.heap = new Counter[capacity];
+    }
+
+    /**
+     * @param count estimated occurrences, at most {@code error} more than the true count
+     * @param error upper bound of the overestimation
+     */
+    public record Item(String item, long count, long error) {
+    }
+
+    public void add(String item) {
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            counter.count++;
+            siftDown(counter.index);
+            return;
+        }
+        if (size < capacity) {
+            insert(new Counter(item, 1, 0));
+            return;
+        }
+        // Reuse the smallest counter for the new item
+        Counter smallest = heap[0];
+        counters.remove(smallest.item);
+        smallest.item = item;
+        smallest.error = smallest.count;
+        smallest.count++;
+        counters.put(item, smallest);
+        siftDown(0);
+    }
+
+    public void merge(SpaceSaving other) {
+        long missingHere = smallestIfFull();
+        long missingThere = other.smallestIfFull();
+        List<Counter> merged = new ArrayList<>(size + other.size);
+        for (int i = 0; i < size; i++) {
+            Counter mine = heap[i];
+            Counter theirs = other.counters.get(mine.item);
+            merged.add(theirs != null
+                    ? new Counter(mine.item, mine.count + theirs.count, mine.error + theirs.error)
+                    : new Counter(mine.item, mine.count + missingThere, mine.error + missingThere));
+        }
+        for (int i = 0; i < other.size; i++) {
+            Counter theirs = other.heap[i];
+            if (!counters.containsKey(theirs.item)) {
+                merged.add(new Counter(theirs.item, theirs.count + missingHere, theirs.error + missingHere));
+            }
+        }
+        merged.sort(Comparator.comparingLong((Counter counter) -> counter.count).reversed());
+        counters.clear();
+        Arrays.fill(heap, null);
+        size = 0;
+        for (Counter counter : merged.subList(0, Math.min(capacity, merged.size()))) {
+            insert(counter);
+        }
+    }
+
+    /**
+     * The {@code limit} items with the largest counts, largest first.
+     */
+    public List<Item> top(int limit) {
+        List<Item> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Item(heap[i].item, heap[i].count, heap[i].error));
+        }
+        items.sort(Comparator.comparingLong(Item::count).reversed().thenComparing(Item::item));
+        return items.size() > limit ? List.copyOf(items.subList(0, limit)) : items;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    // An item absent from a full summary may have occurred up to its smallest count
+    private long smallestIfFull() {
+        return size < capacity ? 0 : heap[0].count;
+    }
+
+    private void insert(Counter counter) {
+        counters.put(counter.item, counter);
+        counter.index = size;
+        heap[size++] = counter;
+        siftUp(counter.index);
+    }
+
+    private void siftUp(int index) {
+        Counter counter = heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heap[parent].count <= counter.count) {
+                break;
+            }
+            place(heap[parent], index);
+            index = parent;
+        }
+        place(counter, index);
+    }
+
+    private void siftDown(int index) {
+        Counter counter = heap[index];
+        while (true) {
+            int child = 2 * index + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && heap[child + 1].count < heap[child].count) {
+                child++;
+            }
+            if (counter.count <= heap[child].count) {
+                break;
+            }
+            place(heap[child], index);
+            index = child;
+        }
+        place(counter, index);
+    }
+
+    private void place(Counter counter, int index) {
+        heap[index] = counter;
+        counter.index = index;
+    }
+
+    private static final class Counter {
+        private String item;
+        private long count;
+        private long error;
+        private int index;
+
+        private Counter(String item, long count, long error) {
+            this.item = item;
+            this.count = count;
+            this.error = error;
+        }
+    }
+}
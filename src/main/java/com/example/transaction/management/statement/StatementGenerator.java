@@ -0,0 +1,341 @@
+package com.example.transaction.management.statement;
+
+import com.example.transaction.management.model.StatementFormat;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.repository.TransactionRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.util.FileSystemUtils;
+
+/**
+ * Writes one statement file per category and per type, plus a summary of their counts and totals, for
+ * the transactions of a period as of one snapshot.
+ * <p>
+ * The id space is shared out across a fork-join pool. Every task reads its id range in batches, newest
+ * first, and appends each transaction of the period to a part file of its category and of its type.
+ * While other workers are idle, a task hands them the lower half of the range it has left, so a dense
+ * range is still shared. The parts of every group are then concatenated in id order. Memory is bounded
+ * by one batch and the open part writers per worker, whatever the size of the data set, and reads go
+ * through the lock-free snapshot path so that writes are never held up.
+ */
+public class StatementGenerator {
+    private static final String TRANSACTION_HEADER = "id,timestamp,type,category,amount,description,version\n";
+    private static final String SUMMARY_HEADER = "group,name,count,amount\n";
+    private static final Comparator<Group> GROUP_ORDER = Comparator.comparing(Group::kind).thenComparing(Group::name);
+
+    private final TransactionRepository repository;
+    private final ObjectWriter json;
+    private final ForkJoinPool pool;
+    private final int batchSize;
+
+    public StatementGenerator(TransactionRepository repository, ObjectMapper objectMapper, ForkJoinPool pool, int batchSize) {
+        this.repository = repository;
+        this.json = objectMapper.writer();
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Write the statements of the transactions with a timestamp in [{@code from}, {@code to}) visible at
+     * {@code snapshot} into {@code directory}, counting them in {@code progress}. Returns the names of
+     * the files written, summary first.
+     */
+    public List<String> generate(long snapshot, Instant from, Instant to, StatementFormat format, Path directory,
+            LongAdder progress) throws IOException {
+        Files.createDirectories(directory);
+        Run run = new Run(snapshot, from, to, format, Files.createTempDirectory(directory, "parts-"), progress);
+        try {
+            List<Transaction> newest = repository.findAll(snapshot, 0, 1);
+            List<Part> parts = newest.isEmpty() ? new ArrayList<>() : pool.invoke(run.new RangeTask(0, newest.get(0).getId()));
+            return run.assemble(parts, directory);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            FileSystemUtils.deleteRecursively(run.parts);
+        }
+    }
+
+    /**
+     * Statements of one category or one type.
+     */
+    private record Group(String kind, String name) {
+    }
+
+    private static final class Totals {
+        private long count;
+        private BigDecimal amount = BigDecimal.ZERO;
+
+        private void add(long count, BigDecimal amount) {
+            this.count += count;
+            this.amount = this.amount.add(amount);
+        }
+    }
+
+    private record SummaryRow(String group, String name, long count, BigDecimal amount) {
+    }
+
+    /**
+     * Rows of one contiguous id range, per group; written by a single task.
+     */
+    private static final class Part {
+        private final long highestId;
+        private final Map<Group, Path> files = new HashMap<>();
+        private final Map<Group, Writer> writers = new HashMap<>();
+        private final Map<Group, Totals> totals = new HashMap<>();
+
+        private Part(long highestId) {
+            this.highestId = highestId;
+        }
+
+        private void close() throws IOException {
+            IOException failure = null;
+            for (Writer writer : writers.values()) {
+                try {
+                    writer.close();
+                } catch (IOException e) {
+                    failure = e;
+                }
+            }
+            writers.clear();
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    private final class Run {
+        private final long snapshot;
+        private final Instant from;
+        private final Instant to;
+        private final StatementFormat format;
+        private final Path parts;
+        private final LongAdder progress;
+        private final AtomicInteger partCount = new AtomicInteger();
+        // File name of every group, unique even for categories differing only in case or punctuation
+        private final Map<Group, String> fileNames = new ConcurrentHashMap<>();
+        private final Set<String> takenNames = ConcurrentHashMap.newKeySet();
+
+        private Run(long snapshot, Instant from, Instant to, StatementFormat format, Path parts, LongAdder progress) {
+            this.snapshot = snapshot;
+            this.from = from;
+            this.to = to;
+            this.format = format;
+            this.parts = parts;
+            this.progress = progress;
+        }
+
+        private void write(Part part, Transaction transaction) throws IOException {
+            String row = format == StatementFormat.CSV ? csv(transaction) : json.writeValueAsString(transaction) + "\n";
+            BigDecimal amount = transaction.getAmount() != null ? transaction.getAmount() : BigDecimal.ZERO;
+            String category = transaction.getCategory() != null ? transaction.getCategory() : "none";
+            String type = transaction.getType() != null ? transaction.getType().name() : "none";
+            append(part, new Group("category", category), row, amount);
+            append(part, new Group("type", type), row, amount);
+        }
+
+        private void append(Part part, Group group, String row, BigDecimal amount) throws IOException {
+            Writer writer = part.writers.get(group);
+            if (writer == null) {
+                Path file = parts.resolve(partCount.incrementAndGet() + "-" + fileName(group));
+                writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW);
+                part.writers.put(group, writer);
+                part.files.put(group, file);
+                part.totals.put(group, new Totals());
+            }
+            writer.write(row);
+            part.totals.get(group).add(1, amount);
+        }
+
+        private String fileName(Group group) {
+            return fileNames.computeIfAbsent(group, key -> {
+                String base = key.kind() + "-" + key.name().toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+                String name = base;
+                for (int i = 2; !takenNames.add(name); i++) {
+                    name = base + "-" + i;
+                }
+                return name + "." + format.getExtension();
+            });
+        }
+
+        /**
+         * Concatenate the parts of every group, newest range first, and write the summary.
+         */
+        private List<String> assemble(List<Part> written, Path directory) throws IOException {
+            written.sort(Comparator.comparingLong((Part part) -> part.highestId).reversed());
+            Map<Group, Totals> totals = new TreeMap<>(GROUP_ORDER);
+            for (Part part : written) {
+                part.totals.forEach((group, partTotals) ->
+                        totals.computeIfAbsent(group, key -> new Totals()).add(partTotals.count, partTotals.amount));
+            }
+            List<String> names = new ArrayList<>();
+            String summary = "summary." + format.getExtension();
+            names.add(summary);
+            try (BufferedWriter writer = Files.newBufferedWriter(directory.resolve(summary), StandardCharsets.UTF_8)) {
+                if (format == StatementFormat.CSV) {
+                    writer.write(SUMMARY_HEADER);
+                }
+                for (Map.Entry<Group, Totals> entry : totals.entrySet()) {
+                    Group group = entry.getKey();
+                    SummaryRow row = new SummaryRow(group.kind(), group.name(), entry.getValue().count, entry.getValue().amount);
+                    writer.write(format == StatementFormat.CSV ? csv(row) : json.writeValueAsString(row) + "\n");
+                }
+            }
+            for (Group group : totals.keySet()) {
+                String name = fileNames.get(group);
+                try (FileChannel out = FileChannel.open(directory.resolve(name), StandardOpenOption.CREATE_NEW,
+                        StandardOpenOption.WRITE)) {
+                    if (format == StatementFormat.CSV) {
+                        out.write(ByteBuffer.wrap(TRANSACTION_HEADER.getBytes(StandardCharsets.UTF_8)));
+                    }
+                    for (Part part : written) {
+                        Path file = part.files.get(group);
+                        if (file != null) {
+                            transfer(file, out);
+                        }
+                    }
+                }
+                names.add(name);
+            }
+            return names;
+        }
+
+        private final class RangeTask extends RecursiveTask<List<Part>> {
+            private final long highestId;
+            private long lowestId;
+
+            private RangeTask(long lowestId, long highestId) {
+                this.lowestId = lowestId;
+                this.highestId = highestId;
+            }
+
+            @Override
+            protected List<Part> compute() {
+                List<RangeTask> handedOff = new ArrayList<>();
+                Part part = new Part(highestId);
+                try {
+                    try {
+                        long next = highestId;
+                        while (next >= lowestId) {
+                            // Keep one task queued for idle workers to steal
+                            if (next - lowestId > batchSize && getSurplusQueuedTaskCount() == 0) {
+                                long middle = lowestId + (next - lowestId) / 2;
+                                RangeTask lower = new RangeTask(lowestId, middle);
+                                lower.fork();
+                                handedOff.add(lower);
+                                lowestId = middle + 1;
+                            }
+                            List<Transaction> batch = repository.findByIdBetween(snapshot, lowestId, next, batchSize);
+                            int written = 0;
+                            for (Transaction transaction : batch) {
+                                Instant timestamp = transaction.getTimestamp();
+                                if (!timestamp.isBefore(from) && timestamp.isBefore(to)) {
+                                    write(part, transaction);
+                                    written++;
+                                }
+                            }
+                            progress.add(written);
+                            if (batch.size() < batchSize) {
+                                break;
+                            }
+                            next = batch.get(batch.size() - 1).getId() - 1;
+                        }
+                    } finally {
+                        part.close();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                List<Part> result = new ArrayList<>();
+                result.add(part);
+                for (RangeTask task : handedOff) {
+                    result.addAll(task.join());
+                }
+                return result;
+            }
+        }
+    }
+
+    private static void transfer(Path file, FileChannel out) throws IOException {
+        try (FileChannel in = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = in.size();
+            for (long position = 0; position < size; ) {
+                position += in.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    private static String csv(Transaction transaction) {
+        StringBuilder row = new StringBuilder(128);
+        row.append(transaction.getId()).append(',').append(transaction.getTimestamp()).append(',');
+        if (transaction.getType() != null) {
+            row.append(transaction.getType().name());
+        }
+        row.append(',');
+        appendCsv(row, transaction.getCategory());
+        row.append(',');
+        if (transaction.getAmount() != null) {
+            row.append(transaction.getAmount().toPlainString());
+        }
+        row.append(',');
+        appendCsv(row, transaction.getDescription());
+        row.append(',');
+        if (transaction.getVersion() != null) {
+            row.append(transaction.getVersion());
+        }
+        return row.append('\n').toString();
+    }
+
+    private static String csv(SummaryRow summary) {
+        StringBuilder row = new StringBuilder(64);
+        row.append(summary.group()).append(',');
+        appendCsv(row, summary.name());
+        return row.append(',').append(summary.count()).append(',').append(summary.amount().toPlainString()).append('\n').toString();
+    }
+
+    // RFC 4180: quote values holding a separator, a quote or a line break, doubling the quotes
+    private static void appendCsv(StringBuilder row, String value) {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            row.append(value);
+            return;
+        }
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            row.append(c == '"' ? "\"\"" : String.valueOf(c));
+        }
+        row.append('"');
+    }
+}
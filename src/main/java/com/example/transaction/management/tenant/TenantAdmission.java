@@ -0,0 +1,109 @@
+package com.example.transaction.management.tenant;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shares the requests the server executes at once between tenants, rejecting instead of queueing.
+ * <p>
+ * Every tenant may run up to {@code maxPerTenant} requests while the server is below {@code capacity},
+ * so a lone tenant can use idle capacity. Once the server is at capacity, a tenant is still admitted
+ * while it runs fewer than its fair share, {@code capacity} divided by the tenants with requests running,
+ * and rejected otherwise. A tenant overloading the server is therefore the one turned away, and every
+ * other tenant keeps at least its share; the total may briefly exceed {@code capacity} by the requests
+ * of tenants catching up to their share.
+ */
+public class TenantAdmission {
+    private final int capacity;
+    private final int maxPerTenant;
+    private final Map<String, Counters> tenants = new LinkedHashMap<>();
+    private int inFlight;
+    private int activeTenants;
+
+    public TenantAdmission(Collection<String> tenants, int capacity, int maxPerTenant) {
+        this.capacity = Math.max(1, capacity);
+        this.maxPerTenant = Math.max(1, maxPerTenant);
+        tenants.forEach(tenant -> this.tenants.put(tenant, new Counters()));
+    }
+
+    /**
+     * Take a permit for a request of {@code tenant}, which must be configured; false when rejected.
+     */
+    public boolean tryAcquire(String tenant) {
+        Counters counters = tenants.get(tenant);
+        synchronized (this) {
+            int active = counters.inFlight == 0 ? activeTenants + 1 : activeTenants;
+            boolean admitted = counters.inFlight < maxPerTenant
+                    && (inFlight < capacity || counters.inFlight < fairShare(active));
+            if (admitted) {
+                if (counters.inFlight++ == 0) {
+                    activeTenants++;
+                }
+                inFlight++;
+            }
+            (admitted ? counters.admitted : counters.rejected).increment();
+            return admitted;
+        }
+    }
+
+    /**
+     * Release a permit taken by {@link #tryAcquire} for a request that ran for {@code latencyNanos}.
+     */
+    public void release(String tenant, long latencyNanos) {
+        Counters counters = tenants.get(tenant);
+        synchronized (this) {
+            if (--counters.inFlight == 0) {
+                activeTenants--;
+            }
+            inFlight--;
+        }
+        counters.latencyNanos.add(latencyNanos);
+    }
+
+    public List<String> tenants() {
+        return List.copyOf(tenants.keySet());
+    }
+
+    public synchronized int inFlight(String tenant) {
+        return tenants.get(tenant).inFlight;
+    }
+
+    /**
+     * Requests {@code tenant} is guaranteed to run under overload, given the tenants running requests now.
+     */
+    public synchronized int fairShare(String tenant) {
+        return fairShare(tenants.get(tenant).inFlight == 0 ? activeTenants + 1 : activeTenants);
+    }
+
+    public long admitted(String tenant) {
+        return tenants.get(tenant).admitted.sum();
+    }
+
+    public long rejected(String tenant) {
+        return tenants.get(tenant).rejected.sum();
+    }
+
+    /**
+     * Mean latency of the admitted requests of {@code tenant} that completed, in nanoseconds.
+     */
+    public long meanLatencyNanos(String tenant) {
+        Counters counters = tenants.get(tenant);
+        long completed = counters.admitted.sum() - inFlight(tenant);
+        return completed <= 0 ? 0 : counters.latencyNanos.sum() / completed;
+    }
+
+    private int fairShare(int active) {
+        return Math.min(maxPerTenant, Math.max(1, capacity / Math.max(1, active)));
+    }
+
+    private static final class Counters {
+        // Guarded by the admission
+        private int inFlight;
+        private final LongAdder admitted = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder latencyNanos = new LongAdder();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.transaction.management.tenant;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheResolver;
+
+/**
+ * Gives every tenant its own copy of each cache, named {@code <cache>@<tenant>}, so that equal ids of
+ * two tenants never share an entry and an eviction of all entries only empties the caller's tenant.
+ * The default tenant keeps the plain cache names.
+ */
+public class TenantCacheResolver implements CacheResolver {
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    public TenantCacheResolver(ObjectProvider<CacheManager> cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+        String tenant = TenantContext.current();
+        CacheManager manager = cacheManager.getObject();
+        List<Cache> caches = new ArrayList<>();
+        for (String name : context.getOperation().getCacheNames()) {
+            String scoped = tenant == null ? name : name + "@" + tenant;
+            Cache cache = manager.getCache(scoped);
+            if (cache == null) {
+                throw new IllegalArgumentException("Cannot find cache named '" + scoped + "' for " + context.getOperation());
+            }
+            caches.add(cache);
+        }
+        return caches;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.transaction.management.tenant;
+
+/**
+ * Tenant of the request being served on the current thread, set by the {@link TenantInterceptor}.
+ * <p>
+ * Only tenants other than the default one are recorded: {@code null} means the default tenant, whose
+ * partition is the storage engine itself, so code running outside a request (scheduled jobs, gRPC,
+ * statements) keeps reading and writing it.
+ */
+public final class TenantContext {
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    /**
+     * The tenant in scope, or {@code null} for the default tenant.
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Scope the current thread to {@code tenant} ({@code null} for the default one); callers other than
+     * the interceptor clear it in a finally block.
+     */
+    public static void set(String tenant) {
+        CURRENT.set(tenant);
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.transaction.management.tenant;
+
+import com.example.transaction.management.config.TenantProperties;
+import com.example.transaction.management.controller.TransactionController;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Scopes each API request to the tenant named by its tenant header, then admits it within the tenant's
+ * share of the server. Requests without the header are served as the default tenant.
+ * <p>
+ * Other tenants reach the transaction CRUD, list and commit endpoints only: search, analytics, ranking,
+ * history and statements read structures maintained from the storage engine, which holds the default
+ * tenant alone, so they answer 400 rather than another tenant's data. Unknown tenants answer 400 and a
+ * tenant over its share of a saturated server 503 with {@code Retry-After}.
+ */
+public class TenantInterceptor implements HandlerInterceptor {
+    private static final String PERMIT_ATTRIBUTE = TenantInterceptor.class.getName() + ".permit";
+    private static final ApiException UNKNOWN_TENANT = new ApiException(TransactionErrorType.UNKNOWN_TENANT);
+    private static final ApiException TENANT_NOT_SUPPORTED = new ApiException(TransactionErrorType.TENANT_NOT_SUPPORTED);
+    private static final ApiException TENANT_OVERLOADED =
+            new ApiException(TransactionErrorType.TENANT_OVERLOADED, HttpStatus.SERVICE_UNAVAILABLE);
+
+    private final String header;
+    private final String defaultTenant;
+    private final TenantAdmission admission;
+
+    public TenantInterceptor(TenantProperties properties, TenantAdmission admission) {
+        this.header = properties.header();
+        this.defaultTenant = properties.defaultTenant();
+        this.admission = admission;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String tenant = request.getHeader(header);
+        if (tenant == null || tenant.isEmpty()) {
+            tenant = defaultTenant;
+        }
+        if (!admission.tenants().contains(tenant)) {
+            throw UNKNOWN_TENANT;
+        }
+        boolean isDefault = tenant.equals(defaultTenant);
+        if (!isDefault && !isPartitioned(request, handler)) {
+            throw TENANT_NOT_SUPPORTED;
+        }
+        if (!admission.tryAcquire(tenant)) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            throw TENANT_OVERLOADED;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, new Permit(tenant, System.nanoTime()));
+        TenantContext.set(isDefault ? null : tenant);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) instanceof Permit permit) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            admission.release(permit.tenant(), System.nanoTime() - permit.startNanos());
+        }
+        TenantContext.clear();
+    }
+
+    /**
+     * Whether the handler reads and writes the repository only, through the tenant's partition.
+     */
+    private static boolean isPartitioned(HttpServletRequest request, Object handler) {
+        return handler instanceof HandlerMethod method
+                && method.getBeanType() == TransactionController.class
+                && !method.getMethod().getName().equals("getTopTransactions")
+                && request.getParameter("sort") == null;
+    }
+
+    private record Permit(String tenant, long startNanos) {
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.transaction.management.tenant;
+
+import com.example.transaction.management.model.CommitResult;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionOperation;
+import com.example.transaction.management.repository.TransactionRepository;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Routes every read and write to the partition of the tenant in {@link TenantContext}: the storage
+ * engine for the default tenant, a repository of its own for each other tenant. Tenants share no map,
+ * id generator, commit lock or snapshot, so one tenant's batch commits never queue another's writes,
+ * and every tenant numbers its transactions independently.
+ * <p>
+ * Maintenance spans all partitions: {@link #count} and {@link #heapCount} are totals over the
+ * deployment, as the memory governor budgets the heap of the whole process, and clearing, archival and version collection apply
+ * to every tenant.
+ */
+public class TenantRoutingRepository implements TransactionRepository {
+    private final TransactionRepository defaultPartition;
+    private final Map<String, TransactionRepository> partitions;
+
+    public TenantRoutingRepository(TransactionRepository defaultPartition, Map<String, TransactionRepository> partitions) {
+        this.defaultPartition = defaultPartition;
+        this.partitions = Map.copyOf(partitions);
+    }
+
+    /**
+     * Partition of {@code tenant}, {@code null} for the default one.
+     */
+    public TransactionRepository partition(String tenant) {
+        if (tenant == null) {
+            return defaultPartition;
+        }
+        TransactionRepository partition = partitions.get(tenant);
+        if (partition == null) {
+            throw new IllegalStateException("Tenant " + tenant + " has no partition");
+        }
+        return partition;
+    }
+
+    private TransactionRepository current() {
+        return partition(TenantContext.current());
+    }
+
+    @Override
+    public Transaction save(Transaction transaction) {
+        return current().save(transaction);
+    }
+
+    @Override
+    public CommitResult commit(List<TransactionOperation> operations) {
+        return current().commit(operations);
+    }
+
+    @Override
+    public Optional<Transaction> findById(Long id) {
+        return current().findById(id);
+    }
+
+    @Override
+    public List<Transaction> findAll(int page, int size) {
+        return current().findAll(page, size);
+    }
+
+    @Override
+    public OptionalLong openSnapshot(Long snapshot) {
+        return current().openSnapshot(snapshot);
+    }
+
+    @Override
+    public void releaseSnapshot(long snapshot) {
+        current().releaseSnapshot(snapshot);
+    }
+
+    @Override
+    public List<Transaction> findAll(long snapshot, int page, int size) {
+        return current().findAll(snapshot, page, size);
+    }
+
+    @Override
+    public List<Transaction> findByIdBetween(long snapshot, long fromId, long toId, int limit) {
+        return current().findByIdBetween(snapshot, fromId, toId, limit);
+    }
+
+    @Override
+    public List<Transaction> findByTimestampBetween(Instant from, Instant to, int page, int size) {
+        return current().findByTimestampBetween(from, to, page, size);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        current().deleteById(id);
+    }
+
+    @Override
+    public long count() {
+        long count = defaultPartition.count();
+        for (TransactionRepository partition : partitions.values()) {
+            count += partition.count();
+        }
+        return count;
+    }
+
+    @Override
+    public long heapCount() {
+        long count = defaultPartition.heapCount();
+        for (TransactionRepository partition : partitions.values()) {
+            count += partition.heapCount();
+        }
+        return count;
+    }
+
+    @Override
+    public void clear() {
+        defaultPartition.clear();
+        partitions.values().forEach(TransactionRepository::clear);
+    }
+
+    @Override
+    public int archivePartitionsBefore(Instant cutoff) {
+        int archived = defaultPartition.archivePartitionsBefore(cutoff);
+        for (TransactionRepository partition : partitions.values()) {
+            archived += partition.archivePartitionsBefore(cutoff);
+        }
+        return archived;
+    }
+
+    @Override
+    public int dropArchivesBefore(Instant cutoff) {
+        int dropped = defaultPartition.dropArchivesBefore(cutoff);
+        for (TransactionRepository partition : partitions.values()) {
+            dropped += partition.dropArchivesBefore(cutoff);
+        }
+        return dropped;
+    }
+
+    @Override
+    public int collectVersions() {
+        int collected = defaultPartition.collectVersions();
+        for (TransactionRepository partition : partitions.values()) {
+            collected += partition.collectVersions();
+        }
+        return collected;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.transaction.management.validation;
+
+import com.example.transaction.management.model.CommitRequest;
+import com.example.transaction.management.model.OperationRequest;
+import com.example.transaction.management.model.TransactionRequest;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.util.List;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.Validator;
+
+/**
+ * Checks the constraints declared on {@link TransactionRequest} and {@link CommitRequest} with plain code
+ * instead of Bean Validation's reflective walk of their metadata, reporting the same fields and messages.
+ * <p>
+ * Messages and bounds are read from the annotations once, so the model stays the single source of
+ * truth; the checks themselves mirror the annotations and are tested against Hibernate Validator.
+ */
+public class PrecompiledTransactionValidator implements Validator {
+    private static final String AMOUNT_REQUIRED = field(TransactionRequest.class, "amount").getAnnotation(NotNull.class).message();
+    private static final DecimalMin AMOUNT_MIN = field(TransactionRequest.class, "amount").getAnnotation(DecimalMin.class);
+    private static final BigDecimal MIN_AMOUNT = new BigDecimal(AMOUNT_MIN.value());
+    private static final String TYPE_REQUIRED = field(TransactionRequest.class, "type").getAnnotation(NotNull.class).message();
+    private static final String DESCRIPTION_REQUIRED =
+            field(TransactionRequest.class, "description").getAnnotation(NotBlank.class).message();
+    private static final String CATEGORY_REQUIRED =
+            field(TransactionRequest.class, "category").getAnnotation(NotBlank.class).message();
+    private static final String OPERATIONS_REQUIRED =
+            field(CommitRequest.class, "operations").getAnnotation(NotEmpty.class).message();
+    private static final String OPERATION_TYPE_REQUIRED =
+            field(OperationRequest.class, "type").getAnnotation(NotNull.class).message();
+
+    @Override
+    public boolean supports(Class<?> clazz) {
+        return clazz == TransactionRequest.class || clazz == CommitRequest.class;
+    }
+
+    @Override
+    public void validate(Object target, Errors errors) {
+        if (target instanceof TransactionRequest transaction) {
+            validate(transaction, "", errors);
+        } else {
+            validate((CommitRequest) target, errors);
+        }
+    }
+
+    private void validate(CommitRequest request, Errors errors) {
+        List<OperationRequest> operations = request.operations();
+        if (operations == null || operations.isEmpty()) {
+            reject(errors, "operations", operations, "NotEmpty", OPERATIONS_REQUIRED);
+            return;
+        }
+        for (int i = 0; i < operations.size(); i++) {
+            OperationRequest operation = operations.get(i);
+            if (operation == null) {
+                continue;
+            }
+            if (operation.type() == null) {
+                reject(errors, "operations[" + i + "].type", null, "NotNull", OPERATION_TYPE_REQUIRED);
+            }
+            if (operation.transaction() != null) {
+                validate(operation.transaction(), "operations[" + i + "].transaction.", errors);
+            }
+        }
+    }
+
+    // The path is only concatenated when a constraint fails
+    private void validate(TransactionRequest transaction, String path, Errors errors) {
+        BigDecimal amount = transaction.getAmount();
+        if (amount == null) {
+            reject(errors, path + "amount", null, "NotNull", AMOUNT_REQUIRED);
+        } else if (AMOUNT_MIN.inclusive() ? amount.compareTo(MIN_AMOUNT) < 0 : amount.compareTo(MIN_AMOUNT) <= 0) {
+            reject(errors, path + "amount", amount, "DecimalMin", AMOUNT_MIN.message());
+        }
+        if (transaction.getType() == null) {
+            reject(errors, path + "type", null, "NotNull", TYPE_REQUIRED);
+        }
+        if (isBlank(transaction.getDescription())) {
+            reject(errors, path + "description", transaction.getDescription(), "NotBlank", DESCRIPTION_REQUIRED);
+        }
+        if (isBlank(transaction.getCategory())) {
+            reject(errors, path + "category", transaction.getCategory(), "NotBlank", CATEGORY_REQUIRED);
+        }
+    }
+
+    // Same definition as Hibernate Validator: only characters up to the space count as blank
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static void reject(Errors errors, String field, Object value, String code, String message) {
+        if (errors instanceof BindingResult result) {
+            // Added directly: the nested paths of commit requests go through records, which have no bean getters
+            result.addError(new FieldError(result.getObjectName(), field, value, false,
+                    result.resolveMessageCodes(code, field), null, message));
+        } else {
+            errors.rejectValue(field, code, message);
+        }
+    }
+
+    private static Field field(Class<?> type, String name) {
+        try {
+            return type.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException("Constrained field " + type.getSimpleName() + "." + name + " is missing", e);
+        }
+    }
+}
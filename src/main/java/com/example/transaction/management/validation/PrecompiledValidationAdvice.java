@@ -0,0 +1,26 @@
+package com.example.transaction.management.validation;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.InitBinder;
+
+/**
+ * Validates {@code @Valid} transaction and commit request bodies with the
+ * {@link PrecompiledTransactionValidator} instead of Bean Validation when
+ * {@code transaction.validation.mode=precompiled}. Failures still surface as
+ * {@code MethodArgumentNotValidException}, so error responses are unchanged.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(prefix = "transaction.validation", name = "mode", havingValue = "precompiled")
+public class PrecompiledValidationAdvice {
+    private final PrecompiledTransactionValidator validator = new PrecompiledTransactionValidator();
+
+    @InitBinder
+    public void usePrecompiledValidator(WebDataBinder binder) {
+        Object target = binder.getTarget();
+        if (target != null && validator.supports(target.getClass())) {
+            binder.replaceValidators(validator);
+        }
+    }
+}
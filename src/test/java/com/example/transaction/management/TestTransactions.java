@@ -0,0 +1,75 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionRequest;
+import com.example.transaction.management.model.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Valid transactions for tests: a deposit of 100.00 in category "Test", unless a factory takes the
+ * value. A {@code null} timestamp keeps the creation time.
+ */
+public final class TestTransactions {
+    public static final BigDecimal AMOUNT = new BigDecimal("100.00");
+    public static final String CATEGORY = "Test";
+    public static final Instant TIMESTAMP = Instant.parse("2025-07-15T10:30:00Z");
+
+    private TestTransactions() {
+    }
+
+    public static Transaction transaction() {
+        return transaction("Test transaction");
+    }
+
+    public static Transaction transaction(String description) {
+        return transaction(description, null);
+    }
+
+    public static Transaction transaction(String description, Instant timestamp) {
+        return transaction(AMOUNT, TransactionType.DEPOSIT, description, CATEGORY, timestamp);
+    }
+
+    public static Transaction transaction(String amount, TransactionType type, Instant timestamp) {
+        return transaction(new BigDecimal(amount), type, "Test transaction", CATEGORY, timestamp);
+    }
+
+    public static Transaction transaction(String amount, TransactionType type, String category, Instant timestamp) {
+        return transaction(new BigDecimal(amount), type, category, timestamp);
+    }
+
+    public static Transaction transaction(BigDecimal amount, TransactionType type, String category, Instant timestamp) {
+        return transaction(amount, type, "Test transaction", category, timestamp);
+    }
+
+    public static Transaction transaction(BigDecimal amount, TransactionType type, String description, String category) {
+        return transaction(amount, type, description, category, null);
+    }
+
+    public static Transaction transaction(String amount, TransactionType type, String description, String category,
+            Instant timestamp) {
+        return transaction(new BigDecimal(amount), type, description, category, timestamp);
+    }
+
+    public static Transaction transaction(BigDecimal amount, TransactionType type, String description, String category,
+            Instant timestamp) {
+        return new Transaction(null, amount, type, description, category,
+                timestamp != null ? timestamp : Instant.now(), null);
+    }
+
+    /**
+     * Request carrying the content of {@code transaction}, as a client sends it.
+     */
+    public static TransactionRequest request(Transaction transaction) {
+        return new TransactionRequest(transaction.getAmount(), transaction.getType(), transaction.getDescription(),
+                transaction.getCategory(), transaction.getTimestamp());
+    }
+
+    /**
+     * Stored copy of a {@link #transaction()} created at {@link #TIMESTAMP}, as a repository returns it.
+     */
+    public static Transaction stored(long id, Long version) {
+        return transaction("Test transaction", TIMESTAMP).toStored(id, version);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.admission.AdaptiveConcurrencyLimiter;
+import com.example.transaction.management.admission.TokenBucketRateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdmissionControlTest {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(50);
+
+    @Test
+    @DisplayName("Should admit a burst, then refill tokens at the configured rate per client")
+    void testTokenBucket() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 3, 100);
+        long now = System.nanoTime();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("batch-client", now));
+        }
+        long wait = limiter.tryAcquire("batch-client", now);
+        assertTrue(wait > 0 && wait <= SECOND / 10, "Next token should be at most 100ms away");
+        // Other clients are unaffected
+        assertEquals(0, limiter.tryAcquire("interactive-client", now));
+
+        assertEquals(0, limiter.tryAcquire("batch-client", now + SECOND / 10));
+        assertTrue(limiter.tryAcquire("batch-client", now + SECOND / 10) > 0);
+    }
+
+    @Test
+    @DisplayName("Should reject beyond the concurrency limit without queueing")
+    void testConcurrencyLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 2, false, TARGET);
+        long now = System.nanoTime();
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        limiter.release(TARGET * 10, now);
+        assertTrue(limiter.tryAcquire());
+        assertEquals(2, limiter.limit(), "A fixed limit never adapts");
+    }
+
+    @Test
+    @DisplayName("Should back off multiplicatively on slow requests and grow additively on fast ones")
+    void testAdaptiveLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 20, true, TARGET);
+        long now = System.nanoTime();
+
+        // Slow completions back off at most once per latency target interval
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(TARGET * 2, now);
+        }
+        assertEquals(18, limiter.limit());
+        for (int i = 1; i <= 30; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(TARGET * 2, now + i * TARGET);
+        }
+        assertEquals(2, limiter.limit(), "The limit never drops below the minimum");
+
+        // Fast completions while the limit is in use grow it again
+        for (int i = 0; i < 50; i++) {
+            assertTrue(limiter.tryAcquire());
+            assertTrue(limiter.tryAcquire());
+            limiter.release(TARGET / 10, now);
+            limiter.release(TARGET / 10, now);
+        }
+        assertTrue(limiter.limit() > 2, "Fast requests should grow the limit");
+        assertEquals(0, limiter.inFlight());
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.controller.TransactionController;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.service.RankingService;
+import com.example.transaction.management.service.TransactionService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TransactionController.class)
+@TestPropertySource(properties = {
+        "transaction.admission.enabled=true",
+        "transaction.admission.rate-per-second=0.5",
+        "transaction.admission.burst=2"
+})
+public class AdmissionControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private TransactionService transactionService;
+
+    @MockBean
+    private RankingService rankingService;
+
+    @Test
+    @DisplayName("Should reject a client over its rate limit with 429 and Retry-After")
+    void testRateLimitedClient() throws Exception {
+        when(transactionService.read(any())).thenReturn(Optional.of(transaction()));
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/transactions/1001").header("X-Client-Id", "batch-client"))
+                    .andExpect(status().isOk());
+        }
+        mockMvc.perform(get("/api/transactions/1001").header("X-Client-Id", "batch-client"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.message").value(TransactionErrorType.RATE_LIMITED.getMessage()));
+
+        // Another client still gets through
+        mockMvc.perform(get("/api/transactions/1001").header("X-Client-Id", "interactive-client"))
+                .andExpect(status().isOk());
+    }
+}
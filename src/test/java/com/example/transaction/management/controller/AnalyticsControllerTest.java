@@ -0,0 +1,112 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.controller.AnalyticsController;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.AmountQuantile;
+import com.example.transaction.management.model.CategoryFrequency;
+import com.example.transaction.management.model.CategorySummary;
+import com.example.transaction.management.model.TransactionStats;
+import com.example.transaction.management.model.TransactionSummary;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.service.AnalyticsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AnalyticsController.class)
+public class AnalyticsControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AnalyticsService analyticsService;
+
+    @Test
+    @DisplayName("Should return the summary for a time range and type")
+    void testGetSummary() throws Exception {
+        Instant from = Instant.parse("2025-07-01T00:00:00Z");
+        Instant to = Instant.parse("2025-07-31T23:59:59Z");
+        when(analyticsService.summarize(from, to, TransactionType.DEPOSIT))
+                .thenReturn(new TransactionSummary(2, new BigDecimal("150.75")));
+
+        mockMvc.perform(get("/api/analytics/summary")
+                .param("from", from.toString())
+                .param("to", to.toString())
+                .param("type", "DEPOSIT"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(2))
+                .andExpect(jsonPath("$.totalAmount").value(150.75));
+    }
+
+    @Test
+    @DisplayName("Should return per-category summaries over all time when no range is given")
+    void testGetCategorySummaries() throws Exception {
+        when(analyticsService.summarizeByCategory(Instant.MIN, Instant.MAX, null))
+                .thenReturn(List.of(new CategorySummary("Income", 1, new BigDecimal("100.50")),
+                        new CategorySummary("Food", 2, new BigDecimal("50.25"))));
+
+        mockMvc.perform(get("/api/analytics/categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].category").value("Income"))
+                .andExpect(jsonPath("$[1].count").value(2));
+    }
+
+    @Test
+    @DisplayName("Should return 400 when the time range is inverted")
+    void testGetSummaryInvalidRange() throws Exception {
+        when(analyticsService.summarize(any(), any(), eq(null)))
+                .thenThrow(new ApiException(TransactionErrorType.INVALID_TIME_RANGE));
+
+        mockMvc.perform(get("/api/analytics/summary")
+                .param("from", "2025-07-31T00:00:00Z")
+                .param("to", "2025-07-01T00:00:00Z"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(TransactionErrorType.INVALID_TIME_RANGE.getMessage()));
+    }
+
+    @Test
+    @DisplayName("Should return approximate statistics for the requested quantiles")
+    void testGetStats() throws Exception {
+        when(analyticsService.stats(Instant.MIN, Instant.MAX, List.of(0.5, 0.99), 2))
+                .thenReturn(new TransactionStats(1000,
+                        List.of(new AmountQuantile(0.5, new BigDecimal("50.00")), new AmountQuantile(0.99, new BigDecimal("990.00"))),
+                        3, List.of(new CategoryFrequency("Food", 600, 0), new CategoryFrequency("Income", 300, 0))));
+
+        mockMvc.perform(get("/api/analytics/stats")
+                .param("quantiles", "0.5,0.99")
+                .param("top", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.count").value(1000))
+                .andExpect(jsonPath("$.quantiles[1].quantile").value(0.99))
+                .andExpect(jsonPath("$.quantiles[1].amount").value(990.00))
+                .andExpect(jsonPath("$.distinctCategories").value(3))
+                .andExpect(jsonPath("$.topCategories[0].category").value("Food"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a quantile outside [0, 1]")
+    void testGetStatsInvalidQuantile() throws Exception {
+        when(analyticsService.stats(any(), any(), eq(List.of(1.5)), eq(10)))
+                .thenThrow(new ApiException(TransactionErrorType.INVALID_STATS_QUERY));
+
+        mockMvc.perform(get("/api/analytics/stats").param("quantiles", "1.5"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(TransactionErrorType.INVALID_STATS_QUERY.getMessage()));
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.controller.HistoryController;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.model.TransactionVersion;
+import com.example.transaction.management.service.HistoryService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(HistoryController.class)
+@TestPropertySource(properties = "transaction.history.enabled=true")
+public class HistoryControllerTest {
+    private static final Instant JULY = Instant.parse("2025-07-01T00:00:00Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private HistoryService historyService;
+
+    @Test
+    @DisplayName("Should list the versions of a transaction, deletes included")
+    void testGetHistory() throws Exception {
+        when(historyService.getVersions(1001L)).thenReturn(List.of(
+                new TransactionVersion(7L, JULY, false,
+                        transaction("10.00", TransactionType.DEPOSIT, JULY).toStored(1001L, 7L)),
+                new TransactionVersion(9L, JULY.plusSeconds(1), true, null)));
+
+        mockMvc.perform(get("/api/transactions/1001/history"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].sequence").value(7))
+                .andExpect(jsonPath("$[0].transaction.amount").value(10.00))
+                .andExpect(jsonPath("$[1].deleted").value(true))
+                .andExpect(jsonPath("$[1].committedAt").value("2025-07-01T00:00:01Z"));
+    }
+
+    @Test
+    @DisplayName("Should read a transaction as of a timestamp")
+    void testGetAsOf() throws Exception {
+        when(historyService.getTransactionAsOf(1001L, null, JULY))
+                .thenReturn(transaction("12.50", TransactionType.DEPOSIT, JULY).toStored(1001L, 8L));
+
+        mockMvc.perform(get("/api/transactions/1001/as-of").param("timestamp", "2025-07-01T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1001))
+                .andExpect(jsonPath("$.amount").value(12.50))
+                .andExpect(jsonPath("$.version").value(8));
+    }
+
+    @Test
+    @DisplayName("Should return 400 unless exactly one of sequence and timestamp is given")
+    void testInvalidAsOf() throws Exception {
+        when(historyService.getTransactionAsOf(1001L, 7L, JULY)).thenThrow(
+                new ApiException(TransactionErrorType.INVALID_AS_OF));
+
+        mockMvc.perform(get("/api/transactions/1001/as-of")
+                        .param("sequence", "7")
+                        .param("timestamp", "2025-07-01T00:00:00Z"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(TransactionErrorType.INVALID_AS_OF.getMessage()));
+    }
+
+    @Test
+    @DisplayName("Should list a page of transactions as of a sequence")
+    void testListAsOf() throws Exception {
+        when(historyService.getTransactionsAsOf(42L, null, 1, 5))
+                .thenReturn(List.of(transaction("10.00", TransactionType.DEPOSIT, JULY).toStored(1001L, 7L)));
+
+        mockMvc.perform(get("/api/transactions/as-of")
+                        .param("sequence", "42")
+                        .param("page", "1")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1001));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for a transaction without history")
+    void testHistoryNotFound() throws Exception {
+        when(historyService.getVersions(404L)).thenThrow(
+                new ApiException(TransactionErrorType.TRANSACTION_NOT_FOUND, HttpStatus.NOT_FOUND));
+
+        mockMvc.perform(get("/api/transactions/404/history"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.controller.TransactionController;
+import com.example.transaction.management.model.CommitRequest;
+import com.example.transaction.management.model.CommitResult;
+import com.example.transaction.management.model.OperationRequest;
+import com.example.transaction.management.model.OperationType;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionRequest;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.service.RankingService;
+import com.example.transaction.management.service.TransactionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static com.example.transaction.management.TestTransactions.request;
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(TransactionController.class)
+@TestPropertySource(properties = "transaction.validation.mode=precompiled")
+public class PrecompiledValidationControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private TransactionService transactionService;
+
+    @MockBean
+    private RankingService rankingService;
+
+    @Test
+    @DisplayName("Should reject an invalid transaction with the same field errors as Bean Validation")
+    void testInvalidTransaction() throws Exception {
+        TransactionRequest transaction = new TransactionRequest(new BigDecimal("0.001"), null, "   ", null, null);
+
+        mockMvc.perform(post("/api/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(transaction)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.timestamp").exists())
+                .andExpect(jsonPath("$.fieldErrors.amount").value("Transaction amount must be greater than zero"))
+                .andExpect(jsonPath("$.fieldErrors.type").value("Transaction type is required"))
+                .andExpect(jsonPath("$.fieldErrors.description").value("Transaction description is required"))
+                .andExpect(jsonPath("$.fieldErrors.category").value("Transaction category is required"));
+
+        mockMvc.perform(put("/api/transactions/1001")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TransactionRequest())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors.amount").value("Transaction amount is required"));
+        verify(transactionService, never()).create(any());
+        verify(transactionService, never()).update(eq(1001L), any());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid commit operations under their nested paths")
+    void testInvalidCommit() throws Exception {
+        CommitRequest request = new CommitRequest(List.of(
+                new OperationRequest(OperationType.CREATE, null, null, request(valid())),
+                new OperationRequest(null, 1001L, null, new TransactionRequest())));
+
+        mockMvc.perform(post("/api/transactions/commit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors['operations[1].type']").value("Operation type is required"))
+                .andExpect(jsonPath("$.fieldErrors['operations[1].transaction.amount']").value("Transaction amount is required"))
+                .andExpect(jsonPath("$.fieldErrors['operations[0].transaction.amount']").doesNotExist());
+
+        mockMvc.perform(post("/api/transactions/commit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"operations\":[]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors.operations").value("At least one operation is required"));
+    }
+
+    @Test
+    @DisplayName("Should pass valid transactions and commits to the service")
+    void testValidRequests() throws Exception {
+        Transaction transaction = valid();
+        when(transactionService.create(any(Transaction.class))).thenReturn(transaction);
+        when(transactionService.commit(anyList())).thenReturn(new CommitResult(true, 18L, List.of()));
+
+        mockMvc.perform(post("/api/transactions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(transaction)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.category").value("Housing"));
+        mockMvc.perform(post("/api/transactions/commit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new CommitRequest(List.of(
+                        new OperationRequest(OperationType.CREATE, null, null, request(transaction)))))))
+                .andExpect(status().isOk());
+    }
+
+    private static Transaction valid() {
+        return transaction(new BigDecimal("0.01"), TransactionType.WITHDRAWAL, "Rent", "Housing");
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.controller.ProfilingController;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.RecordingStatus;
+import com.example.transaction.management.service.ProfilingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ProfilingController.class)
+@TestPropertySource(properties = "transaction.profiling.enabled=true")
+public class ProfilingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProfilingService profilingService;
+
+    @Test
+    @DisplayName("Should start a recording for the requested duration")
+    void testStartRecording() throws Exception {
+        when(profilingService.start(Duration.ofSeconds(30))).thenReturn(
+                new RecordingStatus("RUNNING", Instant.parse("2025-07-15T10:30:00Z"), Duration.ofSeconds(30), 0));
+
+        mockMvc.perform(post("/admin/profiling/start").param("duration", "PT30S"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andExpect(jsonPath("$.startTime").value("2025-07-15T10:30:00Z"));
+    }
+
+    @Test
+    @DisplayName("Should return 409 when a recording is already running")
+    void testStartRecordingWhileRunning() throws Exception {
+        when(profilingService.start(null)).thenThrow(
+                new ApiException(TransactionErrorType.PROFILING_ALREADY_RUNNING, HttpStatus.CONFLICT));
+
+        mockMvc.perform(post("/admin/profiling/start"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(TransactionErrorType.PROFILING_ALREADY_RUNNING.getMessage()));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for the status before any recording")
+    void testStatusWithoutRecording() throws Exception {
+        when(profilingService.status()).thenThrow(
+                new ApiException(TransactionErrorType.NO_PROFILING_RECORDING, HttpStatus.NOT_FOUND));
+
+        mockMvc.perform(get("/admin/profiling"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Should download the recording as an attachment and delete the dump")
+    void testDownloadRecording() throws Exception {
+        Path dump = Files.createTempFile("profiling-test-", ".jfr");
+        Files.write(dump, new byte[] {'F', 'L', 'R', 0});
+        when(profilingService.dump()).thenReturn(dump);
+
+        mockMvc.perform(get("/admin/profiling/recording"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"transaction-management.jfr\""))
+                .andExpect(content().bytes(new byte[] {'F', 'L', 'R', 0}));
+        assertFalse(Files.exists(dump));
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.cache.ResponseByteCache;
+import com.example.transaction.management.controller.ResponseCacheController;
+import com.example.transaction.management.controller.TransactionController;
+import com.example.transaction.management.converter.TransactionProtobufHttpMessageConverter;
+import com.example.transaction.management.model.ResponseCacheStats;
+import com.example.transaction.management.model.SnapshotPage;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.proto.TransactionMessage;
+import com.example.transaction.management.repository.TransactionRepository;
+import com.example.transaction.management.service.RankingService;
+import com.example.transaction.management.service.TransactionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static com.example.transaction.management.TestTransactions.stored;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest({TransactionController.class, ResponseCacheController.class})
+@TestPropertySource(properties = "transaction.response-cache.enabled=true")
+public class ResponseCacheControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ResponseByteCache cache;
+
+    @MockBean
+    private TransactionService transactionService;
+
+    @MockBean
+    private RankingService rankingService;
+
+    @MockBean
+    private TransactionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        cache.onClear();
+    }
+
+    @Test
+    @DisplayName("Should serve a transaction from cached bytes per media type until it is written")
+    void testCachedTransaction() throws Exception {
+        Transaction transaction = stored(1001L, null);
+        when(repository.findById(1001L)).thenReturn(Optional.of(transaction));
+        when(transactionService.read(1001L)).thenReturn(Optional.of(transaction));
+        ResponseCacheStats before = cache.stats();
+
+        MvcResult first = mockMvc.perform(get("/api/transactions/1001")).andExpect(status().isOk()).andReturn();
+        MvcResult second = mockMvc.perform(get("/api/transactions/1001").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.amount").value(100.00))
+                .andReturn();
+        verify(repository, times(1)).findById(1001L);
+        assertEquals(first.getResponse().getContentAsString(), second.getResponse().getContentAsString());
+
+        // A multi-valued Accept header is left to the controller, which must encode identically
+        MvcResult uncached = mockMvc.perform(get("/api/transactions/1001").header("Accept", "application/json, */*"))
+                .andExpect(status().isOk()).andReturn();
+        assertEquals(uncached.getResponse().getContentAsString(), first.getResponse().getContentAsString());
+        assertEquals(uncached.getResponse().getContentType(), first.getResponse().getContentType());
+
+        MvcResult protobuf = mockMvc.perform(get("/api/transactions/1001").accept(TransactionProtobufHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TransactionProtobufHttpMessageConverter.PROTOBUF))
+                .andReturn();
+        assertEquals(1001L, TransactionMessage.parseFrom(protobuf.getResponse().getContentAsByteArray()).getId());
+        verify(repository, times(2)).findById(1001L);
+
+        cache.onSave(transaction, transaction);
+        mockMvc.perform(get("/api/transactions/1001")).andExpect(status().isOk());
+        verify(repository, times(3)).findById(1001L);
+
+        mockMvc.perform(get("/admin/response-cache"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hits").value(before.hits() + 1))
+                .andExpect(jsonPath("$.misses").value(before.misses() + 3))
+                .andExpect(jsonPath("$.transactions").value(1));
+    }
+
+    @Test
+    @DisplayName("Should keep a cached page across writes below it and return its snapshot")
+    void testCachedFirstPage() throws Exception {
+        when(transactionService.listSnapshot(null, 0, 2))
+                .thenReturn(new SnapshotPage(42L, List.of(stored(1002L, null), stored(1001L, null))));
+        when(repository.openSnapshot(42L)).thenReturn(OptionalLong.of(42L));
+
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/transactions").param("size", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(TransactionController.SNAPSHOT_HEADER, "42"))
+                    .andExpect(jsonPath("$[0].id").value(1002))
+                    .andExpect(jsonPath("$[1].id").value(1001));
+        }
+        verify(transactionService, times(1)).listSnapshot(null, 0, 2);
+        verify(repository, times(1)).releaseSnapshot(42L);
+
+        // An older id does not move a full page of newer ones
+        cache.onSave(null, stored(1000L, null));
+        mockMvc.perform(get("/api/transactions").param("size", "2")).andExpect(status().isOk());
+        verify(transactionService, times(1)).listSnapshot(null, 0, 2);
+
+        cache.onDelete(1001L, null, 7L);
+        mockMvc.perform(get("/api/transactions").param("size", "2")).andExpect(status().isOk());
+        verify(transactionService, times(2)).listSnapshot(null, 0, 2);
+
+        // A page whose snapshot has expired is read again
+        when(repository.openSnapshot(42L)).thenReturn(OptionalLong.empty());
+        mockMvc.perform(get("/api/transactions").param("size", "2")).andExpect(status().isOk());
+        verify(transactionService, times(3)).listSnapshot(null, 0, 2);
+    }
+
+    @Test
+    @DisplayName("Should leave missing transactions, later pages and filtered lists to the controller")
+    void testUncachedRequests() throws Exception {
+        when(repository.findById(404L)).thenReturn(Optional.empty());
+        when(transactionService.read(404L)).thenReturn(Optional.empty());
+        when(transactionService.listSnapshot(null, 5, 10))
+                .thenReturn(new SnapshotPage(42L, List.of(stored(1001L, null))));
+        when(transactionService.listBetween(Instant.parse("2025-07-01T00:00:00Z"), Instant.MAX, 0, 10))
+                .thenReturn(List.of(stored(1001L, null)));
+
+        mockMvc.perform(get("/api/transactions/404")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/transactions/404")).andExpect(status().isNotFound());
+        verify(transactionService, times(2)).read(404L);
+        assertEquals(0, cache.stats().transactions(), "A missing id should not keep its reservation");
+
+        mockMvc.perform(get("/api/transactions").param("page", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TransactionController.SNAPSHOT_HEADER, "42"));
+        mockMvc.perform(get("/api/transactions").param("from", "2025-07-01T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1001));
+        assertEquals(0, cache.stats().pages());
+    }
+}
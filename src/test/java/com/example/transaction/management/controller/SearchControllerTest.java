@@ -0,0 +1,58 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.controller.SearchController;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.service.SearchService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(SearchController.class)
+public class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SearchService searchService;
+
+    @Test
+    @DisplayName("Should return matching transactions for a search query")
+    void testSearchTransactions() throws Exception {
+        Transaction transaction = new Transaction(1001L, new BigDecimal("2500.00"), TransactionType.DEPOSIT,
+                "Salary July", "Income", Instant.now(), null);
+        when(searchService.search("salary", 0, 5)).thenReturn(List.of(transaction));
+
+        mockMvc.perform(get("/api/transactions/search")
+                .param("q", "salary")
+                .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].description").value("Salary July"));
+    }
+
+    @Test
+    @DisplayName("Should return 400 for a missing search query")
+    void testSearchWithoutQuery() throws Exception {
+        when(searchService.search("", 0, 10))
+                .thenThrow(new ApiException(TransactionErrorType.INVALID_SEARCH_QUERY));
+
+        mockMvc.perform(get("/api/transactions/search"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(TransactionErrorType.INVALID_SEARCH_QUERY.getMessage()));
+    }
+}
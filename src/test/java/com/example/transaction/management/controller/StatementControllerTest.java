@@ -0,0 +1,96 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.controller.StatementController;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.StatementFormat;
+import com.example.transaction.management.model.StatementStatus;
+import com.example.transaction.management.service.StatementService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(StatementController.class)
+@TestPropertySource(properties = "transaction.statements.enabled=true")
+public class StatementControllerTest {
+    private static final Instant JULY = Instant.parse("2025-07-01T00:00:00Z");
+    private static final Instant AUGUST = Instant.parse("2025-08-01T00:00:00Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StatementService statementService;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Should start a statement job and accept it for background processing")
+    void testStartStatements() throws Exception {
+        when(statementService.start(JULY, AUGUST, StatementFormat.NDJSON)).thenReturn(new StatementStatus("statement-1",
+                "RUNNING", JULY, AUGUST, StatementFormat.NDJSON, 42L, 0, List.of(), AUGUST, null, null));
+
+        mockMvc.perform(post("/admin/statements")
+                        .param("from", "2025-07-01T00:00:00Z")
+                        .param("to", "2025-08-01T00:00:00Z")
+                        .param("format", "NDJSON"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value("statement-1"))
+                .andExpect(jsonPath("$.state").value("RUNNING"))
+                .andExpect(jsonPath("$.snapshot").value(42));
+    }
+
+    @Test
+    @DisplayName("Should return 409 when a statement job is already running")
+    void testStartWhileRunning() throws Exception {
+        when(statementService.start(JULY, AUGUST, null)).thenThrow(
+                new ApiException(TransactionErrorType.STATEMENT_ALREADY_RUNNING, HttpStatus.CONFLICT));
+
+        mockMvc.perform(post("/admin/statements")
+                        .param("from", "2025-07-01T00:00:00Z")
+                        .param("to", "2025-08-01T00:00:00Z"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(TransactionErrorType.STATEMENT_ALREADY_RUNNING.getMessage()));
+    }
+
+    @Test
+    @DisplayName("Should download a statement file with the content type of its format")
+    void testDownloadStatementFile() throws Exception {
+        Path file = directory.resolve("category-rent.csv");
+        Files.writeString(file, "id,timestamp,type,category,amount,description,version\n");
+        when(statementService.file("category-rent.csv")).thenReturn(file);
+
+        mockMvc.perform(get("/admin/statements/files/category-rent.csv"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"category-rent.csv\""))
+                .andExpect(content().string("id,timestamp,type,category,amount,description,version\n"));
+    }
+
+    @Test
+    @DisplayName("Should return 404 for a file the last job did not write")
+    void testDownloadUnknownFile() throws Exception {
+        when(statementService.file("other.csv")).thenThrow(
+                new ApiException(TransactionErrorType.STATEMENT_FILE_NOT_FOUND, HttpStatus.NOT_FOUND));
+
+        mockMvc.perform(get("/admin/statements/files/other.csv"))
+                .andExpect(status().isNotFound());
+    }
+}
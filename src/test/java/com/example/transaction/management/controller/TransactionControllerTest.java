@@ -1,10 +1,23 @@
 package com.example.transaction.management;
 
+import com.example.transaction.management.model.CommitRequest;
+import com.example.transaction.management.model.CommitResult;
+import com.example.transaction.management.model.OperationRequest;
+import com.example.transaction.management.model.OperationResult;
+import com.example.transaction.management.model.OperationStatus;
+import com.example.transaction.management.model.OperationType;
+import com.example.transaction.management.model.SnapshotPage;
 import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionRequest;
 import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.service.RankingService;
 import com.example.transaction.management.service.TransactionService;
 import com.example.transaction.management.exception.ApiException;
 import com.example.transaction.management.controller.TransactionController;
+import com.example.transaction.management.converter.TransactionProtoMapper;
+import com.example.transaction.management.converter.TransactionProtobufHttpMessageConverter;
+import com.example.transaction.management.proto.TransactionMessage;
+import com.example.transaction.management.proto.TransactionPage;
 import com.example.transaction.management.exception.TransactionErrorType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,7 +26,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
@@ -22,11 +37,15 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
+import static com.example.transaction.management.TestTransactions.request;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -39,6 +58,9 @@ public class TransactionControllerTest {
     @MockBean
     private TransactionService transactionService;
 
+    @MockBean
+    private RankingService rankingService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -48,13 +70,8 @@ public class TransactionControllerTest {
     @BeforeEach
     void setUp() {
         testId = 1001L;
-        testTransaction = new Transaction();
-        testTransaction.setId(testId);
-        testTransaction.setAmount(new BigDecimal("100.00"));
-        testTransaction.setType(TransactionType.DEPOSIT);
-        testTransaction.setDescription("Test transaction description");
-        testTransaction.setCategory("Test Category");
-        testTransaction.setTimestamp(Instant.now());
+        testTransaction = new Transaction(testId, new BigDecimal("100.00"), TransactionType.DEPOSIT,
+                "Test transaction description", "Test Category", Instant.now(), null);
     }
 
     @Test
@@ -76,7 +93,7 @@ public class TransactionControllerTest {
     @Test
     @DisplayName("Should return bad request when creating transaction with invalid data")
     void testCreateTransactionInvalidData() throws Exception {
-        Transaction invalidTransaction = new Transaction();
+        TransactionRequest invalidTransaction = new TransactionRequest();
         // Missing required fields for validation testing
         // Bean Validation will handle this automatically
 
@@ -116,13 +133,14 @@ public class TransactionControllerTest {
     @DisplayName("Should successfully retrieve paginated list of transactions")
     void testGetAllTransactions() throws Exception {
         List<Transaction> transactions = Arrays.asList(testTransaction);
-        when(transactionService.list(0, 10)).thenReturn(transactions);
+        when(transactionService.listSnapshot(null, 0, 10)).thenReturn(new SnapshotPage(42L, transactions));
 
         mockMvc.perform(get("/api/transactions")
                 .param("page", "0")
                 .param("size", "10")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(TransactionController.SNAPSHOT_HEADER, "42"))
                 .andExpect(jsonPath("$[0].id").value(testId))
                 .andExpect(jsonPath("$[0].amount").value(100.00))
                 .andExpect(jsonPath("$[0].type").value("DEPOSIT"))
@@ -133,7 +151,7 @@ public class TransactionControllerTest {
     @Test
     @DisplayName("Should return bad request when pagination parameters are invalid")
     void testGetAllTransactionsInvalidPagination() throws Exception {
-        when(transactionService.list(-1, 10))
+        when(transactionService.listSnapshot(null, -1, 10))
                 .thenThrow(new ApiException(TransactionErrorType.INVALID_PAGINATION));
 
         mockMvc.perform(get("/api/transactions")
@@ -143,16 +161,71 @@ public class TransactionControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("Should read further pages at the snapshot passed back by the client")
+    void testGetAllTransactionsAtSnapshot() throws Exception {
+        when(transactionService.listSnapshot(42L, 1, 10)).thenReturn(new SnapshotPage(42L, Arrays.asList(testTransaction)));
+
+        mockMvc.perform(get("/api/transactions")
+                .param("page", "1")
+                .param("snapshot", "42"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(TransactionController.SNAPSHOT_HEADER, "42"))
+                .andExpect(jsonPath("$[0].id").value(testId));
+    }
+
+    @Test
+    @DisplayName("Should return gone when the requested snapshot has expired")
+    void testGetAllTransactionsExpiredSnapshot() throws Exception {
+        when(transactionService.listSnapshot(7L, 0, 10))
+                .thenThrow(new ApiException(TransactionErrorType.SNAPSHOT_EXPIRED, HttpStatus.GONE));
+
+        mockMvc.perform(get("/api/transactions")
+                .param("snapshot", "7"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.message").value(TransactionErrorType.SNAPSHOT_EXPIRED.getMessage()));
+    }
+
+    @Test
+    @DisplayName("Should list sorted pages without a snapshot")
+    void testGetAllTransactionsSorted() throws Exception {
+        when(rankingService.listSorted("amount,desc", Instant.MIN, Instant.MAX, 0, 10)).thenReturn(List.of(testTransaction));
+
+        mockMvc.perform(get("/api/transactions")
+                .param("sort", "amount,desc"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(TransactionController.SNAPSHOT_HEADER))
+                .andExpect(jsonPath("$[0].id").value(testId));
+
+        when(rankingService.listSorted(eq("name"), any(), any(), eq(0), eq(10)))
+                .thenThrow(new ApiException(TransactionErrorType.INVALID_SORT));
+        mockMvc.perform(get("/api/transactions")
+                .param("sort", "name"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(TransactionErrorType.INVALID_SORT.getMessage()));
+    }
+
+    @Test
+    @DisplayName("Should return the top transactions of a type within a time range")
+    void testGetTopTransactions() throws Exception {
+        Instant from = Instant.parse("2025-07-01T00:00:00Z");
+        Instant to = Instant.parse("2025-07-07T23:59:59Z");
+        when(rankingService.top("amount,desc", from, to, TransactionType.WITHDRAWAL, 20)).thenReturn(List.of(testTransaction));
+
+        mockMvc.perform(get("/api/transactions/top")
+                .param("type", "WITHDRAWAL")
+                .param("limit", "20")
+                .param("from", from.toString())
+                .param("to", to.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(testId));
+    }
+
     @Test
     @DisplayName("Should successfully update existing transaction information")
     void testUpdateTransaction() throws Exception {
-        Transaction updatedTransaction = new Transaction();
-        updatedTransaction.setId(testId);
-        updatedTransaction.setAmount(new BigDecimal("200.00"));
-        updatedTransaction.setType(TransactionType.WITHDRAWAL);
-        updatedTransaction.setDescription("Updated transaction description");
-        updatedTransaction.setCategory("Food");
-        updatedTransaction.setTimestamp(Instant.now());
+        Transaction updatedTransaction = new Transaction(testId, new BigDecimal("200.00"), TransactionType.WITHDRAWAL,
+                "Updated transaction description", "Food", Instant.now(), null);
 
         when(transactionService.update(eq(testId), any(Transaction.class)))
                 .thenReturn(updatedTransaction);
@@ -172,12 +245,13 @@ public class TransactionControllerTest {
     @DisplayName("Should return not found when updating non-existent transaction")
     void testUpdateTransactionNotFound() throws Exception {
         when(transactionService.update(eq(testId), any(Transaction.class)))
-                .thenThrow(new RuntimeException("Transaction not found"));
+                .thenThrow(new ApiException(TransactionErrorType.TRANSACTION_NOT_FOUND, HttpStatus.NOT_FOUND));
 
         mockMvc.perform(put("/api/transactions/" + testId)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(testTransaction)))
-                .andExpect(status().isNotFound());
+                .andExpect(status().isNotFound())
+                .andExpect(content().string(""));
     }
 
     @Test
@@ -200,4 +274,115 @@ public class TransactionControllerTest {
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should apply all operations of a commit")
+    void testCommitTransactions() throws Exception {
+        CommitRequest request = new CommitRequest(List.of(
+                new OperationRequest(OperationType.UPDATE, testId, 17L, request(testTransaction)),
+                new OperationRequest(OperationType.DELETE, 1002L, null, null)));
+        when(transactionService.commit(anyList())).thenReturn(new CommitResult(true, 18L, List.of(
+                new OperationResult(testId, OperationStatus.APPLIED, 18L),
+                new OperationResult(1002L, OperationStatus.APPLIED, 18L))));
+
+        mockMvc.perform(post("/api/transactions/commit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.committed").value(true))
+                .andExpect(jsonPath("$.version").value(18))
+                .andExpect(jsonPath("$.results[1].status").value("APPLIED"));
+    }
+
+    @Test
+    @DisplayName("Should return conflict with per-operation results when a commit is rejected")
+    void testCommitTransactionsConflict() throws Exception {
+        CommitRequest request = new CommitRequest(List.of(
+                new OperationRequest(OperationType.UPDATE, testId, 17L, request(testTransaction)),
+                new OperationRequest(OperationType.DELETE, 1002L, null, null)));
+        when(transactionService.commit(anyList())).thenReturn(new CommitResult(false, null, List.of(
+                new OperationResult(testId, OperationStatus.CONFLICT, 21L),
+                new OperationResult(1002L, OperationStatus.ABORTED, null))));
+
+        mockMvc.perform(post("/api/transactions/commit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.committed").value(false))
+                .andExpect(jsonPath("$.results[0].status").value("CONFLICT"))
+                .andExpect(jsonPath("$.results[0].version").value(21))
+                .andExpect(jsonPath("$.results[1].status").value("ABORTED"));
+    }
+
+    @Test
+    @DisplayName("Should return bad request when a commit carries an invalid transaction")
+    void testCommitTransactionsInvalidData() throws Exception {
+        CommitRequest request = new CommitRequest(List.of(
+                new OperationRequest(OperationType.CREATE, null, null, new TransactionRequest())));
+
+        mockMvc.perform(post("/api/transactions/commit")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors['operations[0].transaction.amount']").exists());
+    }
+
+    @Test
+    @DisplayName("Should return CBOR when client accepts application/cbor")
+    void testGetTransactionAsCbor() throws Exception {
+        when(transactionService.read(testId)).thenReturn(Optional.of(testTransaction));
+
+        byte[] body = mockMvc.perform(get("/api/transactions/" + testId)
+                .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        Transaction decoded = Jackson2ObjectMapperBuilder.cbor().build().readValue(body, Transaction.class);
+        assertEquals(testId, decoded.getId());
+        assertEquals("Test transaction description", decoded.getDescription());
+    }
+
+    @Test
+    @DisplayName("Should return a protobuf page when listing with Accept application/x-protobuf")
+    void testGetAllTransactionsAsProtobuf() throws Exception {
+        when(transactionService.listSnapshot(null, 0, 10)).thenReturn(new SnapshotPage(42L, Arrays.asList(testTransaction)));
+
+        byte[] body = mockMvc.perform(get("/api/transactions")
+                .accept(TransactionProtobufHttpMessageConverter.PROTOBUF))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(TransactionProtobufHttpMessageConverter.PROTOBUF))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        TransactionPage page = TransactionPage.parseFrom(body);
+        assertEquals(1, page.getTransactionsCount());
+        assertEquals(testId, page.getTransactions(0).getId());
+        assertEquals("100.00", page.getTransactions(0).getAmount());
+    }
+
+    @Test
+    @DisplayName("Should accept a protobuf request body when creating a transaction")
+    void testCreateTransactionFromProtobuf() throws Exception {
+        when(transactionService.create(argThat(t -> "Test Category".equals(t.getCategory()))))
+                .thenReturn(testTransaction);
+
+        TransactionMessage message = TransactionProtoMapper.toMessage(testTransaction);
+
+        mockMvc.perform(post("/api/transactions")
+                .contentType(TransactionProtobufHttpMessageConverter.PROTOBUF)
+                .content(message.toByteArray()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(testId));
+    }
+
+    @Test
+    @DisplayName("Should reject an incomplete protobuf request body with field errors")
+    void testCreateTransactionFromInvalidProtobuf() throws Exception {
+        mockMvc.perform(post("/api/transactions")
+                .contentType(TransactionProtobufHttpMessageConverter.PROTOBUF)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(TransactionMessage.newBuilder().setDescription("Missing amount").build().toByteArray()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.fieldErrors.amount").exists());
+    }
+}
@@ -0,0 +1,228 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.converter.TransactionProtoMapper;
+import com.example.transaction.management.grpc.TransactionGrpcService;
+import com.example.transaction.management.proto.BulkCreateResult;
+import com.example.transaction.management.proto.CommitRequestMessage;
+import com.example.transaction.management.proto.CommitResultMessage;
+import com.example.transaction.management.proto.ExportTransactionsRequest;
+import com.example.transaction.management.proto.ListTransactionsRequest;
+import com.example.transaction.management.proto.OperationMessage;
+import com.example.transaction.management.proto.OperationStatusMessage;
+import com.example.transaction.management.proto.OperationTypeMessage;
+import com.example.transaction.management.proto.TransactionApiGrpc;
+import com.example.transaction.management.proto.TransactionId;
+import com.example.transaction.management.proto.TransactionMessage;
+import com.example.transaction.management.proto.TransactionPage;
+import com.example.transaction.management.proto.TransactionTypeMessage;
+import com.example.transaction.management.repository.OrderedIndex;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.service.RankingService;
+import com.example.transaction.management.service.TransactionService;
+import com.example.transaction.management.validation.PrecompiledTransactionValidator;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransactionGrpcServiceTest {
+    private static final Instant JULY = Instant.parse("2025-07-01T00:00:00Z");
+    // Small, so exports span several batches
+    private static final int EXPORT_BATCH_SIZE = 7;
+
+    private Server server;
+    private ManagedChannel channel;
+    private TransactionApiGrpc.TransactionApiBlockingStub stub;
+    private TransactionApiGrpc.TransactionApiStub asyncStub;
+    private SkipListTransactionRepository repository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        OrderedIndex index = new OrderedIndex();
+        repository = new SkipListTransactionRepository(StorageProperties.defaults(), List.of(index));
+        TransactionGrpcService service = new TransactionGrpcService(new TransactionService(repository),
+                new RankingService(index, repository), new PrecompiledTransactionValidator(), null, EXPORT_BATCH_SIZE);
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).directExecutor().addService(service).build().start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        stub = TransactionApiGrpc.newBlockingStub(channel);
+        asyncStub = TransactionApiGrpc.newStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow();
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should create, read, update and delete a transaction like the REST API")
+    void testCrud() {
+        TransactionMessage created = stub.createTransaction(message("100.50", "Salary", JULY));
+        assertTrue(created.hasId());
+        assertEquals("100.50", created.getAmount());
+        assertEquals(created, stub.getTransaction(id(created.getId())));
+
+        TransactionMessage updated = stub.updateTransaction(message("200.00", "Bonus", JULY).toBuilder()
+                .setId(created.getId()).build());
+        assertEquals("Bonus", updated.getDescription());
+        assertTrue(updated.getVersion() > created.getVersion());
+
+        stub.deleteTransaction(id(created.getId()));
+        StatusRuntimeException missing = assertThrows(StatusRuntimeException.class,
+                () -> stub.getTransaction(id(created.getId())));
+        assertEquals(Status.Code.NOT_FOUND, missing.getStatus().getCode());
+        assertEquals("Requested transaction was not found", missing.getStatus().getDescription());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid messages with INVALID_ARGUMENT naming the field")
+    void testValidation() {
+        StatusRuntimeException invalid = assertThrows(StatusRuntimeException.class,
+                () -> stub.createTransaction(message("-1.00", "Refund", JULY)));
+        assertEquals(Status.Code.INVALID_ARGUMENT, invalid.getStatus().getCode());
+        assertTrue(invalid.getStatus().getDescription().startsWith("amount: "));
+
+        StatusRuntimeException noId = assertThrows(StatusRuntimeException.class,
+                () -> stub.updateTransaction(message("1.00", "Refund", JULY)));
+        assertEquals(Status.Code.INVALID_ARGUMENT, noId.getStatus().getCode());
+
+        StatusRuntimeException page = assertThrows(StatusRuntimeException.class,
+                () -> stub.listTransactions(ListTransactionsRequest.newBuilder().setSize(51).build()));
+        assertEquals(Status.Code.INVALID_ARGUMENT, page.getStatus().getCode());
+        assertEquals("Pagination parameters are invalid", page.getStatus().getDescription());
+    }
+
+    @Test
+    @DisplayName("Should page through one snapshot and return commit conflicts as a result")
+    void testListAndCommit() {
+        for (int i = 0; i < 15; i++) {
+            stub.createTransaction(message((i + 1) + ".00", "Deposit " + i, JULY.plusSeconds(i)));
+        }
+        TransactionPage first = stub.listTransactions(ListTransactionsRequest.newBuilder().setSize(10).build());
+        assertEquals(10, first.getTransactionsCount());
+        assertTrue(first.hasSnapshot());
+        stub.createTransaction(message("99.00", "After the snapshot", JULY));
+        TransactionPage second = stub.listTransactions(ListTransactionsRequest.newBuilder()
+                .setPage(1).setSize(10).setSnapshot(first.getSnapshot()).build());
+        assertEquals(5, second.getTransactionsCount());
+
+        TransactionMessage target = first.getTransactions(0);
+        CommitResultMessage conflict = stub.commitTransactions(CommitRequestMessage.newBuilder()
+                .addOperations(OperationMessage.newBuilder().setType(OperationTypeMessage.UPDATE)
+                        .setId(target.getId()).setExpectedVersion(target.getVersion() + 1000)
+                        .setTransaction(message("1.00", "Stale", JULY)))
+                .build());
+        assertFalse(conflict.getCommitted());
+        assertEquals(OperationStatusMessage.CONFLICT, conflict.getResults(0).getStatus());
+
+        CommitResultMessage applied = stub.commitTransactions(CommitRequestMessage.newBuilder()
+                .addOperations(OperationMessage.newBuilder().setType(OperationTypeMessage.DELETE).setId(target.getId()))
+                .build());
+        assertTrue(applied.getCommitted());
+    }
+
+    @Test
+    @DisplayName("Should export every transaction of the snapshot in a time range, newest id first")
+    void testExport() {
+        for (int i = 0; i < 40; i++) {
+            stub.createTransaction(message("10.00", "Deposit " + i, JULY.plusSeconds(i)));
+        }
+        List<TransactionMessage> all = new ArrayList<>();
+        stub.exportTransactions(ExportTransactionsRequest.getDefaultInstance()).forEachRemaining(all::add);
+        assertEquals(40, all.size());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).getId() > all.get(i).getId());
+        }
+
+        List<TransactionMessage> range = new ArrayList<>();
+        stub.exportTransactions(ExportTransactionsRequest.newBuilder()
+                .setFrom(TransactionProtoMapper.toTimestamp(JULY.plusSeconds(10)))
+                .setTo(TransactionProtoMapper.toTimestamp(JULY.plusSeconds(19)))
+                .build()).forEachRemaining(range::add);
+        assertEquals(10, range.size());
+        assertEquals("Deposit 19", range.get(0).getDescription());
+
+        StatusRuntimeException inverted = assertThrows(StatusRuntimeException.class,
+                () -> stub.exportTransactions(ExportTransactionsRequest.newBuilder()
+                        .setFrom(TransactionProtoMapper.toTimestamp(JULY.plusSeconds(1)))
+                        .setTo(TransactionProtoMapper.toTimestamp(JULY))
+                        .build()).hasNext());
+        assertEquals(Status.Code.INVALID_ARGUMENT, inverted.getStatus().getCode());
+    }
+
+    @Test
+    @DisplayName("Should bulk create a stream in batches and keep the batches before an invalid message")
+    void testBulkCreate() throws Exception {
+        int count = TransactionService.MAX_COMMIT_SIZE * 2 + 30;
+        List<TransactionMessage> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add(message("5.00", "Bulk " + i, JULY));
+        }
+        BulkCreateResult result = bulkCreate(messages).get(5, TimeUnit.SECONDS);
+        assertEquals(count, result.getIdsCount());
+        assertEquals("Bulk 0", stub.getTransaction(id(result.getIds(0))).getDescription());
+        assertEquals(count, repository.count());
+
+        messages.set(TransactionService.MAX_COMMIT_SIZE + 5, message("", "No amount", JULY));
+        ExecutionException failed = assertThrows(ExecutionException.class,
+                () -> bulkCreate(messages).get(5, TimeUnit.SECONDS));
+        Status status = ((StatusRuntimeException) failed.getCause()).getStatus();
+        assertEquals(Status.Code.INVALID_ARGUMENT, status.getCode());
+        assertTrue(status.getDescription().startsWith("Transaction " + (TransactionService.MAX_COMMIT_SIZE + 5)));
+        assertEquals(count + TransactionService.MAX_COMMIT_SIZE, repository.count());
+    }
+
+    private CompletableFuture<BulkCreateResult> bulkCreate(List<TransactionMessage> messages) {
+        CompletableFuture<BulkCreateResult> result = new CompletableFuture<>();
+        StreamObserver<TransactionMessage> requests = asyncStub.bulkCreateTransactions(new StreamObserver<>() {
+            @Override
+            public void onNext(BulkCreateResult value) {
+                result.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                result.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+        messages.forEach(requests::onNext);
+        requests.onCompleted();
+        return result;
+    }
+
+    private static TransactionId id(long id) {
+        return TransactionId.newBuilder().setId(id).build();
+    }
+
+    private static TransactionMessage message(String amount, String description, Instant timestamp) {
+        return TransactionMessage.newBuilder()
+                .setAmount(amount)
+                .setType(TransactionTypeMessage.DEPOSIT)
+                .setDescription(description)
+                .setCategory("Income")
+                .setTimestamp(TransactionProtoMapper.toTimestamp(timestamp))
+                .build();
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.transaction.management;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+
+/**
+ * Garbage collection of this JVM as seen through the collector notifications: pause durations, heap in
+ * use after each collection and bytes allocated, sampled in windows.
+ * <p>
+ * Collectors reporting concurrent cycles rather than pauses (ZGC and Shenandoah "Cycles") are left out
+ * of the pauses. The JVM reports durations in whole milliseconds, so sub-millisecond pauses count as 0.
+ */
+final class GcMonitor implements AutoCloseable {
+    private static final Set<String> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .map(MemoryPoolMXBean::getName)
+            .collect(Collectors.toUnmodifiableSet());
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Collections of one window.
+     *
+     * @param pauses         pause durations in milliseconds
+     * @param minHeapAfterGc least heap in use after a collection in the window, -1 when none ran
+     * @param allocatedBytes bytes allocated by all threads during the window
+     */
+    record Window(Histogram pauses, long minHeapAfterGc, long allocatedBytes) {
+    }
+
+    private final NotificationListener listener = this::handleNotification;
+    private final List<NotificationEmitter> collectors = new ArrayList<>();
+    // Pauses of the current window, in milliseconds
+    private final AtomicReference<Histogram> windowPauses = new AtomicReference<>(new ConcurrentHistogram(3));
+    private final AtomicLong windowMinHeapAfterGc = new AtomicLong(Long.MAX_VALUE);
+    private long allocatedAtWindowStart = THREADS.getTotalThreadAllocatedBytes();
+
+    void start() {
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (collector instanceof NotificationEmitter emitter) {
+                emitter.addNotificationListener(listener, null, null);
+                collectors.add(emitter);
+            }
+        }
+    }
+
+    /** Ends the current window and starts the next. */
+    Window window() {
+        long allocated = THREADS.getTotalThreadAllocatedBytes();
+        long minHeapAfterGc = windowMinHeapAfterGc.getAndSet(Long.MAX_VALUE);
+        Window window = new Window(windowPauses.getAndSet(new ConcurrentHistogram(3)),
+                minHeapAfterGc == Long.MAX_VALUE ? -1 : minHeapAfterGc, allocated - allocatedAtWindowStart);
+        allocatedAtWindowStart = allocated;
+        return window;
+    }
+
+    @Override
+    public void close() {
+        for (NotificationEmitter collector : collectors) {
+            try {
+                collector.removeNotificationListener(listener);
+            } catch (ListenerNotFoundException ignored) {
+                // Never registered or already removed
+            }
+        }
+        collectors.clear();
+    }
+
+    private void handleNotification(Notification notification, Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        GarbageCollectionNotificationInfo info =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        GcInfo gc = info.getGcInfo();
+        if (!info.getGcName().endsWith("Cycles")) {
+            windowPauses.get().recordValue(gc.getDuration());
+        }
+        Map<String, MemoryUsage> after = gc.getMemoryUsageAfterGc();
+        long used = 0;
+        for (String pool : HEAP_POOLS) {
+            MemoryUsage usage = after.get(pool);
+            used += usage != null ? usage.getUsed() : 0;
+        }
+        windowMinHeapAfterGc.accumulateAndGet(used, Math::min);
+    }
+}
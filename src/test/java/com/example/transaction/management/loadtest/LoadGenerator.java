@@ -0,0 +1,406 @@
+package com.example.transaction.management;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Open-loop HTTP load generator for a running instance.
+ * <p>
+ * Requests are issued on a fixed schedule, one every 1/rate seconds, however long responses take, and
+ * each latency is measured from the request's scheduled start rather than from when it was actually
+ * sent. A stalled server therefore shows up as queueing delay in the percentiles instead of silently
+ * lowering the request rate (coordinated omission). Service time, measured from the actual send, is
+ * reported alongside for comparison.
+ * <p>
+ * Run with {@code mvn -Ploadtest test-compile exec:java -Dloadtest.rate=500}; see {@link Settings} for
+ * all options. The report and one HdrHistogram percentile file per operation are written to
+ * {@code loadtest.output}/{@code loadtest.label}.
+ */
+public class LoadGenerator {
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final String TRANSACTION_BODY =
+            "{\"amount\":100.00,\"type\":\"DEPOSIT\",\"description\":\"Load test transaction\",\"category\":\"Load\"}";
+    private static final int PAGES = 10;
+    private static final int PAGE_SIZE = 10;
+
+    enum Operation {
+        READ, LIST, CREATE, UPDATE, DELETE
+    }
+
+    /**
+     * Load test options, read from {@code loadtest.*} system properties.
+     *
+     * @param url        base URL of the instance ({@code loadtest.url})
+     * @param rate       requests per second ({@code loadtest.rate})
+     * @param warmup     run before measuring, at the same rate ({@code loadtest.warmup}, ISO-8601)
+     * @param duration   measured run ({@code loadtest.duration}, ISO-8601)
+     * @param mix        relative weight per operation ({@code loadtest.mix}, e.g. {@code read=50,list=20})
+     * @param preload    transactions created before the run ({@code loadtest.preload})
+     * @param maxInFlight requests outstanding at once; beyond it sending waits, which the latencies include
+     *                    ({@code loadtest.max-in-flight})
+     * @param timeout    per-request timeout ({@code loadtest.timeout}, ISO-8601)
+     * @param label      report name ({@code loadtest.label})
+     * @param output     directory for reports ({@code loadtest.output})
+     */
+    record Settings(String url, int rate, Duration warmup, Duration duration, Map<Operation, Integer> mix,
+                    int preload, int maxInFlight, Duration timeout, String label, Path output) {
+
+        static Settings fromSystemProperties() {
+            return fromSystemProperties(System.getProperty("loadtest.url", "http://localhost:8080"),
+                    "PT10S", "PT60S", "read=50,list=20,create=15,update=10,delete=5", "run");
+        }
+
+        /** Options from the system properties, with the defaults given for the ones a caller varies. */
+        static Settings fromSystemProperties(String url, String warmup, String duration, String mix, String label) {
+            return new Settings(
+                    url,
+                    Integer.getInteger("loadtest.rate", 200),
+                    Duration.parse(System.getProperty("loadtest.warmup", warmup)),
+                    Duration.parse(System.getProperty("loadtest.duration", duration)),
+                    parseMix(System.getProperty("loadtest.mix", mix)),
+                    Integer.getInteger("loadtest.preload", 1000),
+                    Integer.getInteger("loadtest.max-in-flight", 1000),
+                    Duration.parse(System.getProperty("loadtest.timeout", "PT10S")),
+                    System.getProperty("loadtest.label", label),
+                    Path.of(System.getProperty("loadtest.output", "target/loadtest")));
+        }
+
+        static Map<Operation, Integer> parseMix(String mix) {
+            Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+            for (String entry : mix.split(",")) {
+                String[] parts = entry.trim().split("=");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Invalid operation mix entry: " + entry);
+                }
+                weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+            }
+            return weights;
+        }
+    }
+
+    private final Settings settings;
+    private final HttpClient client;
+    private final ExecutorService executor;
+    private final IdPool ids = new IdPool();
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+
+    public LoadGenerator(Settings settings) {
+        this.settings = settings;
+        this.executor = Executors.newFixedThreadPool(4, runnable -> {
+            Thread thread = new Thread(runnable, "load-generator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(settings.timeout())
+                .executor(executor)
+                .build();
+        stats.putAll(newStats());
+    }
+
+    private Map<Operation, OperationStats> newStats() {
+        Map<Operation, OperationStats> operations = new EnumMap<>(Operation.class);
+        for (Operation operation : settings.mix().keySet()) {
+            operations.put(operation, new OperationStats());
+        }
+        return operations;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Settings settings = Settings.fromSystemProperties();
+        Report report = new LoadGenerator(settings).run();
+        report.print(System.out);
+        Path directory = report.write();
+        System.out.println("Report written to " + directory.toAbsolutePath());
+    }
+
+    /** Receives the operations completed within each window of a windowed run. */
+    interface WindowListener {
+        /** The warm-up is over and the first window starts. */
+        default void onStart() {
+        }
+
+        void onWindow(int index, Map<Operation, OperationStats> completed);
+    }
+
+    Report run() throws InterruptedException, IOException {
+        return run(null, null);
+    }
+
+    /**
+     * Run the schedule, also passing the operations completed in every {@code window} of the measured
+     * run to {@code listener}, from the scheduling thread; the last window ends once the outstanding
+     * requests have completed.
+     */
+    Report run(Duration window, WindowListener listener) throws InterruptedException, IOException {
+        try {
+            preload();
+            long intervalNanos = TimeUnit.SECONDS.toNanos(1) / settings.rate();
+            long start = System.nanoTime();
+            long measureFrom = start + settings.warmup().toNanos();
+            long end = measureFrom + settings.duration().toNanos();
+            Operation[] schedule = schedule(settings.mix());
+            Random random = new Random(42);
+            Semaphore inFlight = new Semaphore(settings.maxInFlight());
+            long windowNanos = window != null ? window.toNanos() : Long.MAX_VALUE;
+            long windowEnd = window != null ? measureFrom + windowNanos : Long.MAX_VALUE;
+            int windowIndex = 0;
+            boolean measuring = false;
+            AtomicReference<Map<Operation, OperationStats>> windowStats = new AtomicReference<>(newStats());
+
+            for (long i = 0; ; i++) {
+                long intended = start + i * intervalNanos;
+                if (intended >= end) {
+                    break;
+                }
+                if (listener != null && !measuring && intended >= measureFrom) {
+                    measuring = true;
+                    listener.onStart();
+                }
+                if (intended >= windowEnd) {
+                    listener.onWindow(windowIndex++, windowStats.getAndSet(newStats()));
+                    windowEnd += windowNanos;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = schedule[random.nextInt(schedule.length)];
+                HttpRequest request = request(operation, random);
+                if (request == null) {
+                    continue;
+                }
+                inFlight.acquire();
+                long sent = System.nanoTime();
+                OperationStats operationStats = intended >= measureFrom ? stats.get(operation) : null;
+                client.sendAsync(request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+                    long done = System.nanoTime();
+                    inFlight.release();
+                    if (response != null) {
+                        track(operation, response);
+                    }
+                    if (operationStats != null) {
+                        int status = response == null ? -1 : response.statusCode();
+                        operationStats.record(intended, sent, done, status);
+                        windowStats.get().get(operation).record(intended, sent, done, status);
+                    }
+                });
+            }
+            if (!inFlight.tryAcquire(settings.maxInFlight(), settings.timeout().toMillis() * 2, TimeUnit.MILLISECONDS)) {
+                System.err.println("Some requests were still outstanding when the run ended");
+            }
+            if (listener != null) {
+                listener.onWindow(windowIndex, windowStats.getAndSet(newStats()));
+            }
+            return new Report(settings, stats, Instant.now());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /** Weighted operation schedule: each operation appears as many times as its weight. */
+    private static Operation[] schedule(Map<Operation, Integer> mix) {
+        List<Operation> schedule = new ArrayList<>();
+        mix.forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(operation);
+            }
+        });
+        if (schedule.isEmpty()) {
+            throw new IllegalArgumentException("Operation mix has no weight");
+        }
+        return schedule.toArray(new Operation[0]);
+    }
+
+    private void preload() throws IOException, InterruptedException {
+        for (int i = 0; i < settings.preload(); i++) {
+            HttpResponse<String> response = client.send(create(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Preloading failed with status " + response.statusCode());
+            }
+            track(Operation.CREATE, response);
+        }
+    }
+
+    private HttpRequest request(Operation operation, Random random) {
+        String base = settings.url() + "/api/transactions";
+        return switch (operation) {
+            case CREATE -> create();
+            case LIST -> builder(base + "?page=" + random.nextInt(PAGES) + "&size=" + PAGE_SIZE).GET().build();
+            case READ -> {
+                long id = ids.pick(random);
+                yield id < 0 ? null : builder(base + "/" + id).GET().build();
+            }
+            case UPDATE -> {
+                long id = ids.pick(random);
+                yield id < 0 ? null : builder(base + "/" + id)
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(TRANSACTION_BODY))
+                        .build();
+            }
+            case DELETE -> {
+                long id = ids.take(random);
+                yield id < 0 ? null : builder(base + "/" + id).DELETE().build();
+            }
+        };
+    }
+
+    private HttpRequest create() {
+        return builder(settings.url() + "/api/transactions")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(TRANSACTION_BODY))
+                .build();
+    }
+
+    private HttpRequest.Builder builder(String uri) {
+        return HttpRequest.newBuilder(URI.create(uri)).timeout(settings.timeout());
+    }
+
+    private void track(Operation operation, HttpResponse<String> response) {
+        if (operation == Operation.CREATE && response.statusCode() == 200) {
+            Matcher matcher = ID_PATTERN.matcher(response.body());
+            if (matcher.find()) {
+                ids.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+    }
+
+    /** Latencies in microseconds, from the scheduled start (response) and from the actual send (service). */
+    static final class OperationStats {
+        final Histogram response = new ConcurrentHistogram(3);
+        final Histogram service = new ConcurrentHistogram(3);
+        final LongAdder errors = new LongAdder();
+
+        void record(long intended, long sent, long done, int status) {
+            response.recordValue(TimeUnit.NANOSECONDS.toMicros(done - intended));
+            service.recordValue(TimeUnit.NANOSECONDS.toMicros(done - sent));
+            if (status < 200 || status >= 300) {
+                errors.increment();
+            }
+        }
+    }
+
+    /**
+     * Transaction ids known to exist. Every other id is kept for deletes only, so that no read or update
+     * targets an id that a delete in flight may remove.
+     */
+    private static final class IdPool {
+        private final List<Long> ids = new ArrayList<>();
+        private final List<Long> deletable = new ArrayList<>();
+
+        synchronized void add(long id) {
+            (ids.size() > deletable.size() ? deletable : ids).add(id);
+        }
+
+        synchronized long pick(Random random) {
+            return ids.isEmpty() ? -1 : ids.get(random.nextInt(ids.size()));
+        }
+
+        synchronized long take(Random random) {
+            if (deletable.isEmpty()) {
+                return -1;
+            }
+            int index = random.nextInt(deletable.size());
+            long id = deletable.get(index);
+            deletable.set(index, deletable.get(deletable.size() - 1));
+            deletable.remove(deletable.size() - 1);
+            return id;
+        }
+    }
+
+    /**
+     * Result of one run, in a fixed layout so that reports of different runs can be compared line by line.
+     */
+    record Report(Settings settings, Map<Operation, OperationStats> stats, Instant finishedAt) {
+
+        Histogram total(boolean service) {
+            Histogram total = new Histogram(3);
+            stats.values().forEach(operation -> total.add(service ? operation.service : operation.response));
+            return total;
+        }
+
+        long errors() {
+            return stats.values().stream().mapToLong(operation -> operation.errors.sum()).sum();
+        }
+
+        void print(PrintStream out) {
+            out.println("Load Test Report: " + settings.label());
+            out.println("- Target: " + settings.url());
+            out.printf("- Schedule: open loop, %d requests/s for %s after %s warm-up%n",
+                    settings.rate(), settings.duration(), settings.warmup());
+            StringBuilder mix = new StringBuilder();
+            settings.mix().forEach((operation, weight) ->
+                    mix.append(mix.isEmpty() ? "" : ", ").append(operation.name().toLowerCase(Locale.ROOT)).append('=').append(weight));
+            out.println("- Mix: " + mix);
+            out.println("- Preloaded transactions: " + settings.preload());
+            out.println("- Finished: " + finishedAt);
+            out.println("- Latency is measured from each request's scheduled start (coordinated omission corrected);");
+            out.println("  service time is measured from the actual send. Times in ms.");
+            out.println();
+            out.println("| Operation | Requests | Errors | Throughput | p50 | p90 | p99 | p99.9 | Max | Service p99 |");
+            out.println("|-----------|----------|--------|------------|-----|-----|-----|-------|-----|-------------|");
+            Map<String, Histogram[]> rows = new LinkedHashMap<>();
+            stats.forEach((operation, operationStats) -> rows.put(operation.name().toLowerCase(Locale.ROOT),
+                    new Histogram[]{operationStats.response, operationStats.service}));
+            rows.put("all", new Histogram[]{total(false), total(true)});
+            double seconds = settings.duration().toNanos() / 1e9;
+            rows.forEach((name, histograms) -> {
+                Histogram response = histograms[0];
+                long errors = name.equals("all") ? errors() : stats.get(Operation.valueOf(name.toUpperCase(Locale.ROOT))).errors.sum();
+                out.printf(Locale.ROOT, "| %s | %d | %d | %.1f/s | %.2f | %.2f | %.2f | %.2f | %.2f | %.2f |%n",
+                        name, response.getTotalCount(), errors, response.getTotalCount() / seconds,
+                        millis(response, 50), millis(response, 90), millis(response, 99), millis(response, 99.9),
+                        response.getMaxValue() / 1000.0, millis(histograms[1], 99));
+            });
+        }
+
+        /** Write report.txt and a percentile distribution (.hgrm, in ms) per operation. */
+        Path write() throws IOException {
+            Path directory = settings.output().resolve(settings.label());
+            Files.createDirectories(directory);
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("report.txt")), false, StandardCharsets.UTF_8)) {
+                print(out);
+            }
+            for (Map.Entry<Operation, OperationStats> entry : stats.entrySet()) {
+                Path file = directory.resolve(entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+                try (PrintStream out = new PrintStream(Files.newOutputStream(file), false, StandardCharsets.UTF_8)) {
+                    entry.getValue().response.outputPercentileDistribution(out, 1000.0);
+                }
+            }
+            return directory;
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.repository.TransactionRepository;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Soak run of the application in this JVM: the open-loop workload of {@link LoadGenerator} at a fixed
+ * rate for hours, with creates outnumbering deletes so that the dataset grows, sampled in windows for
+ * throughput, latency, GC pauses, heap in use after GC and allocation rate.
+ * <p>
+ * A run fails when its throughput falls during the run or below a baseline report's, or when the heap
+ * after GC grows faster than the transactions added explain (leak-like growth). The application and
+ * the load generator share the JVM, so allocation includes the client's, a constant cost per request
+ * that leaves builds comparable. Run with {@code mvn -Psoak test-compile exec:exec}; see {@link Settings}
+ * for the options. Reports are written next to the load test reports, to compare with the
+ * {@code summary.properties} of another build.
+ */
+public class SoakRunner {
+    private static final double HOUR = 3600.0;
+    private static final double MB = 1024.0 * 1024.0;
+
+    /**
+     * Soak options, read from {@code soak.*} system properties; the workload is configured with the
+     * {@code loadtest.*} ones, with soak defaults (2 hours after a 5 minute warm-up, label {@code soak}).
+     *
+     * @param load                 workload against the in-process application
+     * @param window               sampling window ({@code soak.window}, ISO-8601)
+     * @param transactionFootprint heap expected per stored transaction; growth beyond it is unexplained
+     *                             ({@code soak.transaction-footprint})
+     * @param maxHeapGrowth        unexplained heap growth per hour tolerated ({@code soak.max-heap-growth})
+     * @param maxThroughputDrop    fraction by which throughput may fall during the run or below the
+     *                             baseline ({@code soak.max-throughput-drop})
+     * @param baseline             {@code summary.properties} of an earlier run to compare with, or
+     *                             {@code null} ({@code soak.baseline})
+     */
+    record Settings(LoadGenerator.Settings load, Duration window, DataSize transactionFootprint,
+                    DataSize maxHeapGrowth, double maxThroughputDrop, Path baseline) {
+
+        static Settings fromSystemProperties(String url) {
+            String baseline = System.getProperty("soak.baseline", "");
+            return new Settings(
+                    LoadGenerator.Settings.fromSystemProperties(url, "PT5M", "PT2H",
+                            "read=40,list=15,create=30,update=10,delete=5", "soak"),
+                    Duration.parse(System.getProperty("soak.window", "PT1M")),
+                    DataSize.parse(System.getProperty("soak.transaction-footprint", "1KB")),
+                    DataSize.parse(System.getProperty("soak.max-heap-growth", "32MB")),
+                    Double.parseDouble(System.getProperty("soak.max-throughput-drop", "0.05")),
+                    baseline.isBlank() ? null : Path.of(baseline));
+        }
+    }
+
+    private final Settings settings;
+    private final LongSupplier storedTransactions;
+
+    /**
+     * @param storedTransactions transactions stored by the application under test
+     */
+    public SoakRunner(Settings settings, LongSupplier storedTransactions) {
+        this.settings = settings;
+        this.storedTransactions = storedTransactions;
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> failures;
+        try (ConfigurableApplicationContext application =
+                     SpringApplication.run(TransactionManagementApplication.class, "--server.port=0")) {
+            String url = "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+            Settings settings = Settings.fromSystemProperties(url);
+            Report report = new SoakRunner(settings, application.getBean(TransactionRepository.class)::count).run();
+            report.print(System.out);
+            Path directory = report.write();
+            failures = report.failures();
+            System.out.println("Report written to " + directory.toAbsolutePath());
+        }
+        failures.forEach(failure -> System.err.println("Soak failed: " + failure));
+        System.exit(failures.isEmpty() ? 0 : 1);
+    }
+
+    Report run() throws InterruptedException, IOException {
+        List<Sample> samples = new ArrayList<>();
+        try (GcMonitor gc = new GcMonitor()) {
+            gc.start();
+            LoadGenerator.Report load = new LoadGenerator(settings.load()).run(settings.window(),
+                    new LoadGenerator.WindowListener() {
+                        @Override
+                        public void onStart() {
+                            gc.window();
+                        }
+
+                        @Override
+                        public void onWindow(int index, Map<LoadGenerator.Operation, LoadGenerator.OperationStats> completed) {
+                            samples.add(Sample.of(index, settings.window(), completed, gc.window(),
+                                    storedTransactions.getAsLong()));
+                        }
+                    });
+            return new Report(settings, load, samples, readBaseline(settings.baseline()));
+        }
+    }
+
+    private static Properties readBaseline(Path baseline) throws IOException {
+        if (baseline == null) {
+            return null;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(baseline, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    /**
+     * One window of the measured run.
+     *
+     * @param minHeapAfterGc least heap in use after a collection during the window, -1 when none ran
+     */
+    record Sample(int index, double endSeconds, long requests, long errors, double p99Millis, Histogram gcPauses,
+                  long minHeapAfterGc, long allocatedBytes, long transactions) {
+
+        static Sample of(int index, Duration window, Map<LoadGenerator.Operation, LoadGenerator.OperationStats> completed,
+                         GcMonitor.Window gc, long transactions) {
+            Histogram response = new Histogram(3);
+            long errors = 0;
+            for (LoadGenerator.OperationStats operation : completed.values()) {
+                response.add(operation.response);
+                errors += operation.errors.sum();
+            }
+            return new Sample(index, (index + 1) * window.toNanos() / 1e9, response.getTotalCount(), errors,
+                    response.getValueAtPercentile(99) / 1000.0, gc.pauses(), gc.minHeapAfterGc(), gc.allocatedBytes(),
+                    transactions);
+        }
+
+        double throughput(Duration window) {
+            return (requests - errors) / (window.toNanos() / 1e9);
+        }
+    }
+
+    /**
+     * Result of one soak run, with a {@code summary.properties} of fixed keys for comparison with other
+     * builds.
+     *
+     * @param baseline summary of the run to compare with, or {@code null}
+     */
+    record Report(Settings settings, LoadGenerator.Report load, List<Sample> samples, Properties baseline) {
+
+        /** Pause durations of the measured run, in milliseconds. */
+        Histogram gcPauses() {
+            Histogram pauses = new Histogram(3);
+            samples.forEach(sample -> pauses.add(sample.gcPauses()));
+            return pauses;
+        }
+
+        /** Summary values under stable keys, in report order. */
+        Map<String, Double> summary() {
+            Map<String, Double> summary = new LinkedHashMap<>();
+            Histogram total = load.total(false);
+            double seconds = settings.load().duration().toNanos() / 1e9;
+            long requests = total.getTotalCount();
+            summary.put("throughput", (requests - load.errors()) / seconds);
+            summary.put("throughput.first-quarter", quarterThroughput(false));
+            summary.put("throughput.last-quarter", quarterThroughput(true));
+            summary.put("errors", (double) load.errors());
+            summary.put("latency.p50-ms", total.getValueAtPercentile(50) / 1000.0);
+            summary.put("latency.p99-ms", total.getValueAtPercentile(99) / 1000.0);
+            summary.put("latency.p999-ms", total.getValueAtPercentile(99.9) / 1000.0);
+            Histogram gcPauses = gcPauses();
+            summary.put("gc.pauses", (double) gcPauses.getTotalCount());
+            summary.put("gc.pause.p50-ms", (double) gcPauses.getValueAtPercentile(50));
+            summary.put("gc.pause.p99-ms", (double) gcPauses.getValueAtPercentile(99));
+            summary.put("gc.pause.max-ms", (double) gcPauses.getMaxValue());
+            summary.put("gc.pause.fraction", gcPauses.getMean() * gcPauses.getTotalCount() / 1000.0 / seconds);
+            long allocated = samples.stream().mapToLong(Sample::allocatedBytes).sum();
+            summary.put("allocation.mb-per-s", allocated / MB / seconds);
+            summary.put("allocation.kb-per-request", requests == 0 ? Double.NaN : allocated / 1024.0 / requests);
+            List<Sample> collected = samples.stream().filter(sample -> sample.minHeapAfterGc() >= 0).toList();
+            summary.put("heap.after-gc.first-mb", collected.isEmpty() ? Double.NaN : collected.get(0).minHeapAfterGc() / MB);
+            summary.put("heap.after-gc.last-mb",
+                    collected.isEmpty() ? Double.NaN : collected.get(collected.size() - 1).minHeapAfterGc() / MB);
+            summary.put("heap.growth-mb-per-hour", heapGrowthPerHour() / MB);
+            summary.put("heap.unexplained-growth-mb-per-hour", unexplainedGrowthPerHour() / MB);
+            summary.put("transactions.first", samples.isEmpty() ? Double.NaN : (double) samples.get(0).transactions());
+            summary.put("transactions.last",
+                    samples.isEmpty() ? Double.NaN : (double) samples.get(samples.size() - 1).transactions());
+            return summary;
+        }
+
+        /**
+         * Failed checks: throughput falling during the run or below the baseline, and heap after GC
+         * growing faster than the transactions added explain. Checks without enough windows are skipped.
+         */
+        List<String> failures() {
+            List<String> failures = new ArrayList<>();
+            double first = quarterThroughput(false);
+            double last = quarterThroughput(true);
+            if (last < first * (1 - settings.maxThroughputDrop())) {
+                failures.add(String.format(Locale.ROOT, "throughput fell from %.1f/s in the first quarter to %.1f/s in the last",
+                        first, last));
+            }
+            double unexplained = unexplainedGrowthPerHour();
+            if (unexplained > settings.maxHeapGrowth().toBytes()) {
+                failures.add(String.format(Locale.ROOT,
+                        "heap after GC grew %.1f MB/hour more than the transactions added explain (at most %.1f)",
+                        unexplained / MB, settings.maxHeapGrowth().toBytes() / MB));
+            }
+            if (baseline != null) {
+                double expected = Double.parseDouble(baseline.getProperty("throughput", "NaN"));
+                double throughput = summary().get("throughput");
+                if (throughput < expected * (1 - settings.maxThroughputDrop())) {
+                    failures.add(String.format(Locale.ROOT, "throughput %.1f/s is below the baseline's %.1f/s",
+                            throughput, expected));
+                }
+            }
+            return failures;
+        }
+
+        /**
+         * Growth of the heap after GC over the second half of the run, when the dataset and caches are
+         * past their start-up, by least squares over the windows with a collection; NaN with fewer than 3.
+         */
+        double heapGrowthPerHour() {
+            return slopePerHour(Sample::minHeapAfterGc);
+        }
+
+        /** Heap growth per hour beyond {@link Settings#transactionFootprint} per transaction added. */
+        double unexplainedGrowthPerHour() {
+            return heapGrowthPerHour() - settings.transactionFootprint().toBytes() * slopePerHour(Sample::transactions);
+        }
+
+        private double slopePerHour(ToLongFunction<Sample> value) {
+            List<Sample> window = samples.subList(samples.size() / 2, samples.size()).stream()
+                    .filter(sample -> sample.minHeapAfterGc() >= 0)
+                    .toList();
+            if (window.size() < 3) {
+                return Double.NaN;
+            }
+            double meanX = window.stream().mapToDouble(Sample::endSeconds).average().orElseThrow();
+            double meanY = window.stream().mapToLong(value).average().orElseThrow();
+            double covariance = 0;
+            double variance = 0;
+            for (Sample sample : window) {
+                double dx = sample.endSeconds() - meanX;
+                covariance += dx * (value.applyAsLong(sample) - meanY);
+                variance += dx * dx;
+            }
+            return covariance / variance * HOUR;
+        }
+
+        /** Mean throughput of the first or last quarter of the windows; NaN with fewer than 4 windows. */
+        private double quarterThroughput(boolean last) {
+            int quarter = samples.size() / 4;
+            if (quarter == 0) {
+                return Double.NaN;
+            }
+            List<Sample> windows = last ? samples.subList(samples.size() - quarter, samples.size()) : samples.subList(0, quarter);
+            return windows.stream().mapToDouble(sample -> sample.throughput(settings.window())).average().orElseThrow();
+        }
+
+        void print(PrintStream out) {
+            load.print(out);
+            out.println();
+            out.println("Soak Report: " + settings.load().label());
+            out.println("- Windows: " + samples.size() + " of " + settings.window());
+            out.println("- Heap growth is fitted over the second half of the run; unexplained growth is beyond "
+                    + settings.transactionFootprint() + " per transaction added");
+            out.println();
+            boolean compared = baseline != null;
+            out.println(compared ? "| Metric | Value | Baseline | Change |" : "| Metric | Value |");
+            out.println(compared ? "|--------|-------|----------|--------|" : "|--------|-------|");
+            summary().forEach((key, value) -> {
+                if (!compared) {
+                    out.printf(Locale.ROOT, "| %s | %s |%n", key, format(value));
+                    return;
+                }
+                double expected = Double.parseDouble(baseline.getProperty(key, "NaN"));
+                out.printf(Locale.ROOT, "| %s | %s | %s | %s |%n", key, format(value), format(expected),
+                        expected != 0 && Double.isFinite(expected) && Double.isFinite(value)
+                                ? String.format(Locale.ROOT, "%+.1f%%", (value - expected) / Math.abs(expected) * 100) : "-");
+            });
+            out.println();
+            List<String> failures = failures();
+            out.println("- Result: " + (failures.isEmpty() ? "passed" : "failed"));
+            failures.forEach(failure -> out.println("  - " + failure));
+            out.println();
+            out.println("| Window | End (s) | Throughput | Errors | p99 (ms) | GC Pauses | Max Pause (ms) | Heap after GC (MB) | Allocation (MB/s) | Transactions |");
+            out.println("|--------|---------|------------|--------|----------|-----------|----------------|--------------------|-------------------|--------------|");
+            double windowSeconds = settings.window().toNanos() / 1e9;
+            for (Sample sample : samples) {
+                out.printf(Locale.ROOT, "| %d | %.0f | %.1f/s | %d | %.2f | %d | %d | %s | %.1f | %d |%n",
+                        sample.index(), sample.endSeconds(), sample.throughput(settings.window()), sample.errors(),
+                        sample.p99Millis(), sample.gcPauses().getTotalCount(), sample.gcPauses().getMaxValue(),
+                        sample.minHeapAfterGc() < 0 ? "-" : String.format(Locale.ROOT, "%.1f", sample.minHeapAfterGc() / MB),
+                        sample.allocatedBytes() / MB / windowSeconds, sample.transactions());
+            }
+        }
+
+        /**
+         * Write the load test report files, then soak.txt, summary.properties (the baseline format),
+         * windows.csv and the GC pause distribution gc-pauses.hgrm (in ms).
+         */
+        Path write() throws IOException {
+            Path directory = load.write();
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("soak.txt")), false, StandardCharsets.UTF_8)) {
+                print(out);
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("summary.properties")), false, StandardCharsets.UTF_8)) {
+                out.println("# Soak summary of " + settings.load().label() + ", " + settings.load().rate() + " requests/s for "
+                        + settings.load().duration());
+                summary().forEach((key, value) -> out.println(key + "=" + format(value)));
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("windows.csv")), false, StandardCharsets.UTF_8)) {
+                out.println("window,end_s,throughput,errors,p99_ms,gc_pauses,gc_pause_max_ms,heap_after_gc_mb,allocation_mb_s,transactions");
+                double windowSeconds = settings.window().toNanos() / 1e9;
+                for (Sample sample : samples) {
+                    out.printf(Locale.ROOT, "%d,%.0f,%.1f,%d,%.2f,%d,%d,%s,%.1f,%d%n", sample.index(), sample.endSeconds(),
+                            sample.throughput(settings.window()), sample.errors(), sample.p99Millis(),
+                            sample.gcPauses().getTotalCount(), sample.gcPauses().getMaxValue(),
+                            sample.minHeapAfterGc() < 0 ? "" : String.format(Locale.ROOT, "%.1f", sample.minHeapAfterGc() / MB),
+                            sample.allocatedBytes() / MB / windowSeconds, sample.transactions());
+                }
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve("gc-pauses.hgrm")), false, StandardCharsets.UTF_8)) {
+                gcPauses().outputPercentileDistribution(out, 1.0);
+            }
+            return directory;
+        }
+
+        private static String format(double value) {
+            return Double.isFinite(value) ? String.format(Locale.ROOT, "%.3f", value) : "NaN";
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.MemoryProperties;
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.memory.MemoryBackpressureInterceptor;
+import com.example.transaction.management.memory.MemoryGovernor;
+import com.example.transaction.management.model.MemoryStats;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.tenant.TenantContext;
+import com.example.transaction.management.tenant.TenantRoutingRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MemoryGovernorTest {
+    private static final long MB = DataSize.ofMegabytes(1).toBytes();
+    private static final long MAX_DELAY = TimeUnit.MILLISECONDS.toNanos(100);
+
+    @TempDir
+    private Path archiveDirectory;
+
+    private SkipListTransactionRepository repository;
+    private AtomicInteger shrinks;
+    private MemoryGovernor governor;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SkipListTransactionRepository(StorageProperties.defaults(), List.of());
+        shrinks = new AtomicInteger();
+        // Caches shrink at 75MB, writes are throttled from 85MB and rejected from 92MB
+        MemoryProperties properties = new MemoryProperties(true, DataSize.ofMegabytes(100), 0.75, 0.85, 0.92,
+                Duration.ofNanos(MAX_DELAY), DataSize.ofKilobytes(1));
+        governor = new MemoryGovernor(properties, repository, shrinks::incrementAndGet, () -> 4096);
+    }
+
+    @Test
+    @DisplayName("Should shrink caches once per collection, then throttle and reject writes as usage grows")
+    void testLevels() {
+        governor.onCollection(50 * MB);
+        assertEquals(MemoryGovernor.Level.NORMAL, governor.level());
+        assertEquals(0, governor.admitWrite());
+        assertEquals(0, shrinks.get());
+
+        governor.onCollection(80 * MB);
+        assertEquals(MemoryGovernor.Level.SHRINK_CACHES, governor.level());
+        assertEquals(0, governor.admitWrite());
+        assertEquals(1, shrinks.get(), "Caches should be emptied once until the next collection");
+
+        governor.onCollection(88 * MB + MB / 2);
+        assertEquals(MemoryGovernor.Level.THROTTLE, governor.level());
+        long delay = governor.admitWrite();
+        assertTrue(delay > MAX_DELAY / 4 && delay < MAX_DELAY * 3 / 4, "Delay should grow towards the reject threshold");
+        assertEquals(2, shrinks.get());
+
+        governor.onCollection(95 * MB);
+        assertEquals(MemoryGovernor.Level.REJECT, governor.level());
+        assertEquals(-1, governor.admitWrite());
+
+        MemoryStats stats = governor.stats();
+        assertEquals("REJECT", stats.level());
+        assertEquals(0, stats.headroom());
+        assertEquals(4096, stats.estimatedCacheBytes());
+        assertEquals(1, stats.throttledWrites());
+        assertEquals(1, stats.rejectedWrites());
+    }
+
+    @Test
+    @DisplayName("Should project transactions stored since the last collection onto its heap usage")
+    void testProjectedUsage() {
+        governor.onCollection(84 * MB);
+        assertEquals(MemoryGovernor.Level.SHRINK_CACHES, governor.level());
+
+        for (int i = 0; i < 2048; i++) {
+            repository.save(transaction("Memory test", TestTransactions.TIMESTAMP));
+        }
+        assertEquals(86 * MB, governor.projectedUsage());
+        assertEquals(MemoryGovernor.Level.THROTTLE, governor.level(), "Creates should be slowed down before the next collection");
+        assertEquals((long) (100 * MB * 0.92) - 86 * MB, governor.stats().headroom());
+        assertEquals(2 * MB, governor.stats().estimatedStoreBytes());
+
+        // The collection has seen them
+        governor.onCollection(85 * MB);
+        assertEquals(85 * MB, governor.projectedUsage());
+    }
+
+    @Test
+    @DisplayName("Should project the transactions stored on heap by every tenant behind the routing repository")
+    void testTenantPartitions() {
+        StorageProperties storage = new StorageProperties(Duration.ofDays(1), null, null, archiveDirectory,
+                Duration.ofMinutes(5), Duration.ofMinutes(1));
+        TenantRoutingRepository routing = new TenantRoutingRepository(new SkipListTransactionRepository(storage, List.of()),
+                Map.of("acme", new SkipListTransactionRepository(storage, List.of())));
+        MemoryProperties properties = new MemoryProperties(true, DataSize.ofMegabytes(100), 0.75, 0.85, 0.92,
+                Duration.ofNanos(MAX_DELAY), DataSize.ofKilobytes(1));
+        MemoryGovernor tenantGovernor = new MemoryGovernor(properties, routing, shrinks::incrementAndGet, () -> 0);
+        tenantGovernor.onCollection(84 * MB);
+
+        for (int i = 0; i < 1024; i++) {
+            routing.save(transaction("Default tenant", TestTransactions.TIMESTAMP));
+        }
+        TenantContext.set("acme");
+        try {
+            for (int i = 0; i < 1024; i++) {
+                routing.save(transaction("Acme", TestTransactions.TIMESTAMP));
+            }
+        } finally {
+            TenantContext.clear();
+        }
+        assertEquals(86 * MB, tenantGovernor.projectedUsage());
+        assertEquals(MemoryGovernor.Level.THROTTLE, tenantGovernor.level());
+
+        // Archived partitions leave the heap
+        routing.archivePartitionsBefore(TestTransactions.TIMESTAMP.plus(Duration.ofDays(1)));
+        assertEquals(0, routing.heapCount());
+        assertEquals(84 * MB, tenantGovernor.projectedUsage());
+    }
+
+    @Test
+    @DisplayName("Should reject creates with 503 and Retry-After but let reads and deletes through")
+    void testInterceptor() throws Exception {
+        MemoryBackpressureInterceptor interceptor = new MemoryBackpressureInterceptor(governor, Duration.ofNanos(MAX_DELAY));
+        governor.onCollection(95 * MB);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ApiException rejected = assertThrows(ApiException.class,
+                () -> interceptor.preHandle(new MockHttpServletRequest("POST", "/api/transactions"), response, null));
+        assertEquals(TransactionErrorType.INSUFFICIENT_MEMORY, rejected.getErrorType());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, rejected.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest("GET", "/api/transactions"), new MockHttpServletResponse(), null));
+        assertTrue(interceptor.preHandle(new MockHttpServletRequest("DELETE", "/api/transactions/1001"), new MockHttpServletResponse(), null));
+    }
+}
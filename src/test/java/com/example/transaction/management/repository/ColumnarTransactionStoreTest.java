@@ -0,0 +1,98 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.ColumnarTransactionStore;
+import com.example.transaction.management.repository.ColumnarTransactionStore.Totals;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ColumnarTransactionStoreTest {
+    private static final Instant DAY_ONE = Instant.parse("2025-07-01T10:00:00Z");
+    private static final Instant DAY_TWO = Instant.parse("2025-07-02T10:00:00Z");
+
+    @TempDir
+    private Path archiveDirectory;
+
+    private ColumnarTransactionStore store;
+    private SkipListTransactionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        store = new ColumnarTransactionStore();
+        repository = new SkipListTransactionRepository(new StorageProperties(
+                Duration.ofDays(1), null, null, archiveDirectory, Duration.ofMinutes(5), Duration.ofMinutes(1)), List.of(store));
+    }
+
+    @Test
+    @DisplayName("Should aggregate by time range, type and category")
+    void testSumAndSumByCategory() {
+        repository.save(transaction("100.50", TransactionType.DEPOSIT, "Income", DAY_ONE));
+        repository.save(transaction("20.25", TransactionType.WITHDRAWAL, "Food", DAY_ONE.plusSeconds(60)));
+        repository.save(transaction("30.00", TransactionType.WITHDRAWAL, "Food", DAY_TWO));
+
+        assertEquals(new Totals(3, 15075), store.sum(Long.MIN_VALUE, Long.MAX_VALUE, null));
+        assertEquals(new Totals(1, 2025), store.sum(millis(DAY_ONE), millis(DAY_ONE.plusSeconds(60)), TransactionType.WITHDRAWAL));
+        assertEquals(new Totals(0, 0), store.sum(millis(DAY_TWO) + 1, Long.MAX_VALUE, null));
+
+        Map<String, Totals> byCategory = store.sumByCategory(Long.MIN_VALUE, Long.MAX_VALUE, null);
+        assertEquals(List.of("Income", "Food"), List.copyOf(byCategory.keySet()));
+        assertEquals(new Totals(2, 5025), byCategory.get("Food"));
+        assertEquals(new BigDecimal("150.75"), ColumnarTransactionStore.toAmount(15075));
+    }
+
+    @Test
+    @DisplayName("Should reflect updates, deletes and clear")
+    void testUpdateDeleteAndClear() {
+        Transaction first = repository.save(transaction("10.00", TransactionType.DEPOSIT, "Income", DAY_ONE));
+        Transaction second = repository.save(transaction("5.00", TransactionType.DEPOSIT, "Income", DAY_ONE));
+
+        Transaction updated = transaction("12.00", TransactionType.TRANSFER, "Savings", DAY_TWO).withId(first.getId());
+        repository.save(updated);
+        repository.deleteById(second.getId());
+
+        assertEquals(1, store.count());
+        assertEquals(new Totals(1, 1200), store.sum(Long.MIN_VALUE, Long.MAX_VALUE, null));
+        assertEquals(Map.of("Savings", new Totals(1, 1200)), store.sumByCategory(Long.MIN_VALUE, Long.MAX_VALUE, null));
+
+        repository.clear();
+        assertEquals(0, store.count());
+        assertEquals(new Totals(0, 0), store.sum(Long.MIN_VALUE, Long.MAX_VALUE, null));
+    }
+
+    @Test
+    @DisplayName("Should keep totals exact across compaction of dead rows")
+    void testCompaction() {
+        int rows = 10_000;
+        for (int i = 0; i < rows; i++) {
+            repository.save(transaction("1.00", TransactionType.DEPOSIT, "Income", DAY_ONE));
+        }
+        // Rewrite every transaction twice so dead rows trigger compaction
+        for (int round = 0; round < 2; round++) {
+            for (long id = 1001; id <= 1000 + rows; id++) {
+                Transaction updated = transaction("2.00", TransactionType.DEPOSIT, "Income", DAY_ONE).withId(id);
+                repository.save(updated);
+            }
+        }
+        assertEquals(rows, store.count());
+        assertEquals(new Totals(rows, rows * 200L), store.sum(Long.MIN_VALUE, Long.MAX_VALUE, TransactionType.DEPOSIT));
+    }
+
+    private static long millis(Instant instant) {
+        return instant.toEpochMilli();
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.repository.DescriptionIndex;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.service.SearchService;
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DescriptionIndexTest {
+    private DescriptionIndex index;
+    private SkipListTransactionRepository repository;
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        index = new DescriptionIndex();
+        repository = new SkipListTransactionRepository(StorageProperties.defaults(), List.of(index));
+        searchService = new SearchService(index, repository);
+    }
+
+    @Test
+    @DisplayName("Should tokenize descriptions into distinct case-folded words")
+    void testTokenize() {
+        assertEquals(List.of("salary", "deposit", "acme", "co", "2025"),
+                List.copyOf(DescriptionIndex.tokenize("Salary deposit - ACME Co. (2025) salary")));
+        assertTrue(DescriptionIndex.tokenize("  --  ").isEmpty());
+        assertTrue(DescriptionIndex.tokenize(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should find transactions containing every query word in descending id order with pagination")
+    void testSearch() {
+        Transaction first = repository.save(transaction("Salary July"));
+        repository.save(transaction("Coffee at Acme"));
+        Transaction third = repository.save(transaction("ACME salary bonus"));
+        Transaction fourth = repository.save(transaction("salary August"));
+
+        assertEquals(List.of(fourth.getId(), third.getId(), first.getId()), ids(searchService.search("SALARY", 0, 10)));
+        assertEquals(List.of(third.getId()), ids(searchService.search("acme salary", 0, 10)));
+        assertEquals(List.of(third.getId()), ids(searchService.search("salary", 1, 1)));
+        assertTrue(searchService.search("rent", 0, 10).isEmpty());
+        assertArrayEquals(new long[]{third.getId(), first.getId()},
+                index.candidates(Set.of("salary"), third.getId(), 10));
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and deletes, including stale postings")
+    void testUpdateAndDelete() {
+        Transaction first = repository.save(transaction("Salary July"));
+        Transaction second = repository.save(transaction("Salary August"));
+
+        Transaction updated = transaction("Rent July").withId(first.getId());
+        repository.save(updated);
+        repository.deleteById(second.getId());
+
+        assertTrue(searchService.search("salary", 0, 10).isEmpty());
+        assertEquals(List.of(first.getId()), ids(searchService.search("rent", 0, 10)));
+
+        // Saved again after a change: the replaced words leave the index
+        repository.save(transaction("Gym membership").withId(first.getId()));
+        assertTrue(searchService.search("rent", 0, 10).isEmpty());
+        assertEquals(List.of(first.getId()), ids(searchService.search("gym", 0, 10)));
+
+        repository.clear();
+        assertEquals(0, index.termCount());
+    }
+
+    @Test
+    @DisplayName("Should drop the postings of deletes whose description is unknown")
+    void testDeleteWithUnknownDescription() {
+        Transaction expired = repository.save(transaction("Archived salary"));
+        Transaction kept = repository.save(transaction("Salary August"));
+
+        // As reported for an archived-only transaction deleted or expired with its segment
+        index.onDelete(expired.getId(), null, 0);
+        assertArrayEquals(new long[]{kept.getId()}, index.candidates(Set.of("salary"), Long.MAX_VALUE, 10));
+
+        // Saved again: its old words go before the new ones are indexed
+        index.onSave(null, transaction("Revived").toStored(expired.getId(), 0L));
+        assertEquals(0, index.candidates(Set.of("archived"), Long.MAX_VALUE, 10).length);
+        assertArrayEquals(new long[]{expired.getId()}, index.candidates(Set.of("revived"), Long.MAX_VALUE, 10));
+
+        repository.clear();
+        for (int i = 0; i < 4096; i++) {
+            index.onDelete(repository.save(transaction("Expired " + i)).getId(), null, 0);
+        }
+        assertEquals(0, index.termCount(), "Accumulated deletes should be purged from every posting");
+    }
+
+    @Test
+    @DisplayName("Should reject empty queries")
+    void testInvalidQuery() {
+        ApiException exception = assertThrows(ApiException.class, () -> searchService.search(" ,. ", 0, 10));
+        assertEquals(TransactionErrorType.INVALID_SEARCH_QUERY, exception.getErrorType());
+    }
+
+    private static List<Long> ids(List<Transaction> transactions) {
+        return transactions.stream().map(Transaction::getId).toList();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.repository.IdGenerator;
+import com.example.transaction.management.repository.SequentialIdGenerator;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.repository.SnowflakeIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IdGeneratorTest {
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("Snowflake ids should carry the creation time and the worker id")
+    void testSnowflakeLayout() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(EPOCH, 5, 64);
+
+        long before = System.currentTimeMillis() - EPOCH.toEpochMilli();
+        long id = generator.nextId();
+        long after = System.currentTimeMillis() - EPOCH.toEpochMilli();
+
+        long millis = id >>> (SnowflakeIdGenerator.WORKER_BITS + SnowflakeIdGenerator.SEQUENCE_BITS);
+        assertTrue(millis >= before && millis <= after, "Timestamp bits should hold the creation time");
+        assertEquals(5, (id >>> SnowflakeIdGenerator.SEQUENCE_BITS) & SnowflakeIdGenerator.MAX_WORKER_ID);
+        assertTrue(id > 0);
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(EPOCH, 1024, 64));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(EPOCH, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Snowflake ids should be unique across threads and workers, and increasing per thread")
+    void testSnowflakeUniqueness() throws InterruptedException {
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        List<Thread> threads = new ArrayList<>();
+        for (int worker = 0; worker < 2; worker++) {
+            SnowflakeIdGenerator generator = new SnowflakeIdGenerator(EPOCH, worker, 16);
+            for (int t = 0; t < 4; t++) {
+                Thread thread = new Thread(() -> {
+                    long previous = 0;
+                    for (int i = 0; i < 50_000; i++) {
+                        long id = generator.nextId();
+                        assertTrue(id > previous, "Ids should increase within a thread");
+                        assertTrue(ids.add(id), "Duplicate id " + id);
+                        previous = id;
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(400_000, ids.size());
+    }
+
+    @Test
+    @DisplayName("Ids claimed later should sort after the earlier blocks")
+    void testSnowflakeTimeOrdering() throws InterruptedException {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(EPOCH, 0, 1);
+        long first = generator.nextId();
+        Thread.sleep(5);
+        long second = generator.nextId();
+
+        assertTrue(second > first);
+        int shift = SnowflakeIdGenerator.WORKER_BITS + SnowflakeIdGenerator.SEQUENCE_BITS;
+        assertTrue((second >>> shift) - (first >>> shift) >= 5, "Later ids should carry a later timestamp");
+    }
+
+    @Test
+    @DisplayName("An idle thread should not hand out ids from its old block")
+    void testSnowflakeStaleBlock() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(EPOCH, 0, 64);
+        ExecutorService idle = Executors.newSingleThreadExecutor();
+        try {
+            // Claims a block, then leaves 63 of its ids unused
+            idle.submit(generator::nextId).get();
+            Thread.sleep(5);
+            long other = generator.nextId();
+            long later = idle.submit(generator::nextId).get();
+
+            assertTrue(later > other, "An id created later should sort after the other thread's id");
+        } finally {
+            idle.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Repository should keep listing newest first with snowflake ids, and keep them across clear")
+    void testRepositoryWithSnowflakeIds() {
+        IdGenerator generator = new SnowflakeIdGenerator(EPOCH, 0, 64);
+        SkipListTransactionRepository repository =
+                new SkipListTransactionRepository(StorageProperties.defaults(), List.of(), generator);
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            created.add(repository.save(transaction()).getId());
+        }
+
+        List<Long> listed = repository.findAll(0, 10).stream().map(Transaction::getId).toList();
+        assertEquals(created.reversed(), listed);
+
+        repository.clear();
+        long afterClear = repository.save(transaction()).getId();
+        assertTrue(afterClear > created.get(9), "Ids should not restart when the store is cleared");
+    }
+
+    @Test
+    @DisplayName("Sequential ids should restart when the store is cleared")
+    void testSequentialReset() {
+        SequentialIdGenerator generator = new SequentialIdGenerator(1000);
+        assertEquals(1001, generator.nextId());
+        assertEquals(1002, generator.nextId());
+        generator.reset();
+        assertEquals(1001, generator.nextId());
+    }
+
+    @Test
+    @DisplayName("Ids should continue above the largest stored id whatever worker created it")
+    void testAdvancePast() {
+        SequentialIdGenerator sequential = new SequentialIdGenerator(1000);
+        sequential.advancePast(5000);
+        sequential.advancePast(10);
+        assertEquals(5001, sequential.nextId());
+
+        // An id stored by another worker with a clock running ahead
+        long ahead = System.currentTimeMillis() - EPOCH.toEpochMilli() + 10_000;
+        long stored = ahead << (SnowflakeIdGenerator.WORKER_BITS + SnowflakeIdGenerator.SEQUENCE_BITS)
+                | 7L << SnowflakeIdGenerator.SEQUENCE_BITS | 5;
+        SnowflakeIdGenerator snowflake = new SnowflakeIdGenerator(EPOCH, 0, 64);
+        snowflake.advancePast(stored);
+        assertTrue(snowflake.nextId() > stored);
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.OrderedIndex;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.service.RankingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderedIndexTest {
+    private static final Instant DAY_ONE = Instant.parse("2025-07-01T10:00:00Z");
+
+    private OrderedIndex index;
+    private SkipListTransactionRepository repository;
+    private RankingService rankingService;
+
+    @BeforeEach
+    void setUp() {
+        index = new OrderedIndex();
+        repository = new SkipListTransactionRepository(StorageProperties.defaults(), List.of(index));
+        rankingService = new RankingService(index, repository);
+    }
+
+    @Test
+    @DisplayName("Should list pages by amount and by timestamp in both directions, ties by id")
+    void testSortedPages() {
+        Transaction small = repository.save(transaction("5.00", TransactionType.DEPOSIT, DAY_ONE.plusSeconds(30)));
+        Transaction large = repository.save(transaction("900.00", TransactionType.WITHDRAWAL, DAY_ONE.plusSeconds(10)));
+        Transaction medium = repository.save(transaction("50.00", TransactionType.DEPOSIT, DAY_ONE.plusSeconds(20)));
+        Transaction tie = repository.save(transaction("50.00", TransactionType.TRANSFER, DAY_ONE));
+
+        assertEquals(List.of(small.getId(), medium.getId(), tie.getId(), large.getId()),
+                ids(rankingService.listSorted("amount", Instant.MIN, Instant.MAX, 0, 10)));
+        assertEquals(List.of(large.getId(), tie.getId()),
+                ids(rankingService.listSorted("AMOUNT, desc", Instant.MIN, Instant.MAX, 0, 2)));
+        assertEquals(List.of(medium.getId(), small.getId()),
+                ids(rankingService.listSorted("amount,desc", Instant.MIN, Instant.MAX, 1, 2)));
+        assertEquals(List.of(tie.getId(), large.getId(), medium.getId(), small.getId()),
+                ids(rankingService.listSorted("timestamp,asc", Instant.MIN, Instant.MAX, 0, 10)));
+        assertEquals(List.of(medium.getId(), large.getId()),
+                ids(rankingService.listSorted("timestamp,desc", DAY_ONE.plusSeconds(1), DAY_ONE.plusSeconds(20), 0, 10)));
+
+        ApiException invalid = assertThrows(ApiException.class,
+                () -> rankingService.listSorted("description", Instant.MIN, Instant.MAX, 0, 10));
+        assertEquals(TransactionErrorType.INVALID_SORT, invalid.getErrorType());
+        assertThrows(ApiException.class, () -> rankingService.listSorted("amount,up", Instant.MIN, Instant.MAX, 0, 10));
+        assertThrows(ApiException.class, () -> rankingService.listSorted("amount", Instant.MIN, Instant.MAX, 1000, 50));
+    }
+
+    @Test
+    @DisplayName("Should move updated transactions and drop deleted ones")
+    void testUpdatesAndDeletes() {
+        Transaction first = repository.save(transaction("10.00", TransactionType.DEPOSIT, DAY_ONE));
+        Transaction second = repository.save(transaction("20.00", TransactionType.DEPOSIT, DAY_ONE));
+        repository.save(transaction("30.00", TransactionType.DEPOSIT, DAY_ONE));
+
+        repository.save(transaction("99.00", TransactionType.DEPOSIT, DAY_ONE).withId(first.getId()));
+        repository.deleteById(second.getId());
+
+        assertEquals(List.of(first.getId(), 1003L), ids(rankingService.top("amount,desc", Instant.MIN, Instant.MAX, null, 10)));
+        assertEquals(2, index.size());
+        repository.clear();
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("Top-K with filters should match a full sort of the filtered transactions")
+    void testTopMatchesFullSort() {
+        Random random = new Random(42);
+        TransactionType[] types = TransactionType.values();
+        for (int i = 0; i < 2000; i++) {
+            repository.save(transaction(BigDecimal.valueOf(random.nextInt(100_000), 2).toPlainString(),
+                    types[random.nextInt(types.length)], DAY_ONE.plusSeconds(random.nextInt(86_400))));
+        }
+        List<Transaction> all = repository.findAll(0, Integer.MAX_VALUE);
+        Instant from = DAY_ONE.plusSeconds(3600);
+        Instant to = DAY_ONE.plusSeconds(7 * 3600);
+
+        Comparator<Transaction> byAmount = Comparator.comparing(Transaction::getAmount).thenComparing(Transaction::getId);
+        Comparator<Transaction> byTimestamp = Comparator.comparing(Transaction::getTimestamp).thenComparing(Transaction::getId);
+        // Amount within a time range (bounded heap) and without one (index walk)
+        assertEquals(expected(all, byAmount.reversed(), from, to, TransactionType.WITHDRAWAL, 20),
+                ids(rankingService.top("amount,desc", from, to, TransactionType.WITHDRAWAL, 20)));
+        assertEquals(expected(all, byAmount, from, to, null, 15),
+                ids(rankingService.top("amount", from, to, null, 15)));
+        assertEquals(expected(all, byAmount.reversed(), Instant.MIN, Instant.MAX, TransactionType.DEPOSIT, 20),
+                ids(rankingService.top("amount,desc", Instant.MIN, Instant.MAX, TransactionType.DEPOSIT, 20)));
+        assertEquals(expected(all, byTimestamp, from, to, TransactionType.TRANSFER, 20),
+                ids(rankingService.top("timestamp", from, to, TransactionType.TRANSFER, 20)));
+        assertThrows(ApiException.class, () -> rankingService.top("amount", Instant.MIN, Instant.MAX, null, 0));
+        assertThrows(ApiException.class, () -> rankingService.top("amount", to, from, null, 10));
+    }
+
+    private static List<Long> expected(List<Transaction> all, Comparator<Transaction> order, Instant from, Instant to,
+            TransactionType type, int limit) {
+        return all.stream()
+                .filter(t -> !t.getTimestamp().isBefore(from) && !t.getTimestamp().isAfter(to))
+                .filter(t -> type == null || t.getType() == type)
+                .sorted(order)
+                .limit(limit)
+                .map(Transaction::getId)
+                .toList();
+    }
+
+    private static List<Long> ids(List<Transaction> transactions) {
+        return transactions.stream().map(Transaction::getId).toList();
+    }
+}
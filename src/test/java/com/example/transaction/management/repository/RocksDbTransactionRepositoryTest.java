@@ -0,0 +1,245 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.RocksDbProperties;
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.model.CommitResult;
+import com.example.transaction.management.model.OperationResult;
+import com.example.transaction.management.model.OperationStatus;
+import com.example.transaction.management.model.OperationType;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionOperation;
+import com.example.transaction.management.repository.RocksDbTransactionRepository;
+import com.example.transaction.management.repository.SequentialIdGenerator;
+import com.example.transaction.management.repository.TransactionChangeListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RocksDbTransactionRepositoryTest {
+    private static final Instant DAY_ONE = Instant.parse("2025-07-01T10:00:00Z");
+    private static final Instant DAY_TWO = Instant.parse("2025-07-02T10:00:00Z");
+    private static final Instant DAY_THREE = Instant.parse("2025-07-03T10:00:00Z");
+
+    @TempDir
+    private Path directory;
+
+    private RocksDbTransactionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = open();
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("Should store, update and delete transactions and list them in descending id order")
+    void testCrud() {
+        for (int i = 0; i < 5; i++) {
+            repository.save(transaction("Transaction " + i, DAY_ONE));
+        }
+        Transaction update = transaction("Updated", DAY_TWO).withId(1002L);
+        repository.save(update);
+        repository.deleteById(1004L);
+        repository.deleteById(999L);
+
+        Transaction stored = repository.findById(1002L).orElseThrow();
+        assertEquals("Updated", stored.getDescription());
+        assertEquals(new BigDecimal("100.00"), stored.getAmount());
+        assertEquals(DAY_TWO, stored.getTimestamp());
+        assertEquals(6L, stored.getVersion());
+        assertTrue(repository.findById(1004L).isEmpty());
+        assertEquals(4, repository.count());
+        assertEquals(List.of(1005L, 1003L, 1002L, 1001L), ids(repository.findAll(0, 10)));
+        assertEquals(List.of(1002L, 1001L), ids(repository.findAll(1, 2)));
+    }
+
+    @Test
+    @DisplayName("Should return transactions within a timestamp range in descending id order")
+    void testFindByTimestampBetween() {
+        Transaction first = repository.save(transaction("First", DAY_ONE));
+        Transaction second = repository.save(transaction("Second", DAY_TWO));
+        Transaction third = repository.save(transaction("Third", DAY_TWO.plusSeconds(60)));
+        repository.save(transaction("Fourth", DAY_THREE));
+        // Moving a transaction out of the range removes its old index entry
+        Transaction moved = transaction("Moved", DAY_THREE.plusSeconds(1)).withId(repository.save(transaction("Moved later", DAY_ONE.plusSeconds(1))).getId());
+        repository.save(moved);
+
+        List<Transaction> result = repository.findByTimestampBetween(DAY_ONE, DAY_TWO.plusSeconds(60), 0, 10);
+        assertEquals(List.of(third.getId(), second.getId(), first.getId()), ids(result));
+
+        result = repository.findByTimestampBetween(DAY_ONE, DAY_TWO.plusSeconds(60), 1, 2);
+        assertEquals(List.of(first.getId()), ids(result));
+    }
+
+    @Test
+    @DisplayName("Should page through a pinned snapshot without duplicates or gaps under concurrent writes")
+    void testSnapshotPagination() {
+        for (int i = 0; i < 10; i++) {
+            repository.save(transaction("Transaction " + i, DAY_ONE));
+        }
+        long snapshot = repository.openSnapshot(null).orElseThrow();
+        List<Long> firstPage = ids(repository.findAll(snapshot, 0, 4));
+        repository.releaseSnapshot(snapshot);
+
+        repository.save(transaction("Created later", DAY_ONE));
+        repository.deleteById(1005L);
+        Transaction update = transaction("Updated later", DAY_TWO).withId(1003L);
+        repository.save(update);
+
+        assertEquals(snapshot, repository.openSnapshot(snapshot).orElseThrow());
+        List<Long> secondPage = ids(repository.findAll(snapshot, 1, 4));
+        List<Transaction> thirdPage = repository.findAll(snapshot, 2, 4);
+        repository.releaseSnapshot(snapshot);
+
+        assertEquals(List.of(1010L, 1009L, 1008L, 1007L), firstPage);
+        assertEquals(List.of(1006L, 1005L, 1004L, 1003L), secondPage);
+        assertEquals(List.of(1002L, 1001L), ids(thirdPage));
+        assertEquals("Transaction 2", repository.findAll(snapshot, 1, 4).get(3).getDescription());
+        assertEquals(List.of(1011L, 1010L, 1009L, 1008L, 1007L, 1006L, 1004L, 1003L), ids(repository.findAll(0, 8)));
+    }
+
+    @Test
+    @DisplayName("Should read id ranges of a snapshot in descending id order")
+    void testFindByIdBetween() {
+        for (int i = 0; i < 10; i++) {
+            repository.save(transaction("Transaction " + i, DAY_ONE));
+        }
+        long snapshot = repository.openSnapshot(null).orElseThrow();
+        assertEquals(List.of(1007L, 1006L, 1005L), ids(repository.findByIdBetween(snapshot, 1003L, 1007L, 3)));
+        repository.deleteById(1004L);
+
+        assertEquals(List.of(1004L, 1003L), ids(repository.findByIdBetween(snapshot, 1003L, 1004L, 3)));
+        assertEquals(List.of(1010L), ids(repository.findByIdBetween(snapshot, 1010L, Long.MAX_VALUE, 10)));
+        assertEquals(List.of(), repository.findByIdBetween(snapshot, 0, 1000L, 10));
+        repository.releaseSnapshot(snapshot);
+    }
+
+    @Test
+    @DisplayName("Should apply nothing and report each failed operation when a commit conflicts")
+    void testCommit() {
+        Transaction stale = repository.save(transaction("Payment", DAY_ONE));
+        long staleVersion = stale.getVersion();
+        Transaction current = transaction("Payment edited elsewhere", DAY_ONE).withId(stale.getId());
+        current = repository.save(current);
+
+        CommitResult rejected = repository.commit(List.of(
+                new TransactionOperation(OperationType.UPDATE, stale.getId(), staleVersion, transaction("Lost update", DAY_ONE)),
+                new TransactionOperation(OperationType.DELETE, 999L, null, null),
+                new TransactionOperation(OperationType.CREATE, null, null, transaction("Refund", DAY_TWO))));
+
+        assertFalse(rejected.committed());
+        assertEquals(new OperationResult(stale.getId(), OperationStatus.CONFLICT, current.getVersion()), rejected.results().get(0));
+        assertEquals(new OperationResult(999L, OperationStatus.NOT_FOUND, null), rejected.results().get(1));
+        assertEquals(new OperationResult(null, OperationStatus.ABORTED, null), rejected.results().get(2));
+        assertEquals(1, repository.count());
+
+        CommitResult applied = repository.commit(List.of(
+                new TransactionOperation(OperationType.UPDATE, stale.getId(), current.getVersion(), transaction("Corrected", DAY_ONE)),
+                new TransactionOperation(OperationType.CREATE, null, null, transaction("Refund", DAY_TWO))));
+
+        assertTrue(applied.committed());
+        assertEquals(1002L, applied.results().get(1).id());
+        assertEquals(applied.version(), repository.findById(stale.getId()).orElseThrow().getVersion());
+        assertEquals(applied.version(), repository.findById(1002L).orElseThrow().getVersion());
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    @DisplayName("Should recover transactions, count, versions and ids when reopened")
+    void testReopen() {
+        for (int i = 0; i < 3; i++) {
+            repository.save(transaction("Transaction " + i, DAY_ONE.plusSeconds(i)));
+        }
+        repository.deleteById(1002L);
+        long version = repository.findById(1003L).orElseThrow().getVersion();
+        repository.close();
+
+        repository = open();
+        assertEquals(2, repository.count());
+        assertEquals(List.of(1003L, 1001L), ids(repository.findAll(0, 10)));
+        assertEquals(1, repository.findByTimestampBetween(DAY_ONE, DAY_ONE, 0, 10).size());
+        Transaction created = repository.save(transaction("After restart", DAY_TWO));
+        assertEquals(1004L, created.getId(), "New ids continue after the stored ones");
+        assertTrue(created.getVersion() > version);
+
+        repository.clear();
+        assertEquals(0, repository.count());
+        assertTrue(repository.findAll(0, 10).isEmpty());
+        assertTrue(repository.findByTimestampBetween(DAY_ONE, DAY_THREE, 0, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should notify listeners of concurrent writes in write order")
+    void testConcurrentWritesNotifiedInOrder() throws InterruptedException {
+        repository.close();
+        List<Long> notified = new CopyOnWriteArrayList<>();
+        repository = open(List.of(new TransactionChangeListener() {
+            @Override
+            public void onSave(Transaction previous, Transaction current) {
+                notified.add(current.getVersion());
+            }
+
+            @Override
+            public void onDelete(long id, Transaction removed, long sequence) {
+                notified.add(sequence);
+            }
+
+            @Override
+            public void onClear() {
+            }
+        }));
+        long id = repository.save(transaction("Moving", DAY_ONE)).getId();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Instant timestamp = t % 2 == 0 ? DAY_ONE : DAY_TWO;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    Transaction update = transaction("Moving", timestamp).withId(id);
+                    repository.save(update);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(2001, notified.size());
+        for (int i = 1; i < notified.size(); i++) {
+            assertTrue(notified.get(i) > notified.get(i - 1), "Listeners should see writes in write order");
+        }
+    }
+
+    private RocksDbTransactionRepository open() {
+        return open(List.of());
+    }
+
+    private RocksDbTransactionRepository open(List<TransactionChangeListener> listeners) {
+        return new RocksDbTransactionRepository(
+                new RocksDbProperties(directory, DataSize.ofMegabytes(8), DataSize.ofMegabytes(4), false),
+                StorageProperties.defaults(), listeners, new SequentialIdGenerator(1000));
+    }
+
+    private static List<Long> ids(List<Transaction> transactions) {
+        return transactions.stream().map(Transaction::getId).toList();
+    }
+}
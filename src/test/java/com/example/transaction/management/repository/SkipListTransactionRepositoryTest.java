@@ -0,0 +1,410 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.model.CommitResult;
+import com.example.transaction.management.model.OperationResult;
+import com.example.transaction.management.model.OperationStatus;
+import com.example.transaction.management.model.OperationType;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionOperation;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.repository.TransactionChangeListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SkipListTransactionRepositoryTest {
+    private static final Instant DAY_ONE = Instant.parse("2025-07-01T10:00:00Z");
+    private static final Instant DAY_TWO = Instant.parse("2025-07-02T10:00:00Z");
+    private static final Instant DAY_THREE = Instant.parse("2025-07-03T10:00:00Z");
+
+    @TempDir
+    private Path archiveDirectory;
+
+    private SkipListTransactionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SkipListTransactionRepository(new StorageProperties(
+                Duration.ofDays(1), Duration.ofDays(1), null, archiveDirectory, Duration.ofMinutes(5), Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("Should return transactions within a timestamp range in descending id order")
+    void testFindByTimestampBetween() {
+        Transaction first = repository.save(transaction("First", DAY_ONE));
+        Transaction second = repository.save(transaction("Second", DAY_TWO));
+        Transaction third = repository.save(transaction("Third", DAY_TWO.plusSeconds(60)));
+        repository.save(transaction("Fourth", DAY_THREE));
+
+        List<Transaction> result = repository.findByTimestampBetween(DAY_ONE, DAY_TWO.plusSeconds(60), 0, 10);
+        assertEquals(List.of(third.getId(), second.getId(), first.getId()), ids(result));
+
+        result = repository.findByTimestampBetween(DAY_ONE, DAY_TWO.plusSeconds(60), 1, 2);
+        assertEquals(List.of(first.getId()), ids(result));
+    }
+
+    @Test
+    @DisplayName("Should store immutable copies that snapshots and readers share while writes install new ones")
+    void testImmutableStoredTransactions() {
+        Transaction submitted = transaction("Original", DAY_ONE);
+        Transaction stored = repository.save(submitted);
+        assertNotSame(submitted, stored);
+        assertNull(submitted.getId());
+        assertNull(submitted.getVersion());
+        assertSame(stored, repository.findById(stored.getId()).orElseThrow());
+
+        long snapshot = repository.openSnapshot(null).getAsLong();
+        Transaction moved = repository.save(transaction("Moved", DAY_TWO).withId(stored.getId()));
+        Transaction created = transaction("Created", DAY_ONE);
+        repository.commit(List.of(new TransactionOperation(OperationType.CREATE, null, null, created)));
+
+        assertSame(stored, repository.findAll(snapshot, 0, 10).get(0));
+        assertEquals("Original", stored.getDescription());
+        assertEquals("Moved", repository.findById(stored.getId()).orElseThrow().getDescription());
+        assertTrue(moved.getVersion() > stored.getVersion());
+        assertNull(created.getId());
+        // The old timestamp is known from the replaced version, so the transaction leaves its partition
+        assertEquals(List.of(stored.getId() + 1), ids(repository.findByTimestampBetween(DAY_ONE, DAY_ONE, 0, 10)));
+        assertEquals(List.of(stored.getId()), ids(repository.findByTimestampBetween(DAY_TWO, DAY_TWO, 0, 10)));
+        repository.releaseSnapshot(snapshot);
+    }
+
+    @Test
+    @DisplayName("Should return transactions that have no setter and no mutable state")
+    void testTransactionsHaveNoMutableState() {
+        assertTrue(Modifier.isFinal(Transaction.class.getModifiers()));
+        for (Method method : Transaction.class.getMethods()) {
+            assertFalse(method.getName().startsWith("set"), method.getName());
+        }
+        // Getters must not leak mutable state either
+        Set<Class<?>> immutableTypes = Set.of(Long.class, BigDecimal.class, TransactionType.class, String.class,
+                Instant.class);
+        for (Field field : Transaction.class.getDeclaredFields()) {
+            assertTrue(Modifier.isFinal(field.getModifiers()), field.getName() + " is not final");
+            assertTrue(immutableTypes.contains(field.getType()), field.getName() + " has a mutable type");
+        }
+
+        Transaction saved = repository.save(transaction("Saved", DAY_ONE));
+        repository.save(transaction("Changed copy", DAY_ONE).withId(saved.getId()));
+        assertEquals("Saved", saved.getDescription());
+    }
+
+    @Test
+    @DisplayName("Should archive old partitions to disk while keeping them queryable by id and time range")
+    void testArchivePartitions() throws Exception {
+        for (int i = 0; i < 600; i++) {
+            repository.save(transaction("Archived " + i, DAY_ONE.plusSeconds(i)));
+        }
+        Transaction hot = repository.save(transaction("Hot", DAY_THREE));
+
+        int archived = repository.archivePartitionsBefore(DAY_TWO);
+        assertEquals(600, archived);
+        assertEquals(601, repository.count());
+        try (Stream<Path> files = Files.walk(archiveDirectory)) {
+            assertEquals(1, files.filter(file -> file.toString().endsWith(".seg")).count());
+        }
+
+        Optional<Transaction> cold = repository.findById(1001L);
+        assertTrue(cold.isPresent());
+        assertEquals("Archived 0", cold.get().getDescription());
+        assertEquals(new BigDecimal("100.00"), cold.get().getAmount());
+        assertEquals(DAY_ONE, cold.get().getTimestamp());
+
+        List<Transaction> firstPage = repository.findAll(0, 3);
+        assertEquals(List.of(hot.getId(), 1600L, 1599L), ids(firstPage));
+        List<Transaction> lastPage = repository.findAll(200, 3);
+        assertEquals(List.of(1001L), ids(lastPage));
+
+        List<Transaction> range = repository.findByTimestampBetween(DAY_ONE, DAY_ONE.plusSeconds(9), 0, 50);
+        assertEquals(10, range.size());
+        assertEquals(1010L, range.get(0).getId());
+    }
+
+    @Test
+    @DisplayName("Should let hot updates and deletes supersede archived copies")
+    void testUpdateAndDeleteArchivedTransactions() {
+        for (int i = 0; i < 10; i++) {
+            repository.save(transaction("Archived " + i, DAY_ONE.plusSeconds(i)));
+        }
+        repository.archivePartitionsBefore(DAY_TWO);
+
+        Transaction update = transaction("Updated", DAY_THREE).withId(1005L);
+        repository.save(update);
+        repository.deleteById(1003L);
+
+        assertEquals("Updated", repository.findById(1005L).orElseThrow().getDescription());
+        assertTrue(repository.findById(1003L).isEmpty());
+        assertEquals(9, repository.count());
+
+        List<Long> all = ids(repository.findAll(0, 50));
+        assertEquals(List.of(1010L, 1009L, 1008L, 1007L, 1006L, 1005L, 1004L, 1002L, 1001L), all);
+    }
+
+    @Test
+    @DisplayName("Should delete archived segments older than the archive retention")
+    void testDropArchives() {
+        repository.save(transaction("Archived", DAY_ONE));
+        repository.archivePartitionsBefore(DAY_TWO);
+
+        assertEquals(1, repository.dropArchivesBefore(DAY_THREE));
+        assertEquals(0, repository.count());
+        assertTrue(repository.findById(1001L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should keep dropped segments readable by reads that already hold them")
+    void testDropArchivesDuringReads() throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < 2; r++) {
+            Thread reader = new Thread(() -> {
+                while (running.get()) {
+                    try {
+                        repository.findAll(0, 50);
+                        repository.findByTimestampBetween(Instant.MIN, Instant.MAX, 0, 50);
+                    } catch (Throwable e) {
+                        failures.add(e);
+                        return;
+                    }
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+        for (int day = 0; day < 200 && failures.isEmpty(); day++) {
+            Instant start = DAY_ONE.plus(Duration.ofDays(day));
+            for (int i = 0; i < 20; i++) {
+                repository.save(transaction("Day " + day, start.plusSeconds(i)));
+            }
+            repository.archivePartitionsBefore(start.plus(Duration.ofDays(1)));
+            // Retention drops the segment the readers saw a moment ago
+            repository.dropArchivesBefore(start);
+        }
+        running.set(false);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        assertEquals(List.of(), failures);
+    }
+
+    @Test
+    @DisplayName("Should read id ranges of a snapshot across hot and archived transactions in batches")
+    void testFindByIdBetween() {
+        for (int i = 0; i < 10; i++) {
+            repository.save(transaction("Archived " + i, DAY_ONE.plusSeconds(i)));
+        }
+        repository.archivePartitionsBefore(DAY_TWO);
+        repository.save(transaction("Hot", DAY_THREE));
+        Transaction update = transaction("Updated", DAY_THREE).withId(1004L);
+        repository.save(update);
+        long snapshot = repository.openSnapshot(null).orElseThrow();
+        repository.deleteById(1004L);
+
+        assertEquals(List.of(1007L, 1006L, 1005L), ids(repository.findByIdBetween(snapshot, 1003L, 1007L, 3)));
+        List<Transaction> next = repository.findByIdBetween(snapshot, 1003L, 1004L, 3);
+        assertEquals(List.of(1004L, 1003L), ids(next));
+        assertEquals("Updated", next.get(0).getDescription());
+        assertEquals(List.of(1011L, 1010L), ids(repository.findByIdBetween(snapshot, 1010L, Long.MAX_VALUE, 10)));
+        assertEquals(List.of(), repository.findByIdBetween(snapshot, 0, 1000L, 10));
+        repository.releaseSnapshot(snapshot);
+    }
+
+    @Test
+    @DisplayName("Should page through a pinned snapshot without duplicates or gaps under concurrent writes")
+    void testSnapshotPagination() {
+        for (int i = 0; i < 10; i++) {
+            repository.save(transaction("Transaction " + i, DAY_ONE));
+        }
+        long snapshot = repository.openSnapshot(null).orElseThrow();
+        List<Long> firstPage = ids(repository.findAll(snapshot, 0, 4));
+        repository.releaseSnapshot(snapshot);
+
+        // Creates shift offsets, deletes and updates change what the latest state shows
+        repository.save(transaction("Created later", DAY_ONE));
+        repository.deleteById(1005L);
+        Transaction update = transaction("Updated later", DAY_TWO).withId(1003L);
+        repository.save(update);
+
+        assertEquals(snapshot, repository.openSnapshot(snapshot).orElseThrow());
+        List<Long> secondPage = ids(repository.findAll(snapshot, 1, 4));
+        List<Transaction> thirdPage = repository.findAll(snapshot, 2, 4);
+        repository.releaseSnapshot(snapshot);
+
+        assertEquals(List.of(1010L, 1009L, 1008L, 1007L), firstPage);
+        assertEquals(List.of(1006L, 1005L, 1004L, 1003L), secondPage);
+        assertEquals(List.of(1002L, 1001L), ids(thirdPage));
+        assertEquals("Transaction 2", repository.findAll(snapshot, 1, 4).get(3).getDescription());
+        // The latest state reflects every write
+        assertEquals(List.of(1011L, 1010L, 1009L, 1008L, 1007L, 1006L, 1004L, 1003L), ids(repository.findAll(0, 8)));
+        assertEquals("Updated later", repository.findById(1003L).orElseThrow().getDescription());
+        assertEquals(10, repository.count());
+    }
+
+    @Test
+    @DisplayName("Should remove archive directories left by stopped processes but keep those of running stores")
+    void testStaleArchiveDirectories() throws Exception {
+        // Named after pid 1, which is alive in a container whatever process left the directory behind
+        Path stale = Files.createDirectories(archiveDirectory.resolve("segments-1-1"));
+        Files.write(stale.resolve("partition-1751364000-1.seg"), new byte[16]);
+        repository.save(transaction("Running", DAY_ONE));
+        repository.archivePartitionsBefore(DAY_TWO);
+
+        SkipListTransactionRepository next = new SkipListTransactionRepository(new StorageProperties(
+                Duration.ofDays(1), Duration.ofDays(1), null, archiveDirectory, Duration.ofMinutes(5), Duration.ofMinutes(1)));
+        next.save(transaction("Next", DAY_ONE));
+        assertEquals(1, next.archivePartitionsBefore(DAY_TWO));
+
+        assertFalse(Files.exists(stale));
+        try (Stream<Path> files = Files.walk(archiveDirectory)) {
+            assertEquals(2, files.filter(file -> file.toString().endsWith(".seg")).count());
+        }
+        assertEquals("Running", repository.findById(1001L).orElseThrow().getDescription());
+        assertEquals("Next", next.findById(1001L).orElseThrow().getDescription());
+    }
+
+    @Test
+    @DisplayName("Should collect superseded versions once no snapshot can see them")
+    void testVersionCollection() {
+        SkipListTransactionRepository shortLived = new SkipListTransactionRepository(new StorageProperties(
+                Duration.ofDays(1), null, null, archiveDirectory, Duration.ofMinutes(5), Duration.ZERO));
+        Transaction original = shortLived.save(transaction("Original", DAY_ONE));
+        shortLived.save(transaction("Deleted later", DAY_ONE));
+
+        long snapshot = shortLived.openSnapshot(null).orElseThrow();
+        Transaction update = transaction("Updated", DAY_ONE).withId(original.getId());
+        shortLived.save(update);
+        shortLived.deleteById(1002L);
+
+        // A reader still at the snapshot keeps the old versions reachable
+        assertEquals(0, shortLived.collectVersions());
+        List<Transaction> pinned = shortLived.findAll(snapshot, 0, 10);
+        assertEquals(List.of(1002L, 1001L), ids(pinned));
+        assertEquals("Original", pinned.get(1).getDescription());
+
+        shortLived.releaseSnapshot(snapshot);
+        assertEquals(2, shortLived.collectVersions(), "Both the updated and the deleted chain are trimmed");
+        assertTrue(shortLived.openSnapshot(snapshot).isEmpty(), "Expired snapshots cannot be reopened");
+        assertEquals(List.of(1001L), ids(shortLived.findAll(0, 10)));
+        assertEquals("Updated", shortLived.findById(1001L).orElseThrow().getDescription());
+        assertEquals(1, shortLived.count());
+    }
+
+    @Test
+    @DisplayName("Should apply every operation of a commit under one version")
+    void testAtomicCommit() {
+        Transaction reversed = repository.save(transaction("Payment", DAY_ONE));
+        Transaction obsolete = repository.save(transaction("Obsolete", DAY_ONE));
+        long before = repository.openSnapshot(null).orElseThrow();
+
+        Transaction correction = transaction("Payment corrected", DAY_ONE);
+        CommitResult result = repository.commit(List.of(
+                new TransactionOperation(OperationType.UPDATE, reversed.getId(), reversed.getVersion(), correction),
+                new TransactionOperation(OperationType.DELETE, obsolete.getId(), null, null),
+                new TransactionOperation(OperationType.CREATE, null, null, transaction("Refund", DAY_TWO))));
+
+        assertTrue(result.committed());
+        assertEquals(List.of(OperationStatus.APPLIED, OperationStatus.APPLIED, OperationStatus.APPLIED),
+                result.results().stream().map(OperationResult::status).toList());
+        assertEquals(1003L, result.results().get(2).id());
+        assertEquals(result.version(), repository.findById(reversed.getId()).orElseThrow().getVersion());
+        assertEquals("Payment corrected", repository.findById(reversed.getId()).orElseThrow().getDescription());
+        assertTrue(repository.findById(obsolete.getId()).isEmpty());
+        assertEquals(2, repository.count());
+        // Readers at the earlier snapshot see none of the commit
+        assertEquals(List.of(1002L, 1001L), ids(repository.findAll(before, 0, 10)));
+    }
+
+    @Test
+    @DisplayName("Should apply nothing and report each failed operation when a commit conflicts")
+    void testCommitConflict() {
+        Transaction stale = repository.save(transaction("Payment", DAY_ONE));
+        long staleVersion = stale.getVersion();
+        Transaction current = transaction("Payment edited elsewhere", DAY_ONE).withId(stale.getId());
+        current = repository.save(current);
+
+        CommitResult result = repository.commit(List.of(
+                new TransactionOperation(OperationType.UPDATE, stale.getId(), staleVersion, transaction("Lost update", DAY_ONE)),
+                new TransactionOperation(OperationType.DELETE, 999L, null, null),
+                new TransactionOperation(OperationType.CREATE, null, null, transaction("Refund", DAY_TWO))));
+
+        assertFalse(result.committed());
+        assertNull(result.version());
+        assertEquals(new OperationResult(stale.getId(), OperationStatus.CONFLICT, current.getVersion()), result.results().get(0));
+        assertEquals(new OperationResult(999L, OperationStatus.NOT_FOUND, null), result.results().get(1));
+        assertEquals(new OperationResult(null, OperationStatus.ABORTED, null), result.results().get(2));
+        assertEquals("Payment edited elsewhere", repository.findById(stale.getId()).orElseThrow().getDescription());
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    @DisplayName("Should report concurrent writes of one id in commit order and index the latest one")
+    void testConcurrentWritesReportedInOrder() throws InterruptedException {
+        List<Long> reported = new CopyOnWriteArrayList<>();
+        repository = new SkipListTransactionRepository(StorageProperties.defaults(), List.of(new TransactionChangeListener() {
+            @Override
+            public void onSave(Transaction previous, Transaction current) {
+                reported.add(current.getVersion());
+            }
+
+            @Override
+            public void onDelete(long id, Transaction removed, long sequence) {
+                reported.add(sequence);
+            }
+
+            @Override
+            public void onClear() {
+            }
+        }));
+        long id = repository.save(transaction("Moving", DAY_ONE)).getId();
+
+        // Updates alternate between two partitions, so an update reported out of order unindexes the latest
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Instant timestamp = t % 2 == 0 ? DAY_ONE : DAY_TWO;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 2_000; i++) {
+                    Transaction update = transaction("Moving", timestamp).withId(id);
+                    repository.save(update);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (int i = 1; i < reported.size(); i++) {
+            assertTrue(reported.get(i) > reported.get(i - 1), "Writes should be reported in commit order");
+        }
+        Transaction latest = repository.findById(id).orElseThrow();
+        assertEquals(List.of(id), ids(repository.findByTimestampBetween(latest.getTimestamp(), latest.getTimestamp(), 0, 10)));
+    }
+
+    private static List<Long> ids(List<Transaction> transactions) {
+        return transactions.stream().map(Transaction::getId).toList();
+    }
+}
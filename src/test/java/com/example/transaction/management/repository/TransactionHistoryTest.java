@@ -0,0 +1,279 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.model.TransactionVersion;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.repository.TransactionHistory;
+import com.example.transaction.management.repository.TransactionHistory.AsOf;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransactionHistoryTest {
+    private static final Instant JULY = Instant.parse("2025-07-01T00:00:00Z");
+
+    @TempDir
+    private Path archiveDirectory;
+
+    // Commit time of the next change; tests move it forward explicitly
+    private final AtomicLong now = new AtomicLong(JULY.toEpochMilli());
+    private TransactionHistory history;
+    private SkipListTransactionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        history = new TransactionHistory(archiveDirectory, now::get);
+        repository = new SkipListTransactionRepository(StorageProperties.defaults(), List.of(history));
+    }
+
+    @AfterEach
+    void tearDown() {
+        history.close();
+    }
+
+    @Test
+    @DisplayName("Should record every version of a transaction, including its delete")
+    void testVersions() {
+        Transaction created =
+                repository.save(transaction("10.00", TransactionType.DEPOSIT, "Groceries", "History", JULY));
+        List<Transaction> saved = new ArrayList<>(List.of(created));
+        // More updates than fit between two complete versions
+        for (int i = 1; i <= 40; i++) {
+            Transaction last = saved.get(saved.size() - 1);
+            Transaction update = new Transaction(last.getId(),
+                    i % 3 == 0 ? last.getAmount() : new BigDecimal(10 + i + ".00"), last.getType(),
+                    i % 3 == 0 ? "Groceries " + i : last.getDescription(), last.getCategory(), last.getTimestamp(), null);
+            saved.add(repository.save(update));
+        }
+        repository.deleteById(created.getId());
+
+        List<TransactionVersion> versions = history.versions(created.getId());
+        assertEquals(42, versions.size());
+        for (int i = 0; i < saved.size(); i++) {
+            assertFalse(versions.get(i).deleted());
+            assertEquals(saved.get(i).getVersion(), versions.get(i).sequence());
+            assertSameFields(saved.get(i), versions.get(i).transaction());
+        }
+        TransactionVersion deleted = versions.get(41);
+        assertTrue(deleted.deleted());
+        assertNull(deleted.transaction());
+        assertTrue(deleted.sequence() > versions.get(40).sequence());
+        assertTrue(history.versions(created.getId() + 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should read a transaction as of a sequence or a time")
+    void testFindAsOf() {
+        Transaction created = repository.save(transaction("10.00", TransactionType.DEPOSIT, "Rent", "History", JULY));
+        now.addAndGet(1_000);
+        Transaction updated = repository.save(withAmount(created, "12.50"));
+        now.addAndGet(1_000);
+        repository.deleteById(created.getId());
+        long id = created.getId();
+
+        assertEquals(Optional.empty(), history.findAsOf(id, AsOf.sequence(created.getVersion() - 1)));
+        assertSameFields(created, history.findAsOf(id, AsOf.sequence(created.getVersion())).orElseThrow());
+        assertSameFields(updated, history.findAsOf(id, AsOf.sequence(updated.getVersion())).orElseThrow());
+        assertEquals(Optional.empty(), history.findAsOf(id, AsOf.sequence(Long.MAX_VALUE)));
+
+        assertEquals(Optional.empty(), history.findAsOf(id, AsOf.time(JULY.minusMillis(1))));
+        assertSameFields(created, history.findAsOf(id, AsOf.time(JULY.plusMillis(999))).orElseThrow());
+        assertSameFields(updated, history.findAsOf(id, AsOf.time(JULY.plusSeconds(1))).orElseThrow());
+        assertEquals(Optional.empty(), history.findAsOf(id, AsOf.time(JULY.plusSeconds(2))));
+        assertEquals(Optional.empty(), history.findAsOf(id, AsOf.time(Instant.MAX)));
+        assertEquals(Optional.empty(), history.findAsOf(id, AsOf.time(Instant.MIN)));
+    }
+
+    @Test
+    @DisplayName("Should compact old versions to disk and answer the same reads from there")
+    void testCompaction() throws Exception {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            transactions.add(repository.save(transaction(i + ".00", TransactionType.DEPOSIT, "Compacted " + i,
+                    "History", JULY)));
+        }
+        now.addAndGet(60_000);
+        for (int i = 0; i < 600; i += 2) {
+            repository.save(withAmount(transactions.get(i), i + ".99"));
+        }
+        for (int i = 1; i < 600; i += 3) {
+            repository.deleteById(transactions.get(i).getId());
+        }
+        long firstSequence = transactions.get(0).getVersion();
+        long middleSequence = transactions.get(599).getVersion();
+        Instant middleTime = JULY.plusSeconds(30);
+        List<List<TransactionVersion>> before = new ArrayList<>();
+        for (Transaction transaction : transactions) {
+            before.add(history.versions(transaction.getId()));
+        }
+        List<Transaction> pageBefore = history.findAllAsOf(AsOf.sequence(middleSequence), 100, 50);
+        long hotBefore = history.hotVersionCount();
+
+        assertEquals(600, history.compact(middleTime));
+        assertEquals(hotBefore - 600, history.hotVersionCount());
+        assertEquals(1, history.segmentCount());
+        try (Stream<Path> files = Files.walk(archiveDirectory)) {
+            assertEquals(1, files.filter(file -> file.toString().endsWith(".hist")).count());
+        }
+
+        for (int i = 0; i < transactions.size(); i++) {
+            List<TransactionVersion> after = history.versions(transactions.get(i).getId());
+            assertEquals(before.get(i).size(), after.size());
+            for (int v = 0; v < after.size(); v++) {
+                assertEquals(before.get(i).get(v).sequence(), after.get(v).sequence());
+                assertEquals(before.get(i).get(v).committedAt(), after.get(v).committedAt());
+                assertEquals(before.get(i).get(v).deleted(), after.get(v).deleted());
+                if (!after.get(v).deleted()) {
+                    assertSameFields(before.get(i).get(v).transaction(), after.get(v).transaction());
+                }
+            }
+        }
+        assertSameFields(transactions.get(0), history.findAsOf(transactions.get(0).getId(), AsOf.sequence(firstSequence)).orElseThrow());
+        assertSameFields(transactions.get(6), history.findAsOf(transactions.get(6).getId(), AsOf.time(middleTime)).orElseThrow());
+        assertEquals(new BigDecimal("6.99"), history.findAsOf(transactions.get(6).getId(), AsOf.sequence(Long.MAX_VALUE))
+                .orElseThrow().getAmount());
+        List<Transaction> pageAfter = history.findAllAsOf(AsOf.sequence(middleSequence), 100, 50);
+        assertEquals(ids(pageBefore), ids(pageAfter));
+        assertEquals(transactions.get(499).getId(), pageAfter.get(0).getId());
+
+        // Transactions whose versions all moved to disk keep recording new ones
+        Transaction third = transactions.get(3);
+        Transaction updated = repository.save(withAmount(third, "3.33"));
+        assertEquals(List.of(third.getVersion(), updated.getVersion()),
+                history.versions(third.getId()).stream().map(TransactionVersion::sequence).toList());
+
+        now.addAndGet(1);
+        assertEquals(hotBefore - 600 + 1, history.compact(Instant.ofEpochMilli(now.get())));
+        assertEquals(0, history.hotVersionCount());
+        assertEquals(2, history.segmentCount());
+        assertEquals(new BigDecimal("3.33"), history.findAsOf(third.getId(), AsOf.sequence(Long.MAX_VALUE))
+                .orElseThrow().getAmount());
+    }
+
+    @Test
+    @DisplayName("Should list the transactions that existed at a point, newest id first")
+    void testFindAllAsOf() {
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            transactions.add(repository.save(transaction(i + ".00", TransactionType.DEPOSIT, "Listed " + i,
+                    "History", JULY)));
+        }
+        long point = transactions.get(9).getVersion();
+        repository.deleteById(transactions.get(8).getId());
+        repository.save(withAmount(transactions.get(7), "70.00"));
+        repository.save(transaction("99.00", TransactionType.DEPOSIT, "Later", "History", JULY));
+
+        List<Transaction> page = history.findAllAsOf(AsOf.sequence(point), 0, 4);
+        assertEquals(List.of(transactions.get(9).getId(), transactions.get(8).getId(), transactions.get(7).getId(),
+                transactions.get(6).getId()), ids(page));
+        assertEquals(new BigDecimal("7.00"), page.get(2).getAmount());
+
+        List<Transaction> current = history.findAllAsOf(AsOf.sequence(Long.MAX_VALUE), 1, 3);
+        assertEquals(List.of(transactions.get(9).getId(), transactions.get(7).getId(), transactions.get(6).getId()),
+                ids(current));
+        assertEquals(new BigDecimal("70.00"), current.get(1).getAmount());
+        assertTrue(history.findAllAsOf(AsOf.sequence(point), 10, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should forget history past the retention but keep the last version of each transaction")
+    void testDropBefore() {
+        Transaction untouched =
+                repository.save(transaction("1.00", TransactionType.DEPOSIT, "Untouched", "History", JULY));
+        Transaction changed = repository.save(transaction("2.00", TransactionType.DEPOSIT, "Changed", "History", JULY));
+        Transaction deleted = repository.save(transaction("3.00", TransactionType.DEPOSIT, "Deleted", "History", JULY));
+        now.addAndGet(1_000);
+        Transaction update = repository.save(withAmount(changed, "2.50"));
+        repository.deleteById(deleted.getId());
+        now.addAndGet(1_000);
+        Transaction latest = repository.save(withAmount(update, "2.75"));
+        history.compact(JULY.plusSeconds(1));
+        history.compact(JULY.plusSeconds(2));
+        assertEquals(2, history.segmentCount());
+
+        assertEquals(2, history.dropBefore(JULY.plusSeconds(2)));
+        assertEquals(1, history.segmentCount());
+        assertEquals(0, history.dropBefore(JULY.plusSeconds(2)));
+        assertEquals(List.of(untouched.getVersion()),
+                history.versions(untouched.getId()).stream().map(TransactionVersion::sequence).toList());
+        assertEquals(List.of(update.getVersion(), latest.getVersion()),
+                history.versions(changed.getId()).stream().map(TransactionVersion::sequence).toList());
+        assertTrue(history.versions(deleted.getId()).isEmpty());
+        assertSameFields(untouched, history.findAsOf(untouched.getId(), AsOf.time(JULY.plusSeconds(5))).orElseThrow());
+        assertSameFields(latest, history.findAsOf(changed.getId(), AsOf.time(JULY.plusSeconds(5))).orElseThrow());
+        assertEquals(Optional.empty(), history.findAsOf(deleted.getId(), AsOf.time(JULY.plusSeconds(5))));
+    }
+
+    @Test
+    @DisplayName("Should clear history with the repository and delete its files on close")
+    void testClearAndClose() throws Exception {
+        Transaction transaction =
+                repository.save(transaction("1.00", TransactionType.DEPOSIT, "Cleared", "History", JULY));
+        now.addAndGet(1);
+        history.compact(Instant.ofEpochMilli(now.get()));
+        repository.save(withAmount(transaction, "2.00"));
+
+        repository.clear();
+        assertTrue(history.versions(transaction.getId()).isEmpty());
+        assertEquals(0, history.hotVersionCount());
+        assertEquals(0, history.segmentCount());
+
+        history.close();
+        try (Stream<Path> files = Files.list(archiveDirectory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should remove history directories left by stopped processes but keep those of running histories")
+    void testStaleDirectories() throws Exception {
+        // Named after pid 1, which is alive in a container whatever process left the directory behind
+        Path stale = Files.createDirectories(archiveDirectory.resolve("history-1-1"));
+        Files.write(stale.resolve("history-1.hist"), new byte[16]);
+        repository.save(transaction("1.00", TransactionType.DEPOSIT, "Running", "History", JULY));
+        now.addAndGet(1);
+        history.compact(Instant.ofEpochMilli(now.get()));
+
+        try (TransactionHistory next = new TransactionHistory(archiveDirectory, now::get)) {
+            assertFalse(Files.exists(stale));
+            assertEquals(1, history.segmentCount());
+            assertEquals("Running", history.versions(1001L).get(0).transaction().getDescription());
+        }
+    }
+
+    private static void assertSameFields(Transaction expected, Transaction actual) {
+        assertEquals(expected.getId(), actual.getId());
+        assertEquals(expected.getAmount(), actual.getAmount());
+        assertEquals(expected.getType(), actual.getType());
+        assertEquals(expected.getDescription(), actual.getDescription());
+        assertEquals(expected.getCategory(), actual.getCategory());
+        assertEquals(expected.getTimestamp(), actual.getTimestamp());
+        assertEquals(expected.getVersion(), actual.getVersion());
+    }
+
+    private static List<Long> ids(List<Transaction> transactions) {
+        return transactions.stream().map(Transaction::getId).toList();
+    }
+
+    private static Transaction withAmount(Transaction stored, String amount) {
+        return new Transaction(stored.getId(), new BigDecimal(amount), stored.getType(), stored.getDescription(),
+                stored.getCategory(), stored.getTimestamp(), null);
+    }
+}
@@ -0,0 +1,158 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.StatsProperties;
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.ColumnarTransactionStore;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.repository.TransactionSketches;
+import com.example.transaction.management.sketch.HyperLogLog;
+import com.example.transaction.management.sketch.KllSketch;
+import com.example.transaction.management.sketch.SpaceSaving;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TransactionSketchesTest {
+    private static final Instant START = Instant.parse("2025-07-01T00:00:00Z");
+
+    private TransactionSketches sketches;
+    private SkipListTransactionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        ColumnarTransactionStore store = new ColumnarTransactionStore();
+        sketches = new TransactionSketches(new StatsProperties(Duration.ofHours(1), 24, 2, 200, 12, 8), store);
+        repository = new SkipListTransactionRepository(StorageProperties.defaults(), List.of(store, sketches));
+    }
+
+    @Test
+    @DisplayName("KLL quantiles should stay within the rank error, also after merging")
+    void testKllQuantiles() {
+        Random random = new Random(42);
+        double[] values = new double[200_000];
+        KllSketch left = new KllSketch(200);
+        KllSketch right = new KllSketch(200);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian() * 2);
+            (i % 2 == 0 ? left : right).update(values[i]);
+        }
+        left.merge(right);
+        Arrays.sort(values);
+
+        assertEquals(values.length, left.count());
+        assertTrue(left.retained() < 1000, "Memory should not grow with the stream: " + left.retained());
+        assertEquals(values[0], left.quantile(0));
+        assertEquals(values[values.length - 1], left.quantile(1));
+        for (double q : new double[] {0.01, 0.25, 0.5, 0.9, 0.99}) {
+            double rank = (double) Arrays.binarySearch(values, left.quantile(q)) / values.length;
+            assertEquals(q, rank, 0.02, "Rank of quantile " + q);
+        }
+    }
+
+    @Test
+    @DisplayName("HyperLogLog should estimate distinct counts within a few percent")
+    void testHyperLogLog() {
+        HyperLogLog small = new HyperLogLog(12);
+        HyperLogLog large = new HyperLogLog(12);
+        for (int i = 0; i < 50; i++) {
+            small.add("category-" + i);
+            small.add("category-" + i);
+        }
+        for (int i = 0; i < 100_000; i++) {
+            large.add("merchant-" + i);
+        }
+        assertEquals(50, small.estimate(), 1);
+        assertEquals(100_000, large.estimate(), 100_000 * 0.05);
+
+        small.merge(large);
+        assertEquals(100_050, small.estimate(), 100_050 * 0.05);
+    }
+
+    @Test
+    @DisplayName("Space-Saving should keep every heavy hitter with bounded overestimation")
+    void testSpaceSaving() {
+        SpaceSaving first = new SpaceSaving(8);
+        SpaceSaving second = new SpaceSaving(8);
+        Random random = new Random(7);
+        for (int i = 0; i < 10_000; i++) {
+            SpaceSaving target = i % 2 == 0 ? first : second;
+            // Three heavy categories among a long tail
+            target.add(i % 4 == 0 ? "Food" : i % 4 == 1 ? "Rent" : i % 8 == 2 ? "Income" : "tail-" + random.nextInt(500));
+        }
+        first.merge(second);
+
+        List<SpaceSaving.Item> top = first.top(3);
+        assertEquals(List.of("Food", "Rent", "Income"), top.stream().map(SpaceSaving.Item::item).toList());
+        assertTrue(top.get(0).count() >= 2500 && top.get(0).count() - top.get(0).error() <= 2500);
+        assertTrue(top.get(2).count() >= 1250 && top.get(2).count() - top.get(2).error() <= 1250);
+    }
+
+    @Test
+    @DisplayName("Should summarize the live transactions in the buckets overlapping a range")
+    void testSummarizeByBucket() {
+        for (int i = 0; i < 100; i++) {
+            repository.save(sketched(START.plusSeconds(60L * i), i + 1, i % 10 == 0 ? "Rent" : "Food"));
+        }
+        Transaction late = repository.save(sketched(START.plus(Duration.ofHours(5)), 5000, "Travel"));
+
+        TransactionSketches.Summary all = sketches.summarize(Instant.MIN, Instant.MAX);
+        assertEquals(101, all.amounts().count());
+        assertEquals(3, all.categories().estimate());
+        assertEquals(5000, all.amounts().quantile(1));
+        assertEquals("Food", all.topCategories().top(1).get(0).item());
+
+        // The first hour bucket only, queried from within it
+        TransactionSketches.Summary firstHour = sketches.summarize(START.plusSeconds(30), START.plusSeconds(3599));
+        assertEquals(60, firstHour.amounts().count());
+        assertEquals(2, firstHour.categories().estimate());
+
+        // An update replaces the observation of the old version, also when it moves to another bucket
+        repository.save(sketched(late.getTimestamp(), 6000, "Rent").withId(late.getId()));
+        repository.save(repository.findById(1001L).orElseThrow().withTimestamp(START.plus(Duration.ofHours(2))));
+        all = sketches.summarize(Instant.MIN, Instant.MAX);
+        assertEquals(101, all.amounts().count());
+        assertEquals(6000, all.amounts().quantile(1));
+        assertEquals(2, all.categories().estimate());
+        assertEquals(59, sketches.summarize(START, START.plusSeconds(3599)).amounts().count());
+        assertEquals(1, sketches.summarize(START.plus(Duration.ofHours(2)), START.plus(Duration.ofHours(2))).amounts().count());
+
+        // A delete subtracts it
+        repository.deleteById(late.getId());
+        all = sketches.summarize(Instant.MIN, Instant.MAX);
+        assertEquals(100, all.amounts().count());
+        assertEquals(100, all.amounts().quantile(1));
+
+        repository.clear();
+        assertEquals(0, sketches.summarize(Instant.MIN, Instant.MAX).amounts().count());
+    }
+
+    @Test
+    @DisplayName("Should keep only the newest buckets")
+    void testBucketLimit() {
+        for (int hour = 0; hour < 30; hour++) {
+            repository.save(sketched(START.plus(Duration.ofHours(hour)), 10, "Food"));
+        }
+        // Older than every bucket kept
+        repository.save(sketched(START.minus(Duration.ofDays(1)), 10, "Food"));
+
+        assertEquals(24, sketches.summarize(Instant.MIN, Instant.MAX).amounts().count());
+        assertEquals(0, sketches.summarize(START, START.plus(Duration.ofHours(5))).amounts().count());
+    }
+
+    private static Transaction sketched(Instant timestamp, double amount, String category) {
+        return transaction(BigDecimal.valueOf(amount).setScale(2), TransactionType.DEPOSIT, "Sketched", category,
+                timestamp);
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.ProfilingProperties;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.model.RecordingStatus;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.profiling.ProfiledCacheManager;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.service.ProfilingService;
+import com.example.transaction.management.service.SingleFlight;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProfilingServiceTest {
+
+    private final ProfilingService profilingService = new ProfilingService(new ProfilingProperties(true, "default",
+            Duration.ofMinutes(1), Duration.ofMinutes(5), DataSize.ofMegabytes(16), Duration.ZERO));
+
+    @AfterEach
+    void tearDown() {
+        try {
+            profilingService.stop();
+        } catch (ApiException ignored) {
+            // No recording was started
+        }
+    }
+
+    @Test
+    @DisplayName("Should record the application events while a recording runs")
+    void testRecordsApplicationEvents() throws Exception {
+        SkipListTransactionRepository repository = new SkipListTransactionRepository();
+        SingleFlight<String, Integer> singleFlight = new SingleFlight<>();
+        Cache cache = new ProfiledCacheManager(new ConcurrentMapCacheManager("transactions")).getCache("transactions");
+
+        RecordingStatus status = profilingService.start(Duration.ofMinutes(1));
+        assertEquals("RUNNING", status.state());
+        Transaction saved = repository.save(transaction());
+        repository.findById(saved.getId());
+        repository.findAll(0, 10);
+        singleFlight.execute("page", () -> 1);
+        cache.get(saved.getId(), () -> saved);
+        cache.get(saved.getId(), () -> saved);
+        assertEquals("STOPPED", profilingService.stop().state());
+
+        Path file = profilingService.dump();
+        try {
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            Set<String> names = events.stream().map(event -> event.getEventType().getName()).collect(Collectors.toSet());
+            assertTrue(names.containsAll(Set.of("com.example.transaction.Repository", "com.example.transaction.LockWait",
+                    "com.example.transaction.Coalescing", "com.example.transaction.Cache")),
+                    "Application events should be recorded: " + names);
+            Set<String> operations = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("com.example.transaction.Repository"))
+                    .map(event -> event.getString("operation"))
+                    .collect(Collectors.toSet());
+            assertTrue(operations.containsAll(Set.of("commit", "findById", "findAll")), "Operations: " + operations);
+            List<RecordedEvent> lookups = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("com.example.transaction.Cache"))
+                    .toList();
+            assertEquals(2, lookups.size());
+            lookups.forEach(event -> assertEquals("transactions", event.getString("cache")));
+            assertEquals(Set.of(false, true), lookups.stream().map(event -> event.getBoolean("hit")).collect(Collectors.toSet()),
+                    "One lookup should load and the other hit");
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid durations and a second concurrent recording")
+    void testRecordingBounds() {
+        ApiException tooLong = assertThrows(ApiException.class, () -> profilingService.start(Duration.ofHours(1)));
+        assertEquals(HttpStatus.BAD_REQUEST, tooLong.getStatus());
+        assertThrows(ApiException.class, () -> profilingService.start(Duration.ZERO));
+        assertEquals(HttpStatus.NOT_FOUND, assertThrows(ApiException.class, profilingService::status).getStatus());
+
+        profilingService.start(null);
+        ApiException running = assertThrows(ApiException.class, () -> profilingService.start(null));
+        assertEquals(HttpStatus.CONFLICT, running.getStatus());
+        assertEquals(Duration.ofMinutes(1), profilingService.status().duration());
+    }
+}
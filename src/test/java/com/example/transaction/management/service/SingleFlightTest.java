@@ -0,0 +1,62 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.service.SingleFlight;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SingleFlightTest {
+
+    @Test
+    @DisplayName("Should share one in-flight computation between concurrent callers of the same key")
+    void testSharedComputation() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        CompletableFuture<Integer> leader = CompletableFuture.supplyAsync(() -> flights.execute("page-0", () -> {
+            started.countDown();
+            await(release);
+            return runs.incrementAndGet();
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Integer> follower = CompletableFuture.supplyAsync(() -> flights.execute("page-0", runs::incrementAndGet));
+        // The follower blocks on the leader's computation
+        while (flights.sharedCount() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertEquals(1, leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, follower.get(5, TimeUnit.SECONDS));
+        assertEquals(1, flights.executedCount());
+
+        // Completed computations are not cached
+        assertEquals(2, flights.execute("page-0", runs::incrementAndGet));
+    }
+
+    @Test
+    @DisplayName("Should propagate a failed computation and allow a retry")
+    void testFailedComputation() {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        assertThrows(IllegalStateException.class, () -> flights.execute("page-0", () -> {
+            throw new IllegalStateException("Scan failed");
+        }));
+        assertEquals(42, flights.execute("page-0", () -> 42));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.StatementProperties;
+import com.example.transaction.management.exception.ApiException;
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.StatementFormat;
+import com.example.transaction.management.model.StatementStatus;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.service.StatementService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StatementServiceTest {
+    private static final Instant JULY = Instant.parse("2025-07-01T00:00:00Z");
+    private static final Instant AUGUST = Instant.parse("2025-08-01T00:00:00Z");
+
+    @TempDir
+    private Path directory;
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final SkipListTransactionRepository repository = new SkipListTransactionRepository();
+    private StatementService statementService;
+
+    @AfterEach
+    void tearDown() {
+        if (statementService != null) {
+            statementService.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should write one CSV statement per category and type with totals, in descending id order")
+    void testCsvStatements() throws Exception {
+        statementService = service(4, 7);
+        BigDecimal rentTotal = BigDecimal.ZERO;
+        List<Long> rentIds = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            String category = i % 3 == 0 ? "Rent" : "Food";
+            Transaction saved = repository.save(transaction(new BigDecimal(i + ".25"),
+                    i % 2 == 0 ? TransactionType.DEPOSIT : TransactionType.WITHDRAWAL, category, JULY.plusSeconds(i)));
+            if (category.equals("Rent")) {
+                rentTotal = rentTotal.add(saved.getAmount());
+                rentIds.add(0, saved.getId());
+            }
+        }
+        repository.save(transaction(new BigDecimal("9.99"), TransactionType.DEPOSIT, "Rent", AUGUST));
+        repository.save(transaction(new BigDecimal("1.00"), TransactionType.TRANSFER, "Gifts, \"misc\"", JULY));
+
+        statementService.start(JULY, AUGUST, null);
+        StatementStatus status = awaitCompletion();
+        assertEquals("COMPLETED", status.state());
+        assertEquals(501, status.transactions());
+        assertEquals(List.of("summary.csv", "category-food.csv", "category-gifts-misc-.csv", "category-rent.csv",
+                "type-deposit.csv", "type-transfer.csv", "type-withdrawal.csv"), status.files());
+
+        List<String> rent = Files.readAllLines(statementService.file("category-rent.csv"));
+        assertEquals("id,timestamp,type,category,amount,description,version", rent.get(0));
+        assertEquals(rentIds.size() + 1, rent.size());
+        for (int i = 0; i < rentIds.size(); i++) {
+            assertTrue(rent.get(i + 1).startsWith(rentIds.get(i) + ","), rent.get(i + 1));
+        }
+        assertEquals("1502,2025-07-01T00:00:00Z,TRANSFER,\"Gifts, \"\"misc\"\"\",1.00,Test transaction,",
+                Files.readAllLines(statementService.file("category-gifts-misc-.csv")).get(1).replaceAll(",\\d+$", ","));
+
+        List<String> summary = Files.readAllLines(statementService.file("summary.csv"));
+        assertEquals("group,name,count,amount", summary.get(0));
+        assertTrue(summary.contains("category,Rent," + rentIds.size() + "," + rentTotal.toPlainString()));
+        assertTrue(summary.contains("type,TRANSFER,1,1.00"));
+        assertEquals(1 + 3 + 3, summary.size());
+    }
+
+    @Test
+    @DisplayName("Should read the snapshot taken at start while writes keep committing")
+    void testReadsStartSnapshot() throws Exception {
+        statementService = service(2, 16);
+        for (int i = 0; i < 2_000; i++) {
+            repository.save(transaction(BigDecimal.TEN, TransactionType.DEPOSIT, "Salary", JULY.plusSeconds(i)));
+        }
+
+        statementService.start(JULY, AUGUST, StatementFormat.NDJSON);
+        for (int i = 0; i < 1_000; i++) {
+            repository.save(transaction(BigDecimal.ONE, TransactionType.DEPOSIT, "Salary", JULY));
+            repository.deleteById(1001L + i);
+        }
+        StatementStatus status = awaitCompletion();
+
+        assertEquals("COMPLETED", status.state());
+        assertEquals(2_000, status.transactions());
+        List<String> lines = Files.readAllLines(statementService.file("category-salary.ndjson"));
+        assertEquals(2_000, lines.size());
+        JsonNode newest = objectMapper.readTree(lines.get(0));
+        assertEquals(3000, newest.get("id").asLong());
+        assertEquals(0, newest.get("amount").decimalValue().compareTo(BigDecimal.TEN));
+        assertEquals(1001, objectMapper.readTree(lines.get(lines.size() - 1)).get("id").asLong());
+        JsonNode summary = objectMapper.readTree(Files.readAllLines(statementService.file("summary.ndjson")).get(0));
+        assertEquals("category", summary.get("group").asText());
+        assertEquals(2_000, summary.get("count").asLong());
+    }
+
+    @Test
+    @DisplayName("Should reject empty ranges, status before any job and files not listed by the last job")
+    void testRejections() throws Exception {
+        statementService = service(1, 100);
+        ApiException noJob = assertThrows(ApiException.class, () -> statementService.status());
+        assertEquals(HttpStatus.NOT_FOUND, noJob.getStatus());
+        assertEquals(TransactionErrorType.NO_STATEMENT, noJob.getErrorType());
+        assertEquals(TransactionErrorType.INVALID_TIME_RANGE,
+                assertThrows(ApiException.class, () -> statementService.start(AUGUST, JULY, null)).getErrorType());
+
+        repository.save(transaction(BigDecimal.ONE, TransactionType.DEPOSIT, "Rent", JULY));
+        statementService.start(JULY, AUGUST, StatementFormat.CSV);
+        StatementStatus status = awaitCompletion();
+        assertEquals("COMPLETED", status.state());
+        ApiException missing = assertThrows(ApiException.class, () -> statementService.file("../summary.csv"));
+        assertEquals(TransactionErrorType.STATEMENT_FILE_NOT_FOUND, missing.getErrorType());
+        // Part files are deleted once merged
+        try (var files = Files.list(directory.resolve(status.id()))) {
+            assertEquals(status.files().size(), files.count());
+        }
+    }
+
+    private StatementService service(int parallelism, int batchSize) {
+        return new StatementService(repository, objectMapper, new StatementProperties(true, directory, parallelism, batchSize));
+    }
+
+    private StatementStatus awaitCompletion() throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        StatementStatus status = statementService.status();
+        while (status.state().equals("RUNNING") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = statementService.status();
+        }
+        return status;
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.transaction.management;
 
+import com.example.transaction.management.model.OperationType;
 import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionOperation;
 import com.example.transaction.management.model.TransactionType;
 import com.example.transaction.management.repository.SkipListTransactionRepository;
 import com.example.transaction.management.repository.TransactionRepository;
@@ -13,6 +15,7 @@ import org.junit.jupiter.api.DisplayName;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import static com.example.transaction.management.TestTransactions.transaction;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class TransactionServiceTest {
@@ -34,11 +37,7 @@ public class TransactionServiceTest {
     @Test
     @DisplayName("Should successfully create a new transaction with valid input data")
     void testCreateTransaction() {
-        Transaction transaction = new Transaction();
-        transaction.setAmount(new BigDecimal("100.00"));
-        transaction.setType(TransactionType.DEPOSIT);
-        transaction.setDescription("Test deposit transaction");
-        transaction.setCategory("Test Category");
+        Transaction transaction = transaction(new BigDecimal("100.00"), TransactionType.DEPOSIT, "Test deposit transaction", "Test Category");
 
         Transaction saved = service.create(transaction);
         assertNotNull(saved.getId());
@@ -48,11 +47,7 @@ public class TransactionServiceTest {
     @Test
     @DisplayName("Should successfully retrieve a transaction by its unique identifier")
     void testGetTransaction() {
-        Transaction transaction = new Transaction();
-        transaction.setAmount(new BigDecimal("100.00"));
-        transaction.setType(TransactionType.DEPOSIT);
-        transaction.setDescription("Test deposit transaction");
-        transaction.setCategory("Test Category");
+        Transaction transaction = transaction(new BigDecimal("100.00"), TransactionType.DEPOSIT, "Test deposit transaction", "Test Category");
 
         Transaction saved = service.create(transaction);
         Optional<Transaction> retrieved = service.read(saved.getId());
@@ -63,17 +58,9 @@ public class TransactionServiceTest {
     @Test
     @DisplayName("Should successfully retrieve paginated list of all transactions")
     void testGetAllTransactions() {
-        Transaction transaction1 = new Transaction();
-        transaction1.setAmount(new BigDecimal("100.00"));
-        transaction1.setType(TransactionType.DEPOSIT);
-        transaction1.setDescription("Test deposit transaction 1");
-        transaction1.setCategory("Test Category");
-
-        Transaction transaction2 = new Transaction();
-        transaction2.setAmount(new BigDecimal("200.00"));
-        transaction2.setType(TransactionType.WITHDRAWAL);
-        transaction2.setDescription("Test withdrawal transaction");
-        transaction2.setCategory("Test Category");
+        Transaction transaction1 = transaction(new BigDecimal("100.00"), TransactionType.DEPOSIT, "Test deposit transaction 1", "Test Category");
+
+        Transaction transaction2 = transaction(new BigDecimal("200.00"), TransactionType.WITHDRAWAL, "Test withdrawal transaction", "Test Category");
 
         service.create(transaction1);
         service.create(transaction2);
@@ -85,26 +72,23 @@ public class TransactionServiceTest {
     @Test
     @DisplayName("Should successfully update an existing transaction information")
     void testUpdateTransaction() {
-        Transaction transaction = new Transaction();
-        transaction.setAmount(new BigDecimal("100.00"));
-        transaction.setType(TransactionType.DEPOSIT);
-        transaction.setDescription("Test deposit transaction");
-        transaction.setCategory("Test Category");
+        Transaction transaction = transaction(new BigDecimal("100.00"), TransactionType.DEPOSIT, "Test deposit transaction", "Test Category");
 
         Transaction saved = service.create(transaction);
-        saved.setAmount(new BigDecimal("150.00"));
-        Transaction updated = service.update(saved.getId(), saved);
+        Transaction changed = new Transaction(null, new BigDecimal("150.00"), saved.getType(), saved.getDescription(),
+                saved.getCategory(), saved.getTimestamp(), null);
+        Transaction updated = service.update(saved.getId(), changed);
         assertEquals(new BigDecimal("150.00"), updated.getAmount());
+        assertEquals(saved.getTimestamp(), updated.getTimestamp());
+        assertTrue(updated.getVersion() > saved.getVersion());
+        // The stored transaction is a new instance; the one read before is unchanged
+        assertEquals(new BigDecimal("100.00"), saved.getAmount());
     }
 
     @Test
     @DisplayName("Should successfully delete a transaction by its unique identifier")
     void testDeleteTransaction() {
-        Transaction transaction = new Transaction();
-        transaction.setAmount(new BigDecimal("100.00"));
-        transaction.setType(TransactionType.DEPOSIT);
-        transaction.setDescription("Test deposit transaction");
-        transaction.setCategory("Test Category");
+        Transaction transaction = transaction(new BigDecimal("100.00"), TransactionType.DEPOSIT, "Test deposit transaction", "Test Category");
 
         Transaction saved = service.create(transaction);
         service.delete(saved.getId());
@@ -136,4 +120,23 @@ public class TransactionServiceTest {
         );
         assertEquals(TransactionErrorType.INVALID_PAGINATION, exception.getErrorType());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should reject commits with malformed operations or repeated transactions")
+    void testInvalidCommit() {
+        Transaction transaction = transaction(new BigDecimal("100.00"), TransactionType.DEPOSIT, "Test deposit transaction", "Test Category");
+        Transaction saved = service.create(transaction);
+
+        // Update without the new content
+        ApiException exception = assertThrows(ApiException.class, () -> service.commit(List.of(
+                new TransactionOperation(OperationType.UPDATE, saved.getId(), null, null))));
+        assertEquals(TransactionErrorType.INVALID_COMMIT, exception.getErrorType());
+
+        // Two operations on the same transaction
+        exception = assertThrows(ApiException.class, () -> service.commit(List.of(
+                new TransactionOperation(OperationType.UPDATE, saved.getId(), null, saved),
+                new TransactionOperation(OperationType.DELETE, saved.getId(), null, null))));
+        assertEquals(TransactionErrorType.INVALID_COMMIT, exception.getErrorType());
+        assertTrue(service.read(saved.getId()).isPresent());
+    }
+}
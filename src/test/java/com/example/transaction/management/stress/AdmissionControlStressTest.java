@@ -0,0 +1,136 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.admission.AdmissionInterceptor;
+import com.example.transaction.management.config.AdmissionProperties;
+import com.example.transaction.management.exception.ApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simulates a batch client flooding writes that serialize on the service lock while an interactive
+ * client keeps reading, on a fixed pool of request threads, and compares read latency with and
+ * without admission control. Latency is measured from the scheduled send time, so time spent queued
+ * for a request thread is included.
+ */
+public class AdmissionControlStressTest {
+
+    // Test parameters
+    private static final int REQUEST_THREADS = 8;                    // Servlet container worker threads
+    private static final long WRITE_SERVICE_MILLIS = 5;              // Time a write holds the service lock
+    private static final long WRITE_INTERVAL_MICROS = 2_500;         // 400 writes/s offered, 200/s capacity
+    private static final long READ_INTERVAL_MICROS = 5_000;          // 200 reads/s offered
+    private static final long DURATION_MILLIS = 2_000;
+
+    @Test
+    @DisplayName("Admission control stress test - read latency under a write flood")
+    void testAdmissionControlUnderWriteFlood() throws InterruptedException {
+        Result unprotected = run(null);
+        Result protectedRun = run(new AdmissionInterceptor(new AdmissionProperties(true, "X-Client-Id", null, null,
+                10_000, 64, 2, 1, true, Duration.ofMillis(20))));
+
+        System.out.println("\nAdmission Control Stress Test Results:");
+        print("Without admission control", unprotected);
+        print("With admission control", protectedRun);
+
+        assertEquals(0, unprotected.rejectedWrites);
+        assertTrue(protectedRun.rejectedWrites > 0, "Excess writes should be shed");
+        assertTrue(protectedRun.readP99Millis < unprotected.readP99Millis,
+                "Shedding writes should keep read tail latency below the unprotected run");
+    }
+
+    private Result run(AdmissionInterceptor interceptor) throws InterruptedException {
+        ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+        ScheduledExecutorService clients = Executors.newScheduledThreadPool(2);
+        ReentrantLock serviceLock = new ReentrantLock();
+        ConcurrentLinkedQueue<Long> readLatencies = new ConcurrentLinkedQueue<>();
+        AtomicInteger acceptedWrites = new AtomicInteger();
+        AtomicInteger rejectedWrites = new AtomicInteger();
+
+        Runnable write = () -> {
+            serviceLock.lock();
+            try {
+                Thread.sleep(WRITE_SERVICE_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                serviceLock.unlock();
+            }
+        };
+        clients.scheduleAtFixedRate(() -> requestThreads.execute(() -> {
+            if (handle(interceptor, "POST", write)) {
+                acceptedWrites.incrementAndGet();
+            } else {
+                rejectedWrites.incrementAndGet();
+            }
+        }), 0, WRITE_INTERVAL_MICROS, TimeUnit.MICROSECONDS);
+        clients.scheduleAtFixedRate(() -> {
+            long sent = System.nanoTime();
+            requestThreads.execute(() -> {
+                handle(interceptor, "GET", () -> { });
+                readLatencies.add(System.nanoTime() - sent);
+            });
+        }, 0, READ_INTERVAL_MICROS, TimeUnit.MICROSECONDS);
+
+        Thread.sleep(DURATION_MILLIS);
+        clients.shutdownNow();
+        clients.awaitTermination(10, TimeUnit.SECONDS);
+        requestThreads.shutdown();
+        assertTrue(requestThreads.awaitTermination(60, TimeUnit.SECONDS), "Queued requests should drain");
+
+        long[] latencies = readLatencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Result(acceptedWrites.get(), rejectedWrites.get(), latencies.length,
+                percentile(latencies, 0.50), percentile(latencies, 0.99));
+    }
+
+    private static boolean handle(AdmissionInterceptor interceptor, String method, Runnable service) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/transactions");
+        request.addHeader("X-Client-Id", "GET".equals(method) ? "interactive-client" : "batch-client");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            if (interceptor != null) {
+                interceptor.preHandle(request, response, null);
+            }
+        } catch (ApiException e) {
+            return false;
+        }
+        try {
+            service.run();
+        } finally {
+            if (interceptor != null) {
+                interceptor.afterCompletion(request, response, null, null);
+            }
+        }
+        return true;
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) (sorted.length * quantile))] / 1_000_000.0;
+    }
+
+    private static void print(String name, Result result) {
+        System.out.println(name + ":");
+        System.out.println("- Writes accepted/rejected: " + result.acceptedWrites + "/" + result.rejectedWrites);
+        System.out.println("- Reads completed: " + result.reads);
+        System.out.printf("- Read latency p50: %.2fms, p99: %.2fms%n", result.readP50Millis, result.readP99Millis);
+    }
+
+    private record Result(int acceptedWrites, int rejectedWrites, int reads, double readP50Millis, double readP99Millis) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.ColumnarTransactionStore;
+import com.example.transaction.management.repository.ColumnarTransactionStore.Totals;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares analytics queries answered by the columnar store against the same aggregation
+ * computed by walking the row store.
+ */
+public class AnalyticsBenchmarkTest {
+
+    // Benchmark parameters
+    private static final int TRANSACTIONS = 500_000;
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int MEASURE_ITERATIONS = 10;
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+    private static final String[] CATEGORIES = {"Income", "Food", "Rent", "Travel", "Savings", "Utilities"};
+
+    private ColumnarTransactionStore store;
+    private SkipListTransactionRepository repository;
+    private long fromMillis;
+    private long toMillis;
+
+    @BeforeEach
+    void setUp() {
+        store = new ColumnarTransactionStore();
+        repository = new SkipListTransactionRepository(
+                StorageProperties.defaults(), List.of(store));
+        Random random = new Random(42);
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            BigDecimal amount = BigDecimal.valueOf(1 + random.nextInt(100_000), 2);
+            TransactionType type = TransactionType.values()[random.nextInt(3)];
+            String category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+            // One transaction per minute, roughly a year of data
+            repository.save(new Transaction(null, amount, type, "Analytics transaction " + i, category,
+                    START.plusSeconds(60L * i), null));
+        }
+        // Middle half of the data set
+        fromMillis = START.plusSeconds(60L * TRANSACTIONS / 4).toEpochMilli();
+        toMillis = START.plusSeconds(60L * TRANSACTIONS * 3 / 4).toEpochMilli();
+    }
+
+    @Test
+    @DisplayName("Analytics benchmark - columnar scan vs row store walk")
+    void testAnalyticsBenchmark() {
+        System.out.println("\n=== Analytics Benchmark (" + TRANSACTIONS + " transactions) ===");
+
+        Totals columnar = store.sum(fromMillis, toMillis, TransactionType.WITHDRAWAL);
+        Totals rows = sumRows(TransactionType.WITHDRAWAL);
+        assertEquals(rows, columnar, "Columnar totals should match the row store");
+        assertEquals(sumByCategoryRows(null), store.sumByCategory(fromMillis, toMillis, null),
+                "Columnar category totals should match the row store");
+
+        double columnarSum = measure(() -> store.sum(fromMillis, toMillis, TransactionType.WITHDRAWAL));
+        double rowSum = measure(() -> sumRows(TransactionType.WITHDRAWAL));
+        double columnarCategories = measure(() -> store.sumByCategory(fromMillis, toMillis, null));
+        double rowCategories = measure(() -> sumByCategoryRows(null));
+
+        System.out.println("Summary (type=WITHDRAWAL): " + columnar);
+        System.out.printf("- Columnar sum: %.2fms%n", columnarSum);
+        System.out.printf("- Row store sum: %.2fms%n", rowSum);
+        System.out.printf("- Columnar sum by category: %.2fms%n", columnarCategories);
+        System.out.printf("- Row store sum by category: %.2fms%n", rowCategories);
+        System.out.printf("- Speedup: %.1fx (sum), %.1fx (by category)%n",
+                rowSum / columnarSum, rowCategories / columnarCategories);
+
+        assertTrue(columnarSum < rowSum, "Columnar scan should be faster than walking the row store");
+    }
+
+    private Totals sumRows(TransactionType type) {
+        long count = 0;
+        long sum = 0;
+        for (Transaction transaction : repository.findAll(0, Integer.MAX_VALUE)) {
+            if (matches(transaction, type)) {
+                count++;
+                sum += transaction.getAmount().movePointRight(ColumnarTransactionStore.AMOUNT_SCALE).longValueExact();
+            }
+        }
+        return new Totals(count, sum);
+    }
+
+    private Map<String, Totals> sumByCategoryRows(TransactionType type) {
+        Map<String, long[]> accumulators = new HashMap<>();
+        for (Transaction transaction : repository.findAll(0, Integer.MAX_VALUE)) {
+            if (matches(transaction, type)) {
+                long[] accumulator = accumulators.computeIfAbsent(transaction.getCategory(), category -> new long[2]);
+                accumulator[0]++;
+                accumulator[1] += transaction.getAmount().movePointRight(ColumnarTransactionStore.AMOUNT_SCALE).longValueExact();
+            }
+        }
+        Map<String, Totals> result = new HashMap<>();
+        accumulators.forEach((category, accumulator) -> result.put(category, new Totals(accumulator[0], accumulator[1])));
+        return result;
+    }
+
+    private boolean matches(Transaction transaction, TransactionType type) {
+        long timestamp = transaction.getTimestamp().toEpochMilli();
+        return timestamp >= fromMillis && timestamp <= toMillis && (type == null || transaction.getType() == type);
+    }
+
+    private static double measure(Runnable query) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            query.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURE_ITERATIONS;
+    }
+}
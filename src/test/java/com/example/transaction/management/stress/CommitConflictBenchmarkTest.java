@@ -0,0 +1,102 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.model.CommitResult;
+import com.example.transaction.management.model.OperationStatus;
+import com.example.transaction.management.model.OperationType;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionOperation;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Concurrent two-operation commits that move an amount between two transactions, each conditional on
+ * the versions read just before. The smaller the set of transactions, the more commits conflict.
+ * Conserving the total amount shows that no commit is applied partially or over a lost update.
+ */
+public class CommitConflictBenchmarkTest {
+
+    // Test parameters
+    private static final int THREADS = 4;
+    private static final long DURATION_MILLIS = 2_000;      // Measured run per contention level
+    private static final int[] KEY_SPACES = {10_000, 100, 4}; // Low, medium and high contention
+    private static final BigDecimal INITIAL_AMOUNT = new BigDecimal("1000.00");
+    private static final BigDecimal TRANSFER = new BigDecimal("1.00");
+
+    @Test
+    @DisplayName("Commit conflict benchmark - conditional transfers under varying contention")
+    void testCommitThroughputUnderContention() throws InterruptedException {
+        System.out.println("\nCommit Conflict Benchmark Results:");
+        for (int keySpace : KEY_SPACES) {
+            SkipListTransactionRepository repository = new SkipListTransactionRepository();
+            for (int i = 0; i < keySpace; i++) {
+                repository.save(transaction(INITIAL_AMOUNT, TransactionType.TRANSFER, "Commit benchmark", "Stress"));
+            }
+            AtomicLong committed = new AtomicLong();
+            AtomicLong conflicts = new AtomicLong();
+            long deadline = System.currentTimeMillis() + DURATION_MILLIS;
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                long seed = t;
+                Thread thread = new Thread(() -> {
+                    Random random = new Random(seed);
+                    while (System.currentTimeMillis() < deadline) {
+                        long from = 1001 + random.nextInt(keySpace);
+                        long to = 1001 + random.nextInt(keySpace);
+                        if (from == to) {
+                            continue;
+                        }
+                        List<TransactionOperation> operations = transfer(repository, from, to);
+                        // Let other clients run between the read and the commit, as a remote client would
+                        Thread.yield();
+                        CommitResult result = repository.commit(operations);
+                        if (result.committed()) {
+                            committed.incrementAndGet();
+                        } else {
+                            assertTrue(result.results().stream().anyMatch(r -> r.status() == OperationStatus.CONFLICT));
+                            conflicts.incrementAndGet();
+                        }
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            BigDecimal total = repository.findAll(0, Integer.MAX_VALUE).stream()
+                    .map(Transaction::getAmount)
+                    .reduce(BigDecimal.ZERO, BigDecimal::add);
+            long attempts = committed.get() + conflicts.get();
+            System.out.printf("- %,d transactions: %,.0f commits/s, %.1f%% conflicts%n", keySpace,
+                    committed.get() * 1000.0 / DURATION_MILLIS, conflicts.get() * 100.0 / Math.max(1, attempts));
+
+            assertTrue(committed.get() > 0, "Some commits should succeed at every contention level");
+            assertEquals(0, INITIAL_AMOUNT.multiply(BigDecimal.valueOf(keySpace)).compareTo(total),
+                    "Transfers should conserve the total amount");
+        }
+    }
+
+    private static List<TransactionOperation> transfer(SkipListTransactionRepository repository, long from, long to) {
+        Transaction source = repository.findById(from).orElseThrow();
+        Transaction target = repository.findById(to).orElseThrow();
+        Transaction debited = transaction(source.getAmount().subtract(TRANSFER), TransactionType.TRANSFER,
+                "Commit benchmark", "Stress");
+        Transaction credited = transaction(target.getAmount().add(TRANSFER), TransactionType.TRANSFER,
+                "Commit benchmark", "Stress");
+        return List.of(
+                new TransactionOperation(OperationType.UPDATE, from, source.getVersion(), debited),
+                new TransactionOperation(OperationType.UPDATE, to, target.getVersion(), credited));
+    }
+}
@@ -0,0 +1,263 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.converter.TransactionProtoMapper;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.proto.BulkCreateResult;
+import com.example.transaction.management.proto.ExportTransactionsRequest;
+import com.example.transaction.management.proto.ListTransactionsRequest;
+import com.example.transaction.management.proto.TransactionApiGrpc;
+import com.example.transaction.management.proto.TransactionId;
+import com.example.transaction.management.proto.TransactionMessage;
+import com.example.transaction.management.repository.TransactionRepository;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Server;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * REST compared with gRPC on the mixed workload of {@link TransactionStressTest} (create, read, list,
+ * update and delete picked at random) against one application, and bulk loading and reading back every
+ * transaction with POSTs and list pages compared with the client-streaming bulk create and the export
+ * stream.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = {"transaction.grpc.enabled=true", "transaction.grpc.port=0"})
+public class GrpcBenchmarkTest {
+
+    // Benchmark parameters
+    private static final int INITIAL_DATA_COUNT = 5_000;   // Transactions the workload reads and changes
+    private static final int REQUESTS = 3_000;             // Mixed requests per API, after warmup
+    private static final int WARMUP_REQUESTS = 1_000;      // Mixed requests per API before measuring
+    private static final int THREADS = 20;                 // Same as the stress test's mixed threads
+    private static final int PAGE_SIZE = 50;
+    private static final int BULK_COUNT = 2_000;           // Transactions bulk loaded per API
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private TransactionRepository repository;
+
+    @Autowired
+    private Server grpcServer;
+
+    private String baseUrl;
+    private ManagedChannel channel;
+    private List<Long> initialDataIds;
+
+    @BeforeEach
+    void setUp() {
+        baseUrl = "http://localhost:" + port + "/api/transactions";
+        channel = ManagedChannelBuilder.forAddress("localhost", grpcServer.getPort()).usePlaintext().build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("gRPC benchmark - mixed workload, bulk load and full read back compared with REST")
+    void testGrpcBenchmark() throws Exception {
+        System.out.println("\ngRPC Benchmark Results:");
+        TransactionApiGrpc.TransactionApiBlockingStub stub = TransactionApiGrpc.newBlockingStub(channel);
+
+        prepareInitialData();
+        mixed(WARMUP_REQUESTS, this::restOperation);
+        double rest = report("REST mixed workload", mixed(REQUESTS, this::restOperation));
+        prepareInitialData();
+        mixed(WARMUP_REQUESTS, operation -> grpcOperation(stub, operation));
+        double grpc = report("gRPC mixed workload", mixed(REQUESTS, operation -> grpcOperation(stub, operation)));
+
+        repository.clear();
+        long start = System.nanoTime();
+        for (int i = 0; i < BULK_COUNT; i++) {
+            assertTrue(restTemplate.postForEntity(baseUrl, new HttpEntity<>(benchmarkTransaction(i)), Transaction.class)
+                    .getStatusCode().is2xxSuccessful());
+        }
+        long restBulk = System.nanoTime() - start;
+        start = System.nanoTime();
+        int restRead = 0;
+        for (int page = 0; ; page++) {
+            Transaction[] transactions = restTemplate.getForObject(baseUrl + "?page=" + page + "&size=" + PAGE_SIZE,
+                    Transaction[].class);
+            restRead += transactions.length;
+            if (transactions.length < PAGE_SIZE) {
+                break;
+            }
+        }
+        long restReadBack = System.nanoTime() - start;
+
+        repository.clear();
+        start = System.nanoTime();
+        assertEquals(BULK_COUNT, bulkCreate().getIdsCount());
+        long grpcBulk = System.nanoTime() - start;
+        start = System.nanoTime();
+        int grpcRead = 0;
+        var export = stub.exportTransactions(ExportTransactionsRequest.getDefaultInstance());
+        while (export.hasNext()) {
+            export.next();
+            grpcRead++;
+        }
+        long grpcReadBack = System.nanoTime() - start;
+
+        System.out.printf("- Bulk load of %d: %.0f ms with POSTs, %.0f ms with a bulk create stream%n",
+                BULK_COUNT, restBulk / 1e6, grpcBulk / 1e6);
+        System.out.printf("- Read back of %d: %.0f ms with list pages of %d, %.0f ms with an export stream%n",
+                BULK_COUNT, restReadBack / 1e6, PAGE_SIZE, grpcReadBack / 1e6);
+
+        assertEquals(BULK_COUNT, restRead);
+        assertEquals(BULK_COUNT, grpcRead);
+        assertTrue(rest > 0 && grpc > 0);
+        assertTrue(grpcBulk < restBulk, "A bulk create stream should load faster than one POST per transaction");
+    }
+
+    private interface Operation {
+        void perform(int operation) throws Exception;
+    }
+
+    /**
+     * Runs {@code requests} random operations on {@link #THREADS} threads; returns the latency of each
+     * in nanoseconds, with the elapsed time of the whole run last.
+     */
+    private long[] mixed(int requests, Operation client) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long[] latencies = new long[requests + 1];
+        AtomicInteger next = new AtomicInteger();
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(CompletableFuture.runAsync(() -> {
+                for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+                    long requestStart = System.nanoTime();
+                    try {
+                        client.perform(ThreadLocalRandom.current().nextInt(5));
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                    latencies[i] = System.nanoTime() - requestStart;
+                }
+            }, executor));
+        }
+        CompletableFuture.allOf(workers.toArray(CompletableFuture[]::new)).get(120, TimeUnit.SECONDS);
+        latencies[requests] = System.nanoTime() - start;
+        executor.shutdown();
+        return latencies;
+    }
+
+    private double report(String name, long[] latencies) {
+        int requests = latencies.length - 1;
+        double throughput = requests / (latencies[requests] / 1e9);
+        long[] sorted = Arrays.copyOf(latencies, requests);
+        Arrays.sort(sorted);
+        System.out.printf("- %s: %.0f requests/s, p50 %.2f ms, p99 %.2f ms%n", name, throughput,
+                sorted[requests / 2] / 1e6, sorted[(int) (requests * 0.99)] / 1e6);
+        return throughput;
+    }
+
+    // Reads, updates and deletes may race a delete of the same id; 404 is part of the workload
+    private void restOperation(int operation) {
+        switch (operation) {
+            case 0 -> restTemplate.postForEntity(baseUrl, new HttpEntity<>(benchmarkTransaction(operation)),
+                    Transaction.class);
+            case 1 -> restTemplate.getForEntity(baseUrl + "/" + randomId(), String.class);
+            case 2 -> restTemplate.getForEntity(baseUrl + "?page=" + ThreadLocalRandom.current().nextInt(20)
+                    + "&size=" + PAGE_SIZE, Transaction[].class);
+            case 3 -> restTemplate.exchange(baseUrl + "/" + randomId(), HttpMethod.PUT,
+                    new HttpEntity<>(benchmarkTransaction(operation)), String.class);
+            default -> restTemplate.exchange(baseUrl + "/" + randomId(), HttpMethod.DELETE, null, String.class);
+        }
+    }
+
+    private void grpcOperation(TransactionApiGrpc.TransactionApiBlockingStub stub, int operation) {
+        try {
+            switch (operation) {
+                case 0 -> stub.createTransaction(message(operation));
+                case 1 -> stub.getTransaction(TransactionId.newBuilder().setId(randomId()).build());
+                case 2 -> stub.listTransactions(ListTransactionsRequest.newBuilder()
+                        .setPage(ThreadLocalRandom.current().nextInt(20)).setSize(PAGE_SIZE).build());
+                case 3 -> stub.updateTransaction(message(operation).toBuilder().setId(randomId()).build());
+                default -> stub.deleteTransaction(TransactionId.newBuilder().setId(randomId()).build());
+            }
+        } catch (io.grpc.StatusRuntimeException e) {
+            assertEquals(io.grpc.Status.Code.NOT_FOUND, e.getStatus().getCode());
+        }
+    }
+
+    private BulkCreateResult bulkCreate() throws Exception {
+        CompletableFuture<BulkCreateResult> result = new CompletableFuture<>();
+        StreamObserver<TransactionMessage> requests = TransactionApiGrpc.newStub(channel)
+                .bulkCreateTransactions(new StreamObserver<>() {
+                    @Override
+                    public void onNext(BulkCreateResult value) {
+                        result.complete(value);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        result.completeExceptionally(t);
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                    }
+                });
+        for (int i = 0; i < BULK_COUNT; i++) {
+            requests.onNext(message(i));
+        }
+        requests.onCompleted();
+        return result.get(60, TimeUnit.SECONDS);
+    }
+
+    private void prepareInitialData() {
+        repository.clear();
+        initialDataIds = new ArrayList<>(INITIAL_DATA_COUNT);
+        for (int i = 0; i < INITIAL_DATA_COUNT; i++) {
+            initialDataIds.add(repository.save(benchmarkTransaction(i)).getId());
+        }
+    }
+
+    private long randomId() {
+        return initialDataIds.get(ThreadLocalRandom.current().nextInt(initialDataIds.size()));
+    }
+
+    private static Transaction benchmarkTransaction(int i) {
+        return transaction(new BigDecimal("100.00").add(new BigDecimal(i % 1000)), TransactionType.values()[i % 3],
+                "Benchmark transaction " + i, "Benchmark category",
+                Instant.parse("2025-07-07T10:00:00Z").plusSeconds(i));
+    }
+
+    private static TransactionMessage message(int i) {
+        return TransactionProtoMapper.toMessage(benchmarkTransaction(i));
+    }
+}
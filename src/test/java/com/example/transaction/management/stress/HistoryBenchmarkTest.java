@@ -0,0 +1,135 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.TransactionHistory;
+import com.example.transaction.management.repository.TransactionHistory.AsOf;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Version history benchmark: heap held per version with delta chains compared with keeping a full copy
+ * of every version, and the latency of reads as of a past sequence before and after compaction.
+ */
+public class HistoryBenchmarkTest {
+
+    // Benchmark parameters
+    private static final int TRANSACTIONS = 50_000;        // Transactions with a history
+    private static final int VERSIONS = 8;                 // Versions of each, the first complete
+    private static final int READS = 20_000;               // As-of reads timed per tier
+    private static final Instant JULY = Instant.parse("2025-07-01T00:00:00Z");
+
+    @TempDir
+    private Path archiveDirectory;
+
+    @Test
+    @DisplayName("History benchmark - heap per version and as-of read latency, hot and compacted")
+    void testHistoryBenchmark() throws Exception {
+        System.out.println("\nHistory Benchmark Results:");
+        int versions = TRANSACTIONS * VERSIONS;
+
+        long baseline = usedHeap();
+        List<Transaction> copies = new ArrayList<>(versions);
+        record(copies::add);
+        long copiesHeap = usedHeap() - baseline;
+        copies = null;
+
+        AtomicLong now = new AtomicLong(JULY.toEpochMilli());
+        try (TransactionHistory history = new TransactionHistory(archiveDirectory, now::get)) {
+            baseline = usedHeap();
+            record(transaction -> {
+                now.incrementAndGet();
+                history.onSave(transaction.getVersion() % VERSIONS == 0 ? null : previous, transaction);
+                previous = transaction;
+            });
+            previous = null;
+            long historyHeap = usedHeap() - baseline;
+            System.out.printf("- Full copy per version: %d versions, %.0f bytes/version%n", versions, (double) copiesHeap / versions);
+            System.out.printf("- Delta chains: %d versions, %.0f bytes/version%n", history.hotVersionCount(),
+                    (double) historyHeap / versions);
+            long hot = readAsOf(history, "As-of reads, in heap");
+
+            long start = System.nanoTime();
+            int compacted = history.compact(Instant.ofEpochMilli(now.get() + 1));
+            long elapsed = System.nanoTime() - start;
+            long afterCompaction = usedHeap() - baseline;
+            long fileBytes;
+            try (Stream<Path> files = Files.walk(archiveDirectory)) {
+                fileBytes = files.filter(Files::isRegularFile).mapToLong(file -> file.toFile().length()).sum();
+            }
+            System.out.printf("- Compaction: %d versions in %.0f ms, %.1f bytes/version on disk, %.1f bytes/version left in heap%n",
+                    compacted, elapsed / 1e6, (double) fileBytes / versions, (double) Math.max(0, afterCompaction) / versions);
+            readAsOf(history, "As-of reads, compacted");
+
+            assertEquals(versions, compacted);
+            assertEquals(0, history.hotVersionCount());
+            assertTrue(historyHeap < copiesHeap, "Delta chains should hold less than full copies");
+            assertTrue(hot > 0);
+        }
+    }
+
+    // Last version passed to the consumer, the one replaced by the next
+    private Transaction previous;
+
+    /**
+     * Passes {@link #VERSIONS} stored versions of every transaction to {@code consumer}, each changing
+     * the amount and, every third version, the description. Every version is built from fresh objects,
+     * like one decoded from a request body.
+     */
+    private static void record(Consumer<Transaction> consumer) {
+        long sequence = 0;
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            String description = null;
+            for (int v = 0; v < VERSIONS; v++) {
+                if (v % 3 == 0) {
+                    description = "History benchmark " + i + " revision " + v;
+                }
+                consumer.accept(new Transaction(1000L + i, new BigDecimal(10 + i % 1000 + v + ".50"),
+                        TransactionType.DEPOSIT, new String(description), "Category " + i % 40,
+                        Instant.ofEpochSecond(JULY.getEpochSecond() + i), sequence++));
+            }
+        }
+    }
+
+    private static long readAsOf(TransactionHistory history, String name) {
+        Random random = new Random(42);
+        long[] latencies = new long[READS];
+        int found = 0;
+        for (int i = 0; i < READS; i++) {
+            int transaction = random.nextInt(TRANSACTIONS);
+            long sequence = (long) transaction * VERSIONS + random.nextInt(VERSIONS);
+            long start = System.nanoTime();
+            found += history.findAsOf(1000L + transaction, AsOf.sequence(sequence)).isPresent() ? 1 : 0;
+            latencies[i] = System.nanoTime() - start;
+        }
+        assertEquals(READS, found);
+        Arrays.sort(latencies);
+        System.out.printf("- %s: p50 %.1f us, p99 %.1f us%n", name, latencies[READS / 2] / 1000.0,
+                latencies[(int) (READS * 0.99)] / 1000.0);
+        return latencies[READS / 2];
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.repository.IdGenerator;
+import com.example.transaction.management.repository.SequentialIdGenerator;
+import com.example.transaction.management.repository.SnowflakeIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares id generation throughput of the shared counter against snowflake ids handed out from
+ * per-thread blocks, with several threads creating at once.
+ */
+public class IdGeneratorBenchmarkTest {
+
+    // Test parameters
+    private static final int THREADS = 4;
+    private static final int IDS_PER_THREAD = 5_000_000;
+    private static final int ROUNDS = 3;                   // The best round is reported
+
+    @Test
+    @DisplayName("Id generator benchmark - shared counter vs per-thread snowflake blocks")
+    void testIdGeneratorThroughput() throws InterruptedException {
+        double sequential = 0;
+        double snowflake = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            sequential = Math.max(sequential, measure(new SequentialIdGenerator(1000)));
+            snowflake = Math.max(snowflake, measure(new SnowflakeIdGenerator(Instant.parse("2025-01-01T00:00:00Z"), 0, 64)));
+        }
+
+        System.out.println("\nId Generator Benchmark Results:");
+        System.out.printf("- Sequential (shared AtomicLong): %,.0f ids/s%n", sequential);
+        System.out.printf("- Snowflake (64-id blocks): %,.0f ids/s%n", snowflake);
+
+        assertTrue(snowflake > 0 && sequential > 0);
+    }
+
+    private static double measure(IdGenerator generator) throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        long[] sinks = new long[THREADS];
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            int index = t;
+            Thread thread = new Thread(() -> {
+                long sum = 0;
+                for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    sum += generator.nextId();
+                }
+                sinks[index] = sum;
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long elapsed = System.nanoTime() - start;
+        assertNotEquals(0, sinks[0]);
+        return (double) THREADS * IDS_PER_THREAD * 1e9 / elapsed;
+    }
+}
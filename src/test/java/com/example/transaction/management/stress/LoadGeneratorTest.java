@@ -0,0 +1,56 @@
+package com.example.transaction.management;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Short run of the open-loop {@link LoadGenerator} against the application on a random port.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class LoadGeneratorTest {
+
+    // Test parameters
+    private static final int RATE = 200;                   // Requests per second
+    private static final Duration WARMUP = Duration.ofSeconds(1);
+    private static final Duration DURATION = Duration.ofSeconds(3);
+    private static final int PRELOAD = 100;
+
+    @LocalServerPort
+    private int port;
+
+    @TempDir
+    private Path output;
+
+    @Test
+    @DisplayName("Load generator - fixed-rate mixed operations with latency report")
+    void testOpenLoopRun() throws Exception {
+        LoadGenerator.Settings settings = new LoadGenerator.Settings("http://localhost:" + port, RATE, WARMUP, DURATION,
+                LoadGenerator.Settings.parseMix("read=50,list=20,create=15,update=10,delete=5"),
+                PRELOAD, 1000, Duration.ofSeconds(10), "test", output);
+
+        LoadGenerator.Report report = new LoadGenerator(settings).run();
+        report.print(System.out);
+        Path directory = report.write();
+
+        long expected = RATE * DURATION.toSeconds();
+        long requests = report.total(false).getTotalCount();
+        assertTrue(requests > expected * 0.9 && requests <= expected, "Requests should follow the schedule: " + requests);
+        for (LoadGenerator.Operation operation : LoadGenerator.Operation.values()) {
+            assertTrue(report.stats().get(operation).response.getTotalCount() > 0, operation + " should be exercised");
+        }
+        assertTrue(report.errors() < requests / 100, "Almost all requests should succeed: " + report.errors());
+        assertTrue(report.total(false).getValueAtPercentile(99) >= report.total(true).getValueAtPercentile(99),
+                "Latency from the scheduled start includes the service time");
+        assertTrue(Files.exists(directory.resolve("report.txt")));
+        assertTrue(Files.exists(directory.resolve("read.hgrm")));
+    }
+}
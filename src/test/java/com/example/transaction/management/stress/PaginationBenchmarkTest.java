@@ -0,0 +1,60 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Offset pagination benchmark: time to serve pages spread over the whole id range of the hot map,
+ * where a page at offset n walks the n newer transactions first, and to list everything at once.
+ */
+public class PaginationBenchmarkTest {
+
+    // Benchmark parameters
+    private static final int TRANSACTIONS = 200_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int PAGES = 400;                  // Pages per round, evenly spread over the range
+    private static final int ROUNDS = 5;                   // The best round is reported
+
+    @Test
+    @DisplayName("Pagination benchmark - deep offset pages and full listings of the hot map")
+    void testPaginationBenchmark() {
+        SkipListTransactionRepository repository = new SkipListTransactionRepository();
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            repository.save(transaction("Paging " + i));
+        }
+        int lastPage = TRANSACTIONS / PAGE_SIZE - 1;
+
+        long pages = Long.MAX_VALUE;
+        long listings = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < PAGES; i++) {
+                int page = (int) ((long) lastPage * i / (PAGES - 1));
+                List<Transaction> transactions = repository.findAll(page, PAGE_SIZE);
+                assertEquals(PAGE_SIZE, transactions.size());
+                assertEquals(1000L + TRANSACTIONS - (long) page * PAGE_SIZE, transactions.get(0).getId());
+            }
+            pages = Math.min(pages, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            assertEquals(TRANSACTIONS, repository.findAll(0, Integer.MAX_VALUE).size());
+            listings = Math.min(listings, System.nanoTime() - start);
+        }
+
+        // A page walks half of the range on average
+        double visited = (double) PAGES * TRANSACTIONS / 2;
+        System.out.println("\nPagination Benchmark Results:");
+        System.out.printf("- Offset pages: %.2f ms per page, %,.0f transactions walked/s%n",
+                pages / 1e6 / PAGES, visited * 1e9 / pages);
+        System.out.printf("- Full listing of %,d transactions: %.1f ms%n", TRANSACTIONS, listings / 1e6);
+
+        assertTrue(pages > 0 && listings > 0);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.OrderedIndex;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.service.RankingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares sorted and top-K queries served from the ordered index with the client-side alternative:
+ * reading every transaction and sorting them.
+ */
+public class RankingBenchmarkTest {
+
+    // Benchmark parameters
+    private static final int TRANSACTIONS = 500_000;
+    private static final int K = 20;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURE_ITERATIONS = 1_000;
+    private static final int FULL_SORT_ITERATIONS = 10;
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+    private static final int SECONDS = 365 * 86_400;
+
+    private SkipListTransactionRepository repository;
+    private RankingService rankingService;
+
+    @BeforeEach
+    void setUp() {
+        OrderedIndex index = new OrderedIndex();
+        repository = new SkipListTransactionRepository(StorageProperties.defaults(), List.of(index));
+        rankingService = new RankingService(index, repository);
+        Random random = new Random(42);
+        TransactionType[] types = TransactionType.values();
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            BigDecimal amount = BigDecimal.valueOf(random.nextInt(10_000_000), 2);
+            TransactionType type = types[random.nextInt(types.length)];
+            repository.save(new Transaction(null, amount, type, "Ranking benchmark", "Benchmark",
+                    START.plusSeconds(random.nextInt(SECONDS)), null));
+        }
+    }
+
+    @Test
+    @DisplayName("Ranking benchmark - sorted pages and top-K against a full sort")
+    void testRankingBenchmark() {
+        System.out.println("\nRanking Benchmark Results:");
+        Instant weekStart = START.plusSeconds(180 * 86_400L);
+        Instant weekEnd = weekStart.plusSeconds(7 * 86_400L);
+
+        double fullSort = measure("Full sort, largest " + K + " withdrawals of a week", FULL_SORT_ITERATIONS,
+                () -> repository.findAll(0, Integer.MAX_VALUE).stream()
+                        .filter(t -> t.getType() == TransactionType.WITHDRAWAL)
+                        .filter(t -> !t.getTimestamp().isBefore(weekStart) && !t.getTimestamp().isAfter(weekEnd))
+                        .sorted(Comparator.comparing(Transaction::getAmount).reversed())
+                        .limit(K)
+                        .toList());
+        double topOfWeek = measure("Top-K, largest " + K + " withdrawals of a week", MEASURE_ITERATIONS,
+                () -> rankingService.top("amount,desc", weekStart, weekEnd, TransactionType.WITHDRAWAL, K));
+        double topOverall = measure("Top-K, largest " + K + " withdrawals overall", MEASURE_ITERATIONS,
+                () -> rankingService.top("amount,desc", Instant.MIN, Instant.MAX, TransactionType.WITHDRAWAL, K));
+        double oldestFirst = measure("Sorted page, oldest first", MEASURE_ITERATIONS,
+                () -> rankingService.listSorted("timestamp,asc", Instant.MIN, Instant.MAX, 0, K));
+        measure("Sorted page 100, by amount", MEASURE_ITERATIONS,
+                () -> rankingService.listSorted("amount,desc", Instant.MIN, Instant.MAX, 100, K));
+
+        assertEquals(
+                rankingService.top("amount,desc", weekStart, weekEnd, TransactionType.WITHDRAWAL, K).stream().map(Transaction::getAmount).toList(),
+                repository.findAll(0, Integer.MAX_VALUE).stream()
+                        .filter(t -> t.getType() == TransactionType.WITHDRAWAL)
+                        .filter(t -> !t.getTimestamp().isBefore(weekStart) && !t.getTimestamp().isAfter(weekEnd))
+                        .map(Transaction::getAmount)
+                        .sorted(Comparator.reverseOrder())
+                        .limit(K)
+                        .toList(),
+                "Top-K should return the amounts of a full sort");
+        assertTrue(topOfWeek * 10 < fullSort, "Top-K over a week should be at least 10x faster than a full sort");
+        assertTrue(topOverall < 1.0, "Top-K over all transactions should be sub-millisecond");
+        assertTrue(oldestFirst < 1.0, "A sorted first page should be sub-millisecond");
+    }
+
+    private static double measure(String name, int iterations, Supplier<List<Transaction>> query) {
+        assertEquals(K, query.get().size(), name + " should return " + K + " transactions");
+        for (int i = 0; i < Math.min(WARMUP_ITERATIONS, iterations); i++) {
+            query.get();
+        }
+        long[] latencies = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            query.get();
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        double p50 = latencies[iterations / 2] / 1_000_000.0;
+        double p99 = latencies[iterations * 99 / 100] / 1_000_000.0;
+        System.out.printf("- %s: p50 %.3fms, p99 %.3fms%n", name, p50, p99);
+        return p50;
+    }
+}
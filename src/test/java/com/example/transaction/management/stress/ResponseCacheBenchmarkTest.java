@@ -0,0 +1,166 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.cache.ResponseByteCache;
+import com.example.transaction.management.cache.ResponseCacheInterceptor;
+import com.example.transaction.management.config.ResponseCacheProperties;
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.controller.TransactionController;
+import com.example.transaction.management.converter.TransactionProtobufHttpMessageConverter;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.OrderedIndex;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.service.RankingService;
+import com.example.transaction.management.service.TransactionService;
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Measures CPU time per request of the hot read endpoints served by the controller (reading and
+ * encoding every time) and from the encoded response cache, through the full MVC dispatch. Response
+ * bodies are discarded instead of buffered, as a socket would take them.
+ */
+public class ResponseCacheBenchmarkTest {
+
+    // Benchmark parameters
+    private static final int TRANSACTIONS = 10_000;
+    private static final int HOT_IDS = 100;
+    private static final int PAGE_SIZE = 50;               // Same as the maximum page size
+    private static final int WARMUP_REQUESTS = 5_000;
+    private static final int MEASURE_REQUESTS = 10_000;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private ResponseByteCache cache;
+    private MockMvc uncached;
+    private MockMvc cached;
+    private long newestId;
+
+    @BeforeEach
+    void setUp() {
+        ResponseCacheProperties properties = new ResponseCacheProperties(true, 3, 10_000, Duration.ofSeconds(5));
+        cache = new ResponseByteCache(properties);
+        SkipListTransactionRepository repository =
+                new SkipListTransactionRepository(StorageProperties.defaults(), List.of(cache));
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            newestId = repository.save(new Transaction(null, new BigDecimal("100.00").add(new BigDecimal(i % 1000)),
+                    TransactionType.values()[i % 3], "Benchmark transaction " + i, "Benchmark category",
+                    Instant.parse("2025-07-07T10:00:00Z").plusSeconds(i), null)).getId();
+        }
+        TransactionService transactionService = new TransactionService(repository);
+        TransactionController controller =
+                new TransactionController(transactionService, new RankingService(new OrderedIndex(), repository));
+        List<HttpMessageConverter<?>> converters = List.of(
+                new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()),
+                new TransactionProtobufHttpMessageConverter());
+        // The mock response copies its body byte by byte, which would dwarf the encoding cost
+        Filter discardBody = (request, response, chain) ->
+                chain.doFilter(request, new DiscardingResponse((HttpServletResponse) response));
+        uncached = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(converters.toArray(HttpMessageConverter[]::new))
+                .addFilters(discardBody)
+                .build();
+        cached = MockMvcBuilders.standaloneSetup(controller)
+                .setMessageConverters(converters.toArray(HttpMessageConverter[]::new))
+                .addFilters(discardBody)
+                .addMappedInterceptors(new String[]{"/api/transactions", "/api/transactions/*"},
+                        new ResponseCacheInterceptor(cache, repository, transactionService, () -> converters, properties))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Response cache benchmark - CPU per request with and without cached response bytes")
+    void testResponseCacheBenchmark() throws Exception {
+        System.out.println("\nResponse Cache Benchmark Results:");
+
+        int[] request = {0};
+        double uncachedId = measure("Hot id, JSON, encoded per request", uncached,
+                () -> get("/api/transactions/" + (newestId - request[0]++ % HOT_IDS)));
+        double cachedId = measure("Hot id, JSON, cached bytes", cached,
+                () -> get("/api/transactions/" + (newestId - request[0]++ % HOT_IDS)));
+        double uncachedPage = measure("First page of " + PAGE_SIZE + ", JSON, encoded per request", uncached,
+                () -> get("/api/transactions").param("size", Integer.toString(PAGE_SIZE)));
+        double cachedPage = measure("First page of " + PAGE_SIZE + ", JSON, cached bytes", cached,
+                () -> get("/api/transactions").param("size", Integer.toString(PAGE_SIZE)));
+        measure("First page of " + PAGE_SIZE + ", protobuf, encoded per request", uncached,
+                () -> get("/api/transactions").param("size", Integer.toString(PAGE_SIZE))
+                        .accept(TransactionProtobufHttpMessageConverter.PROTOBUF));
+        measure("First page of " + PAGE_SIZE + ", protobuf, cached bytes", cached,
+                () -> get("/api/transactions").param("size", Integer.toString(PAGE_SIZE))
+                        .accept(TransactionProtobufHttpMessageConverter.PROTOBUF));
+        System.out.printf("- Hit rate: %.2f%%%n", cache.stats().hitRate() * 100);
+
+        assertTrue(cache.stats().hitRate() > 0.99, "Repeated requests should be served from the cache");
+        assertTrue(cachedPage * 2 < uncachedPage, "A cached first page should cost less than half the CPU");
+        assertTrue(cachedId < uncachedId, "A cached transaction should cost less CPU");
+    }
+
+    private double measure(String name, MockMvc mockMvc, RequestSupplier request) throws Exception {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            assertEquals(200, mockMvc.perform(request.get()).andReturn().getResponse().getStatus());
+        }
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < MEASURE_REQUESTS; i++) {
+            mockMvc.perform(request.get());
+        }
+        double cpuMicros = (threads.getCurrentThreadCpuTime() - cpuStart) / 1000.0 / MEASURE_REQUESTS;
+        System.out.printf("- %s: %.1f us CPU/request%n", name, cpuMicros);
+        return cpuMicros;
+    }
+
+    @FunctionalInterface
+    private interface RequestSupplier {
+        RequestBuilder get();
+    }
+
+    private static final class DiscardingResponse extends HttpServletResponseWrapper {
+        private final ServletOutputStream body = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+
+        DiscardingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return body;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.transaction.management;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * The {@link TransactionStressTest} workloads against the RocksDB-backed repository, for comparison
+ * with the in-memory one.
+ */
+@TestPropertySource(properties = {
+        "transaction.storage.engine=rocksdb",
+        "transaction.storage.rocksdb.path=target/rocksdb-stress"
+})
+public class RocksDbTransactionStressTest extends TransactionStressTest {
+}
@@ -0,0 +1,87 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.DescriptionIndex;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.service.SearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures description search latency (index lookup plus verification against the stored
+ * transactions) over a million transactions.
+ */
+public class SearchBenchmarkTest {
+
+    // Benchmark parameters
+    private static final int TRANSACTIONS = 1_000_000;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_ITERATIONS = 2_000;
+    private static final int MEASURE_ITERATIONS = 5_000;
+    private static final String[] MERCHANTS = {"Acme", "Globex", "Initech", "Umbrella", "Hooli", "Stark", "Wayne", "Wonka"};
+    private static final String[] KINDS = {"salary", "coffee", "rent", "groceries", "fuel", "refund", "transfer", "subscription"};
+
+    private SearchService searchService;
+    private DescriptionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DescriptionIndex();
+        SkipListTransactionRepository repository = new SkipListTransactionRepository(StorageProperties.defaults(), List.of(index));
+        searchService = new SearchService(index, repository);
+        Random random = new Random(42);
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            // One in ten thousand carries a rare reference number
+            String reference = random.nextInt(10_000) == 0 ? " ref" + random.nextInt(10) : "";
+            String description = KINDS[random.nextInt(KINDS.length)] + " "
+                    + MERCHANTS[random.nextInt(MERCHANTS.length)] + " invoice " + (i % 1000) + reference;
+            repository.save(new Transaction(null, BigDecimal.TEN, TransactionType.DEPOSIT, description, "Benchmark",
+                    Instant.now(), null));
+        }
+    }
+
+    @Test
+    @DisplayName("Search benchmark - description lookups over a million transactions")
+    void testSearchBenchmark() {
+        System.out.println("\n=== Search Benchmark (" + TRANSACTIONS + " transactions, page size " + PAGE_SIZE + ") ===");
+        System.out.printf("- Index: %d terms, ~%.1fMB%n", index.termCount(), index.sizeInBytes() / 1024.0 / 1024.0);
+
+        double common = measure("Common word (salary)", "salary", 0);
+        double conjunction = measure("Two words (salary acme)", "salary acme", 0);
+        measure("Two words, page 50", "salary acme", 50);
+        double rare = measure("Rare word (ref7)", "ref7", 0);
+
+        assertTrue(common < 1.0, "Common word lookups should be sub-millisecond");
+        assertTrue(conjunction < 1.0, "Two word lookups should be sub-millisecond");
+        assertTrue(rare < 1.0, "Rare word lookups should be sub-millisecond");
+    }
+
+    private double measure(String name, String query, int page) {
+        assertFalse(searchService.search(query, page, PAGE_SIZE).isEmpty(), name + " should match");
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            searchService.search(query, page, PAGE_SIZE);
+        }
+        long[] latencies = new long[MEASURE_ITERATIONS];
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            searchService.search(query, page, PAGE_SIZE);
+            latencies[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(latencies);
+        double p50 = latencies[MEASURE_ITERATIONS / 2] / 1_000_000.0;
+        double p99 = latencies[MEASURE_ITERATIONS * 99 / 100] / 1_000_000.0;
+        System.out.printf("- %s: p50 %.3fms, p99 %.3fms%n", name, p50, p99);
+        return p50;
+    }
+}
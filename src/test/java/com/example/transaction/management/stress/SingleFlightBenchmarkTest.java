@@ -0,0 +1,171 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.service.TransactionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hot-key benchmark: many threads issue the same read (on a cache miss) or the same list page at the
+ * same moment. Counts how often the repository is actually hit and compares list throughput with
+ * calling the repository directly.
+ */
+public class SingleFlightBenchmarkTest {
+
+    // Benchmark parameters
+    private static final int THREADS = 16;                 // Concurrent identical requests per round
+    private static final int ROUNDS = 50;                  // Rounds of simultaneous requests
+    private static final int TRANSACTIONS = 50_000;        // Repository size
+    private static final Instant START = Instant.parse("2025-07-01T00:00:00Z");
+
+    private AnnotationConfigApplicationContext context;
+    private CountingRepository repository;
+    private TransactionService service;
+    private CacheManager cacheManager;
+    private ExecutorService executor;
+    private long hotId;
+
+    @BeforeEach
+    void setUp() {
+        context = new AnnotationConfigApplicationContext(CachingConfig.class);
+        repository = context.getBean(CountingRepository.class);
+        service = context.getBean(TransactionService.class);
+        cacheManager = context.getBean(CacheManager.class);
+        executor = Executors.newFixedThreadPool(THREADS);
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            hotId = repository.save(new Transaction(null, new BigDecimal("10.00"), TransactionType.DEPOSIT,
+                    "Hot key " + i, "Benchmark", START.plusSeconds(i), null)).getId();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        context.close();
+    }
+
+    @Test
+    @DisplayName("Single-flight benchmark - concurrent identical reads and list pages")
+    void testSingleFlightBenchmark() throws Exception {
+        System.out.println("\n=== Single-flight Benchmark (" + THREADS + " identical requests x " + ROUNDS + " rounds) ===");
+
+        // Reads: clear the cache before each round so every round starts with a miss
+        repository.findByIdCalls.set(0);
+        long readNanos = runRounds(() -> service.read(hotId), () -> cacheManager.getCache("transactions").clear());
+        long readCalls = repository.findByIdCalls.get();
+        System.out.printf("- Read (cache miss): %d repository lookups for %d requests, %.1fus per round%n",
+                readCalls, THREADS * ROUNDS, readNanos / 1000.0 / ROUNDS);
+
+        // List pages over a time range (the most expensive query): direct repository calls vs the service
+        Instant to = START.plusSeconds(TRANSACTIONS);
+        repository.rangeCalls.set(0);
+        long directNanos = runRounds(() -> repository.findByTimestampBetween(START, to, 0, 50), () -> { });
+        long directCalls = repository.rangeCalls.get();
+        repository.rangeCalls.set(0);
+        long coalescedNanos = runRounds(() -> service.listBetween(START, to, 0, 50), () -> { });
+        long coalescedCalls = repository.rangeCalls.get();
+        System.out.printf("- List page, uncoalesced: %d repository scans, %.2fms per round%n",
+                directCalls, directNanos / 1_000_000.0 / ROUNDS);
+        System.out.printf("- List page, coalesced: %d repository scans, %.2fms per round%n",
+                coalescedCalls, coalescedNanos / 1_000_000.0 / ROUNDS);
+
+        assertTrue(readCalls < (long) THREADS * ROUNDS / 2, "Concurrent misses should share repository lookups");
+        assertTrue(coalescedCalls < directCalls, "Concurrent identical list pages should share scans");
+    }
+
+    /**
+     * Runs {@code ROUNDS} rounds of {@code THREADS} simultaneous calls and returns the total time.
+     */
+    private long runRounds(Supplier<?> request, Runnable beforeRound) throws Exception {
+        long total = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            beforeRound.run();
+            CountDownLatch ready = new CountDownLatch(THREADS);
+            CountDownLatch go = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    go.await();
+                    Object result = request.get();
+                    assertNotNull(result);
+                    return result;
+                }));
+            }
+            ready.await();
+            long start = System.nanoTime();
+            go.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            total += System.nanoTime() - start;
+        }
+        return total;
+    }
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfig {
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager();
+        }
+
+        @Bean
+        CountingRepository repository() {
+            return new CountingRepository();
+        }
+
+        @Bean
+        TransactionService transactionService(CountingRepository repository) {
+            return new TransactionService(repository);
+        }
+    }
+
+    static class CountingRepository extends SkipListTransactionRepository {
+        private final AtomicLong findByIdCalls = new AtomicLong();
+        private final AtomicLong rangeCalls = new AtomicLong();
+
+        CountingRepository() {
+            super(StorageProperties.defaults());
+        }
+
+        @Override
+        public Optional<Transaction> findById(Long id) {
+            findByIdCalls.incrementAndGet();
+            return super.findById(id);
+        }
+
+        @Override
+        public List<Transaction> findByTimestampBetween(Instant from, Instant to, int page, int size) {
+            rangeCalls.incrementAndGet();
+            return super.findByTimestampBetween(from, to, page, size);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pages through the whole repository while writer threads keep creating, updating and deleting
+ * transactions, once with plain offset paging and once pinned to a snapshot, and counts duplicated
+ * and missed transactions.
+ */
+public class SnapshotPaginationStressTest {
+
+    // Test parameters
+    private static final int INITIAL_TRANSACTIONS = 20_000;
+    private static final int WRITER_THREADS = 2;
+    private static final int PAGE_SIZE = 50;
+    private static final int PASSES = 20;                  // Full scans per paging mode
+
+    @Test
+    @DisplayName("Snapshot pagination stress test - full scans under concurrent writes")
+    void testSnapshotPaginationUnderWrites() throws InterruptedException {
+        SkipListTransactionRepository repository = new SkipListTransactionRepository();
+        for (int i = 0; i < INITIAL_TRANSACTIONS; i++) {
+            repository.save(transaction("Paging " + i));
+        }
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong writes = new AtomicLong();
+        List<Thread> writers = new ArrayList<>();
+        for (int w = 0; w < WRITER_THREADS; w++) {
+            long seed = w;
+            Thread writer = new Thread(() -> {
+                Random random = new Random(seed);
+                while (running.get()) {
+                    long id = 1001 + random.nextInt(INITIAL_TRANSACTIONS);
+                    switch (random.nextInt(3)) {
+                        case 0 -> repository.save(transaction("Paging " + random.nextInt()));
+                        case 1 -> repository.deleteById(id);
+                        default -> {
+                            Transaction update = transaction("Paging " + random.nextInt()).withId(id);
+                            repository.save(update);
+                        }
+                    }
+                    writes.incrementAndGet();
+                    Thread.yield();
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+
+        long[] offset = scan(repository, false);
+        long[] snapshot = scan(repository, true);
+        running.set(false);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        System.out.println("\nSnapshot Pagination Stress Test Results:");
+        System.out.println("- Concurrent writes: " + writes.get());
+        System.out.printf("- Offset paging: %d duplicates, %d missed over %d scans (%.1fms per scan)%n",
+                offset[0], offset[1], PASSES, offset[2] / 1_000_000.0 / PASSES);
+        System.out.printf("- Snapshot paging: %d duplicates, %d missed over %d scans (%.1fms per scan)%n",
+                snapshot[0], snapshot[1], PASSES, snapshot[2] / 1_000_000.0 / PASSES);
+
+        assertEquals(0, snapshot[0], "Snapshot paging should never return a transaction twice");
+        assertEquals(0, snapshot[1], "Snapshot paging should never skip a transaction");
+    }
+
+    /**
+     * Returns {duplicates, missed, nanos} summed over all passes. Missed transactions are those present
+     * at the snapshot, or at the start of an offset scan and never deleted, that were never returned.
+     */
+    private long[] scan(SkipListTransactionRepository repository, boolean pinned) {
+        long duplicates = 0;
+        long missed = 0;
+        long nanos = 0;
+        for (int pass = 0; pass < PASSES; pass++) {
+            long start = System.nanoTime();
+            Long snapshot = pinned ? repository.openSnapshot(null).orElseThrow() : null;
+            Set<Long> seen = new HashSet<>();
+            Set<Long> expected = new HashSet<>();
+            if (snapshot != null) {
+                repository.findAll(snapshot, 0, Integer.MAX_VALUE).forEach(t -> expected.add(t.getId()));
+            } else {
+                repository.findAll(0, Integer.MAX_VALUE).forEach(t -> expected.add(t.getId()));
+            }
+            for (int page = 0; ; page++) {
+                List<Transaction> transactions = snapshot != null
+                        ? repository.findAll(snapshot, page, PAGE_SIZE)
+                        : repository.findAll(page, PAGE_SIZE);
+                for (Transaction transaction : transactions) {
+                    if (!seen.add(transaction.getId())) {
+                        duplicates++;
+                    }
+                }
+                if (transactions.size() < PAGE_SIZE) {
+                    break;
+                }
+            }
+            for (Long id : expected) {
+                // Without a snapshot, transactions deleted during the scan may legitimately be absent
+                if (!seen.contains(id) && (snapshot != null || repository.findById(id).isPresent())) {
+                    missed++;
+                }
+            }
+            if (snapshot != null) {
+                repository.releaseSnapshot(snapshot);
+            }
+            nanos += System.nanoTime() - start;
+        }
+        return new long[]{duplicates, missed, nanos};
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.repository.TransactionRepository;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.IntToLongFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Short soak run against the application on a random port, and the soak checks on synthetic windows.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class SoakRunnerTest {
+
+    // Test parameters
+    private static final int RATE = 200;                   // Requests per second
+    private static final Duration WARMUP = Duration.ofSeconds(1);
+    private static final Duration DURATION = Duration.ofSeconds(4);
+    private static final Duration WINDOW = Duration.ofSeconds(1);
+    private static final long MB = 1024 * 1024;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TransactionRepository repository;
+
+    @TempDir
+    private Path output;
+
+    @Test
+    @DisplayName("Soak run - windows of throughput, GC and heap with a comparable summary")
+    void testSoakRun() throws Exception {
+        SoakRunner.Report report = new SoakRunner(settings("http://localhost:" + port, null), repository::count).run();
+        report.print(System.out);
+        Path directory = report.write();
+
+        assertEquals(DURATION.toSeconds(), report.samples().size());
+        SoakRunner.Sample first = report.samples().get(0);
+        SoakRunner.Sample last = report.samples().get(report.samples().size() - 1);
+        assertTrue(last.transactions() > first.transactions(), "Creates outnumber deletes, so the dataset grows");
+        assertTrue(report.samples().stream().allMatch(sample -> sample.allocatedBytes() > 0));
+        for (String file : List.of("report.txt", "soak.txt", "summary.properties", "windows.csv", "gc-pauses.hgrm")) {
+            assertTrue(Files.exists(directory.resolve(file)), file + " should be written");
+        }
+
+        // A baseline twice as fast is a regression
+        Properties summary = new Properties();
+        try (var reader = Files.newBufferedReader(directory.resolve("summary.properties"))) {
+            summary.load(reader);
+        }
+        assertEquals(report.summary().keySet(), summary.stringPropertyNames());
+        summary.setProperty("throughput", Double.toString(report.summary().get("throughput") * 2));
+        SoakRunner.Report compared = new SoakRunner.Report(report.settings(), report.load(), report.samples(), summary);
+        assertTrue(compared.failures().stream().anyMatch(failure -> failure.contains("below the baseline")));
+    }
+
+    @Test
+    @DisplayName("Soak checks - heap growth beyond the added transactions and falling throughput fail")
+    void testSoakChecks() {
+        SoakRunner.Settings settings = settings("http://localhost:8080", null);
+        long perWindow = 600;
+
+        // 1 MB of heap per one-minute window with a constant dataset: 60 MB/hour unexplained
+        SoakRunner.Report leaking = report(settings, window -> 200 * MB + window * MB, window -> 10_000, perWindow);
+        assertEquals(60.0, leaking.unexplainedGrowthPerHour() / MB, 0.01);
+        assertTrue(leaking.failures().stream().anyMatch(failure -> failure.contains("heap after GC grew")));
+
+        // The same growth with 1,024 transactions per window added is explained by their footprint
+        SoakRunner.Report growing = report(settings, window -> 200 * MB + window * MB, window -> 10_000 + window * 1024L, perWindow);
+        assertEquals(0.0, growing.unexplainedGrowthPerHour() / MB, 0.01);
+        assertTrue(growing.failures().isEmpty(), growing.failures().toString());
+
+        SoakRunner.Report slowing = report(settings, window -> 200 * MB, window -> 10_000, -1);
+        assertTrue(slowing.failures().stream().anyMatch(failure -> failure.contains("throughput fell")));
+    }
+
+    private SoakRunner.Settings settings(String url, Path baseline) {
+        LoadGenerator.Settings load = new LoadGenerator.Settings(url, RATE, WARMUP, DURATION,
+                LoadGenerator.Settings.parseMix("read=40,list=15,create=30,update=10,delete=5"),
+                100, 1000, Duration.ofSeconds(10), "soak", output);
+        return new SoakRunner.Settings(load, WINDOW, DataSize.ofKilobytes(1), DataSize.ofMegabytes(32), 0.05, baseline);
+    }
+
+    /**
+     * Eight one-minute windows with the given heap after GC and transactions; {@code requests} per window,
+     * or, when negative, half as many in the second half.
+     */
+    private static SoakRunner.Report report(SoakRunner.Settings settings, IntToLongFunction heap,
+                                            IntToLongFunction transactions, long requests) {
+        SoakRunner.Settings minutes = new SoakRunner.Settings(settings.load(), Duration.ofMinutes(1),
+                settings.transactionFootprint(), settings.maxHeapGrowth(), settings.maxThroughputDrop(), null);
+        List<SoakRunner.Sample> samples = new ArrayList<>();
+        for (int window = 0; window < 8; window++) {
+            long completed = requests >= 0 ? requests : window < 4 ? 600 : 300;
+            samples.add(new SoakRunner.Sample(window, (window + 1) * 60.0, completed, 0, 1.0, new Histogram(3),
+                    heap.applyAsLong(window), 1024, transactions.applyAsLong(window)));
+        }
+        return new SoakRunner.Report(minutes, new LoadGenerator.Report(settings.load(), Map.of(), Instant.now()), samples, null);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.StatementProperties;
+import com.example.transaction.management.model.StatementStatus;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.service.StatementService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Statement job benchmark: time to write the statements of a month with one and with several workers,
+ * and the latency of single writes committed while the job runs compared with an idle repository.
+ */
+public class StatementBenchmarkTest {
+
+    // Benchmark parameters
+    private static final int TRANSACTIONS = 200_000;       // Transactions of the statement period
+    private static final int CATEGORIES = 40;              // Distinct categories, one file each
+    private static final int BATCH_SIZE = 1_000;           // Transactions read at a time per worker
+    private static final int IDLE_WRITES = 20_000;         // Writes timed without a job running
+    private static final Instant JULY = Instant.parse("2025-07-01T00:00:00Z");
+    private static final Instant AUGUST = Instant.parse("2025-08-01T00:00:00Z");
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("Statement benchmark - job duration and write latency alongside the job")
+    void testStatementBenchmark() throws Exception {
+        System.out.println("\nStatement Benchmark Results:");
+        SkipListTransactionRepository repository = new SkipListTransactionRepository();
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            repository.save(benchmarkTransaction(i, JULY.plusSeconds(i % (31 * 24 * 3600))));
+        }
+
+        long[] idle = new long[IDLE_WRITES];
+        for (int i = 0; i < IDLE_WRITES; i++) {
+            long start = System.nanoTime();
+            repository.save(benchmarkTransaction(i, AUGUST));
+            idle[i] = System.nanoTime() - start;
+        }
+        report("Writes, idle", idle, idle.length);
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        long serial = runJob(repository, 1, null);
+        long[] during = new long[1 << 20];
+        int[] writes = new int[1];
+        long parallel = runJob(repository, Math.max(1, processors / 2), () -> {
+            if (writes[0] < during.length) {
+                long start = System.nanoTime();
+                repository.save(benchmarkTransaction(writes[0], AUGUST));
+                during[writes[0]++] = System.nanoTime() - start;
+            }
+        });
+        System.out.printf("- Job, 1 worker: %.0f ms (%.0f transactions/s)%n", serial / 1e6, TRANSACTIONS * 1e9 / serial);
+        System.out.printf("- Job, %d workers: %.0f ms (%.0f transactions/s)%n", Math.max(1, processors / 2),
+                parallel / 1e6, TRANSACTIONS * 1e9 / parallel);
+        long p99 = report("Writes, during job", during, writes[0]);
+
+        assertTrue(writes[0] > 0, "Writes should keep committing while the job runs");
+        assertTrue(p99 < 50_000_000, "Writes should not wait for the job");
+    }
+
+    /**
+     * Runs a statement job over July and returns its duration; {@code write} is called in a loop on
+     * this thread until the job has completed.
+     */
+    private long runJob(SkipListTransactionRepository repository, int parallelism, Runnable write) throws Exception {
+        StatementProperties properties = new StatementProperties(true, directory, parallelism, BATCH_SIZE);
+        try (StatementService service = new StatementService(repository, Jackson2ObjectMapperBuilder.json().build(), properties)) {
+            long start = System.nanoTime();
+            service.start(JULY, AUGUST, null);
+            StatementStatus status = service.status();
+            while (status.state().equals("RUNNING")) {
+                if (write != null) {
+                    write.run();
+                } else {
+                    Thread.sleep(1);
+                }
+                status = service.status();
+            }
+            long elapsed = System.nanoTime() - start;
+            assertEquals("COMPLETED", status.state(), status.error());
+            assertEquals(TRANSACTIONS, status.transactions());
+            assertEquals(1 + CATEGORIES + 1, status.files().size());
+            // Leave the next job a directory of its own
+            Thread.sleep(2);
+            return elapsed;
+        }
+    }
+
+    private static long report(String name, long[] latencies, int count) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        long p50 = sorted[count / 2];
+        long p99 = sorted[(int) (count * 0.99)];
+        System.out.printf("- %s: %d writes, p50 %.1f us, p99 %.1f us, max %.1f us%n", name, count,
+                p50 / 1000.0, p99 / 1000.0, sorted[count - 1] / 1000.0);
+        return p99;
+    }
+
+    private static Transaction benchmarkTransaction(int i, Instant timestamp) {
+        return transaction(10 + i % 1000 + ".50", TransactionType.DEPOSIT, "Statement benchmark " + i,
+                "Category " + i % CATEGORIES, timestamp);
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.StatsProperties;
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.ColumnarTransactionStore;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.repository.TransactionSketches;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares approximate statistics from the sketches against exact answers computed by walking the row
+ * store, and measures what maintaining the sketches costs on the write path and what rebuilding the
+ * buckets touched by updates costs a query.
+ */
+public class StatsBenchmarkTest {
+
+    // Benchmark parameters
+    private static final int TRANSACTIONS = 300_000;
+    private static final int MEASURE_ITERATIONS = 10;
+    private static final int UPDATES = 3_000;              // Spread over every bucket before the last query
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    @Test
+    @DisplayName("Stats benchmark - sketches vs exact scan")
+    void testStatsBenchmark() {
+        System.out.println("\n=== Stats Benchmark (" + TRANSACTIONS + " transactions) ===");
+        List<Transaction> transactions = generate();
+
+        SkipListTransactionRepository plain =
+                new SkipListTransactionRepository(StorageProperties.defaults(), List.of(new ColumnarTransactionStore()));
+        long plainNanos = load(plain, transactions);
+        ColumnarTransactionStore store = new ColumnarTransactionStore();
+        TransactionSketches sketches = new TransactionSketches(StatsProperties.defaults(), store);
+        SkipListTransactionRepository sketched =
+                new SkipListTransactionRepository(StorageProperties.defaults(), List.of(store, sketches));
+        long sketchedNanos = load(sketched, transactions);
+
+        long start = System.nanoTime();
+        TransactionSketches.Summary summary = null;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            summary = sketches.summarize(Instant.MIN, Instant.MAX);
+        }
+        double sketchMillis = (System.nanoTime() - start) / 1e6 / MEASURE_ITERATIONS;
+
+        start = System.nanoTime();
+        double[] amounts = null;
+        Set<String> categories = null;
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            List<Transaction> all = sketched.findAll(0, Integer.MAX_VALUE);
+            amounts = all.stream().mapToDouble(t -> t.getAmount().doubleValue()).sorted().toArray();
+            categories = all.stream().map(Transaction::getCategory).collect(Collectors.toSet());
+        }
+        double exactMillis = (System.nanoTime() - start) / 1e6 / MEASURE_ITERATIONS;
+
+        System.out.printf("- Write path: %,.0f saves/s plain, %,.0f saves/s with sketches (%.0f%% overhead)%n",
+                TRANSACTIONS * 1e9 / plainNanos, TRANSACTIONS * 1e9 / sketchedNanos,
+                (sketchedNanos - plainNanos) * 100.0 / plainNanos);
+        System.out.printf("- Query: %.2fms sketches, %.2fms exact scan%n", sketchMillis, exactMillis);
+        for (double q : QUANTILES) {
+            double estimate = summary.amounts().quantile(q);
+            double rank = (double) Arrays.binarySearch(amounts, estimate) / amounts.length;
+            System.out.printf("- p%s amount: %.2f estimated, %.2f exact, rank error %.3f%%%n",
+                    Math.round(q * 100), estimate, amounts[(int) (q * amounts.length)], Math.abs(rank - q) * 100);
+            assertEquals(q, rank, 0.01, "Quantile rank error should stay within 1%");
+        }
+        System.out.printf("- Distinct categories: %d estimated, %d exact%n",
+                summary.categories().estimate(), categories.size());
+        assertEquals(categories.size(), summary.categories().estimate(), categories.size() * 0.05);
+        assertEquals(TRANSACTIONS, summary.amounts().count());
+
+        // Updates mark their buckets stale; the next query rebuilds them from the columnar store
+        Random random = new Random(7);
+        for (int i = 0; i < UPDATES; i++) {
+            Transaction update = transactions.get(random.nextInt(TRANSACTIONS)).withId(1001L + random.nextInt(TRANSACTIONS));
+            sketched.save(update);
+        }
+        start = System.nanoTime();
+        summary = sketches.summarize(Instant.MIN, Instant.MAX);
+        double rebuildMillis = (System.nanoTime() - start) / 1e6;
+        System.out.printf("- Query after %,d updates: %.2fms, rebuilding the buckets they touched%n", UPDATES, rebuildMillis);
+        assertEquals(TRANSACTIONS, summary.amounts().count());
+    }
+
+    private static long load(SkipListTransactionRepository repository, List<Transaction> transactions) {
+        long start = System.nanoTime();
+        for (Transaction transaction : transactions) {
+            repository.save(transaction);
+        }
+        return System.nanoTime() - start;
+    }
+
+    private static List<Transaction> generate() {
+        Random random = new Random(42);
+        Transaction[] transactions = new Transaction[TRANSACTIONS];
+        for (int i = 0; i < TRANSACTIONS; i++) {
+            // Log-normal amounts: most small, a long tail of large ones
+            BigDecimal amount = BigDecimal.valueOf(Math.exp(3 + random.nextGaussian() * 1.5)).setScale(2, RoundingMode.HALF_EVEN);
+            TransactionType type = TransactionType.values()[random.nextInt(3)];
+            // Zipf-like categories over a thousand merchants
+            String category = "merchant-" + (int) Math.pow(1000, random.nextDouble());
+            // One transaction per second, within the default bucket retention
+            transactions[i] = new Transaction(null, amount, type, "Stats transaction " + i, category, START.plusSeconds(i), null);
+        }
+        return List.of(transactions);
+    }
+}
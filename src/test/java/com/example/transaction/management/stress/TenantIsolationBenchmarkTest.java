@@ -0,0 +1,125 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.config.StorageProperties;
+import com.example.transaction.management.model.OperationType;
+import com.example.transaction.management.model.TransactionOperation;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.repository.SkipListTransactionRepository;
+import com.example.transaction.management.repository.TransactionRepository;
+import com.example.transaction.management.tenant.TenantContext;
+import com.example.transaction.management.tenant.TenantRoutingRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Write latency of an interactive tenant while a batch tenant commits large batches back to back, with
+ * both tenants in one shared repository and with each in its own partition behind the routing repository.
+ * Sharing, every interactive write queues behind the batch commit holding the commit lock.
+ */
+public class TenantIsolationBenchmarkTest {
+
+    // Benchmark parameters
+    private static final int BATCH_SIZE = 100;              // Operations per batch tenant commit
+    private static final int BATCH_THREADS = 2;             // Batch tenant writers
+    private static final int WRITES = 2_000;                // Interactive writes timed per layout
+    private static final long PAUSE_NANOS = TimeUnit.MILLISECONDS.toNanos(1); // Think time between them
+
+    @Test
+    @DisplayName("Tenant isolation benchmark - interactive write latency next to a batch tenant, shared and partitioned")
+    void testTenantIsolationBenchmark() throws InterruptedException {
+        System.out.println("\nTenant Isolation Benchmark Results:");
+        SkipListTransactionRepository shared = repository();
+        long[] sharedLatencies = run(new TenantRoutingRepository(shared, Map.of("batch", shared, "interactive", shared)));
+        long[] partitionedLatencies = run(new TenantRoutingRepository(repository(),
+                Map.of("batch", repository(), "interactive", repository())));
+
+        print("Shared repository", sharedLatencies);
+        print("Partitioned per tenant", partitionedLatencies);
+        System.out.printf("- p99 reduction: %.1fx%n", (double) percentile(sharedLatencies, 0.99)
+                / Math.max(1, percentile(partitionedLatencies, 0.99)));
+    }
+
+    /**
+     * Times the interactive tenant's writes while the batch tenant rewrites its transactions in batches;
+     * returns the latencies in nanoseconds.
+     */
+    private static long[] run(TenantRoutingRepository repository) throws InterruptedException {
+        TenantContext.set("batch");
+        List<Long> batchIds = new ArrayList<>();
+        for (int i = 0; i < BATCH_SIZE * BATCH_THREADS; i++) {
+            batchIds.add(repository.save(transaction("Batch")).getId());
+        }
+        TenantContext.clear();
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicLong batches = new AtomicLong();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < BATCH_THREADS; t++) {
+            List<Long> ids = batchIds.subList(t * BATCH_SIZE, (t + 1) * BATCH_SIZE);
+            Thread thread = new Thread(() -> {
+                TenantContext.set("batch");
+                try {
+                    while (running.get()) {
+                        List<TransactionOperation> operations = new ArrayList<>(BATCH_SIZE);
+                        for (Long id : ids) {
+                            operations.add(new TransactionOperation(OperationType.UPDATE, id, null, transaction("Batch")));
+                        }
+                        assertTrue(repository.commit(operations).committed());
+                        batches.incrementAndGet();
+                    }
+                } finally {
+                    TenantContext.clear();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        long[] latencies = new long[WRITES];
+        TenantContext.set("interactive");
+        try {
+            for (int i = 0; i < WRITES; i++) {
+                long start = System.nanoTime();
+                repository.save(transaction("Interactive"));
+                latencies[i] = System.nanoTime() - start;
+                LockSupport.parkNanos(PAUSE_NANOS);
+            }
+            assertTrue(repository.partition("interactive").count() >= WRITES);
+        } finally {
+            TenantContext.clear();
+            running.set(false);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(batches.get() > 0, "The batch tenant should commit while the interactive one writes");
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static void print(String name, long[] latencies) {
+        System.out.printf("- %s: interactive write p50 %.1f us, p99 %.1f us, max %.1f ms%n", name,
+                percentile(latencies, 0.5) / 1000.0, percentile(latencies, 0.99) / 1000.0,
+                latencies[latencies.length - 1] / 1e6);
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted[(int) (sorted.length * percentile)];
+    }
+
+    private static SkipListTransactionRepository repository() {
+        return new SkipListTransactionRepository(StorageProperties.defaults(), List.of());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.transaction.management;
 
 import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionRequest;
 import com.example.transaction.management.model.TransactionType;
 import com.example.transaction.management.repository.TransactionRepository;
 import com.example.transaction.management.service.TransactionService;
@@ -20,6 +21,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -46,6 +48,7 @@ public class TransactionStressTest {
     private static final int UPDATE_THREADS = 20;          // Update threads
     private static final int DELETE_THREADS = 20;          // Delete threads
     private static final int MIXED_THREADS = 20;           // Mixed operation threads
+    private static final int NOT_FOUND_THREADS = 20;       // Missing id probe threads
 
     // Pagination parameters
     private static final int PAGE_SIZE = 50;
@@ -94,11 +97,8 @@ public class TransactionStressTest {
         repository.clear();
         initialDataIds.clear();
         for (int i = 0; i < INITIAL_DATA_COUNT; i++) {
-            Transaction transaction = new Transaction();
-            transaction.setAmount(BASE_AMOUNT.add(new BigDecimal(i % 1000)));
-            transaction.setType(TransactionType.values()[i % 3]);
-            transaction.setDescription("Initial data transaction " + i);
-            transaction.setCategory("Initial data category");
+            Transaction transaction = new Transaction(null, BASE_AMOUNT.add(new BigDecimal(i % 1000)),
+                TransactionType.values()[i % 3], "Initial data transaction " + i, "Initial data category", Instant.now(), null);
 
             initialDataIds.add(repository.save(transaction).getId());
         }
@@ -409,6 +409,48 @@ public class TransactionStressTest {
             "Mixed operations overall success rate should be 100%");
     }
 
+    @Test
+    @DisplayName("7. Not Found Heavy API Stress Test - GET/PUT/DELETE /api/transactions/{id} with missing ids")
+    void testNotFoundHeavyStress() throws InterruptedException {
+        System.out.println("\n=== Not Found Heavy API Stress Test ===");
+        
+        ExecutorService executor = Executors.newFixedThreadPool(NOT_FOUND_THREADS);
+        CountDownLatch latch = new CountDownLatch(NOT_FOUND_THREADS);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failureCount = new AtomicInteger(0);
+        
+        int requestsPerThread = STRESS_REQUEST_COUNT / NOT_FOUND_THREADS;
+        long startTime = System.currentTimeMillis();
+        
+        for (int i = 0; i < NOT_FOUND_THREADS; i++) {
+            final int threadId = i;
+            executor.submit(() -> {
+                try {
+                    for (int j = 0; j < requestsPerThread; j++) {
+                        if (performNotFoundOperation(threadId, j)) {
+                            successCount.incrementAndGet();
+                        } else {
+                            failureCount.incrementAndGet();
+                        }
+                    }
+                } catch (Exception e) {
+                    failureCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        
+        assertTrue(latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS), 
+            "Not found heavy stress test timeout");
+        executor.shutdown();
+        
+        printTestResults("Not Found Heavy", startTime, successCount.get(), failureCount.get());
+        
+        assertTrue(successCount.get() >= STRESS_REQUEST_COUNT, 
+            "Every missing id probe should be answered with 404");
+    }
+
     // ===== Helper methods =====
     
     private Long getRandomTransactionId() {
@@ -420,13 +462,13 @@ public class TransactionStressTest {
 
     private boolean performCreateOperation(int threadId, int index) {
         try {
-            Transaction transaction = new Transaction();
+            TransactionRequest transaction = new TransactionRequest();
             transaction.setAmount(BASE_AMOUNT.add(new BigDecimal(index)));
             transaction.setType(TransactionType.values()[index % 3]);
             transaction.setDescription("Stress test transaction " + threadId + "-" + index);
             transaction.setCategory("Stress test category");
             
-            HttpEntity<Transaction> request = new HttpEntity<>(transaction, headers);
+            HttpEntity<TransactionRequest> request = new HttpEntity<>(transaction, headers);
             ResponseEntity<Transaction> response = restTemplate.postForEntity(baseUrl, request, Transaction.class);
             return processResponse(response);
         } catch (Exception e) {
@@ -461,12 +503,12 @@ public class TransactionStressTest {
     private boolean performUpdateOperation(int threadId, int index) {
         try {
             Long randomId = getRandomTransactionId();
-            Transaction updateTransaction = new Transaction();
+            TransactionRequest updateTransaction = new TransactionRequest();
             updateTransaction.setAmount(UPDATED_AMOUNT.add(new BigDecimal(index)));
             updateTransaction.setType(TransactionType.values()[(index + 1) % 3]);
             updateTransaction.setDescription("Updated transaction " + threadId + "-" + index);
             updateTransaction.setCategory("Updated category");
-            HttpEntity<Transaction> request = new HttpEntity<>(updateTransaction, headers);
+            HttpEntity<TransactionRequest> request = new HttpEntity<>(updateTransaction, headers);
             ResponseEntity<Transaction> response = restTemplate.exchange(
                 baseUrl + "/" + randomId, HttpMethod.PUT, request, Transaction.class);
             return processResponse(response);
@@ -488,6 +530,35 @@ public class TransactionStressTest {
         }
     }
 
+    private boolean performNotFoundOperation(int threadId, int index) {
+        try {
+            // Ids below the generator start value never exist
+            Long missingId = (long) -(threadId * STRESS_REQUEST_COUNT + index + 1);
+            ResponseEntity<String> response;
+            switch (index % 3) {
+                case 0:
+                    response = restTemplate.getForEntity(baseUrl + "/" + missingId, String.class);
+                    break;
+                case 1:
+                    TransactionRequest updateTransaction = new TransactionRequest();
+                    updateTransaction.setAmount(UPDATED_AMOUNT);
+                    updateTransaction.setType(TransactionType.DEPOSIT);
+                    updateTransaction.setDescription("Missing transaction " + threadId + "-" + index);
+                    updateTransaction.setCategory("Missing category");
+                    response = restTemplate.exchange(baseUrl + "/" + missingId, HttpMethod.PUT,
+                        new HttpEntity<>(updateTransaction, headers), String.class);
+                    break;
+                default:
+                    response = restTemplate.exchange(baseUrl + "/" + missingId, HttpMethod.DELETE, null, String.class);
+                    break;
+            }
+            return response.getStatusCode() == HttpStatus.NOT_FOUND;
+        } catch (Exception e) {
+            System.out.println("Not found operation exception - Thread ID: " + threadId + ", Index: " + index + ", Exception: " + e.getMessage());
+            return false;
+        }
+    }
+
     private void printTestResults(String testName, long startTime, int success, int failure) {
         long duration = System.currentTimeMillis() - startTime;
         double throughput = (double) success / (duration / 1000.0);
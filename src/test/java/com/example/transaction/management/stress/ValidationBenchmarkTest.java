@@ -0,0 +1,102 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.model.TransactionRequest;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.service.TransactionService;
+import com.example.transaction.management.validation.PrecompiledTransactionValidator;
+import jakarta.validation.Valid;
+import jakarta.validation.executable.ExecutableValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+
+import static com.example.transaction.management.TestTransactions.request;
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Measures CPU time per request body of validating a transaction: with Bean Validation in the
+ * controller and again through a method-validation proxy on the service as before, with Bean
+ * Validation once, and with the precompiled validator once.
+ */
+public class ValidationBenchmarkTest {
+
+    // Benchmark parameters
+    private static final int WARMUP_VALIDATIONS = 200_000;
+    private static final int MEASURE_VALIDATIONS = 500_000;
+
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("Validation benchmark - CPU per request body with Bean Validation and precompiled checks")
+    void testValidationBenchmark() throws Exception {
+        System.out.println("\nValidation Benchmark Results:");
+
+        TransactionRequest valid = request(transaction(new BigDecimal("100.50"), TransactionType.DEPOSIT, "Salary deposit", "Income"));
+        TransactionRequest invalid = request(transaction(BigDecimal.ZERO, null, " ", "Income"));
+        try (LocalValidatorFactoryBean beanValidator = new LocalValidatorFactoryBean()) {
+            beanValidator.afterPropertiesSet();
+            ExecutableValidator methodValidator = beanValidator.forExecutables();
+            Method create = DoublyValidatedService.class.getMethod("create", TransactionRequest.class);
+            DoublyValidatedService service = new DoublyValidatedService();
+            Validator precompiled = new PrecompiledTransactionValidator();
+
+            double twice = measure("Bean Validation, controller and service, valid", body -> {
+                int errors = validate(beanValidator, body);
+                return errors + methodValidator.validateParameters(service, create, new Object[]{body}).size();
+            }, valid);
+            double once = measure("Bean Validation once, valid", body -> validate(beanValidator, body), valid);
+            double fast = measure("Precompiled once, valid", body -> validate(precompiled, body), valid);
+            measure("Bean Validation once, invalid", body -> validate(beanValidator, body), invalid);
+            measure("Precompiled once, invalid", body -> validate(precompiled, body), invalid);
+            System.out.printf("- Speedup over the previous double validation: %.1fx%n", twice / fast);
+
+            assertEquals(3, validate(precompiled, invalid));
+            assertTrue(once < twice, "Validating once should cost less than validating twice");
+            assertTrue(fast * 2 < once, "Precompiled checks should cost less than half of Bean Validation");
+        }
+    }
+
+    private double measure(String name, Validation validation, TransactionRequest body) {
+        long errors = 0;
+        for (int i = 0; i < WARMUP_VALIDATIONS; i++) {
+            errors += validation.run(body);
+        }
+        long cpuStart = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < MEASURE_VALIDATIONS; i++) {
+            errors += validation.run(body);
+        }
+        double cpuNanos = (double) (threads.getCurrentThreadCpuTime() - cpuStart) / MEASURE_VALIDATIONS;
+        System.out.printf("- %s: %.0f ns CPU/request (%d errors)%n", name, cpuNanos, errors);
+        return cpuNanos;
+    }
+
+    // The controller validates into a fresh binding result for every request body
+    private static int validate(Validator validator, TransactionRequest body) {
+        BindingResult result = new BeanPropertyBindingResult(body, "transaction");
+        validator.validate(body, result);
+        return result.getErrorCount();
+    }
+
+    @FunctionalInterface
+    private interface Validation {
+        int run(TransactionRequest body);
+    }
+
+    /**
+     * Stands in for {@link TransactionService} as it was declared for method validation.
+     */
+    public static class DoublyValidatedService {
+        public TransactionRequest create(@Valid TransactionRequest transaction) {
+            return transaction;
+        }
+    }
+}
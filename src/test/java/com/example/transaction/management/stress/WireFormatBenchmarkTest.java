@@ -0,0 +1,121 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.converter.TransactionProtoMapper;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.proto.TransactionPage;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares bytes-on-wire and serialization cost of the supported wire formats
+ * for a full list page (the largest response the API produces).
+ */
+public class WireFormatBenchmarkTest {
+
+    // Benchmark parameters
+    private static final int PAGE_SIZE = 50;               // Same as the maximum page size
+    private static final int WARMUP_ITERATIONS = 5_000;    // Let the JIT settle before measuring
+    private static final int MEASURE_ITERATIONS = 20_000;  // Measured iterations per format
+
+    private static final TypeReference<List<Transaction>> PAGE_TYPE = new TypeReference<>() {};
+
+    private List<Transaction> page;
+
+    @BeforeEach
+    void setUp() {
+        page = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            page.add(new Transaction(10_000L - i, new BigDecimal("100.00").add(new BigDecimal(i)),
+                    TransactionType.values()[i % 3], "Benchmark transaction " + i, "Benchmark category",
+                    Instant.parse("2025-07-07T10:00:00Z").plusSeconds(i), null));
+        }
+    }
+
+    @Test
+    @DisplayName("Wire format benchmark - bytes on wire and serialization cost per format")
+    void testWireFormatBenchmark() throws Exception {
+        System.out.println("\n=== Wire Format Benchmark (" + PAGE_SIZE + " transactions per page) ===");
+
+        int jsonSize = benchmarkJackson("JSON", new JsonFactory());
+        int cborSize = benchmarkJackson("CBOR", new CBORFactory());
+        int smileSize = benchmarkJackson("Smile", new SmileFactory());
+        int protobufSize = benchmarkProtobuf();
+
+        assertTrue(cborSize < jsonSize, "CBOR page should be smaller than JSON");
+        assertTrue(smileSize < jsonSize, "Smile page should be smaller than JSON");
+        assertTrue(protobufSize < jsonSize, "Protobuf page should be smaller than JSON");
+    }
+
+    private int benchmarkJackson(String name, JsonFactory factory) throws Exception {
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().factory(factory).build();
+        byte[] encoded = mapper.writeValueAsBytes(page);
+        assertEquals(PAGE_SIZE, mapper.readValue(encoded, PAGE_TYPE).size());
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            mapper.readValue(mapper.writeValueAsBytes(page), PAGE_TYPE);
+        }
+        long writeStart = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            encoded = mapper.writeValueAsBytes(page);
+        }
+        long writeNanos = System.nanoTime() - writeStart;
+        long readStart = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            mapper.readValue(encoded, PAGE_TYPE);
+        }
+        long readNanos = System.nanoTime() - readStart;
+
+        printResults(name, encoded.length, writeNanos, readNanos);
+        return encoded.length;
+    }
+
+    private int benchmarkProtobuf() throws Exception {
+        byte[] encoded = TransactionProtoMapper.toPage(page).toByteArray();
+        assertEquals(PAGE_SIZE, TransactionPage.parseFrom(encoded).getTransactionsCount());
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            decodeProtobuf(TransactionProtoMapper.toPage(page).toByteArray());
+        }
+        long writeStart = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            encoded = TransactionProtoMapper.toPage(page).toByteArray();
+        }
+        long writeNanos = System.nanoTime() - writeStart;
+        long readStart = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            decodeProtobuf(encoded);
+        }
+        long readNanos = System.nanoTime() - readStart;
+
+        printResults("Protobuf", encoded.length, writeNanos, readNanos);
+        return encoded.length;
+    }
+
+    private List<Transaction> decodeProtobuf(byte[] encoded) throws Exception {
+        return TransactionPage.parseFrom(encoded).getTransactionsList().stream()
+                .map(TransactionProtoMapper::toTransaction)
+                .toList();
+    }
+
+    private void printResults(String format, int bytes, long writeNanos, long readNanos) {
+        System.out.println(format + " Wire Format Results:");
+        System.out.println("- Bytes per Page: " + bytes);
+        System.out.println("- Serialize Time: " + String.format("%.2f", writeNanos / 1000.0 / MEASURE_ITERATIONS) + " us/page");
+        System.out.println("- Deserialize Time: " + String.format("%.2f", readNanos / 1000.0 / MEASURE_ITERATIONS) + " us/page");
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.exception.TransactionErrorType;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.repository.TransactionRepository;
+import com.example.transaction.management.tenant.TenantAdmission;
+import com.example.transaction.management.tenant.TenantRoutingRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "transaction.tenants.enabled=true",
+        "transaction.tenants.names=acme,globex",
+        "transaction.ids.strategy=sequential"
+})
+public class TenantIsolationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository.clear();
+    }
+
+    @Test
+    @DisplayName("Should keep each tenant's transactions, ids and cached reads apart")
+    void testTenantIsolation() throws Exception {
+        assertInstanceOf(TenantRoutingRepository.class, repository);
+        create("acme", "Acme payroll");
+        create("globex", "Globex invoice");
+
+        // Every tenant numbers its transactions independently
+        mockMvc.perform(get("/api/transactions/1001").header("X-Tenant-Id", "acme"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("Acme payroll"));
+        mockMvc.perform(get("/api/transactions/1001").header("X-Tenant-Id", "globex"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("Globex invoice"));
+        mockMvc.perform(get("/api/transactions/1001"))
+                .andExpect(status().isNotFound());
+
+        // An update evicts the writer's cached copy only
+        Transaction update = transaction("Acme payroll, corrected");
+        mockMvc.perform(put("/api/transactions/1001").header("X-Tenant-Id", "acme")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/transactions/1001").header("X-Tenant-Id", "acme"))
+                .andExpect(jsonPath("$.description").value("Acme payroll, corrected"));
+        mockMvc.perform(get("/api/transactions/1001").header("X-Tenant-Id", "globex"))
+                .andExpect(jsonPath("$.description").value("Globex invoice"));
+
+        mockMvc.perform(get("/api/transactions").header("X-Tenant-Id", "globex"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+        assertEquals(2, repository.count(), "The total spans every tenant");
+    }
+
+    @Test
+    @DisplayName("Should reject unknown tenants and endpoints serving the default tenant only")
+    void testUnsupportedRequests() throws Exception {
+        mockMvc.perform(get("/api/transactions").header("X-Tenant-Id", "initech"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(TransactionErrorType.UNKNOWN_TENANT.getMessage()));
+        for (String path : List.of("/api/transactions/search?q=payroll", "/api/transactions/top",
+                "/api/transactions?sort=amount,desc", "/api/analytics/summary")) {
+            mockMvc.perform(get(path).header("X-Tenant-Id", "acme"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value(TransactionErrorType.TENANT_NOT_SUPPORTED.getMessage()));
+        }
+        mockMvc.perform(get("/api/transactions/top").header("X-Tenant-Id", "default"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Should report stored transactions and admissions per tenant")
+    void testTenantStats() throws Exception {
+        create("acme", "Acme payroll");
+        create("acme", "Acme rent");
+
+        mockMvc.perform(get("/admin/tenants"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].tenant").value("default"))
+                .andExpect(jsonPath("$[1].tenant").value("acme"))
+                .andExpect(jsonPath("$[1].transactions").value(2))
+                .andExpect(jsonPath("$[1].inFlight").value(0))
+                .andExpect(jsonPath("$[2].transactions").value(0));
+    }
+
+    @Test
+    @DisplayName("Should keep every tenant's fair share once the server is saturated")
+    void testFairShare() {
+        // Four requests at once, at most three per tenant
+        TenantAdmission admission = new TenantAdmission(List.of("batch", "interactive", "reporting"), 4, 3);
+
+        for (int i = 0; i < 3; i++) {
+            assertTrue(admission.tryAcquire("batch"));
+        }
+        assertFalse(admission.tryAcquire("batch"), "No tenant exceeds its own limit");
+        assertTrue(admission.tryAcquire("interactive"));
+        // Saturated: the tenant below its share of two still gets in, the one above it does not
+        assertTrue(admission.tryAcquire("interactive"));
+        assertFalse(admission.tryAcquire("interactive"));
+        admission.release("batch", 1_000_000);
+        assertFalse(admission.tryAcquire("batch"), "A tenant at its share waits for the server to drain");
+        // A third tenant is owed a share of one
+        assertTrue(admission.tryAcquire("reporting"));
+        assertEquals(1, admission.fairShare("reporting"));
+
+        assertEquals(3, admission.admitted("batch"));
+        assertEquals(2, admission.rejected("batch"));
+        assertEquals(1, admission.rejected("interactive"));
+        assertEquals(2, admission.inFlight("batch"));
+        assertEquals(1_000_000, admission.meanLatencyNanos("batch"));
+    }
+
+    private void create(String tenant, String description) throws Exception {
+        mockMvc.perform(post("/api/transactions").header("X-Tenant-Id", tenant)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(transaction(description))))
+                .andExpect(status().isOk());
+    }
+}
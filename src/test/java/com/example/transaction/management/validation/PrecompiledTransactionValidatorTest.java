@@ -0,0 +1,121 @@
+package com.example.transaction.management;
+
+import com.example.transaction.management.model.CommitRequest;
+import com.example.transaction.management.model.OperationRequest;
+import com.example.transaction.management.model.OperationType;
+import com.example.transaction.management.model.Transaction;
+import com.example.transaction.management.model.TransactionRequest;
+import com.example.transaction.management.model.TransactionType;
+import com.example.transaction.management.validation.PrecompiledTransactionValidator;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.BindingResult;
+import org.springframework.validation.DirectFieldBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.transaction.management.TestTransactions.request;
+import static com.example.transaction.management.TestTransactions.transaction;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PrecompiledTransactionValidatorTest {
+    private static final BigDecimal[] AMOUNTS = {null, new BigDecimal("-5"), BigDecimal.ZERO, new BigDecimal("0.009"),
+            new BigDecimal("0.01"), new BigDecimal("0.0100"), new BigDecimal("1E+3")};
+    private static final TransactionType[] TYPES = {null, TransactionType.DEPOSIT};
+    // An em space is not blank for Hibernate Validator, which only trims characters up to the space
+    private static final String[] TEXTS = {null, "", "   ", "\t\n", "\u2003", "Salary"};
+
+    private static LocalValidatorFactoryBean beanValidator;
+    private final PrecompiledTransactionValidator validator = new PrecompiledTransactionValidator();
+
+    @BeforeAll
+    static void setUpBeanValidation() {
+        beanValidator = new LocalValidatorFactoryBean();
+        beanValidator.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void tearDownBeanValidation() {
+        beanValidator.close();
+    }
+
+    @Test
+    @DisplayName("Should report the same field errors as Bean Validation for every combination of field values")
+    void testSameErrorsAsBeanValidation() {
+        int invalid = 0;
+        for (BigDecimal amount : AMOUNTS) {
+            for (TransactionType type : TYPES) {
+                for (String description : TEXTS) {
+                    for (String category : TEXTS) {
+                        TransactionRequest transaction = request(transaction(amount, type, description, category));
+                        Map<String, String> expected = fieldErrors(beanValidator, transaction);
+                        assertEquals(expected, fieldErrors(validator, transaction),
+                                () -> amount + ", " + type + ", '" + description + "', '" + category + "'");
+                        invalid += expected.isEmpty() ? 0 : 1;
+                    }
+                }
+            }
+        }
+        assertEquals(AMOUNTS.length * TYPES.length * TEXTS.length * TEXTS.length - 3 * 2 * 2, invalid);
+    }
+
+    @Test
+    @DisplayName("Should report nested commit operation errors under the same paths as Bean Validation")
+    void testSameCommitErrorsAsBeanValidation() {
+        TransactionRequest valid = request(transaction(new BigDecimal("10.00"), TransactionType.DEPOSIT, "Rent", "Housing"));
+        List<CommitRequest> requests = new ArrayList<>();
+        requests.add(new CommitRequest(null));
+        requests.add(new CommitRequest(List.of()));
+        requests.add(new CommitRequest(Arrays.asList(null, new OperationRequest(null, 1L, null, null))));
+        requests.add(new CommitRequest(List.of(
+                new OperationRequest(OperationType.CREATE, null, null, valid),
+                new OperationRequest(OperationType.UPDATE, 1001L, 3L, request(transaction(BigDecimal.ZERO, null, " ", "Housing"))),
+                new OperationRequest(null, null, null, new TransactionRequest()))));
+
+        for (CommitRequest request : requests) {
+            Map<String, String> expected = fieldErrors(beanValidator, request);
+            assertFalse(expected.isEmpty());
+            assertEquals(expected, fieldErrors(validator, request));
+        }
+        assertEquals(Map.of(), fieldErrors(validator,
+                new CommitRequest(List.of(new OperationRequest(OperationType.CREATE, null, null, valid)))));
+    }
+
+    @Test
+    @DisplayName("Should resolve the same message codes as Bean Validation")
+    void testMessageCodes() {
+        TransactionRequest transaction = request(transaction(new BigDecimal("0.001"), TransactionType.DEPOSIT, "Rent", "Housing"));
+        BindingResult expected = new BeanPropertyBindingResult(transaction, "transaction");
+        beanValidator.validate(transaction, expected);
+        BindingResult actual = new BeanPropertyBindingResult(transaction, "transaction");
+        validator.validate(transaction, actual);
+
+        FieldError error = actual.getFieldError("amount");
+        assertNotNull(error);
+        assertEquals(new BigDecimal("0.001"), error.getRejectedValue());
+        assertArrayEquals(expected.getFieldError("amount").getCodes(), error.getCodes());
+        assertTrue(validator.supports(CommitRequest.class));
+        assertFalse(validator.supports(OperationRequest.class));
+        assertFalse(validator.supports(Transaction.class));
+    }
+
+    private static Map<String, String> fieldErrors(Validator validator, Object target) {
+        // Records have no bean getters, so nested paths are only readable field by field
+        BindingResult result = new DirectFieldBindingResult(target, "request");
+        validator.validate(target, result);
+        Map<String, String> fieldErrors = new HashMap<>();
+        result.getFieldErrors().forEach(error -> fieldErrors.put(error.getField(), error.getDefaultMessage()));
+        return fieldErrors;
+    }
+}